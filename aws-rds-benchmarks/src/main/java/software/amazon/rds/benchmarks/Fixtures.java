@@ -0,0 +1,239 @@
+package software.amazon.rds.benchmarks;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import software.amazon.awssdk.services.rds.model.AvailabilityZone;
+import software.amazon.awssdk.services.rds.model.CertificateDetails;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DBClusterMember;
+import software.amazon.awssdk.services.rds.model.DBClusterRole;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBInstanceRole;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.MasterUserSecret;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+import software.amazon.awssdk.services.rds.model.ProcessorFeature;
+import software.amazon.awssdk.services.rds.model.ServerlessV2ScalingConfigurationInfo;
+import software.amazon.awssdk.services.rds.model.Subnet;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+/**
+ * Realistic fixtures shared by the benchmarks: fully populated SDK models the way DescribeDBInstances and
+ * DescribeDBClusters return them, engine-sized parameter sets and tag sets at the service limits.
+ */
+public final class Fixtures {
+
+    public static final String REGION = "us-east-1";
+    public static final String ACCOUNT_ID = "123456789012";
+
+    private static final Instant CREATE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    private Fixtures() {
+    }
+
+    public static DBInstance dbInstance(final int index) {
+        final String identifier = "db-instance-" + index;
+        return DBInstance.builder()
+                .dbInstanceIdentifier(identifier)
+                .dbInstanceArn("arn:aws:rds:" + REGION + ":" + ACCOUNT_ID + ":db:" + identifier)
+                .dbiResourceId("db-ABCDEFGHIJKLMNOPQRSTUVWXY" + index)
+                .dbInstanceClass("db.r6g.2xlarge")
+                .dbInstanceStatus("available")
+                .engine("mysql")
+                .engineVersion("8.0.35")
+                .licenseModel("general-public-license")
+                .masterUsername("admin")
+                .dbName("application")
+                .endpoint(Endpoint.builder()
+                        .address(identifier + ".abcdefghijkl." + REGION + ".rds.amazonaws.com")
+                        .port(3306)
+                        .hostedZoneId("Z2R2ITUGPM61AM")
+                        .build())
+                .allocatedStorage(500)
+                .maxAllocatedStorage(1000)
+                .storageType("gp3")
+                .iops(12000)
+                .storageThroughput(500)
+                .storageEncrypted(true)
+                .kmsKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/00000000-0000-0000-0000-000000000000")
+                .instanceCreateTime(CREATE_TIME)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .backupRetentionPeriod(7)
+                .multiAZ(true)
+                .availabilityZone(REGION + "a")
+                .secondaryAvailabilityZone(REGION + "b")
+                .autoMinorVersionUpgrade(true)
+                .publiclyAccessible(false)
+                .copyTagsToSnapshot(true)
+                .deletionProtection(true)
+                .iamDatabaseAuthenticationEnabled(true)
+                .monitoringInterval(60)
+                .monitoringRoleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/rds-monitoring-role")
+                .performanceInsightsEnabled(true)
+                .performanceInsightsKMSKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/00000000-0000-0000-0000-000000000001")
+                .performanceInsightsRetentionPeriod(7)
+                .caCertificateIdentifier("rds-ca-rsa2048-g1")
+                .certificateDetails(CertificateDetails.builder()
+                        .caIdentifier("rds-ca-rsa2048-g1")
+                        .validTill(CREATE_TIME.plusSeconds(31_536_000L))
+                        .build())
+                .networkType("IPV4")
+                .enabledCloudwatchLogsExports("audit", "error", "general", "slowquery")
+                .processorFeatures(
+                        ProcessorFeature.builder().name("coreCount").value("4").build(),
+                        ProcessorFeature.builder().name("threadsPerCore").value("2").build())
+                .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName("application-mysql80")
+                        .parameterApplyStatus("in-sync")
+                        .build())
+                .optionGroupMemberships(OptionGroupMembership.builder()
+                        .optionGroupName("default:mysql-8-0")
+                        .status("in-sync")
+                        .build())
+                .vpcSecurityGroups(
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000000000000001").status("active").build(),
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000000000000002").status("active").build())
+                .dbSubnetGroup(DBSubnetGroup.builder()
+                        .dbSubnetGroupName("application-subnets")
+                        .dbSubnetGroupDescription("Application subnets")
+                        .vpcId("vpc-00000000000000001")
+                        .subnetGroupStatus("Complete")
+                        .subnets(subnets())
+                        .build())
+                .associatedRoles(
+                        DBInstanceRole.builder().roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/s3-import").featureName("s3Import").status("ACTIVE").build(),
+                        DBInstanceRole.builder().roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/s3-export").featureName("s3Export").status("ACTIVE").build())
+                .masterUserSecret(MasterUserSecret.builder()
+                        .secretArn("arn:aws:secretsmanager:" + REGION + ":" + ACCOUNT_ID + ":secret:rds!db-" + index)
+                        .secretStatus("active")
+                        .kmsKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/00000000-0000-0000-0000-000000000002")
+                        .build())
+                .pendingModifiedValues(PendingModifiedValues.builder().build())
+                .tagList(sdkTags("instance", 10))
+                .build();
+    }
+
+    public static List<DBInstance> dbInstances(final int count) {
+        final List<DBInstance> dbInstances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dbInstances.add(dbInstance(i));
+        }
+        return dbInstances;
+    }
+
+    public static DBCluster dbCluster(final int index) {
+        final String identifier = "db-cluster-" + index;
+        return DBCluster.builder()
+                .dbClusterIdentifier(identifier)
+                .dbClusterArn("arn:aws:rds:" + REGION + ":" + ACCOUNT_ID + ":cluster:" + identifier)
+                .dbClusterResourceId("cluster-ABCDEFGHIJKLMNOPQRSTUVWXY" + index)
+                .status("available")
+                .engine("aurora-mysql")
+                .engineVersion("8.0.mysql_aurora.3.05.2")
+                .engineMode("provisioned")
+                .masterUsername("admin")
+                .databaseName("application")
+                .endpoint(identifier + ".cluster-abcdefghijkl." + REGION + ".rds.amazonaws.com")
+                .readerEndpoint(identifier + ".cluster-ro-abcdefghijkl." + REGION + ".rds.amazonaws.com")
+                .port(3306)
+                .hostedZoneId("Z2R2ITUGPM61AM")
+                .clusterCreateTime(CREATE_TIME)
+                .backupRetentionPeriod(7)
+                .preferredBackupWindow("03:00-04:00")
+                .preferredMaintenanceWindow("sun:05:00-sun:06:00")
+                .dbClusterParameterGroup("application-aurora-mysql80")
+                .dbSubnetGroup("application-subnets")
+                .availabilityZones(REGION + "a", REGION + "b", REGION + "c")
+                .storageEncrypted(true)
+                .kmsKeyId("arn:aws:kms:" + REGION + ":" + ACCOUNT_ID + ":key/00000000-0000-0000-0000-000000000000")
+                .storageType("aurora-iopt1")
+                .copyTagsToSnapshot(true)
+                .deletionProtection(true)
+                .iamDatabaseAuthenticationEnabled(true)
+                .httpEndpointEnabled(false)
+                .networkType("IPV4")
+                .enabledCloudwatchLogsExports("audit", "error", "general", "slowquery")
+                .serverlessV2ScalingConfiguration(ServerlessV2ScalingConfigurationInfo.builder()
+                        .minCapacity(0.5)
+                        .maxCapacity(16.0)
+                        .build())
+                .vpcSecurityGroups(
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000000000000001").status("active").build(),
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-00000000000000002").status("active").build())
+                .associatedRoles(
+                        DBClusterRole.builder().roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/s3-import").featureName("s3Import").status("ACTIVE").build(),
+                        DBClusterRole.builder().roleArn("arn:aws:iam::" + ACCOUNT_ID + ":role/lambda").featureName("Lambda").status("ACTIVE").build())
+                .dbClusterMembers(
+                        DBClusterMember.builder().dbInstanceIdentifier(identifier + "-writer").isClusterWriter(true).promotionTier(1).build(),
+                        DBClusterMember.builder().dbInstanceIdentifier(identifier + "-reader-1").isClusterWriter(false).promotionTier(1).build(),
+                        DBClusterMember.builder().dbInstanceIdentifier(identifier + "-reader-2").isClusterWriter(false).promotionTier(2).build())
+                .masterUserSecret(MasterUserSecret.builder()
+                        .secretArn("arn:aws:secretsmanager:" + REGION + ":" + ACCOUNT_ID + ":secret:rds!cluster-" + index)
+                        .secretStatus("active")
+                        .build())
+                .tagList(sdkTags("cluster", 10))
+                .build();
+    }
+
+    /**
+     * The size of an engine default parameter set, e.g. the modifiable parameters of a MySQL 8.0 family.
+     * The parameters named in {@code dependencies} are included.
+     */
+    public static Map<String, Parameter> parameters(final int count, final List<Set<String>> dependencies) {
+        final Map<String, Parameter> parameters = new LinkedHashMap<>();
+        for (final Set<String> group : dependencies) {
+            for (final String name : group) {
+                parameters.put(name, parameter(name));
+            }
+        }
+        for (int i = 0; parameters.size() < count; i++) {
+            final String name = "parameter_" + i;
+            parameters.put(name, parameter(name));
+        }
+        return parameters;
+    }
+
+    public static Set<Tag> sdkTags(final String prefix, final int count) {
+        final Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(Tag.builder().key(prefix + "-key-" + i).value(prefix + "-value-" + i).build());
+        }
+        return tags;
+    }
+
+    private static Parameter parameter(final String name) {
+        return Parameter.builder()
+                .parameterName(name)
+                .parameterValue("value")
+                .applyMethod("pending-reboot")
+                .applyType("static")
+                .dataType("string")
+                .isModifiable(true)
+                .source("user")
+                .build();
+    }
+
+    private static List<Subnet> subnets() {
+        final List<Subnet> subnets = new ArrayList<>();
+        for (final String zone : new String[]{"a", "b", "c"}) {
+            subnets.add(Subnet.builder()
+                    .subnetIdentifier("subnet-0000000000000000" + zone)
+                    .subnetAvailabilityZone(AvailabilityZone.builder().name(REGION + zone).build())
+                    .subnetStatus("Active")
+                    .build());
+        }
+        return subnets;
+    }
+}
@@ -0,0 +1,49 @@
+package software.amazon.rds.common.handler;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.rds.benchmarks.Fixtures;
+
+/**
+ * Merging the tag set of a stack at the tag limit: half of the stack tags are overridden by the resource tags.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaggingBenchmark {
+
+    private Tagging.TagSet tagSet;
+
+    @Setup
+    public void setup() {
+        final Set<Tag> resourceTags = new LinkedHashSet<>(Fixtures.sdkTags("stack", 25));
+        resourceTags.addAll(Fixtures.sdkTags("resource", 25));
+        tagSet = Tagging.TagSet.builder()
+                .systemTags(Fixtures.sdkTags("aws:cloudformation", 3))
+                .stackTags(Fixtures.sdkTags("stack", 50))
+                .resourceTags(resourceTags)
+                .build();
+    }
+
+    @Benchmark
+    public Collection<Tag> translateTagsToSdk() {
+        return Tagging.translateTagsToSdk(tagSet);
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.rds.common.printer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.rds.benchmarks.Fixtures;
+import software.amazon.rds.common.logging.JsonLogWriter;
+
+/**
+ * Logging a DescribeDBInstances response, a single instance as during stabilization and a full page as during
+ * a list, through the printer and through the streaming log writer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilteredJsonPrinterBenchmark {
+
+    @Param({"1", "100"})
+    public int dbInstanceCount;
+
+    private FilteredJsonPrinter printer;
+    private JsonLogWriter logWriter;
+    private DescribeDbInstancesResponse response;
+
+    @Setup
+    public void setup() {
+        printer = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword", "TdeCredentialPassword");
+        logWriter = JsonLogWriter.of(printer);
+        response = DescribeDbInstancesResponse.builder()
+                .dbInstances(Fixtures.dbInstances(dbInstanceCount))
+                .build();
+    }
+
+    @Benchmark
+    public String print() throws JsonProcessingException {
+        return printer.print(response);
+    }
+
+    @Benchmark
+    public String logWriter() throws IOException {
+        try (JsonLogWriter.Message message = logWriter.newMessage()) {
+            message.append(response);
+            return message.finish();
+        }
+    }
+}
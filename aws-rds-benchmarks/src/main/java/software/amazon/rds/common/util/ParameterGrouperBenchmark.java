@@ -0,0 +1,61 @@
+package software.amazon.rds.common.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rds.model.Parameter;
+import software.amazon.rds.benchmarks.Fixtures;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParameterGrouperBenchmark {
+
+    // The dependant parameters of the MySQL and PostgreSQL families, as in the parameter group handlers.
+    private static final List<Set<String>> DEPENDENCIES = ImmutableList.of(
+            ImmutableSet.of("collation_server", "character_set_server"),
+            ImmutableSet.of("gtid-mode", "enforce_gtid_consistency"),
+            ImmutableSet.of("password_encryption", "rds.accepted_password_auth_method"),
+            ImmutableSet.of("ssl_max_protocol_version", "ssl_min_protocol_version"),
+            ImmutableSet.of("rds.change_data_capture_streaming", "binlog_format")
+    );
+    private static final int MAX_PARAMETERS_PER_REQUEST = 20;
+
+    @Param({"20", "400"})
+    public int parameterCount;
+
+    private Map<String, Parameter> parameters;
+
+    @Setup
+    public void setup() {
+        parameters = Fixtures.parameters(parameterCount, DEPENDENCIES);
+    }
+
+    @Benchmark
+    public List<List<Parameter>> partition() {
+        return ParameterGrouper.partition(parameters, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST);
+    }
+
+    @Benchmark
+    public List<List<Parameter>> pack() {
+        return ParameterGrouper.pack(parameters, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST);
+    }
+}
@@ -0,0 +1,50 @@
+package software.amazon.rds.dbcluster;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.ModifyDbClusterRequest;
+import software.amazon.rds.benchmarks.Fixtures;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TranslatorBenchmark {
+
+    private DBCluster dbCluster;
+    private ResourceModel previousModel;
+    private ResourceModel desiredModel;
+
+    @Setup
+    public void setup() {
+        dbCluster = Fixtures.dbCluster(0);
+        previousModel = Translator.translateDbClusterFromSdk(dbCluster);
+        desiredModel = Translator.translateDbClusterFromSdk(dbCluster);
+        desiredModel.setBackupRetentionPeriod(14);
+        desiredModel.setDeletionProtection(false);
+        desiredModel.setEngineVersion("8.0.mysql_aurora.3.06.0");
+    }
+
+    @Benchmark
+    public ResourceModel translateDbClusterFromSdk() {
+        return Translator.translateDbClusterFromSdk(dbCluster);
+    }
+
+    @Benchmark
+    public ModifyDbClusterRequest modifyDbClusterRequest() {
+        return Translator.modifyDbClusterRequest(previousModel, desiredModel, false);
+    }
+}
@@ -0,0 +1,72 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.benchmarks.Fixtures;
+import software.amazon.rds.common.util.DriftDetector;
+import software.amazon.rds.common.util.Mutation;
+
+/**
+ * Drift detection as the dbinstance handlers run it: the shared detector of the resource schema
+ * comparing the desired model with the model read back from the service. The baseline builds a detector
+ * from the schema for every comparison, the way the handlers did before the plan was shared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DriftDetectorBenchmark {
+
+    private ResourceTypeSchema resourceTypeSchema;
+    private DriftDetector driftDetector;
+    private ResourceModel previousModel;
+    private ResourceModel sameModel;
+    private ResourceModel driftedModel;
+
+    @Setup
+    public void setup() {
+        resourceTypeSchema = BaseHandlerStd.resourceTypeSchema;
+        driftDetector = BaseHandlerStd.driftDetector;
+        final DBInstance dbInstance = Fixtures.dbInstance(0);
+        previousModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        sameModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        driftedModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        driftedModel.setDBInstanceClass("db.r6g.4xlarge");
+        driftedModel.setEngineVersion("8.0.36");
+    }
+
+    @Benchmark
+    public Map<String, Mutation> detectDrift_noDrift() {
+        return driftDetector.detectDrift(previousModel, sameModel);
+    }
+
+    @Benchmark
+    public Map<String, Mutation> detectDrift_drift() {
+        return driftDetector.detectDrift(previousModel, driftedModel);
+    }
+
+    @Benchmark
+    public Map<String, Mutation> baseline_detectDrift_noDrift() {
+        return new DriftDetector(resourceTypeSchema).detectDrift(previousModel, sameModel);
+    }
+
+    @Benchmark
+    public Map<String, Mutation> baseline_detectDrift_drift() {
+        return new DriftDetector(resourceTypeSchema).detectDrift(previousModel, driftedModel);
+    }
+}
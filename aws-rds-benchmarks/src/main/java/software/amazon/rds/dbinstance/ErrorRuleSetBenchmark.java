@@ -0,0 +1,64 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.rds.common.error.ErrorRuleSet;
+import software.amazon.rds.common.error.ErrorStatus;
+
+/**
+ * Error classification on the longest rule chain of the dbinstance handlers, the one of ModifyDBInstance.
+ * The exceptions resolve by class, by error code, and by neither.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorRuleSetBenchmark {
+
+    private ErrorRuleSet ruleSet;
+    private Exception classMatch;
+    private Exception codeMatch;
+    private Exception noMatch;
+
+    @Setup
+    public void setup() {
+        ruleSet = BaseHandlerStd.MODIFY_DB_INSTANCE_ERROR_RULE_SET;
+        classMatch = DbInstanceNotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("DBInstanceNotFound").build())
+                .build();
+        codeMatch = RdsException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("InvalidParameterCombination").build())
+                .build();
+        noMatch = new IllegalStateException("Unexpected");
+    }
+
+    @Benchmark
+    public ErrorStatus handle_classMatch() {
+        return ruleSet.handle(classMatch);
+    }
+
+    @Benchmark
+    public ErrorStatus handle_codeMatch() {
+        return ruleSet.handle(codeMatch);
+    }
+
+    @Benchmark
+    public ErrorStatus handle_noMatch() {
+        return ruleSet.handle(noMatch);
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.rds.dbinstance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.rds.benchmarks.Fixtures;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TranslatorBenchmark {
+
+    private DBInstance dbInstance;
+    private ResourceModel previousModel;
+    private ResourceModel desiredModel;
+
+    @Setup
+    public void setup() {
+        dbInstance = Fixtures.dbInstance(0);
+        previousModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        // A typical scale-up: a bigger class, more storage and a longer backup retention.
+        desiredModel = Translator.translateDbInstanceFromSdk(dbInstance);
+        desiredModel.setDBInstanceClass("db.r6g.4xlarge");
+        desiredModel.setAllocatedStorage("1000");
+        desiredModel.setBackupRetentionPeriod(14);
+    }
+
+    @Benchmark
+    public ResourceModel translateDbInstanceFromSdk() {
+        return Translator.translateDbInstanceFromSdk(dbInstance);
+    }
+
+    @Benchmark
+    public ModifyDbInstanceRequest modifyDbInstanceRequest() {
+        return Translator.modifyDbInstanceRequest(previousModel, desiredModel, false);
+    }
+}
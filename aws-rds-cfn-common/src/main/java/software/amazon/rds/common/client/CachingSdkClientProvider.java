@@ -0,0 +1,44 @@
+package software.amazon.rds.common.client;
+
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+/**
+ * A client provider that builds a client once per region and API version and reuses it afterwards.
+ * Building an SDK client (interceptor chain, endpoint and region metadata resolution) is expensive,
+ * whereas the CloudFormation proxy requests a client upon every service call.
+ */
+public abstract class CachingSdkClientProvider<B extends AwsClientBuilder<B, C> & AwsSyncClientBuilder<B, C>, C extends SdkClient>
+        extends BaseSdkClientProvider<B, C> {
+
+    private final SdkClientRegistry registry;
+
+    protected CachingSdkClientProvider() {
+        this(LAMBDA_HTTP_CLIENT_SUPPLIER);
+    }
+
+    protected CachingSdkClientProvider(final Supplier<SdkHttpClient> httpClientSupplier) {
+        this(httpClientSupplier, SdkClientRegistry.getDefault());
+    }
+
+    protected CachingSdkClientProvider(final Supplier<SdkHttpClient> httpClientSupplier, final SdkClientRegistry registry) {
+        super(httpClientSupplier);
+        this.registry = registry;
+    }
+
+    protected abstract C buildClient();
+
+    @Override
+    public C getClient() {
+        return getOrBuildClient(null, null, this::buildClient);
+    }
+
+    protected C getOrBuildClient(final String region, final String apiVersion, final Supplier<C> clientFactory) {
+        final SdkClientRegistry.Key key = new SdkClientRegistry.Key(getClass(), region, apiVersion, httpClientSupplier.get());
+        return registry.getOrCreate(key, clientFactory);
+    }
+}
@@ -0,0 +1,100 @@
+package software.amazon.rds.common.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * A {@code ProxyClient} decorator that notifies a listener upon every mutating API call issued through it.
+ * A call is considered read-only if the request type belongs to the Describe* or List* API families,
+ * any other call is considered mutating. The listener is notified whether the call succeeded or not:
+ * a failed mutating call might still have changed the resource state.
+ */
+@RequiredArgsConstructor
+public class MutationTrackingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private static final String[] READ_ONLY_REQUEST_PREFIXES = {"Describe", "List"};
+
+    @NonNull
+    private final ProxyClient<ClientT> proxyClient;
+    @NonNull
+    private final Runnable onMutation;
+
+    public static boolean isReadOnlyRequest(final AwsRequest request) {
+        final String requestName = request.getClass().getSimpleName();
+        for (final String prefix : READ_ONLY_REQUEST_PREFIXES) {
+            if (requestName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+            final RequestT request,
+            final Function<RequestT, ResponseT> requestFunction
+    ) {
+        return trackAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+            final RequestT request,
+            final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+    ) {
+        return trackAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2Async);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT injectCredentialsAndInvokeIterableV2(
+            final RequestT request,
+            final Function<RequestT, IterableT> requestFunction
+    ) {
+        return trackAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeIterableV2);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+            final RequestT request,
+            final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+    ) {
+        return trackAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2InputStream);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+            final RequestT request,
+            final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+    ) {
+        return trackAndDelegate(request, requestFunction, proxyClient::injectCredentialsAndInvokeV2Bytes);
+    }
+
+    @Override
+    public ClientT client() {
+        return proxyClient.client();
+    }
+
+    private <RequestT extends AwsRequest, ResultT> ResultT trackAndDelegate(
+            final RequestT request,
+            final Function<RequestT, ResultT> requestFunction,
+            final BiFunction<RequestT, Function<RequestT, ResultT>, ResultT> injectCredentials
+    ) {
+        try {
+            return injectCredentials.apply(request, requestFunction);
+        } finally {
+            if (!isReadOnlyRequest(request)) {
+                onMutation.run();
+            }
+        }
+    }
+}
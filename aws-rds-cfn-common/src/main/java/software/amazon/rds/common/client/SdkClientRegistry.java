@@ -0,0 +1,73 @@
+package software.amazon.rds.common.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+/**
+ * A process-wide registry of SDK clients.
+ * SDK clients are thread-safe and do not hold any request credentials (these are injected into each request by the
+ * CloudFormation proxy), hence a client built once can be shared across handler invocations.
+ * The registry is bounded: once the limit is reached, the least recently used client is evicted.
+ * Evicted clients are not closed as they might still be in use by an in-flight invocation.
+ */
+public class SdkClientRegistry {
+
+    public static final int DEFAULT_MAX_SIZE = 32;
+
+    private static final SdkClientRegistry DEFAULT = new SdkClientRegistry(DEFAULT_MAX_SIZE);
+
+    private final Map<Key, SdkClient> clients;
+
+    public SdkClientRegistry(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("SdkClientRegistry max size must be positive, got: " + maxSize);
+        }
+        this.clients = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, SdkClient> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static SdkClientRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized <C extends SdkClient> C getOrCreate(@NonNull final Key key, @NonNull final Supplier<C> clientFactory) {
+        SdkClient client = clients.get(key);
+        if (client == null) {
+            client = clientFactory.get();
+            clients.put(key, client);
+        }
+        return (C) client;
+    }
+
+    public synchronized int size() {
+        return clients.size();
+    }
+
+    public synchronized void clear() {
+        clients.clear();
+    }
+
+    /**
+     * A registry key. The provider type determines both the service and the client configuration,
+     * an empty region or API version stands for the defaults resolved by the SDK.
+     */
+    @Value
+    public static class Key {
+        @NonNull
+        Class<?> providerType;
+        String region;
+        String apiVersion;
+        SdkHttpClient httpClient;
+    }
+}
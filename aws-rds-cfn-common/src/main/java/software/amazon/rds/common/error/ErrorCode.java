@@ -1,5 +1,8 @@
 package software.amazon.rds.common.error;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.utils.StringUtils;
@@ -42,6 +45,14 @@ public enum ErrorCode {
     ThrottlingException("ThrottlingException"),
     UnauthorizedOperation("UnauthorizedOperation");
 
+    private static final Map<String, ErrorCode> BY_CODE = new HashMap<>();
+
+    static {
+        for (final ErrorCode errorCode : ErrorCode.values()) {
+            BY_CODE.put(errorCode.code, errorCode);
+        }
+    }
+
     private final String code;
 
     ErrorCode(final String code) {
@@ -50,11 +61,7 @@ public enum ErrorCode {
 
     public static ErrorCode fromString(final String errorStr) {
         if (StringUtils.isNotBlank(errorStr)) {
-            for (final ErrorCode errorCode : ErrorCode.values()) {
-                if (errorCode.equals(errorStr)) {
-                    return errorCode;
-                }
-            }
+            return BY_CODE.get(errorStr);
         }
         return null;
     }
@@ -1,35 +1,54 @@
 package software.amazon.rds.common.error;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.NonNull;
+import lombok.Value;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
 public class ErrorRuleSet implements Cloneable {
 
-    public static ErrorRuleSet EMPTY_RULE_SET = new ErrorRuleSet(null, Collections.emptyMap(), Collections.emptyMap());
+    public static ErrorRuleSet EMPTY_RULE_SET = new ErrorRuleSet(null, Collections.emptyMap(), Collections.emptySet(), Collections.emptyMap());
 
     final Map<ErrorCode, ErrorStatus> errorCodeMap;
 
     final Map<Class<?>, ErrorStatus> errorClassMap;
 
+    // The classes of errorClassMap whose rules do not apply to their subclasses.
+    final Set<Class<?>> exactErrorClasses;
+
     ErrorRuleSet base;
 
+    // Memoized by identity. A rule set is not modified once it is handed out, hence it is compiled at most once.
+    private volatile Compiled compiled;
+
     private ErrorRuleSet(
             final ErrorRuleSet base,
             final Map<Class<?>, ErrorStatus> errorClassMap,
+            final Set<Class<?>> exactErrorClasses,
             final Map<ErrorCode, ErrorStatus> errorCodeMap
     ) {
         this.base = base;
         this.errorCodeMap = errorCodeMap;
         this.errorClassMap = errorClassMap;
+        this.exactErrorClasses = exactErrorClasses;
     }
 
     private ErrorRuleSet(final Builder builder) {
-        this(builder.base, new LinkedHashMap<>(builder.errorClassMap), new LinkedHashMap<>(builder.errorCodeMap));
+        this(
+                builder.base,
+                new LinkedHashMap<>(builder.errorClassMap),
+                new HashSet<>(builder.exactErrorClasses),
+                new LinkedHashMap<>(builder.errorCodeMap)
+        );
     }
 
     public static Builder extend(final ErrorRuleSet base) {
@@ -38,23 +57,20 @@ public class ErrorRuleSet implements Cloneable {
 
     @NonNull
     public ErrorStatus handle(final Exception exception) {
-        if (errorClassMap.containsKey(exception.getClass())) {
-            return errorClassMap.get(exception.getClass()).interpret(exception);
-        } else if (exception instanceof AwsServiceException) {
-            final AwsServiceException awsServiceException = (AwsServiceException) exception;
-            final AwsErrorDetails errorDetails = awsServiceException.awsErrorDetails();
-            if (errorDetails != null) {
-                final String errorStr = errorDetails.errorCode();
-                final ErrorCode errorCode = ErrorCode.fromString(errorStr);
-                if (errorCode != null && errorCodeMap.containsKey(errorCode)) {
-                    return errorCodeMap.get(errorCode).interpret(exception);
-                }
-            }
-        }
-        if (base != null) {
-            return base.handle(exception);
+        return compile().handle(exception);
+    }
+
+    /**
+     * Flattens the rule chain into a single lookup structure. The result is memoized, and so are the compiled
+     * rule sets of the chain: compiling a rule set extended with a short chain only compiles the extension.
+     */
+    public Compiled compile() {
+        Compiled result = compiled;
+        if (result == null) {
+            result = Compiled.of(this);
+            compiled = result;
         }
-        return new UnexpectedErrorStatus(exception);
+        return result;
     }
 
     @Override
@@ -62,6 +78,7 @@ public class ErrorRuleSet implements Cloneable {
         return new ErrorRuleSet(
                 this.base,
                 new LinkedHashMap<>(this.errorClassMap),
+                new HashSet<>(this.exactErrorClasses),
                 new LinkedHashMap<>(this.errorCodeMap)
         );
     }
@@ -78,20 +95,131 @@ public class ErrorRuleSet implements Cloneable {
         return extended;
     }
 
+    /**
+     * A flattened rule chain. Every rule is tagged with the height of the chain level it was defined at,
+     * the bottom level being the lowest. A lookup resolves the exception class and the error code in one step each,
+     * the rule defined at the highest level wins, a class rule wins over an error code rule defined at the same level.
+     * This matches the result of walking the chain from the top.
+     * <p>
+     * A class rule also applies to the subclasses of its class, unless it was registered as exact. Within a level,
+     * the rule for the closest superclass of the exception wins. The rule resolved for an exception class is memoized.
+     */
+    public static final class Compiled {
+        private static final Compiled EMPTY = new Compiled(0, Collections.emptyMap(), new EnumMap<>(ErrorCode.class));
+        // Stands for no class rule in the resolved rules, the map does not take nulls.
+        private static final Rule NO_RULE = new Rule(0, null, true);
+
+        private final int height;
+        private final Map<Class<?>, Rule> errorClassRules;
+        private final EnumMap<ErrorCode, Rule> errorCodeRules;
+        private final Map<Class<?>, Rule> resolvedClassRules = new ConcurrentHashMap<>();
+
+        private Compiled(
+                final int height,
+                final Map<Class<?>, Rule> errorClassRules,
+                final EnumMap<ErrorCode, Rule> errorCodeRules
+        ) {
+            this.height = height;
+            this.errorClassRules = errorClassRules;
+            this.errorCodeRules = errorCodeRules;
+        }
+
+        private static Compiled of(final ErrorRuleSet ruleSet) {
+            final Compiled base = ruleSet.base != null ? ruleSet.base.compile() : EMPTY;
+            final int height = base.height + 1;
+
+            final Map<Class<?>, Rule> errorClassRules = new HashMap<>(base.errorClassRules);
+            ruleSet.errorClassMap.forEach((errorClass, errorStatus) -> errorClassRules.put(
+                    errorClass,
+                    new Rule(height, errorStatus, ruleSet.exactErrorClasses.contains(errorClass))
+            ));
+
+            final EnumMap<ErrorCode, Rule> errorCodeRules = new EnumMap<>(base.errorCodeRules);
+            ruleSet.errorCodeMap.forEach((errorCode, errorStatus) -> errorCodeRules.put(errorCode, new Rule(height, errorStatus, true)));
+
+            return new Compiled(height, errorClassRules, errorCodeRules);
+        }
+
+        @NonNull
+        public ErrorStatus handle(final Exception exception) {
+            final Rule classRule = resolveClassRule(exception.getClass());
+            Rule codeRule = null;
+            if (exception instanceof AwsServiceException && !errorCodeRules.isEmpty()) {
+                final AwsErrorDetails errorDetails = ((AwsServiceException) exception).awsErrorDetails();
+                if (errorDetails != null) {
+                    final ErrorCode errorCode = ErrorCode.fromString(errorDetails.errorCode());
+                    if (errorCode != null) {
+                        codeRule = errorCodeRules.get(errorCode);
+                    }
+                }
+            }
+            if (classRule != null && (codeRule == null || classRule.getHeight() >= codeRule.getHeight())) {
+                return classRule.getErrorStatus().interpret(exception);
+            }
+            if (codeRule != null) {
+                return codeRule.getErrorStatus().interpret(exception);
+            }
+            return new UnexpectedErrorStatus(exception);
+        }
+
+        private Rule resolveClassRule(final Class<?> exceptionClass) {
+            if (errorClassRules.isEmpty()) {
+                return null;
+            }
+            final Rule rule = resolvedClassRules.computeIfAbsent(exceptionClass, key -> {
+                Rule resolved = NO_RULE;
+                for (Class<?> errorClass = key; errorClass != null; errorClass = errorClass.getSuperclass()) {
+                    final Rule candidate = errorClassRules.get(errorClass);
+                    if (candidate != null && (errorClass == key || !candidate.isExact()) && candidate.getHeight() > resolved.getHeight()) {
+                        resolved = candidate;
+                    }
+                }
+                return resolved;
+            });
+            return rule != NO_RULE ? rule : null;
+        }
+    }
+
+    @Value
+    private static class Rule {
+        int height;
+        ErrorStatus errorStatus;
+        // Applies to its own exception class only.
+        boolean exact;
+    }
+
     public static class Builder {
         final ErrorRuleSet base;
         final Map<Class<?>, ErrorStatus> errorClassMap;
+        final Set<Class<?>> exactErrorClasses;
         final Map<ErrorCode, ErrorStatus> errorCodeMap;
 
         protected Builder(@NonNull final ErrorRuleSet base) {
             this.base = base;
             this.errorClassMap = new LinkedHashMap<>();
+            this.exactErrorClasses = new HashSet<>();
             this.errorCodeMap = new LinkedHashMap<>();
         }
 
+        /**
+         * Registers a rule for the given exception classes and their subclasses.
+         */
         public Builder withErrorClasses(final ErrorStatus errorStatus, final Class<?>... errorClasses) {
             for (final Class<?> errorClass : errorClasses) {
                 errorClassMap.put(errorClass, errorStatus);
+                exactErrorClasses.remove(errorClass);
+            }
+            return this;
+        }
+
+        /**
+         * Registers a rule for the given exception classes only, e.g. a catch-all for a base exception type
+         * that is not meant to override the error code rules of its subclasses.
+         */
+        public Builder withExactErrorClasses(final ErrorStatus errorStatus, final Class<?>... errorClasses) {
+            for (final Class<?> errorClass : errorClasses) {
+                errorClassMap.put(errorClass, errorStatus);
+                exactErrorClasses.add(errorClass);
             }
             return this;
         }
@@ -48,7 +48,7 @@ public final class Commons {
                     ErrorCode.MissingParameter)
             .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.AccessDenied),
                     KmsKeyNotAccessibleException.class)
-            .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ServiceInternalError),
+            .withExactErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ServiceInternalError),
                     SdkServiceException.class,
                     SdkClientException.class)
             .build();
@@ -120,9 +120,17 @@ public final class Commons {
             final ProgressEvent<M, C> progress,
             final ResourceTypeSchema schema,
             final RequestLogger logger
+    ) {
+        return reportResourceDrift(inputModel, progress, new DriftDetector(schema), logger);
+    }
+
+    public static <M, C> ProgressEvent<M, C> reportResourceDrift(
+            final M inputModel,
+            final ProgressEvent<M, C> progress,
+            final DriftDetector driftDetector,
+            final RequestLogger logger
     ) {
         try {
-            final DriftDetector driftDetector = new DriftDetector(schema);
             final Map<String, Mutation> mutations = driftDetector.detectDrift(inputModel, progress.getResourceModel());
             if (!mutations.isEmpty()) {
                 logger.log("Resource drift detected", new DriftDetectorReport(mutations));
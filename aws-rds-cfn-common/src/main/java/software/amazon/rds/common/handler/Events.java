@@ -1,12 +1,13 @@
 package software.amazon.rds.common.handler;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-import com.amazonaws.util.CollectionUtils;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
@@ -36,6 +37,30 @@ public class Events {
                     ErrorCode.UnauthorizedOperation)
             .build();
 
+    private static final String[] FAILURE_EVENT_CATEGORIES = new String[]{EVENT_CATEGORY_NOTIFICATION, EVENT_CATEGORY_MAINTENANCE};
+
+    /**
+     * Matches the events whose message contains any of the fragments, ignoring the case. The fragments are
+     * lowercased once, and every event message once per test regardless of the number of fragments.
+     */
+    public static Predicate<Event> isEventMessageContainsAny(final String... fragments) {
+        final String[] lowerCaseFragments = Arrays.stream(fragments)
+                .map(fragment -> fragment.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+        return event -> {
+            if (event == null || event.message() == null) {
+                return false;
+            }
+            final String msg = event.message().toLowerCase(Locale.ROOT);
+            for (final String fragment : lowerCaseFragments) {
+                if (msg.contains(fragment)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
     public static boolean isEventMessageContains(
             final Event event,
             final String fragment
@@ -57,47 +82,84 @@ public class Events {
             final String[] eventCategories,
             final Instant startTime
     ) {
-        final DescribeEventsResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
-                DescribeEventsRequest.builder()
-                        .sourceType(sourceType)
-                        .sourceIdentifier(sourceIdentifier)
-                        .eventCategories(eventCategories)
-                        .startTime(startTime)
-                        .endTime(Instant.now())
-                        .build(),
-                rdsProxyClient.client()::describeEvents
-        );
-        return response.events();
+        final Instant endTime = Instant.now();
+        final List<Event> events = new ArrayList<>();
+        String marker = null;
+        do {
+            final DescribeEventsResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
+                    DescribeEventsRequest.builder()
+                            .sourceType(sourceType)
+                            .sourceIdentifier(sourceIdentifier)
+                            .eventCategories(eventCategories)
+                            .startTime(startTime)
+                            .endTime(endTime)
+                            .marker(marker)
+                            .build(),
+                    rdsProxyClient.client()::describeEvents
+            );
+            events.addAll(response.events());
+            marker = response.marker();
+        } while (marker != null);
+        return events;
+    }
+
+    public static <M, C> ProgressEvent<M, C> checkFailedEvents(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String sourceIdentifier,
+            final SourceType sourceType,
+            final Instant startTime,
+            final ProgressEvent<M, C> progress,
+            final Predicate<Event> isFailureEvent,
+            final RequestLogger logger
+    ) {
+        return checkFailedEvents(rdsProxyClient, sourceIdentifier, sourceType, startTime, new EventsContext(), progress, isFailureEvent, logger);
     }
 
+    /**
+     * Fails the progress with the message of the first failure event published since the start time. Every page of
+     * DescribeEvents is processed, and the events context is advanced past them, so a subsequent callback sharing
+     * the context fetches the new events only. An interrupted scan is resumed from the stored marker.
+     */
     public static <M, C> ProgressEvent<M, C> checkFailedEvents(
             final ProxyClient<RdsClient> rdsProxyClient,
             final String sourceIdentifier,
             final SourceType sourceType,
             final Instant startTime,
+            final EventsContext eventsContext,
             final ProgressEvent<M, C> progress,
             final Predicate<Event> isFailureEvent,
             final RequestLogger logger
     ) {
         try {
-            final List<Event> failures = fetchEvents(
-                    rdsProxyClient,
-                    sourceIdentifier,
-                    sourceType,
-                    new String[]{EVENT_CATEGORY_NOTIFICATION, EVENT_CATEGORY_MAINTENANCE},
-                    startTime
-            )
-                    .stream()
-                    .filter(isFailureEvent)
-                    .collect(Collectors.toList());
-            if (!CollectionUtils.isNullOrEmpty(failures)) {
-                return ProgressEvent.failed(
-                        progress.getResourceModel(),
-                        progress.getCallbackContext(),
-                        HandlerErrorCode.GeneralServiceException,
-                        failures.get(0).message()
-                );
+            if (!eventsContext.isScanPending(startTime)) {
+                eventsContext.startScan(eventsContext.nextStartTime(startTime), Instant.now());
             }
+            do {
+                final DescribeEventsResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
+                        DescribeEventsRequest.builder()
+                                .sourceType(sourceType)
+                                .sourceIdentifier(sourceIdentifier)
+                                .eventCategories(FAILURE_EVENT_CATEGORIES)
+                                .startTime(Optional.ofNullable(eventsContext.getWindowStart()).map(Instant::ofEpochMilli).orElse(null))
+                                .endTime(Instant.ofEpochMilli(eventsContext.getWindowEnd()))
+                                .marker(eventsContext.getMarker())
+                                .build(),
+                        rdsProxyClient.client()::describeEvents
+                );
+                for (final Event event : response.events()) {
+                    if (isFailureEvent.test(event)) {
+                        return ProgressEvent.failed(
+                                progress.getResourceModel(),
+                                progress.getCallbackContext(),
+                                HandlerErrorCode.GeneralServiceException,
+                                event.message()
+                        );
+                    }
+                    eventsContext.processed(event.date());
+                }
+                eventsContext.setMarker(response.marker());
+            } while (eventsContext.getMarker() != null);
+            eventsContext.finishScan();
         } catch (Exception e) {
             logger.log(String.format("Failed to fetch events: %s", e.getMessage()));
             return Commons.handleException(progress, e, DESCRIBE_EVENTS_ERROR_RULE_SET, logger);
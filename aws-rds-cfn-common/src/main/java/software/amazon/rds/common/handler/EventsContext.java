@@ -0,0 +1,52 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Instant;
+
+/**
+ * The cursor of {@link Events#checkFailedEvents}, kept in the callback context so that every callback
+ * fetches the events it has not processed yet only.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class EventsContext {
+
+    // Epoch milliseconds of the latest processed event.
+    private Long lastEventTime;
+    // The pending page of an interrupted scan, valid for the scan window only.
+    private String marker;
+    private Long windowStart;
+    private Long windowEnd;
+
+    protected Instant nextStartTime(final Instant startTime) {
+        if (lastEventTime == null) {
+            return startTime;
+        }
+        final Instant lastEventInstant = Instant.ofEpochMilli(lastEventTime);
+        return startTime == null || lastEventInstant.isAfter(startTime) ? lastEventInstant : startTime;
+    }
+
+    protected boolean isScanPending(final Instant startTime) {
+        return marker != null && windowStart != null && windowEnd != null &&
+                (startTime == null || !startTime.isAfter(Instant.ofEpochMilli(windowStart)));
+    }
+
+    protected void processed(final Instant eventTime) {
+        if (eventTime != null && (lastEventTime == null || eventTime.toEpochMilli() > lastEventTime)) {
+            lastEventTime = eventTime.toEpochMilli();
+        }
+    }
+
+    protected void startScan(final Instant start, final Instant end) {
+        windowStart = start == null ? null : start.toEpochMilli();
+        windowEnd = end.toEpochMilli();
+        marker = null;
+    }
+
+    protected void finishScan() {
+        windowStart = null;
+        windowEnd = null;
+        marker = null;
+    }
+}
@@ -0,0 +1,134 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * A capped exponential delay with jitter.
+ * The nominal delay starts at {@code initialDelay} and grows by {@code multiplier} on every attempt until it reaches
+ * {@code maxDelay}. Fast operations are therefore polled frequently, while long-running operations do not hammer the API.
+ * While the delay grows, every returned delay is spread by up to {@code jitter} of the nominal value in either direction
+ * so that stacks started at the same time do not poll in lockstep. Once the delay is capped, it is returned as is:
+ * the stacks keep the offsets they picked up on the way, and a schedule starting at the cap polls like {@code Constant}.
+ * <p>
+ * The CloudFormation proxy persists nothing but the attempt number between invocations, hence the timeout is evaluated
+ * against the nominal (non-jittered) schedule, the same way {@code Constant} does.
+ * <p>
+ * If the operation duration is roughly known upfront, {@code expectedDuration} seeds the initial delay: there is little
+ * point polling a 10-minute operation every few seconds right after it has started.
+ */
+@Getter
+@ToString
+public class ExponentialWithJitter implements Delay {
+
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(90);
+    public static final double DEFAULT_MULTIPLIER = 1.5;
+    public static final double DEFAULT_JITTER = 0.2;
+
+    // The first poll of an operation with a known expected duration happens after this fraction of the duration.
+    static final double EXPECTED_DURATION_INITIAL_FRACTION = 0.25;
+
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final Duration initialDelay;
+    private final Duration timeout;
+    private final double multiplier;
+    private final double jitter;
+    @ToString.Exclude
+    private final DoubleSupplier random;
+
+    @Builder(builderMethodName = "of")
+    private ExponentialWithJitter(
+            final Duration minDelay,
+            final Duration maxDelay,
+            final Duration expectedDuration,
+            final Duration timeout,
+            final Double multiplier,
+            final Double jitter,
+            final DoubleSupplier random
+    ) {
+        this.minDelay = minDelay != null ? minDelay : DEFAULT_MIN_DELAY;
+        this.maxDelay = maxDelay != null ? maxDelay : DEFAULT_MAX_DELAY;
+        this.timeout = timeout != null ? timeout : DEFAULT_TIMEOUT;
+        this.multiplier = multiplier != null ? multiplier : DEFAULT_MULTIPLIER;
+        this.jitter = jitter != null ? jitter : DEFAULT_JITTER;
+        this.random = random != null ? random : () -> ThreadLocalRandom.current().nextDouble();
+
+        if (this.minDelay.isNegative() || this.minDelay.isZero()) {
+            throw new IllegalArgumentException("minDelay must be positive, got: " + this.minDelay);
+        }
+        if (this.maxDelay.compareTo(this.minDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must not be less than minDelay, got: " + this.maxDelay);
+        }
+        if (this.multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must not be less than 1, got: " + this.multiplier);
+        }
+        if (this.jitter < 0.0 || this.jitter >= 1.0) {
+            throw new IllegalArgumentException("jitter must be within [0, 1), got: " + this.jitter);
+        }
+
+        this.initialDelay = expectedDuration != null
+                ? clamp(Duration.ofMillis((long) (expectedDuration.toMillis() * EXPECTED_DURATION_INITIAL_FRACTION)))
+                : this.minDelay;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (elapsed(attempt).compareTo(timeout) > 0) {
+            // The proxy compares the returned value by reference.
+            return Duration.ZERO;
+        }
+        final Duration nominalDelay = nominalDelay(attempt);
+        if (nominalDelay.equals(maxDelay)) {
+            return maxDelay;
+        }
+        final double spread = jitter * (2.0 * random.getAsDouble() - 1.0);
+        return clamp(Duration.ofMillis((long) (nominalDelay.toMillis() * (1.0 + spread))));
+    }
+
+    /**
+     * Returns the delay before the attempt {@code attempt} (0-based) as if no jitter was applied.
+     */
+    public Duration nominalDelay(final int attempt) {
+        final double delayMillis = initialDelay.toMillis() * Math.pow(multiplier, attempt);
+        if (delayMillis >= maxDelay.toMillis()) {
+            return maxDelay;
+        }
+        return clamp(Duration.ofMillis((long) delayMillis));
+    }
+
+    /**
+     * Returns the total nominal time spent waiting before the attempt {@code attempt} (0-based).
+     */
+    public Duration elapsed(final int attempt) {
+        Duration elapsed = Duration.ZERO;
+        int step = 0;
+        for (; step < attempt; step++) {
+            final Duration delay = nominalDelay(step);
+            if (delay.equals(maxDelay)) {
+                break;
+            }
+            elapsed = elapsed.plus(delay);
+        }
+        // Once the delay is capped, the rest of the schedule is linear.
+        return elapsed.plus(maxDelay.multipliedBy(attempt - step));
+    }
+
+    private Duration clamp(final Duration delay) {
+        if (delay.compareTo(minDelay) < 0) {
+            return minDelay;
+        }
+        if (delay.compareTo(maxDelay) > 0) {
+            return maxDelay;
+        }
+        return delay;
+    }
+}
@@ -4,7 +4,8 @@ import java.time.Duration;
 
 import lombok.Builder;
 import lombok.Getter;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.rds.common.logging.AsyncLogSink;
 
 @Builder
 public class HandlerConfig {
@@ -15,8 +16,11 @@ public class HandlerConfig {
 
     @Getter
     @Builder.Default
-    final private Constant backoff = Constant.of()
-            .delay(Duration.ofSeconds(30))
+    final private Delay backoff = ExponentialWithJitter.of()
             .timeout(Duration.ofMinutes(90))
             .build();
+
+    // Request logging is synchronous unless the async sink is configured.
+    @Getter
+    final private AsyncLogSink.Config logSinkConfig;
 }
@@ -1,10 +1,13 @@
 package software.amazon.rds.common.handler;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,6 +17,7 @@ import com.google.common.collect.Sets;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Value;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
@@ -130,21 +134,62 @@ public final class Tagging {
             final ErrorRuleSet errorRuleSet,
             final RequestLogger requestLogger
     ) {
-        final Set<Tag> desiredTagSet = new LinkedHashSet<>(translateTagsToSdk(desiredTags));
-        final Set<Tag> previousTagSet = new LinkedHashSet<>(translateTagsToSdk(previousTags));
-
-        final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, previousTagSet);
-        final Set<Tag> tagsToRemove = Sets.difference(previousTagSet, desiredTagSet);
+        final TagDiff tagDiff = diff(translateTagsToSdk(previousTags), translateTagsToSdk(desiredTags));
 
         try {
-            removeTags(rdsProxyClient, resourceArn, tagsToRemove);
-            addTags(rdsProxyClient, resourceArn, tagsToAdd);
+            applyTagDiff(rdsProxyClient, resourceArn, tagDiff);
             return progress;
         } catch (Exception e) {
             return Commons.handleException(progress, e, errorRuleSet, requestLogger);
         }
     }
 
+    /**
+     * Computes the minimal plan turning the previous tags into the desired ones, indexed by the tag key: a new key
+     * or a changed value is an upsert, since AddTagsToResource overwrites the value of an existing key, and only
+     * the keys absent from the desired tags are removed.
+     */
+    public static TagDiff diff(final Collection<Tag> previousTags, final Collection<Tag> desiredTags) {
+        final Map<String, String> previousValues = new LinkedHashMap<>();
+        for (final Tag tag : Optional.ofNullable(previousTags).orElse(Collections.emptyList())) {
+            previousValues.put(tag.key(), tag.value());
+        }
+        final Map<String, Tag> desired = new LinkedHashMap<>();
+        for (final Tag tag : Optional.ofNullable(desiredTags).orElse(Collections.emptyList())) {
+            desired.put(tag.key(), tag);
+        }
+
+        final List<Tag> tagsToUpsert = new ArrayList<>();
+        for (final Tag tag : desired.values()) {
+            if (!previousValues.containsKey(tag.key()) || !Objects.equals(previousValues.get(tag.key()), tag.value())) {
+                tagsToUpsert.add(tag);
+            }
+        }
+        final List<String> tagKeysToRemove = new ArrayList<>();
+        for (final String key : previousValues.keySet()) {
+            if (!desired.containsKey(key)) {
+                tagKeysToRemove.add(key);
+            }
+        }
+        return new TagDiff(tagsToUpsert, tagKeysToRemove);
+    }
+
+    public static TagDiff diff(final TagSet previousTags, final TagSet desiredTags) {
+        return diff(translateTagsToSdk(previousTags), translateTagsToSdk(desiredTags));
+    }
+
+    /**
+     * Removes the keys first, so the resource tag limit is not exceeded while both changes are in flight.
+     */
+    public static void applyTagDiff(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String arn,
+            final TagDiff tagDiff
+    ) {
+        removeTagKeys(rdsProxyClient, arn, tagDiff.getTagKeysToRemove());
+        addTags(rdsProxyClient, arn, tagDiff.getTagsToUpsert());
+    }
+
     public static void addTags(
             final ProxyClient<RdsClient> rdsProxyClient,
             final String arn,
@@ -169,8 +214,20 @@ public final class Tagging {
             return;
         }
 
+        removeTagKeys(rdsProxyClient, arn, tagsToRemove.stream().map(Tag::key).collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    public static void removeTagKeys(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final String arn,
+            final Collection<String> tagKeysToRemove
+    ) {
+        if (CollectionUtils.isNullOrEmpty(tagKeysToRemove)) {
+            return;
+        }
+
         rdsProxyClient.injectCredentialsAndInvokeV2(
-                removeTagsFromResourceRequest(arn, tagsToRemove),
+                removeTagsFromResourceRequest(arn, tagKeysToRemove),
                 rdsProxyClient.client()::removeTagsFromResource
         );
     }
@@ -191,11 +248,11 @@ public final class Tagging {
 
     private static RemoveTagsFromResourceRequest removeTagsFromResourceRequest(
             final String arn,
-            final Collection<Tag> tagsToRemove
+            final Collection<String> tagKeysToRemove
     ) {
         return RemoveTagsFromResourceRequest.builder()
                 .resourceName(arn)
-                .tagKeys(tagsToRemove.stream().map(Tag::key).collect(Collectors.toCollection(LinkedHashSet::new)))
+                .tagKeys(tagKeysToRemove)
                 .build();
     }
 
@@ -253,6 +310,16 @@ public final class Tagging {
         }
     }
 
+    @Value
+    public static class TagDiff {
+        List<Tag> tagsToUpsert;
+        List<String> tagKeysToRemove;
+
+        public boolean isEmpty() {
+            return tagsToUpsert.isEmpty() && tagKeysToRemove.isEmpty();
+        }
+    }
+
     @Builder(toBuilder = true)
     @AllArgsConstructor
     @Data
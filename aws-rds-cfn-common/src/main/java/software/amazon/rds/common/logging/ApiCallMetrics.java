@@ -0,0 +1,152 @@
+package software.amazon.rds.common.logging;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Per-invocation metrics of the API calls made through {@link LoggingProxyClient}: call and failure counts,
+ * throttling exceptions, retries of a previously failed identical request, latency percentiles and the response
+ * sizes, grouped by the operation. {@link RequestLogger#handleRequest} logs the {@link #summary()} once
+ * per invocation.
+ * <p>
+ * The latency covers the whole proxied call, including the SDK retries. For the paginated, streamed and
+ * asynchronous calls it covers the call submission only.
+ */
+public class ApiCallMetrics {
+
+    static final int MAX_TRACKED_FAILED_REQUESTS = 256;
+
+    private static final String REQUEST_SUFFIX = "Request";
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    private static final ClassValue<String> OPERATION_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(final Class<?> requestClass) {
+            final String name = requestClass.getSimpleName();
+            return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+        }
+    };
+
+    @Value
+    @Builder
+    public static class OperationSummary {
+        long calls;
+        long failures;
+        long throttles;
+        long retries;
+        long latencyP50Millis;
+        long latencyP90Millis;
+        long latencyP99Millis;
+        long latencyMaxMillis;
+        long responseBytes;
+        long maxResponseBytes;
+    }
+
+    private static class OperationMetrics {
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder throttles = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final AtomicLong maxResponseBytes = new AtomicLong();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private OperationSummary summary() {
+            return OperationSummary.builder()
+                    .calls(latency.getCount())
+                    .failures(failures.sum())
+                    .throttles(throttles.sum())
+                    .retries(retries.sum())
+                    .latencyP50Millis(latency.getValueAtPercentile(50) / 1_000)
+                    .latencyP90Millis(latency.getValueAtPercentile(90) / 1_000)
+                    .latencyP99Millis(latency.getValueAtPercentile(99) / 1_000)
+                    .latencyMaxMillis(latency.getMax() / 1_000)
+                    .responseBytes(responseBytes.sum())
+                    .maxResponseBytes(maxResponseBytes.get())
+                    .build();
+        }
+    }
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final Set<AwsRequest> failedRequests = ConcurrentHashMap.newKeySet();
+
+    public void recordSuccess(final AwsRequest request, final Object response, final long latencyNanos) {
+        final OperationMetrics metrics = record(request, latencyNanos);
+        if (response instanceof AwsResponse) {
+            final long length = contentLength((AwsResponse) response);
+            if (length > 0) {
+                metrics.responseBytes.add(length);
+                metrics.maxResponseBytes.accumulateAndGet(length, Math::max);
+            }
+        }
+    }
+
+    public void recordFailure(final AwsRequest request, final Throwable throwable, final long latencyNanos) {
+        final OperationMetrics metrics = record(request, latencyNanos);
+        metrics.failures.increment();
+        if (throwable instanceof AwsServiceException && ((AwsServiceException) throwable).isThrottlingException()) {
+            metrics.throttles.increment();
+        }
+        if (failedRequests.size() < MAX_TRACKED_FAILED_REQUESTS) {
+            failedRequests.add(request);
+        }
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * The metrics collected so far, sorted by the operation name.
+     */
+    public SortedMap<String, OperationSummary> summary() {
+        final SortedMap<String, OperationSummary> summary = new TreeMap<>();
+        operations.forEach((operation, metrics) -> summary.put(operation, metrics.summary()));
+        return summary;
+    }
+
+    private OperationMetrics record(final AwsRequest request, final long latencyNanos) {
+        final OperationMetrics metrics = operations.computeIfAbsent(operationName(request), operation -> new OperationMetrics());
+        if (!failedRequests.isEmpty() && failedRequests.remove(request)) {
+            metrics.retries.increment();
+        }
+        metrics.latency.recordNanos(latencyNanos);
+        return metrics;
+    }
+
+    static String operationName(final AwsRequest request) {
+        return OPERATION_NAMES.get(request.getClass());
+    }
+
+    /**
+     * Returns the response Content-Length, or -1 if unknown.
+     */
+    static long contentLength(final AwsResponse response) {
+        final SdkHttpResponse httpResponse = response.sdkHttpResponse();
+        if (httpResponse == null) {
+            return -1;
+        }
+        return httpResponse.firstMatchingHeader(CONTENT_LENGTH)
+                .map(ApiCallMetrics::parseLength)
+                .orElse(-1L);
+    }
+
+    private static long parseLength(final String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
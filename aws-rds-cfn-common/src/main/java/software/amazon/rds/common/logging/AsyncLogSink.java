@@ -0,0 +1,176 @@
+package software.amazon.rds.common.logging;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * A {@link Logger} handing the messages over to a single writer thread, so the handler thread does not wait for
+ * the log transport. The messages are kept in a bounded queue: a message arriving at a full queue is dropped,
+ * a message longer than the limit is truncated. The consecutive messages are written in size-bounded batches,
+ * one message per line.
+ * <p>
+ * {@link #flush(Duration)} blocks until every accepted message has been written and reports the messages
+ * dropped and truncated since the previous flush.
+ */
+public class AsyncLogSink implements Logger {
+
+    static final String TRUNCATED_SUFFIX = "...<truncated>";
+
+    private static final Executor DEFAULT_WRITER = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("async-log-sink-%d").build()
+    );
+
+    @Value
+    @Builder
+    public static class Config {
+        @Builder.Default
+        int capacity = 1024;
+        @Builder.Default
+        int maxBatchLength = 64 * 1024;
+        @Builder.Default
+        int maxMessageLength = 256 * 1024;
+        @Builder.Default
+        @NonNull
+        Duration flushTimeout = Duration.ofSeconds(10);
+    }
+
+    @Value
+    public static class Report {
+        long dropped;
+        long truncated;
+        // Still queued when the flush timed out.
+        long pending;
+
+        public boolean isEmpty() {
+            return dropped == 0 && truncated == 0 && pending == 0;
+        }
+    }
+
+    private final Logger delegate;
+    private final Config config;
+    private final Executor writer;
+
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+    // The number of accepted messages not yet written, bounds the queue.
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong truncated = new AtomicLong();
+
+    public AsyncLogSink(@NonNull final Logger delegate, @NonNull final Config config) {
+        this(delegate, config, DEFAULT_WRITER);
+    }
+
+    AsyncLogSink(@NonNull final Logger delegate, @NonNull final Config config, @NonNull final Executor writer) {
+        if (config.getCapacity() < 1 || config.getMaxBatchLength() < 1 || config.getMaxMessageLength() < 1) {
+            throw new IllegalArgumentException("AsyncLogSink limits must be positive, got: " + config);
+        }
+        this.delegate = delegate;
+        this.config = config;
+        this.writer = writer;
+    }
+
+    @Override
+    public void log(final String message) {
+        if (message == null) {
+            return;
+        }
+        if (pending.incrementAndGet() > config.getCapacity()) {
+            pending.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        if (message.length() > config.getMaxMessageLength()) {
+            truncated.incrementAndGet();
+            queue.offer(message.substring(0, config.getMaxMessageLength()) + TRUNCATED_SUFFIX);
+        } else {
+            queue.offer(message);
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Waits for the accepted messages to be written, up to the configured timeout.
+     */
+    public Report flush() {
+        return flush(config.getFlushTimeout());
+    }
+
+    public Report flush(@NonNull final Duration timeout) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            long remaining;
+            while (pending.get() > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    wait(Math.max(1, remaining / 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        return new Report(dropped.getAndSet(0), truncated.getAndSet(0), pending.get());
+    }
+
+    private void scheduleDrain() {
+        if (scheduled.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            final StringBuilder batch = new StringBuilder();
+            String message;
+            int count = 0;
+            while ((message = queue.poll()) != null) {
+                if (batch.length() > 0 && batch.length() + message.length() >= config.getMaxBatchLength()) {
+                    write(batch, count);
+                    batch.setLength(0);
+                    count = 0;
+                }
+                if (batch.length() > 0) {
+                    batch.append(StringUtils.LF);
+                }
+                batch.append(message);
+                count++;
+            }
+            if (count > 0) {
+                write(batch, count);
+            }
+        } finally {
+            scheduled.set(false);
+            // A message might have been queued after the last poll, yet before the drain was marked as finished.
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private void write(final StringBuilder batch, final int count) {
+        try {
+            delegate.log(batch.toString());
+        } catch (RuntimeException e) {
+            dropped.addAndGet(count);
+        } finally {
+            pending.addAndGet(-count);
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package software.amazon.rds.common.logging;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.NonNull;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+/**
+ * Writes a log message in a single pass: the request metadata, the filtered fields and the payload are serialized
+ * straight into one {@link JsonGenerator}, without printing the payload to a string and parsing it back.
+ * <p>
+ * The output is compact unless the writer is built with {@link SerializationFeature#INDENT_OUTPUT} explicitly requested.
+ * The character buffer is kept per thread and reused by the consecutive messages.
+ */
+public class JsonLogWriter {
+
+    static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<MessageBuffer> BUFFERS = ThreadLocal.withInitial(MessageBuffer::new);
+
+    private final ObjectWriter writer;
+
+    public JsonLogWriter(@NonNull final ObjectWriter writer) {
+        this(writer, false);
+    }
+
+    public JsonLogWriter(@NonNull final ObjectWriter writer, final boolean indent) {
+        this.writer = indent ?
+                writer.with(SerializationFeature.INDENT_OUTPUT) :
+                writer.without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public static JsonLogWriter of(@NonNull final FilteredJsonPrinter jsonPrinter) {
+        return new JsonLogWriter(jsonPrinter.getWriter());
+    }
+
+    public Message newMessage() throws IOException {
+        return new Message(MessageBuffer.acquire());
+    }
+
+    public class Message implements LogMessage, AutoCloseable {
+
+        private final MessageBuffer buffer;
+        private final JsonGenerator generator;
+        private String result;
+        private boolean closed = false;
+
+        private Message(final MessageBuffer buffer) throws IOException {
+            this.buffer = buffer;
+            this.generator = writer.createGenerator(buffer);
+            generator.writeStartObject();
+        }
+
+        /**
+         * Merges the top-level fields of the object into the message. A value that does not serialize
+         * to a JSON object is written as the {@link RequestLogger#CONTENT_DETAIL}.
+         */
+        @Override
+        public void append(final Object object) throws IOException {
+            if (object == null) {
+                return;
+            }
+            if (isScalarOrArray(object)) {
+                append(RequestLogger.CONTENT_DETAIL, object);
+                return;
+            }
+            writer.writeValue(new UnwrappingGenerator(generator), object);
+        }
+
+        @Override
+        public void append(final String message, final Object object) throws IOException {
+            generator.writeFieldName(message);
+            writer.writeValue(generator, object);
+        }
+
+        @Override
+        public void append(final Throwable throwable) throws IOException {
+            // Keeps the shape of FilteredJsonPrinter#print(Throwable).
+            generator.writeArrayFieldStart(FilteredJsonPrinter.STACK_TRACE);
+            generator.writeString(ExceptionUtils.getStackTrace(throwable));
+            generator.writeEndArray();
+        }
+
+        /**
+         * Completes the message and returns its text. The message can not be appended to afterwards.
+         */
+        public String finish() throws IOException {
+            if (result == null) {
+                generator.writeEndObject();
+                generator.close();
+                result = buffer.toString();
+                close();
+            }
+            return result;
+        }
+
+        /**
+         * Releases the buffer, whether or not the message has been completed.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                generator.close();
+            } catch (IOException e) {
+                // The content of an abandoned message is discarded anyway.
+            } finally {
+                buffer.release();
+            }
+        }
+
+        @Override
+        public String toString() {
+            try {
+                return finish();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to complete the log message", e);
+            }
+        }
+    }
+
+    private static boolean isScalarOrArray(final Object object) {
+        return object instanceof CharSequence ||
+                object instanceof Number ||
+                object instanceof Boolean ||
+                object instanceof Character ||
+                object instanceof Enum ||
+                object instanceof Collection ||
+                object.getClass().isArray();
+    }
+
+    /**
+     * Drops the outermost object of the written value, so its fields land in the enclosing message.
+     */
+    private static class UnwrappingGenerator extends JsonGeneratorDelegate {
+        private int depth = 0;
+
+        UnwrappingGenerator(final JsonGenerator delegate) {
+            super(delegate, false);
+        }
+
+        @Override
+        public void writeStartObject() throws IOException {
+            if (depth++ > 0) {
+                super.writeStartObject();
+            }
+        }
+
+        @Override
+        public void writeStartObject(final Object forValue) throws IOException {
+            if (depth++ > 0) {
+                super.writeStartObject(forValue);
+            }
+        }
+
+        @Override
+        public void writeStartObject(final Object forValue, final int size) throws IOException {
+            if (depth++ > 0) {
+                super.writeStartObject(forValue, size);
+            }
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            if (--depth > 0) {
+                super.writeEndObject();
+            }
+        }
+
+        @Override
+        public void flush() {
+            // The enclosing message is flushed once it is complete.
+        }
+    }
+
+    /**
+     * A non-synchronized character sink reused by the messages written on the same thread.
+     * A message started while another one is still open on the thread gets a buffer of its own.
+     */
+    static class MessageBuffer extends Writer {
+        private StringBuilder builder = new StringBuilder();
+        private boolean inUse = false;
+
+        static MessageBuffer acquire() {
+            MessageBuffer buffer = BUFFERS.get();
+            if (buffer.inUse) {
+                buffer = new MessageBuffer();
+            }
+            buffer.inUse = true;
+            buffer.builder.setLength(0);
+            return buffer;
+        }
+
+        void release() {
+            if (builder.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                builder = new StringBuilder();
+            } else {
+                builder.setLength(0);
+            }
+            inUse = false;
+        }
+
+        int capacity() {
+            return builder.capacity();
+        }
+
+        @Override
+        public void write(final char[] chars, final int offset, final int length) {
+            builder.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(final int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(final String str, final int offset, final int length) {
+            builder.append(str, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
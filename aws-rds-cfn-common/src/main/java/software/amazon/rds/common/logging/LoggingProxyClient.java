@@ -4,7 +4,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
@@ -12,11 +12,25 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.cloudformation.proxy.ProxyClient;
 
-@RequiredArgsConstructor
 public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
 
     final private RequestLogger requestLogger;
     final private ProxyClient<ClientT> proxyClient;
+    final private ResponseLogPolicy responseLogPolicy;
+
+    public LoggingProxyClient(final RequestLogger requestLogger, final ProxyClient<ClientT> proxyClient) {
+        this(requestLogger, proxyClient, ResponseLogPolicy.full());
+    }
+
+    public LoggingProxyClient(
+            final RequestLogger requestLogger,
+            final ProxyClient<ClientT> proxyClient,
+            @NonNull final ResponseLogPolicy responseLogPolicy
+    ) {
+        this.requestLogger = requestLogger;
+        this.proxyClient = proxyClient;
+        this.responseLogPolicy = responseLogPolicy;
+    }
 
     @Override
     public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
@@ -69,13 +83,18 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final BiFunction<RequestT, Function<RequestT, ResultT>, ResultT> injectCredentials
     ) {
         ResultT result = null;
+        long start = 0;
         try {
             requestLogger.log(request);
+            start = System.nanoTime();
             result = injectCredentials.apply(request, requestFunction);
         } catch (Exception e) {
+            requestLogger.getApiCallMetrics().recordFailure(request, e, System.nanoTime() - start);
             requestLogger.logAndThrow(e);
         }
-        requestLogger.log(result);
+        final long latencyNanos = System.nanoTime() - start;
+        requestLogger.getApiCallMetrics().recordSuccess(request, result, latencyNanos);
+        responseLogPolicy.logResponse(requestLogger, request, result, latencyNanos);
         return result;
     }
 
@@ -85,12 +104,16 @@ public class LoggingProxyClient<ClientT> implements ProxyClient<ClientT> {
             final BiFunction<RequestT, Function<RequestT, ResultT>, ResultT> injectCredentials
     ) {
         ResultT result = null;
+        long start = 0;
         try {
             requestLogger.log(request);
+            start = System.nanoTime();
             result = injectCredentials.apply(request, requestFunction);
         } catch (Exception e) {
+            requestLogger.getApiCallMetrics().recordFailure(request, e, System.nanoTime() - start);
             requestLogger.logAndThrow(e);
         }
+        requestLogger.getApiCallMetrics().recordSuccess(request, null, System.nanoTime() - start);
         requestLogger.log("[Result log omitted]");
         return result;
     }
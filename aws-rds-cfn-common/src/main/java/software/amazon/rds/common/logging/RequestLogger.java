@@ -1,8 +1,10 @@
 package software.amazon.rds.common.logging;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -18,6 +20,7 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
 import software.amazon.rds.common.printer.JsonPrinter;
 
 @lombok.Getter
@@ -30,9 +33,16 @@ public class RequestLogger {
     public static final String STACK_ID = "StackId";
     public static final String AWS_ACCOUNT_ID = "AwsAccountId";
     public static final String CLIENT_REQUEST_TOKEN = "ClientRequestToken";
+    public static final String LOG_SINK_REPORT = "LogSinkReport";
+    public static final String API_CALL_METRICS = "ApiCallMetrics";
+    public static final String OPERATIONS = "Operations";
     private final Logger logger;
     private final Map<String, String> requestDataMap;
     private final JsonPrinter jsonPrinter;
+    // Streams the messages in a single pass when the printer exposes its filtered writer.
+    private final JsonLogWriter logWriter;
+    private final AtomicLong loggedLength = new AtomicLong();
+    private final ApiCallMetrics apiCallMetrics = new ApiCallMetrics();
 
     private final LogRuleSet DEFAULT_LOG_RULE_SET = LogRuleSet.builder()
             .withLogClasses((Throwable t) -> log(t),
@@ -57,6 +67,7 @@ public class RequestLogger {
                              final JsonPrinter jsonPrinter) {
         this.logger = logger;
         this.jsonPrinter = jsonPrinter;
+        this.logWriter = jsonPrinter instanceof FilteredJsonPrinter ? JsonLogWriter.of((FilteredJsonPrinter) jsonPrinter) : null;
         this.requestDataMap = new HashMap<>();
         requestDataMap.put(STACK_ID, request.getStackId());
         requestDataMap.put(AWS_ACCOUNT_ID, request.getAwsAccountId());
@@ -67,7 +78,20 @@ public class RequestLogger {
                                                            final @NonNull ResourceHandlerRequest<M> request,
                                                            final JsonPrinter jsonPrinter,
                                                            final Function<RequestLogger, ProgressEvent<M, C>> requestHandler) {
-        RequestLogger requestLogger = new RequestLogger(logger, request, jsonPrinter);
+        return handleRequest(logger, request, jsonPrinter, null, requestHandler);
+    }
+
+    /**
+     * Handles the request logging through an {@link AsyncLogSink} if the sink config is provided.
+     * The sink is flushed before the progress event is returned or the exception is thrown.
+     */
+    public static <M, C> ProgressEvent<M, C> handleRequest(final Logger logger,
+                                                           final @NonNull ResourceHandlerRequest<M> request,
+                                                           final JsonPrinter jsonPrinter,
+                                                           final AsyncLogSink.Config logSinkConfig,
+                                                           final Function<RequestLogger, ProgressEvent<M, C>> requestHandler) {
+        final Logger target = logger != null && logSinkConfig != null ? new AsyncLogSink(logger, logSinkConfig) : logger;
+        RequestLogger requestLogger = new RequestLogger(target, request, jsonPrinter);
         requestLogger.log("HandlerRequest", request);
         ProgressEvent<M, C> progressEvent = null;
         try {
@@ -75,11 +99,25 @@ public class RequestLogger {
             requestLogger.log("HandlerResponse", progressEvent);
         } catch (Throwable throwable) {
             requestLogger.logAndThrow(throwable);
+        } finally {
+            requestLogger.logApiCallMetrics();
+            requestLogger.flush();
         }
         return progressEvent;
     }
 
     public void log(Throwable throwable) {
+        if (logWriter != null) {
+            try (JsonLogWriter.Message message = logWriter.newMessage()) {
+                message.append(CONTENT, throwable.getClass().getCanonicalName());
+                message.append(throwable);
+                message.append(requestDataMap);
+                logMessage(message.finish());
+            } catch (Throwable caughtThrowable) {
+                logMessage(caughtThrowable);
+            }
+            return;
+        }
         try {
             LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
             message.append(CONTENT, throwable.getClass().getCanonicalName());
@@ -113,12 +151,19 @@ public class RequestLogger {
     }
 
     public void log(String msg, Object object, Map<String, String> additionalFields) {
+        if (logWriter != null) {
+            try (JsonLogWriter.Message message = logWriter.newMessage()) {
+                appendAll(message, msg, object, additionalFields);
+                logMessage(message.finish());
+            } catch (Throwable throwable) {
+                logMessage(throwable);
+                logMessage(ObjectUtils.defaultIfNull(object, StringUtils.EMPTY).toString());
+            }
+            return;
+        }
         try {
             LogMessage message = JsonLogMessage.newLogMessage(jsonPrinter);
-            message.append(CONTENT, msg);
-            message.append(object);
-            message.append(additionalFields);
-            message.append(requestDataMap);
+            appendAll(message, msg, object, additionalFields);
             logMessage(message);
         } catch (Throwable throwable) {
             logMessage(throwable);
@@ -126,11 +171,54 @@ public class RequestLogger {
         }
     }
 
+    private void appendAll(final LogMessage message,
+                           final String msg,
+                           final Object object,
+                           final Map<String, String> additionalFields) throws IOException {
+        message.append(CONTENT, msg);
+        message.append(object);
+        message.append(additionalFields);
+        message.append(requestDataMap);
+    }
+
+    /**
+     * Logs the summary of the API calls made so far, if any.
+     */
+    public void logApiCallMetrics() {
+        if (!apiCallMetrics.isEmpty()) {
+            log(API_CALL_METRICS, ImmutableMap.of(OPERATIONS, apiCallMetrics.summary()));
+        }
+    }
+
+    /**
+     * Waits for the messages handed over to an {@link AsyncLogSink} to be written and logs the sink report
+     * if any message was dropped or truncated. A no-op for a synchronous logger.
+     */
+    public void flush() {
+        if (!(logger instanceof AsyncLogSink)) {
+            return;
+        }
+        final AsyncLogSink sink = (AsyncLogSink) logger;
+        final AsyncLogSink.Report report = sink.flush();
+        if (!report.isEmpty()) {
+            log(LOG_SINK_REPORT, report);
+            sink.flush();
+        }
+    }
+
     private void logMessage(final LogMessage message) {
         logMessage(message.toString());
     }
 
+    /**
+     * The total length of the messages logged so far.
+     */
+    public long getLoggedLength() {
+        return loggedLength.get();
+    }
+
     private void logMessage(final String message) {
+        loggedLength.addAndGet(message.length());
         if (logger != null) {
             logger.log(message);
         }
@@ -0,0 +1,231 @@
+package software.amazon.rds.common.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Decides how a response returned to {@link LoggingProxyClient} gets logged within a single handler invocation.
+ * <p>
+ * The {@link #full()} policy logs every response as is. The {@link #sampled(Config)} policy logs the full payload
+ * of the first response to a request only, a repeated identical request (e.g. a stabilization poll) is logged
+ * as a {@link Digest} listing the fields changed since the previous response. Only a {@link Fingerprint} of
+ * the previous response is kept for the comparison. A full payload is also replaced with a digest if logging it
+ * would exceed the byte budget of the invocation. Failed calls are logged by
+ * {@link LoggingProxyClient} in full regardless of the policy.
+ * <p>
+ * A sampled policy holds the per-invocation state and is meant to be shared by all the proxy clients
+ * of the invocation.
+ */
+public abstract class ResponseLogPolicy {
+
+    public static final String RESPONSE_DIGEST = "ResponseDigest";
+
+    static final int MAX_CHANGED_FIELDS = 32;
+    static final int MAX_TRACKED_FIELDS = 256;
+    static final String OTHER_FIELDS = "*";
+    private static final String LIST_SUFFIX = "[]";
+
+    @Value
+    @Builder
+    public static class Config {
+        // Applies to the total length of the messages logged within the invocation.
+        @Builder.Default
+        long maxLoggedLength = 1024 * 1024;
+        @Builder.Default
+        int maxTrackedRequests = 64;
+    }
+
+    @Value
+    @Builder
+    public static class Digest {
+        String operation;
+        long latencyMillis;
+        // The response Content-Length, if known.
+        Long size;
+        String hash;
+        int calls;
+        List<String> changedFields;
+        boolean budgetExceeded;
+    }
+
+    private static final ResponseLogPolicy FULL = new ResponseLogPolicy() {
+        @Override
+        void logResponse(final RequestLogger requestLogger, final AwsRequest request, final Object response, final long latencyNanos) {
+            requestLogger.log(response);
+        }
+    };
+
+    public static ResponseLogPolicy full() {
+        return FULL;
+    }
+
+    public static ResponseLogPolicy sampled() {
+        return sampled(Config.builder().build());
+    }
+
+    public static ResponseLogPolicy sampled(@NonNull final Config config) {
+        return new Sampled(config);
+    }
+
+    abstract void logResponse(RequestLogger requestLogger, AwsRequest request, Object response, long latencyNanos);
+
+    private static class Sampled extends ResponseLogPolicy {
+        private final Config config;
+        private final Map<AwsRequest, Call> calls;
+
+        Sampled(final Config config) {
+            this.config = config;
+            this.calls = new LinkedHashMap<AwsRequest, Call>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<AwsRequest, Call> eldest) {
+                    return size() > config.getMaxTrackedRequests();
+                }
+            };
+        }
+
+        @Override
+        void logResponse(final RequestLogger requestLogger, final AwsRequest request, final Object response, final long latencyNanos) {
+            if (!(response instanceof AwsResponse)) {
+                requestLogger.log(response);
+                return;
+            }
+            final AwsResponse awsResponse = (AwsResponse) response;
+            final Fingerprint fingerprint = Fingerprint.of(awsResponse);
+            final Call previous;
+            final int count;
+            synchronized (calls) {
+                previous = calls.get(request);
+                count = previous == null ? 1 : previous.getCount() + 1;
+                calls.put(request, new Call(fingerprint.getFieldDigests(), count));
+            }
+            // The response is only serialized if it fits in what is left of the budget.
+            final boolean budgetExceeded = requestLogger.getLoggedLength() + fingerprint.getLength() > config.getMaxLoggedLength();
+            if (previous == null && !budgetExceeded) {
+                requestLogger.log(response);
+                return;
+            }
+            final long size = ApiCallMetrics.contentLength(awsResponse);
+            final List<String> changedFields = previous != null ?
+                    changedFields(previous.getFieldDigests(), fingerprint.getFieldDigests()) :
+                    Collections.emptyList();
+            requestLogger.log(RESPONSE_DIGEST, Digest.builder()
+                    .operation(ApiCallMetrics.operationName(request))
+                    .latencyMillis(latencyNanos / 1_000_000)
+                    .size(size >= 0 ? size : null)
+                    .hash(fingerprint.getHash())
+                    .calls(count)
+                    .changedFields(Collections.unmodifiableList(changedFields))
+                    .budgetExceeded(budgetExceeded)
+                    .build());
+        }
+    }
+
+    @Value
+    private static class Call {
+        Map<String, Long> fieldDigests;
+        int count;
+    }
+
+    /**
+     * The digests of the scalar fields of a response indexed by their paths, along with a SHA-256 hash and
+     * the approximate logged length of the whole response. A repeated call is compared against the fingerprint
+     * of the previous response, so the responses themselves are not retained. A list is recorded under
+     * {@code path[]} with its size. Past {@link #MAX_TRACKED_FIELDS} the remaining fields share a single digest.
+     */
+    @Getter
+    static class Fingerprint {
+        private final Map<String, Long> fieldDigests = new LinkedHashMap<>();
+        @Getter(AccessLevel.NONE)
+        private final Hasher hasher = Hashing.sha256().newHasher();
+        @Getter(AccessLevel.NONE)
+        private Hasher otherFieldsHasher;
+        private String hash;
+        private long length;
+
+        static Fingerprint of(final Object response) {
+            final Fingerprint fingerprint = new Fingerprint();
+            fingerprint.add("", "", response);
+            if (fingerprint.otherFieldsHasher != null) {
+                fingerprint.fieldDigests.put(OTHER_FIELDS, fingerprint.otherFieldsHasher.hash().asLong());
+            }
+            fingerprint.hash = fingerprint.hasher.hash().toString();
+            return fingerprint;
+        }
+
+        private void add(final String path, final String name, final Object value) {
+            if (value instanceof SdkPojo) {
+                for (final SdkField<?> field : ((SdkPojo) value).sdkFields()) {
+                    add(path.isEmpty() ? field.memberName() : path + "." + field.memberName(), field.memberName(), field.getValueOrDefault(value));
+                }
+            } else if (value instanceof List) {
+                final List<?> list = (List<?>) value;
+                addField(path + LIST_SUFFIX, name, list.size());
+                for (int i = 0; i < list.size(); i++) {
+                    add(path + "[" + i + "]", "", list.get(i));
+                }
+            } else if (value != null) {
+                addField(path, name, value);
+            }
+        }
+
+        private void addField(final String path, final String name, final Object value) {
+            final String string = String.valueOf(value);
+            hasher.putUnencodedChars(path).putChar('=').putUnencodedChars(string).putChar('\n');
+            // Roughly the quoted name and value of a JSON member.
+            length += name.length() + string.length() + 6;
+            if (fieldDigests.size() < MAX_TRACKED_FIELDS) {
+                fieldDigests.put(path, Hashing.murmur3_128().hashUnencodedChars(string).asLong());
+                return;
+            }
+            if (otherFieldsHasher == null) {
+                otherFieldsHasher = Hashing.murmur3_128().newHasher();
+            }
+            otherFieldsHasher.putUnencodedChars(path).putChar('=').putUnencodedChars(string).putChar('\n');
+        }
+    }
+
+    /**
+     * Lists the paths of the fields whose digests differ between the fingerprints. A resized list is reported
+     * by its own path, without the elements added or removed.
+     */
+    static List<String> changedFields(final Map<String, Long> previous, final Map<String, Long> current) {
+        final Set<String> paths = new LinkedHashSet<>(current.keySet());
+        paths.addAll(previous.keySet());
+        final List<String> changedFields = new ArrayList<>();
+        final List<String> resizedLists = new ArrayList<>();
+        for (final String path : paths) {
+            if (changedFields.size() >= MAX_CHANGED_FIELDS) {
+                break;
+            }
+            if (Objects.equals(previous.get(path), current.get(path)) || resizedLists.stream().anyMatch(path::startsWith)) {
+                continue;
+            }
+            if (path.endsWith(LIST_SUFFIX)) {
+                final String listPath = path.substring(0, path.length() - LIST_SUFFIX.length());
+                resizedLists.add(listPath + "[");
+                changedFields.add(listPath);
+            } else {
+                changedFields.add(path);
+            }
+        }
+        return changedFields;
+    }
+}
@@ -42,6 +42,13 @@ public class FilteredJsonPrinter implements JsonPrinter {
         writer = mapper.writer(filter);
     }
 
+    /**
+     * The filtered writer, for the callers serializing straight into their own generator.
+     */
+    public ObjectWriter getWriter() {
+        return writer;
+    }
+
     @Override
     public String print(final Object obj) throws JsonProcessingException {
         return obj == null ? EMPTY_JSON : writer.writeValueAsString(obj);
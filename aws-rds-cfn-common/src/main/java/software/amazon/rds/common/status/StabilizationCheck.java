@@ -0,0 +1,123 @@
+package software.amazon.rds.common.status;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import software.amazon.rds.common.logging.RequestLogger;
+
+/**
+ * A named list of predicates a resource has to satisfy to be considered stable.
+ * Every predicate is evaluated at most once per {@link #evaluate} call: the outcome of each predicate is kept in
+ * the returned {@link Result}, so there is no need to re-evaluate the predicates just to log them.
+ * If {@code shortCircuit} is set, the evaluation stops at the first unsatisfied predicate.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StabilizationCheck<T> {
+
+    public static final String BLOCKED_BY = "BlockedBy";
+
+    @Getter
+    private final String name;
+    private final List<String> predicateNames;
+    private final List<Predicate<T>> predicates;
+    private final boolean shortCircuit;
+
+    public static <T> Builder<T> builder(@NonNull final String name) {
+        return new Builder<>(name);
+    }
+
+    public Result evaluate(final T resource) {
+        final Map<String, Boolean> outcomes = new LinkedHashMap<>();
+        String blockedBy = null;
+        for (int i = 0; i < predicates.size(); i++) {
+            final boolean outcome = predicates.get(i).test(resource);
+            outcomes.put(predicateNames.get(i), outcome);
+            if (!outcome && blockedBy == null) {
+                blockedBy = predicateNames.get(i);
+                if (shortCircuit) {
+                    break;
+                }
+            }
+        }
+        return new Result(name, blockedBy, Collections.unmodifiableMap(outcomes));
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Result {
+        private final String checkName;
+        /**
+         * The first unsatisfied predicate, {@code null} if the resource is stable.
+         */
+        private final String blockedBy;
+        /**
+         * The outcomes of the evaluated predicates in the evaluation order.
+         * Predicates skipped due to a short circuit are absent.
+         */
+        private final Map<String, Boolean> outcomes;
+
+        public boolean isStabilized() {
+            return blockedBy == null;
+        }
+
+        public Map<String, Object> toLogRecord() {
+            final Map<String, Object> record = new LinkedHashMap<>(outcomes);
+            if (blockedBy != null) {
+                record.put(BLOCKED_BY, blockedBy);
+            }
+            return record;
+        }
+
+        /**
+         * Emits a single log record containing the outcomes and the blocking predicate. A null logger is ignored.
+         */
+        public Result log(final RequestLogger requestLogger) {
+            if (requestLogger != null) {
+                requestLogger.log(String.format("%s: %b", checkName, isStabilized()), toLogRecord());
+            }
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %b %s", checkName, isStabilized(), toLogRecord());
+        }
+    }
+
+    public static class Builder<T> {
+        private final String name;
+        private final List<String> predicateNames = new ArrayList<>();
+        private final List<Predicate<T>> predicates = new ArrayList<>();
+        private boolean shortCircuit = false;
+
+        private Builder(final String name) {
+            this.name = name;
+        }
+
+        public Builder<T> check(@NonNull final String predicateName, @NonNull final Predicate<T> predicate) {
+            if (predicateNames.contains(predicateName)) {
+                throw new IllegalArgumentException("Duplicate stabilization predicate: " + predicateName);
+            }
+            predicateNames.add(predicateName);
+            predicates.add(predicate);
+            return this;
+        }
+
+        public Builder<T> shortCircuit(final boolean shortCircuit) {
+            this.shortCircuit = shortCircuit;
+            return this;
+        }
+
+        public StabilizationCheck<T> build() {
+            return new StabilizationCheck<>(name, new ArrayList<>(predicateNames), new ArrayList<>(predicates), shortCircuit);
+        }
+    }
+}
@@ -1,62 +1,57 @@
 package software.amazon.rds.common.util;
 
-import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.BooleanUtils;
-import org.everit.json.schema.ArraySchema;
-import org.everit.json.schema.ObjectSchema;
-import org.everit.json.schema.Schema;
-
-import com.api.jsonata4java.expressions.EvaluateException;
-import com.api.jsonata4java.expressions.Expressions;
-import com.api.jsonata4java.expressions.ParseException;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
+import lombok.NonNull;
+import lombok.Value;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
 
 public class DriftDetector {
 
-    private static final String INSERTION_ORDER = "insertionOrder";
     private static final String PROPERTIES_ROOT = "/properties";
-    private static final String PROPERTY_OR_SPLIT_REGEX = "\\s+\\$OR\\s+";
     private static final String PROPERTY_PATH_SEPARATOR = "/";
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private static final Map<String, Mutation> NO_DRIFT = Collections.emptyMap();
 
-    private final ResourceTypeSchema schema;
-    private final Set<String> writeOnlyLookup;
+    // Property accessors are resolved once per model class rather than reflected on every comparison.
+    private static final ClassValue<List<PropertyAccessor>> PROPERTY_ACCESSORS = new ClassValue<List<PropertyAccessor>>() {
+        @Override
+        protected List<PropertyAccessor> computeValue(final Class<?> type) {
+            return PropertyAccessor.forClass(type);
+        }
+    };
+
+    private final DriftDetectorPlan plan;
 
     public DriftDetector(final ResourceTypeSchema schema) {
-        this.schema = schema;
-        this.writeOnlyLookup = new HashSet<>(
-                Optional.ofNullable(schema.getWriteOnlyPropertiesAsStrings())
-                        .orElse(Collections.emptyList())
-        );
+        this(DriftDetectorPlan.compile(schema));
     }
 
-    private static boolean isTransformableProperty(
-            final ResourceTypeSchema schema,
-            final String propertyName
-    ) throws DriftDetectorRuntimeException {
-        return schema.getPropertyTransform().containsKey(propertyName);
+    /**
+     * Creates a detector sharing a precompiled plan. A detector holds no state but the plan,
+     * so a single instance per resource type schema can serve all the invocations.
+     */
+    public DriftDetector(@NonNull final DriftDetectorPlan plan) {
+        this.plan = plan;
     }
 
     private static Object castToPrimitive(final JsonNode node, final Class<?> klass) {
@@ -77,32 +72,20 @@ public class DriftDetector {
             final JsonNode rootNode
     ) {
         final List<Object> result = new ArrayList<>();
-        final String propTxs = schema.getPropertyTransform().get(path);
-        if (propTxs != null) {
-            for (final String tx : propTxs.split(PROPERTY_OR_SPLIT_REGEX)) {
-                try {
-                    final Expressions expr = Expressions.parse(tx);
-                    final JsonNode txNode = expr.evaluate(rootNode);
-                    result.add(castToPrimitive(txNode, in.getClass()));
-                } catch (ParseException | IOException | EvaluateException e) {
-                    throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + tx, e);
-                }
-            }
+        for (final JsonNode txNode : plan.evaluateTransformations(path, rootNode)) {
+            result.add(castToPrimitive(txNode, in.getClass()));
         }
         return result;
     }
 
-    private boolean isWriteOnly(final String path) {
-        return writeOnlyLookup.contains(path);
-    }
-
     public <T> Map<String, Mutation> detectDrift(final T prev, final T upd) {
+        final JsonNode rootNode;
         try {
-            final JsonNode rootNode = objectMapper.readTree(objectMapper.writeValueAsString(prev));
-            return detectDrift(prev, upd, PROPERTIES_ROOT, rootNode);
-        } catch (JsonProcessingException e) {
+            rootNode = prev != null ? objectMapper.valueToTree(prev) : NullNode.getInstance();
+        } catch (IllegalArgumentException e) {
             throw new DriftDetectorRuntimeException("Failed to parse the root node", e);
         }
+        return detectDrift(prev, upd, PROPERTIES_ROOT, rootNode);
     }
 
     private <T> Map<String, Mutation> detectDriftTransformable(
@@ -120,8 +103,7 @@ public class DriftDetector {
             if (prev instanceof String) {
                 final String transformed = tx.toString().replaceAll("^\"|\"$", "");
                 // Add regexp anchors to avoid loose comparisons.
-                final Pattern pattern = Pattern.compile("^" + transformed + "$");
-                return transformed.equals(upd) || pattern.matcher((String) upd).matches();
+                return transformed.equals(upd) || plan.anchoredPattern(transformed).matcher((String) upd).matches();
             }
             return false;
         })) {
@@ -155,24 +137,10 @@ public class DriftDetector {
             final JsonNode rootNode
     ) {
         final Map<String, Mutation> mutations = new HashMap<>();
-        final Field[] fields = prev.getClass().getDeclaredFields();
-        for (final Field field : fields) {
-            final JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
-            if (jsonProperty == null) {
-                continue;
-            }
-            final String fieldName = jsonProperty.value();
-            field.setAccessible(true);
-            Object prevFieldVal = null;
-            Object updFieldVal = null;
-            try {
-                prevFieldVal = field.get(prev);
-                if (upd != null) {
-                    updFieldVal = field.get(upd);
-                }
-            } catch (IllegalAccessException e) {
-                throw new DriftDetectorRuntimeException(e);
-            }
+        for (final PropertyAccessor accessor : PROPERTY_ACCESSORS.get(prev.getClass())) {
+            final String fieldName = accessor.getName();
+            final Object prevFieldVal = accessor.get(prev);
+            final Object updFieldVal = upd != null ? accessor.get(upd) : null;
 
             final String propertyName = path + PROPERTY_PATH_SEPARATOR + fieldName;
 
@@ -191,14 +159,11 @@ public class DriftDetector {
             final T upd,
             final String path
     ) {
-        final Schema propertySchema = getPropertySchema(path);
-        if (!(propertySchema instanceof ArraySchema)) {
+        final String propertyName = getPropertyName(path);
+        if (!plan.isArrayProperty(propertyName)) {
             throw new DriftDetectorRuntimeException(String.format("Malformed schema for path: %s", path));
         }
-        final ArraySchema arraySchema = (ArraySchema) propertySchema;
-        // InsertionOrder is not defined as a part of the common ArraySchema and would be located in the unprocessed properties
-        final Boolean insertionOrder = (Boolean) arraySchema.getUnprocessedProperties().get(INSERTION_ORDER);
-        if (BooleanUtils.isFalse(insertionOrder)) {
+        if (!plan.isInsertionOrdered(propertyName)) {
             // compare unordered lists
             return detectDriftCmp(freqAll(prev), freqAll(upd == null ? Collections.emptyList() : upd), path);
         }
@@ -217,15 +182,15 @@ public class DriftDetector {
         return detectDriftCmp(prev, upd == null ? Collections.emptySet() : upd, path);
     }
 
-    private Schema getPropertySchema(String pathOrName) {
+    private String getPropertyName(final String pathOrName) {
         if (pathOrName.startsWith(PROPERTIES_ROOT)) {
-            pathOrName = Iterables.getLast(Arrays.asList(pathOrName.split("/")));
+            return Iterables.getLast(Arrays.asList(pathOrName.split("/")));
         }
-        return ((ObjectSchema) schema.getSchema()).getPropertySchemas().get(pathOrName);
+        return pathOrName;
     }
 
     private <T> boolean isEqual(final T prev, final T upd, final String path) {
-        return prev == null || Objects.equals(prev, upd) || isWriteOnly(path);
+        return prev == null || Objects.equals(prev, upd) || plan.isWriteOnly(path);
     }
 
     protected <T> Map<String, Mutation> detectDrift(
@@ -238,7 +203,7 @@ public class DriftDetector {
             return NO_DRIFT;
         }
 
-        if (upd != null && isTransformableProperty(schema, path)) {
+        if (upd != null && plan.isTransformable(path)) {
             return detectDriftTransformable(prev, upd, path, rootNode);
         } else if (isPrimitive(prev)) {
             return detectDriftCmp(prev, upd, path);
@@ -249,4 +214,43 @@ public class DriftDetector {
         }
         return detectDriftObj(prev, upd, path, rootNode);
     }
+
+    /**
+     * A getter of a {@link JsonProperty}-annotated field bound to a method handle.
+     */
+    @Value
+    static class PropertyAccessor {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        String name;
+        MethodHandle getter;
+
+        static List<PropertyAccessor> forClass(final Class<?> type) {
+            final List<PropertyAccessor> accessors = new ArrayList<>();
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for (final Field field : type.getDeclaredFields()) {
+                final JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+                if (jsonProperty == null) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    accessors.add(new PropertyAccessor(jsonProperty.value(), lookup.unreflectGetter(field).asType(GETTER_TYPE)));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    throw new DriftDetectorRuntimeException(e);
+                }
+            }
+            return Collections.unmodifiableList(accessors);
+        }
+
+        Object get(final Object target) {
+            try {
+                return getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new DriftDetectorRuntimeException(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,157 @@
+package software.amazon.rds.common.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.everit.json.schema.ArraySchema;
+import org.everit.json.schema.ObjectSchema;
+import org.everit.json.schema.Schema;
+
+import com.api.jsonata4java.expressions.EvaluateException;
+import com.api.jsonata4java.expressions.Expressions;
+import com.api.jsonata4java.expressions.ParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.NonNull;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+/**
+ * The schema-derived part of the drift detection, compiled once per resource type schema:
+ * parsed {@code propertyTransform} expressions, {@code insertionOrder} flags of array properties
+ * and the write-only property lookup. A plan is immutable and can be shared by any number of detectors.
+ * <p>
+ * The anchored patterns built from the transformed values depend on the resource model, hence they are compiled
+ * on demand and kept in a bounded per-plan cache.
+ */
+public final class DriftDetectorPlan {
+
+    static final int MAX_CACHED_PATTERNS = 256;
+
+    private static final String INSERTION_ORDER = "insertionOrder";
+    private static final String PROPERTY_OR_SPLIT_REGEX = "\\s+\\$OR\\s+";
+
+    private final Map<String, List<Expressions>> transformations;
+    // Malformed transformations fail the detection of the property, not the plan compilation.
+    private final Map<String, DriftDetectorRuntimeException> malformedTransformations;
+    private final Map<String, Boolean> insertionOrder;
+    private final Set<String> arrayProperties;
+    private final Set<String> writeOnlyLookup;
+    private final Map<String, Pattern> patterns;
+
+    private DriftDetectorPlan(
+            final Map<String, List<Expressions>> transformations,
+            final Map<String, DriftDetectorRuntimeException> malformedTransformations,
+            final Map<String, Boolean> insertionOrder,
+            final Set<String> arrayProperties,
+            final Set<String> writeOnlyLookup
+    ) {
+        this.transformations = transformations;
+        this.malformedTransformations = malformedTransformations;
+        this.insertionOrder = insertionOrder;
+        this.arrayProperties = arrayProperties;
+        this.writeOnlyLookup = writeOnlyLookup;
+        this.patterns = Collections.synchronizedMap(new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Pattern> eldest) {
+                return size() > MAX_CACHED_PATTERNS;
+            }
+        });
+    }
+
+    public static DriftDetectorPlan compile(@NonNull final ResourceTypeSchema schema) {
+        final Map<String, List<Expressions>> transformations = new HashMap<>();
+        final Map<String, DriftDetectorRuntimeException> malformedTransformations = new HashMap<>();
+        for (final Map.Entry<String, String> entry : Optional.ofNullable(schema.getPropertyTransform())
+                .orElse(Collections.emptyMap()).entrySet()) {
+            final List<Expressions> expressions = new ArrayList<>();
+            for (final String tx : entry.getValue().split(PROPERTY_OR_SPLIT_REGEX)) {
+                try {
+                    expressions.add(Expressions.parse(tx));
+                } catch (ParseException | IOException e) {
+                    malformedTransformations.put(entry.getKey(), new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + tx, e));
+                }
+            }
+            transformations.put(entry.getKey(), Collections.unmodifiableList(expressions));
+        }
+
+        final Map<String, Boolean> insertionOrder = new HashMap<>();
+        final Set<String> arrayProperties = new HashSet<>();
+        if (schema.getSchema() instanceof ObjectSchema) {
+            for (final Map.Entry<String, Schema> entry : ((ObjectSchema) schema.getSchema()).getPropertySchemas().entrySet()) {
+                if (entry.getValue() instanceof ArraySchema) {
+                    arrayProperties.add(entry.getKey());
+                    // InsertionOrder is not defined as a part of the common ArraySchema and would be located in the unprocessed properties
+                    final Boolean order = (Boolean) ((ArraySchema) entry.getValue()).getUnprocessedProperties().get(INSERTION_ORDER);
+                    insertionOrder.put(entry.getKey(), !BooleanUtils.isFalse(order));
+                }
+            }
+        }
+
+        final Set<String> writeOnlyLookup = new HashSet<>(
+                Optional.ofNullable(schema.getWriteOnlyPropertiesAsStrings())
+                        .orElse(Collections.emptyList())
+        );
+
+        return new DriftDetectorPlan(
+                Collections.unmodifiableMap(transformations),
+                Collections.unmodifiableMap(malformedTransformations),
+                Collections.unmodifiableMap(insertionOrder),
+                Collections.unmodifiableSet(arrayProperties),
+                Collections.unmodifiableSet(writeOnlyLookup)
+        );
+    }
+
+    boolean isTransformable(final String path) {
+        return transformations.containsKey(path);
+    }
+
+    /**
+     * Evaluates the transformations of the property against the root node.
+     */
+    List<JsonNode> evaluateTransformations(final String path, final JsonNode rootNode) {
+        final DriftDetectorRuntimeException malformed = malformedTransformations.get(path);
+        if (malformed != null) {
+            throw new DriftDetectorRuntimeException(malformed.getMessage(), malformed.getCause());
+        }
+        final List<JsonNode> result = new ArrayList<>();
+        for (final Expressions expression : transformations.getOrDefault(path, Collections.emptyList())) {
+            try {
+                // A parsed expression holds the evaluation state, hence it can not be evaluated concurrently.
+                synchronized (expression) {
+                    result.add(expression.evaluate(rootNode));
+                }
+            } catch (EvaluateException e) {
+                throw new DriftDetectorRuntimeException("Failed to parse jsonata expression: " + expression, e);
+            }
+        }
+        return result;
+    }
+
+    boolean isArrayProperty(final String propertyName) {
+        return arrayProperties.contains(propertyName);
+    }
+
+    boolean isInsertionOrdered(final String propertyName) {
+        return insertionOrder.getOrDefault(propertyName, true);
+    }
+
+    boolean isWriteOnly(final String path) {
+        return writeOnlyLookup.contains(path);
+    }
+
+    /**
+     * Returns the pattern matching the whole input against the regular expression.
+     */
+    Pattern anchoredPattern(final String regex) {
+        return patterns.computeIfAbsent(regex, r -> Pattern.compile("^" + r + "$"));
+    }
+}
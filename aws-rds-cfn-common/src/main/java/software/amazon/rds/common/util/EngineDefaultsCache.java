@@ -0,0 +1,246 @@
+package software.amazon.rds.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * A process-wide cache of engine default parameters.
+ * Engine defaults of a parameter group family are effectively immutable, yet fetching them might take dozens of
+ * Describe calls. The cache keeps a per-family index of the default parameters keyed by the parameter name.
+ * An index is either complete (populated from an unfiltered fetch) or partial (populated from name-filtered fetches).
+ * A partial index remembers both found and missing names, so a repeated name-filtered lookup is served from the index,
+ * and only the names never seen before are fetched. A complete index serves any lookup without an API call.
+ * <p>
+ * The cache is bounded by the number of names held across all the families rather than by the number of families,
+ * as a family might hold anywhere from a few dozen to a few thousand parameters: once the bound is exceeded,
+ * the least recently used families are evicted. An index expires after the TTL elapses since it was first populated.
+ * Failed fetches are not cached.
+ */
+public class EngineDefaultsCache {
+
+    public static final int DEFAULT_MAX_PARAMETERS = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final int maxParameters;
+    private final Duration ttl;
+    private final Clock clock;
+    // Access ordered, the least recently used family comes first.
+    private final LinkedHashMap<Key, FamilyIndex> indices = new LinkedHashMap<>(16, 0.75f, true);
+    private int parameterCount;
+
+    public EngineDefaultsCache() {
+        this(DEFAULT_MAX_PARAMETERS, DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    public EngineDefaultsCache(final int maxParameters, @NonNull final Duration ttl, @NonNull final Clock clock) {
+        if (maxParameters < 1) {
+            throw new IllegalArgumentException("EngineDefaultsCache max parameters must be positive, got: " + maxParameters);
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("EngineDefaultsCache TTL must be positive, got: " + ttl);
+        }
+        this.maxParameters = maxParameters;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns all engine default parameters of the family. The fetcher is invoked with a {@code null} name list
+     * unless the family index is complete.
+     */
+    public Map<String, Parameter> getAll(
+            @NonNull final Key key,
+            @NonNull final Function<List<String>, Iterable<Parameter>> fetcher
+    ) {
+        final FamilyIndex index = getIndex(key);
+        if (index != null && index.isComplete()) {
+            return index.getParameters();
+        }
+        final FamilyIndex fetched = FamilyIndex.complete(clock.instant(), fetcher.apply(null));
+        if (!fetched.getParameters().isEmpty()) {
+            // An empty family is most likely an API glitch, there is no point in pinning it for the TTL.
+            putIndex(key, fetched);
+        }
+        return fetched.getParameters();
+    }
+
+    /**
+     * Returns the engine default parameters of the family matching the names. Names unknown to the family index
+     * are fetched by invoking the fetcher with the list of these names. Names missing in the family are absent from
+     * the result.
+     */
+    public Map<String, Parameter> get(
+            @NonNull final Key key,
+            @NonNull final Collection<String> names,
+            @NonNull final Function<List<String>, Iterable<Parameter>> fetcher
+    ) {
+        FamilyIndex index = getIndex(key);
+        final List<String> unknownNames = new ArrayList<>();
+        for (final String name : new LinkedHashSet<>(names)) {
+            if (index == null || !index.knows(name)) {
+                unknownNames.add(name);
+            }
+        }
+        if (!unknownNames.isEmpty()) {
+            final Iterable<Parameter> fetched = fetcher.apply(unknownNames);
+            index = mergeIndex(key, unknownNames, fetched);
+        }
+        final Map<String, Parameter> result = new HashMap<>();
+        for (final String name : names) {
+            final Parameter parameter = index.getParameters().get(name);
+            if (parameter != null) {
+                result.put(name, parameter);
+            }
+        }
+        return result;
+    }
+
+    public synchronized void invalidate(@NonNull final Key key) {
+        removeIndex(key);
+    }
+
+    public synchronized void invalidateAll() {
+        indices.clear();
+        parameterCount = 0;
+    }
+
+    public synchronized int size() {
+        return indices.size();
+    }
+
+    /**
+     * Returns the number of names held across all the families, both found and missing ones.
+     */
+    public synchronized int parameterCount() {
+        return parameterCount;
+    }
+
+    private synchronized FamilyIndex getIndex(final Key key) {
+        final FamilyIndex index = indices.get(key);
+        if (index != null && isExpired(index)) {
+            removeIndex(key);
+            return null;
+        }
+        return index;
+    }
+
+    private synchronized void putIndex(final Key key, final FamilyIndex index) {
+        removeIndex(key);
+        addIndex(key, index);
+    }
+
+    private synchronized FamilyIndex mergeIndex(
+            final Key key,
+            final Collection<String> requestedNames,
+            final Iterable<Parameter> fetched
+    ) {
+        FamilyIndex index = removeIndex(key);
+        if (index == null || isExpired(index)) {
+            index = FamilyIndex.partial(clock.instant());
+        }
+        final FamilyIndex merged = index.merge(requestedNames, fetched);
+        addIndex(key, merged);
+        return merged;
+    }
+
+    // The index is handed to the caller even if it is evicted right away.
+    private void addIndex(final Key key, final FamilyIndex index) {
+        indices.put(key, index);
+        parameterCount += index.size();
+        final Iterator<FamilyIndex> eldest = indices.values().iterator();
+        while (parameterCount > maxParameters && eldest.hasNext()) {
+            parameterCount -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    private FamilyIndex removeIndex(final Key key) {
+        final FamilyIndex index = indices.remove(key);
+        if (index != null) {
+            parameterCount -= index.size();
+        }
+        return index;
+    }
+
+    private boolean isExpired(final FamilyIndex index) {
+        return !clock.instant().isBefore(index.getLoadedAt().plus(ttl));
+    }
+
+    /**
+     * A cache key. Engine defaults do not depend on the account, hence a family is identified by the region only.
+     * An empty region stands for the region resolved by the SDK.
+     */
+    @Value
+    public static class Key {
+        String region;
+        String family;
+    }
+
+    @Value
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static class FamilyIndex {
+        Instant loadedAt;
+        boolean complete;
+        Map<String, Parameter> parameters;
+        // Names known to be missing in the family. Only meaningful for a partial index.
+        Set<String> missingNames;
+
+        static FamilyIndex partial(final Instant loadedAt) {
+            return new FamilyIndex(loadedAt, false, Collections.emptyMap(), Collections.emptySet());
+        }
+
+        static FamilyIndex complete(final Instant loadedAt, final Iterable<Parameter> parameters) {
+            final Map<String, Parameter> index = new HashMap<>();
+            for (final Parameter parameter : parameters) {
+                index.put(parameter.parameterName(), parameter);
+            }
+            return new FamilyIndex(loadedAt, true, Collections.unmodifiableMap(index), Collections.emptySet());
+        }
+
+        boolean knows(final String name) {
+            return complete || parameters.containsKey(name) || missingNames.contains(name);
+        }
+
+        int size() {
+            return parameters.size() + missingNames.size();
+        }
+
+        FamilyIndex merge(final Collection<String> requestedNames, final Iterable<Parameter> fetched) {
+            final Map<String, Parameter> mergedParameters = new HashMap<>(parameters);
+            for (final Parameter parameter : fetched) {
+                mergedParameters.put(parameter.parameterName(), parameter);
+            }
+            final Set<String> mergedMissingNames = new HashSet<>(missingNames);
+            for (final String name : requestedNames) {
+                if (!mergedParameters.containsKey(name)) {
+                    mergedMissingNames.add(name);
+                }
+            }
+            return new FamilyIndex(
+                    loadedAt,
+                    complete,
+                    Collections.unmodifiableMap(mergedParameters),
+                    Collections.unmodifiableSet(mergedMissingNames)
+            );
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package software.amazon.rds.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Fetches all pages of a list of independent paginated requests and either merges the items into a single map,
+ * or streams the pages to a consumer one at a time.
+ * A single request is paginated on the calling thread. Multiple requests (e.g. partitions of a name filter)
+ * are paginated concurrently on a bounded executor, while every page issued by the executor is subject to a rate limiter,
+ * so that fanning out does not trigger throttling. Both the executor and the rate limiter of the default fetcher
+ * are shared process-wide.
+ * <p>
+ * Items are merged in the request order, a later item overrides an earlier one with the same key.
+ * Every request is limited to {@code maxPageDepth} pages. If any request fails, the rest are cancelled
+ * and the original exception is rethrown.
+ */
+public class ParallelPageFetcher {
+
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final double DEFAULT_PAGES_PER_SECOND = 20.0;
+
+    private static final ParallelPageFetcher DEFAULT = new ParallelPageFetcher(
+            Executors.newFixedThreadPool(
+                    DEFAULT_PARALLELISM,
+                    new ThreadFactoryBuilder().setDaemon(true).setNameFormat("parallel-page-fetcher-%d").build()
+            ),
+            RateLimiter.create(DEFAULT_PAGES_PER_SECOND)
+    );
+
+    private final ExecutorService executor;
+    private final RateLimiter rateLimiter;
+
+    public ParallelPageFetcher(@NonNull final ExecutorService executor, @NonNull final RateLimiter rateLimiter) {
+        this.executor = executor;
+        this.rateLimiter = rateLimiter;
+    }
+
+    public static ParallelPageFetcher getDefault() {
+        return DEFAULT;
+    }
+
+    public <RequestT, ItemT> Map<String, ItemT> fetch(
+            @NonNull final List<RequestT> requests,
+            @NonNull final PageFunction<RequestT, ItemT> pageFunction,
+            @NonNull final Function<ItemT, String> keyFunction,
+            final int maxPageDepth,
+            @NonNull final Supplier<? extends RuntimeException> maxPageDepthExceeded
+    ) {
+        final Map<String, ItemT> result = new LinkedHashMap<>();
+        if (requests.size() <= 1) {
+            for (final RequestT request : requests) {
+                merge(result, fetchPages(request, pageFunction, maxPageDepth, maxPageDepthExceeded, false), keyFunction);
+            }
+            return result;
+        }
+
+        final List<Future<List<ItemT>>> futures = new ArrayList<>(requests.size());
+        boolean completed = false;
+        try {
+            for (final RequestT request : requests) {
+                futures.add(executor.submit(() -> fetchPages(request, pageFunction, maxPageDepth, maxPageDepthExceeded, true)));
+            }
+            for (final Future<List<ItemT>> future : futures) {
+                merge(result, future.get(), keyFunction);
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching pages", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } finally {
+            if (!completed) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Paginates a single request on the calling thread and hands every page to the consumer as soon as it arrives,
+     * so that a page can be processed and released before the next one is fetched. The request is limited to
+     * {@code maxPageDepth} pages.
+     */
+    public <RequestT, ItemT> void forEachPage(
+            @NonNull final RequestT request,
+            @NonNull final PageFunction<RequestT, ItemT> pageFunction,
+            final int maxPageDepth,
+            @NonNull final Supplier<? extends RuntimeException> maxPageDepthExceeded,
+            @NonNull final Consumer<List<ItemT>> pageConsumer
+    ) {
+        paginate(request, pageFunction, maxPageDepth, maxPageDepthExceeded, false, pageConsumer);
+    }
+
+    /**
+     * Paginates the requests and hands every page to the consumer as soon as it arrives. The consumer is always
+     * invoked on the calling thread, one page at a time, while multiple requests are paginated concurrently
+     * as in {@code fetch}. Pages of different requests may interleave. If any request or the consumer fails,
+     * the rest of the requests are cancelled and the original exception is rethrown.
+     */
+    public <RequestT, ItemT> void forEachPageOfRequests(
+            @NonNull final List<RequestT> requests,
+            @NonNull final PageFunction<RequestT, ItemT> pageFunction,
+            final int maxPageDepth,
+            @NonNull final Supplier<? extends RuntimeException> maxPageDepthExceeded,
+            @NonNull final Consumer<List<ItemT>> pageConsumer
+    ) {
+        if (requests.size() <= 1) {
+            for (final RequestT request : requests) {
+                paginate(request, pageFunction, maxPageDepth, maxPageDepthExceeded, false, pageConsumer);
+            }
+            return;
+        }
+
+        // Every request puts an empty end marker after its last page, so the calling thread knows when to stop.
+        final BlockingQueue<Optional<List<ItemT>>> pages = new LinkedBlockingQueue<>();
+        final List<Future<?>> futures = new ArrayList<>(requests.size());
+        boolean completed = false;
+        try {
+            for (final RequestT request : requests) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        paginate(request, pageFunction, maxPageDepth, maxPageDepthExceeded, true, page -> pages.add(Optional.of(page)));
+                    } finally {
+                        pages.add(Optional.empty());
+                    }
+                    return null;
+                }));
+            }
+            int remaining = futures.size();
+            while (remaining > 0) {
+                final Optional<List<ItemT>> page = pages.take();
+                if (page.isPresent()) {
+                    pageConsumer.accept(page.get());
+                    continue;
+                }
+                remaining--;
+                // A failed request is reported once it is seen done, rather than after the rest of the requests.
+                for (final Future<?> future : futures) {
+                    if (future.isDone()) {
+                        future.get();
+                    }
+                }
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching pages", e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } finally {
+            if (!completed) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private <RequestT, ItemT> List<ItemT> fetchPages(
+            final RequestT request,
+            final PageFunction<RequestT, ItemT> pageFunction,
+            final int maxPageDepth,
+            final Supplier<? extends RuntimeException> maxPageDepthExceeded,
+            final boolean rateLimited
+    ) {
+        final List<ItemT> items = new ArrayList<>();
+        paginate(request, pageFunction, maxPageDepth, maxPageDepthExceeded, rateLimited, items::addAll);
+        return items;
+    }
+
+    private <RequestT, ItemT> void paginate(
+            final RequestT request,
+            final PageFunction<RequestT, ItemT> pageFunction,
+            final int maxPageDepth,
+            final Supplier<? extends RuntimeException> maxPageDepthExceeded,
+            final boolean rateLimited,
+            final Consumer<List<ItemT>> pageConsumer
+    ) {
+        String marker = null;
+        int page = 0;
+        do {
+            if (page >= maxPageDepth) {
+                throw maxPageDepthExceeded.get();
+            }
+            if (rateLimited) {
+                rateLimiter.acquire();
+            }
+            final Page<ItemT> response = pageFunction.fetchPage(request, marker);
+            pageConsumer.accept(response.getItems());
+            marker = response.getMarker();
+            page++;
+        } while (marker != null);
+    }
+
+    private static <ItemT> void merge(
+            final Map<String, ItemT> result,
+            final List<ItemT> items,
+            final Function<ItemT, String> keyFunction
+    ) {
+        for (final ItemT item : items) {
+            result.put(keyFunction.apply(item), item);
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new RuntimeException(cause);
+    }
+
+    @FunctionalInterface
+    public interface PageFunction<RequestT, ItemT> {
+        /**
+         * Fetches a single page of the request starting from the marker, {@code null} stands for the first page.
+         */
+        Page<ItemT> fetchPage(RequestT request, String marker);
+    }
+
+    /**
+     * A single page. A {@code null} marker indicates the last page.
+     */
+    @Value
+    public static class Page<ItemT> {
+        List<ItemT> items;
+        String marker;
+
+        public static <ItemT> Page<ItemT> of(final List<ItemT> items, final String marker) {
+            return new Page<>(items != null ? items : Collections.emptyList(), marker);
+        }
+    }
+}
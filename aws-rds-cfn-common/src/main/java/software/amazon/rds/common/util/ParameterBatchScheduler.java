@@ -0,0 +1,234 @@
+package software.amazon.rds.common.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.NonNull;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * Submits parameter batches (e.g. the partitions emitted by a {@link ParameterGrouper.Batcher}) to a modify or reset
+ * API call as soon as they are produced, instead of waiting for every call to return before building the next batch.
+ * <p>
+ * A batch holding any member of a dependant parameter group is submitted strictly after the previous such batch
+ * has completed, so dependant groups are applied atomically and in the order they were produced.
+ * The rest of the batches are independent and run concurrently with each other and with the ordered ones.
+ * <p>
+ * The number of calls in flight is bounded by {@code maxConcurrency} per session, and the default scheduler runs
+ * on a fixed pool of as many threads. Once a batch fails or is throttled, the batches not yet started are skipped.
+ * A throttled batch is not retried in place: the caller is expected to report it as a callback with a delay, so that
+ * the invocation does not spend its time backing off. A session that ends up with a single batch runs it on
+ * the calling thread. A session must be closed by either {@code await} or {@code cancel}.
+ */
+public class ParameterBatchScheduler {
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    private static final ParameterBatchScheduler DEFAULT = new ParameterBatchScheduler(
+            Executors.newFixedThreadPool(
+                    DEFAULT_MAX_CONCURRENCY,
+                    new ThreadFactoryBuilder().setDaemon(true).setNameFormat("parameter-batch-scheduler-%d").build()
+            ),
+            DEFAULT_MAX_CONCURRENCY
+    );
+
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+
+    public ParameterBatchScheduler(@NonNull final ExecutorService executor, final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("ParameterBatchScheduler max concurrency must be positive, got: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public static ParameterBatchScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Opens a session submitting every accepted batch with the submitter. The submitter is expected to report
+     * an API error as a result rather than throw it, {@code isFailed} and {@code isThrottled} classify the result.
+     */
+    public <ResultT> Session<ResultT> open(
+            @NonNull final List<Set<String>> dependencies,
+            @NonNull final Function<List<Parameter>, ResultT> submitter,
+            @NonNull final Predicate<ResultT> isFailed,
+            @NonNull final Predicate<ResultT> isThrottled
+    ) {
+        final Set<String> dependantNames = new HashSet<>();
+        dependencies.forEach(dependantNames::addAll);
+        return new Session<>(dependantNames, submitter, isFailed, isThrottled);
+    }
+
+    public class Session<ResultT> implements Consumer<List<Parameter>> {
+        private final Set<String> dependantNames;
+        private final Function<List<Parameter>, ResultT> submitter;
+        private final Predicate<ResultT> isFailed;
+        private final Predicate<ResultT> isThrottled;
+
+        private final Semaphore inFlight = new Semaphore(maxConcurrency);
+        // Set once a batch fails or is throttled, the batches not yet started are skipped from then on.
+        private final AtomicBoolean halted = new AtomicBoolean(false);
+        private final List<CompletableFuture<ResultT>> futures = new ArrayList<>();
+        private CompletableFuture<ResultT> orderedTail = CompletableFuture.completedFuture(null);
+        // The first batch is held back until it is known whether the session is worth going concurrent.
+        private List<Parameter> heldBatch;
+
+        private Session(
+                final Set<String> dependantNames,
+                final Function<List<Parameter>, ResultT> submitter,
+                final Predicate<ResultT> isFailed,
+                final Predicate<ResultT> isThrottled
+        ) {
+            this.dependantNames = dependantNames;
+            this.submitter = submitter;
+            this.isFailed = isFailed;
+            this.isThrottled = isThrottled;
+        }
+
+        @Override
+        public void accept(@NonNull final List<Parameter> batch) {
+            if (futures.isEmpty() && heldBatch == null) {
+                heldBatch = batch;
+                return;
+            }
+            if (heldBatch != null) {
+                schedule(heldBatch);
+                heldBatch = null;
+            }
+            schedule(batch);
+        }
+
+        /**
+         * Waits for all the batches to complete and returns the failed result of the earliest submitted batch,
+         * otherwise the throttled result of the earliest submitted batch, or {@code null} if all of them succeeded.
+         */
+        public ResultT await() {
+            if (heldBatch != null) {
+                final ResultT result = submit(heldBatch);
+                heldBatch = null;
+                return isFailed.test(result) || isThrottled.test(result) ? result : null;
+            }
+            ResultT failure = null;
+            ResultT throttled = null;
+            RuntimeException exception = null;
+            for (final CompletableFuture<ResultT> future : futures) {
+                try {
+                    final ResultT result = future.join();
+                    if (result == null) {
+                        continue;
+                    }
+                    if (isThrottled.test(result)) {
+                        throttled = throttled == null ? result : throttled;
+                    } else if (isFailed.test(result)) {
+                        failure = failure == null ? result : failure;
+                    }
+                } catch (CompletionException e) {
+                    if (exception == null) {
+                        exception = rethrow(e.getCause());
+                    }
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            return failure != null ? failure : throttled;
+        }
+
+        /**
+         * Skips the batches not yet started and waits for the ones in flight, so that no call outlives the session,
+         * e.g. when producing the batches failed half way through. The results of the batches are discarded.
+         */
+        public void cancel() {
+            halted.set(true);
+            heldBatch = null;
+            for (final CompletableFuture<ResultT> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    // The session is abandoned, its failures have nowhere to be reported.
+                }
+            }
+        }
+
+        private void schedule(final List<Parameter> batch) {
+            final CompletableFuture<ResultT> future;
+            if (isOrdered(batch)) {
+                future = orderedTail.thenApplyAsync(previous -> submitUnlessFailed(batch), executor);
+                orderedTail = future;
+            } else {
+                future = CompletableFuture.supplyAsync(() -> submitUnlessFailed(batch), executor);
+            }
+            futures.add(future);
+        }
+
+        private boolean isOrdered(final List<Parameter> batch) {
+            for (final Parameter parameter : batch) {
+                if (dependantNames.contains(parameter.parameterName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private ResultT submitUnlessFailed(final List<Parameter> batch) {
+            if (halted.get()) {
+                return null;
+            }
+            acquire();
+            try {
+                // A batch may have failed while this one was waiting for a permit.
+                return halted.get() ? null : submit(batch);
+            } finally {
+                inFlight.release();
+            }
+        }
+
+        private ResultT submit(final List<Parameter> batch) {
+            final ResultT result;
+            try {
+                result = submitter.apply(batch);
+            } catch (RuntimeException | Error e) {
+                halted.set(true);
+                throw e;
+            }
+            if (isFailed.test(result) || isThrottled.test(result)) {
+                halted.set(true);
+            }
+            return result;
+        }
+
+        private void acquire() {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting to submit a parameter batch", e);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new RuntimeException(cause);
+    }
+}
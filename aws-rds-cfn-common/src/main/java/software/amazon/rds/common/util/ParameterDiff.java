@@ -0,0 +1,71 @@
+package software.amazon.rds.common.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.NonNull;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+/**
+ * A streaming merge-diff of two parameter sequences sorted by the parameter name.
+ * The sequences are consumed in a single pass and every parameter name is reported to the visitor once,
+ * along with the matching parameter from each side (or {@code null} if a side lacks it).
+ * The diff does not copy either sequence, hence the memory footprint only depends on what the visitor retains.
+ * Handing the visitor output to a {@link ParameterGrouper.Batcher} produces the API batches incrementally.
+ */
+public final class ParameterDiff {
+
+    private ParameterDiff() {
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(String parameterName, Parameter left, Parameter right);
+    }
+
+    public static void mergeJoin(
+            @NonNull final Iterator<Parameter> left,
+            @NonNull final Iterator<Parameter> right,
+            @NonNull final Visitor visitor
+    ) {
+        final PeekingIterator<Parameter> leftIterator = Iterators.peekingIterator(left);
+        final PeekingIterator<Parameter> rightIterator = Iterators.peekingIterator(right);
+
+        String previousName = null;
+        while (leftIterator.hasNext() || rightIterator.hasNext()) {
+            final int order;
+            if (!leftIterator.hasNext()) {
+                order = 1;
+            } else if (!rightIterator.hasNext()) {
+                order = -1;
+            } else {
+                order = leftIterator.peek().parameterName().compareTo(rightIterator.peek().parameterName());
+            }
+            final Parameter leftParameter = order <= 0 ? leftIterator.next() : null;
+            final Parameter rightParameter = order >= 0 ? rightIterator.next() : null;
+            final String name = leftParameter != null ? leftParameter.parameterName() : rightParameter.parameterName();
+
+            if (previousName != null && name.compareTo(previousName) <= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Parameters must be sorted by name with no duplicates, got %s after %s", name, previousName));
+            }
+            previousName = name;
+
+            visitor.visit(name, leftParameter, rightParameter);
+        }
+    }
+
+    /**
+     * Returns the parameters sorted by name. A map already sorted by the natural key order is not copied.
+     */
+    public static Iterator<Parameter> sortedByName(@NonNull final Map<String, Parameter> parameters) {
+        if (parameters instanceof SortedMap && ((SortedMap<String, Parameter>) parameters).comparator() == null) {
+            return parameters.values().iterator();
+        }
+        return new TreeMap<>(parameters).values().iterator();
+    }
+}
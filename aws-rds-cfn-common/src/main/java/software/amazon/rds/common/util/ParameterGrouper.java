@@ -1,12 +1,16 @@
 package software.amazon.rds.common.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
@@ -14,6 +18,11 @@ import lombok.NonNull;
 import software.amazon.awssdk.services.rds.model.Parameter;
 
 public class ParameterGrouper {
+    // Beyond this many dependant groups the exact search is not worth it, the first-fit-decreasing packing is used.
+    public static final int EXACT_PACKING_MAX_GROUPS = 8;
+    // The number of partially filled partitions a batcher may hold at a time.
+    public static final int MAX_OPEN_PARTITIONS = 4;
+
     private static Map<String, Set<String>> buildDependencyIndex(final List<Set<String>> dependencies) {
         final Map<String, Set<String>> dependencyIndex = new HashMap<>();
         for (final Set<String> group : dependencies) {
@@ -34,7 +43,10 @@ public class ParameterGrouper {
         final List<Parameter> groupParams = new ArrayList<>();
         for (final String groupParamName : group) {
             if (params.containsKey(groupParamName)) {
-                assert (!added.contains(groupParamName));
+                if (added.contains(groupParamName)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Parameter %s belongs to more than one dependant group", groupParamName));
+                }
                 groupParams.add(params.get(groupParamName));
                 added.add(groupParamName);
             }
@@ -70,8 +82,6 @@ public class ParameterGrouper {
             final List<Parameter> currentPartition = new ArrayList<>();
             while (paramGroupIterator.hasNext()) {
                 final int nextParamGroupSize = paramGroupIterator.peek().size();
-                // Ensure a dependant group fits in a single partition.
-                assert (nextParamGroupSize <= partitionSize);
                 if (partitionSize - currentPartition.size() >= nextParamGroupSize) {
                     currentPartition.addAll(paramGroupIterator.next());
                     paramsAdded += nextParamGroupSize;
@@ -89,11 +99,14 @@ public class ParameterGrouper {
         return partitioned;
     }
 
-    public static List<List<Parameter>> partition(
-            @NonNull final Map<String, Parameter> params,
+    private static List<List<Parameter>> collectParamGroups(
+            final Map<String, Parameter> params,
             final List<Set<String>> dependencies,
             final int partitionSize
     ) {
+        if (partitionSize < 1) {
+            throw new IllegalArgumentException("Partition size must be positive, got: " + partitionSize);
+        }
         final Map<String, Set<String>> dependencyIndex = buildDependencyIndex(dependencies);
 
         final List<List<Parameter>> paramGroups = new ArrayList<>();
@@ -115,6 +128,273 @@ public class ParameterGrouper {
             }
         }
 
-        return partitionParamGroups(paramGroups, partitionSize);
+        for (final List<Parameter> group : paramGroups.subList(1, paramGroups.size())) {
+            validateGroupSize(group.size(), partitionSize);
+        }
+
+        return paramGroups;
+    }
+
+    private static void validateGroupSize(final int groupSize, final int partitionSize) {
+        if (groupSize > partitionSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Dependant parameter group of size %d does not fit in a partition of size %d",
+                    groupSize, partitionSize));
+        }
+    }
+
+    /**
+     * Splits the parameters into partitions of at most {@code partitionSize}, filling the partitions in the insertion
+     * order. Dependant groups go first, independent parameters fill the rest of every partition.
+     */
+    public static List<List<Parameter>> partition(
+            @NonNull final Map<String, Parameter> params,
+            final List<Set<String>> dependencies,
+            final int partitionSize
+    ) {
+        return partitionParamGroups(collectParamGroups(params, dependencies, partitionSize), partitionSize);
+    }
+
+    /**
+     * Splits the parameters into the minimal number of partitions of at most {@code partitionSize}, keeping every
+     * dependant group in a single partition. Independent parameters fit any free slot, hence the number of partitions
+     * is bound by how tightly the dependant groups are packed. The groups are packed exactly if there are
+     * at most {@code EXACT_PACKING_MAX_GROUPS} of them, first-fit-decreasing otherwise.
+     * Independent parameters then fill the free slots in the insertion order.
+     */
+    public static List<List<Parameter>> pack(
+            @NonNull final Map<String, Parameter> params,
+            final List<Set<String>> dependencies,
+            final int partitionSize
+    ) {
+        final List<List<Parameter>> paramGroups = collectParamGroups(params, dependencies, partitionSize);
+        final List<Parameter> independentParams = paramGroups.get(0);
+
+        final List<List<Parameter>> dependantGroups = new ArrayList<>(paramGroups.subList(1, paramGroups.size()));
+        dependantGroups.removeIf(List::isEmpty);
+        // A stable sort keeps the insertion order among the groups of the same size.
+        dependantGroups.sort(Comparator.comparingInt((List<Parameter> group) -> group.size()).reversed());
+
+        final List<List<Parameter>> partitioned = dependantGroups.size() <= EXACT_PACKING_MAX_GROUPS
+                ? packExact(dependantGroups, partitionSize)
+                : packFirstFitDecreasing(dependantGroups, partitionSize);
+
+        final Iterator<Parameter> independentParamIterator = independentParams.iterator();
+        for (final List<Parameter> partition : partitioned) {
+            while (partition.size() < partitionSize && independentParamIterator.hasNext()) {
+                partition.add(independentParamIterator.next());
+            }
+        }
+        while (independentParamIterator.hasNext()) {
+            final List<Parameter> partition = new ArrayList<>();
+            while (partition.size() < partitionSize && independentParamIterator.hasNext()) {
+                partition.add(independentParamIterator.next());
+            }
+            partitioned.add(partition);
+        }
+
+        return partitioned;
+    }
+
+    private static List<List<Parameter>> packFirstFitDecreasing(
+            final List<List<Parameter>> sortedGroups,
+            final int partitionSize
+    ) {
+        final List<List<Parameter>> partitioned = new ArrayList<>();
+        for (final List<Parameter> group : sortedGroups) {
+            List<Parameter> target = null;
+            for (final List<Parameter> partition : partitioned) {
+                if (partitionSize - partition.size() >= group.size()) {
+                    target = partition;
+                    break;
+                }
+            }
+            if (target == null) {
+                target = new ArrayList<>();
+                partitioned.add(target);
+            }
+            target.addAll(group);
+        }
+        return partitioned;
+    }
+
+    private static List<List<Parameter>> packExact(
+            final List<List<Parameter>> sortedGroups,
+            final int partitionSize
+    ) {
+        final List<List<Parameter>> firstFit = packFirstFitDecreasing(sortedGroups, partitionSize);
+        final int totalSize = sortedGroups.stream().mapToInt(List::size).sum();
+        final int lowerBound = (totalSize + partitionSize - 1) / partitionSize;
+        if (firstFit.size() <= lowerBound) {
+            return firstFit;
+        }
+
+        final int[] best = new int[]{firstFit.size()};
+        final int[] assignment = new int[sortedGroups.size()];
+        final int[] bestAssignment = new int[sortedGroups.size()];
+        searchAssignment(sortedGroups, partitionSize, lowerBound, 0, new int[sortedGroups.size()], 0, assignment, best, bestAssignment);
+        if (best[0] >= firstFit.size()) {
+            return firstFit;
+        }
+
+        final List<List<Parameter>> partitioned = new ArrayList<>();
+        for (int i = 0; i < best[0]; i++) {
+            partitioned.add(new ArrayList<>());
+        }
+        for (int i = 0; i < sortedGroups.size(); i++) {
+            partitioned.get(bestAssignment[i]).addAll(sortedGroups.get(i));
+        }
+        return partitioned;
+    }
+
+    /**
+     * A depth-first search for an assignment of groups to fewer partitions than the best one found so far.
+     * Returns {@code true} once an assignment matching the lower bound is found.
+     */
+    private static boolean searchAssignment(
+            final List<List<Parameter>> sortedGroups,
+            final int partitionSize,
+            final int lowerBound,
+            final int groupIndex,
+            final int[] partitionLoads,
+            final int partitionCount,
+            final int[] assignment,
+            final int[] best,
+            final int[] bestAssignment
+    ) {
+        if (groupIndex == sortedGroups.size()) {
+            best[0] = partitionCount;
+            System.arraycopy(assignment, 0, bestAssignment, 0, assignment.length);
+            return partitionCount <= lowerBound;
+        }
+        final int groupSize = sortedGroups.get(groupIndex).size();
+        final Set<Integer> triedLoads = new HashSet<>();
+        for (int i = 0; i < partitionCount; i++) {
+            // Partitions with the same load are interchangeable.
+            if (partitionLoads[i] + groupSize > partitionSize || !triedLoads.add(partitionLoads[i])) {
+                continue;
+            }
+            partitionLoads[i] += groupSize;
+            assignment[groupIndex] = i;
+            final boolean optimal = searchAssignment(sortedGroups, partitionSize, lowerBound, groupIndex + 1,
+                    partitionLoads, partitionCount, assignment, best, bestAssignment);
+            partitionLoads[i] -= groupSize;
+            if (optimal) {
+                return true;
+            }
+        }
+        if (partitionCount + 1 < best[0]) {
+            partitionLoads[partitionCount] = groupSize;
+            assignment[groupIndex] = partitionCount;
+            final boolean optimal = searchAssignment(sortedGroups, partitionSize, lowerBound, groupIndex + 1,
+                    partitionLoads, partitionCount + 1, assignment, best, bestAssignment);
+            partitionLoads[partitionCount] = 0;
+            return optimal;
+        }
+        return false;
+    }
+
+    public static Batcher batcher(
+            final List<Set<String>> dependencies,
+            final int partitionSize,
+            @NonNull final Consumer<List<Parameter>> sink
+    ) {
+        return new Batcher(buildDependencyIndex(dependencies), partitionSize, sink);
+    }
+
+    /**
+     * An incremental counterpart of {@link #pack}. Parameters are added one by one and every partition is handed
+     * over to the sink as soon as it is full. A parameter or a dependant group goes to the first open partition
+     * it fits in. The batcher holds no more than {@code MAX_OPEN_PARTITIONS} partially filled partitions
+     * and the incomplete dependant groups at a time: once the limit is reached, the fullest open partition
+     * is handed over early to make room for a group that does not fit anywhere.
+     * A dependant group is kept in a single partition: it is held back until all of its members are added,
+     * or until {@link #flush()} is called, whatever happens first.
+     */
+    public static class Batcher {
+        private final Map<String, Set<String>> dependencyIndex;
+        private final int partitionSize;
+        private final Consumer<List<Parameter>> sink;
+        private final Map<Set<String>, List<Parameter>> pendingGroups = new LinkedHashMap<>();
+        private final List<List<Parameter>> openPartitions = new ArrayList<>();
+
+        private Batcher(
+                final Map<String, Set<String>> dependencyIndex,
+                final int partitionSize,
+                final Consumer<List<Parameter>> sink
+        ) {
+            if (partitionSize < 1) {
+                throw new IllegalArgumentException("Partition size must be positive, got: " + partitionSize);
+            }
+            this.dependencyIndex = dependencyIndex;
+            this.partitionSize = partitionSize;
+            this.sink = sink;
+        }
+
+        public void add(@NonNull final Parameter parameter) {
+            final Set<String> group = dependencyIndex.get(parameter.parameterName());
+            if (group == null) {
+                addToPartition(Collections.singletonList(parameter));
+                return;
+            }
+            final List<Parameter> groupParams = pendingGroups.computeIfAbsent(group, g -> new ArrayList<>());
+            groupParams.add(parameter);
+            validateGroupSize(groupParams.size(), partitionSize);
+            if (groupParams.size() == group.size()) {
+                pendingGroups.remove(group);
+                addToPartition(groupParams);
+            }
+        }
+
+        /**
+         * Hands over the incomplete dependant groups (largest first) and the open partitions to the sink.
+         */
+        public void flush() {
+            final List<List<Parameter>> groups = new ArrayList<>(pendingGroups.values());
+            pendingGroups.clear();
+            groups.sort(Comparator.comparingInt((List<Parameter> group) -> group.size()).reversed());
+            for (final List<Parameter> groupParams : groups) {
+                addToPartition(groupParams);
+            }
+            while (!openPartitions.isEmpty()) {
+                emit(0);
+            }
+        }
+
+        private void addToPartition(final List<Parameter> params) {
+            int target = -1;
+            for (int i = 0; i < openPartitions.size(); i++) {
+                if (partitionSize - openPartitions.get(i).size() >= params.size()) {
+                    target = i;
+                    break;
+                }
+            }
+            if (target < 0) {
+                if (openPartitions.size() >= MAX_OPEN_PARTITIONS) {
+                    emit(fullestPartition());
+                }
+                openPartitions.add(new ArrayList<>());
+                target = openPartitions.size() - 1;
+            }
+            final List<Parameter> partition = openPartitions.get(target);
+            partition.addAll(params);
+            if (partition.size() == partitionSize) {
+                emit(target);
+            }
+        }
+
+        private int fullestPartition() {
+            int fullest = 0;
+            for (int i = 1; i < openPartitions.size(); i++) {
+                if (openPartitions.get(i).size() > openPartitions.get(fullest).size()) {
+                    fullest = i;
+                }
+            }
+            return fullest;
+        }
+
+        private void emit(final int index) {
+            sink.accept(openPartitions.remove(index));
+        }
     }
 }
@@ -0,0 +1,65 @@
+package software.amazon.rds.common.client;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.RdsClientBuilder;
+
+class CachingSdkClientProviderTest {
+
+    @Test
+    public void test_getClient_reusesClient() {
+        final SdkClientRegistry registry = new SdkClientRegistry(SdkClientRegistry.DEFAULT_MAX_SIZE);
+        final SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        final TestCachingSdkClientProvider provider = new TestCachingSdkClientProvider(httpClient, registry);
+
+        final RdsClient client = provider.getClient();
+
+        Assertions.assertThat(provider.getClient()).isSameAs(client);
+        Assertions.assertThat(new TestCachingSdkClientProvider(httpClient, registry).getClient()).isSameAs(client);
+        Assertions.assertThat(provider.built.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_getClient_distinctHttpClients() {
+        final SdkClientRegistry registry = new SdkClientRegistry(SdkClientRegistry.DEFAULT_MAX_SIZE);
+
+        final RdsClient client1 = new TestCachingSdkClientProvider(mock(SdkHttpClient.class), registry).getClient();
+        final RdsClient client2 = new TestCachingSdkClientProvider(mock(SdkHttpClient.class), registry).getClient();
+
+        Assertions.assertThat(client1).isNotSameAs(client2);
+    }
+
+    @Test
+    public void test_getOrBuildClient_distinctRegions() {
+        final SdkClientRegistry registry = new SdkClientRegistry(SdkClientRegistry.DEFAULT_MAX_SIZE);
+        final TestCachingSdkClientProvider provider = new TestCachingSdkClientProvider(mock(SdkHttpClient.class), registry);
+
+        final RdsClient client1 = provider.getOrBuildClient("us-east-1", null, () -> mock(RdsClient.class));
+        final RdsClient client2 = provider.getOrBuildClient("eu-west-1", null, () -> mock(RdsClient.class));
+
+        Assertions.assertThat(client1).isNotSameAs(client2);
+        Assertions.assertThat(provider.getOrBuildClient("us-east-1", null, () -> mock(RdsClient.class))).isSameAs(client1);
+    }
+
+    static class TestCachingSdkClientProvider extends CachingSdkClientProvider<RdsClientBuilder, RdsClient> {
+
+        final AtomicInteger built = new AtomicInteger();
+
+        TestCachingSdkClientProvider(final SdkHttpClient httpClient, final SdkClientRegistry registry) {
+            super(() -> httpClient, registry);
+        }
+
+        @Override
+        protected RdsClient buildClient() {
+            built.incrementAndGet();
+            return mock(RdsClient.class);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.rds.common.client;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+class MutationTrackingProxyClientTest {
+
+    private ProxyClient<RdsClient> proxyClient;
+    private AtomicInteger mutations;
+    private MutationTrackingProxyClient<RdsClient> trackingClient;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        proxyClient = mock(ProxyClient.class);
+        mutations = new AtomicInteger();
+        trackingClient = new MutationTrackingProxyClient<>(proxyClient, mutations::incrementAndGet);
+    }
+
+    @Test
+    public void test_isReadOnlyRequest() {
+        Assertions.assertThat(MutationTrackingProxyClient.isReadOnlyRequest(DescribeDbInstancesRequest.builder().build())).isTrue();
+        Assertions.assertThat(MutationTrackingProxyClient.isReadOnlyRequest(ListTagsForResourceRequest.builder().build())).isTrue();
+        Assertions.assertThat(MutationTrackingProxyClient.isReadOnlyRequest(ModifyDbInstanceRequest.builder().build())).isFalse();
+        Assertions.assertThat(MutationTrackingProxyClient.isReadOnlyRequest(RebootDbInstanceRequest.builder().build())).isFalse();
+    }
+
+    @Test
+    public void test_readOnlyCall_doesNotNotify() {
+        final DescribeDbInstancesResponse response = DescribeDbInstancesResponse.builder().build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(DescribeDbInstancesRequest.class), any())).thenReturn(response);
+
+        final DescribeDbInstancesResponse result = trackingClient.injectCredentialsAndInvokeV2(
+                DescribeDbInstancesRequest.builder().build(),
+                request -> response
+        );
+
+        Assertions.assertThat(result).isSameAs(response);
+        Assertions.assertThat(mutations.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_mutatingCall_notifies() {
+        final ModifyDbInstanceResponse response = ModifyDbInstanceResponse.builder().build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(ModifyDbInstanceRequest.class), any())).thenReturn(response);
+
+        final ModifyDbInstanceResponse result = trackingClient.injectCredentialsAndInvokeV2(
+                ModifyDbInstanceRequest.builder().build(),
+                request -> response
+        );
+
+        Assertions.assertThat(result).isSameAs(response);
+        Assertions.assertThat(mutations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_failedMutatingCall_notifies() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(ModifyDbInstanceRequest.class), any())).thenThrow(new RuntimeException("test exception"));
+
+        Assertions.assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> trackingClient.injectCredentialsAndInvokeV2(
+                ModifyDbInstanceRequest.builder().build(),
+                request -> ModifyDbInstanceResponse.builder().build()
+        ));
+        Assertions.assertThat(mutations.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,83 @@
+package software.amazon.rds.common.client;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.services.rds.RdsClient;
+
+class SdkClientRegistryTest {
+
+    @Test
+    public void test_invalidMaxSize() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new SdkClientRegistry(0));
+    }
+
+    @Test
+    public void test_getOrCreate_reusesClient() {
+        final SdkClientRegistry registry = new SdkClientRegistry(2);
+        final SdkClientRegistry.Key key = new SdkClientRegistry.Key(RdsClient.class, "us-east-1", null, null);
+        final AtomicInteger built = new AtomicInteger();
+
+        final RdsClient client = registry.getOrCreate(key, () -> {
+            built.incrementAndGet();
+            return mock(RdsClient.class);
+        });
+
+        Assertions.assertThat(registry.getOrCreate(key, () -> mock(RdsClient.class))).isSameAs(client);
+        Assertions.assertThat(built.get()).isEqualTo(1);
+        Assertions.assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_getOrCreate_distinctKeys() {
+        final SdkClientRegistry registry = new SdkClientRegistry(8);
+
+        final RdsClient defaultClient = registry.getOrCreate(new SdkClientRegistry.Key(RdsClient.class, null, null, null), () -> mock(RdsClient.class));
+        final RdsClient regionClient = registry.getOrCreate(new SdkClientRegistry.Key(RdsClient.class, "eu-west-1", null, null), () -> mock(RdsClient.class));
+        final RdsClient versionClient = registry.getOrCreate(new SdkClientRegistry.Key(RdsClient.class, null, "2012-09-17", null), () -> mock(RdsClient.class));
+        final SdkClient otherClient = registry.getOrCreate(new SdkClientRegistry.Key(SdkClient.class, null, null, null), () -> mock(SdkClient.class));
+
+        Assertions.assertThat(defaultClient).isNotSameAs(regionClient);
+        Assertions.assertThat(defaultClient).isNotSameAs(versionClient);
+        Assertions.assertThat(regionClient).isNotSameAs(versionClient);
+        Assertions.assertThat(otherClient).isNotSameAs(defaultClient);
+        Assertions.assertThat(registry.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void test_getOrCreate_evictsLeastRecentlyUsed() {
+        final SdkClientRegistry registry = new SdkClientRegistry(2);
+        final SdkClientRegistry.Key keyA = new SdkClientRegistry.Key(RdsClient.class, "us-east-1", null, null);
+        final SdkClientRegistry.Key keyB = new SdkClientRegistry.Key(RdsClient.class, "us-east-2", null, null);
+        final SdkClientRegistry.Key keyC = new SdkClientRegistry.Key(RdsClient.class, "us-west-2", null, null);
+
+        final RdsClient clientA = registry.getOrCreate(keyA, () -> mock(RdsClient.class));
+        final RdsClient clientB = registry.getOrCreate(keyB, () -> mock(RdsClient.class));
+        // Touch A so B becomes the least recently used entry.
+        registry.getOrCreate(keyA, () -> mock(RdsClient.class));
+        registry.getOrCreate(keyC, () -> mock(RdsClient.class));
+
+        Assertions.assertThat(registry.size()).isEqualTo(2);
+        Assertions.assertThat(registry.getOrCreate(keyA, () -> mock(RdsClient.class))).isSameAs(clientA);
+        Assertions.assertThat(registry.getOrCreate(keyB, () -> mock(RdsClient.class))).isNotSameAs(clientB);
+    }
+
+    @Test
+    public void test_clear() {
+        final SdkClientRegistry registry = new SdkClientRegistry(2);
+        registry.getOrCreate(new SdkClientRegistry.Key(RdsClient.class, null, null, null), () -> mock(RdsClient.class));
+        registry.clear();
+        Assertions.assertThat(registry.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_getDefault() {
+        Assertions.assertThat(SdkClientRegistry.getDefault()).isSameAs(SdkClientRegistry.getDefault());
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 
@@ -106,6 +107,113 @@ class ErrorRuleSetTest {
         }
     }
 
+    @Test
+    void compile_memoizedByIdentity() {
+        final ErrorRuleSet base = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorCodes(ErrorStatus.ignore(), ErrorCode.Throttling)
+                .build();
+        final ErrorRuleSet extended = base.extendWith(ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET).build());
+
+        assertThat(base.compile()).isSameAs(base.compile());
+        assertThat(extended.compile()).isSameAs(extended.compile());
+        assertThat(extended.compile()).isNotSameAs(base.compile());
+    }
+
+    @Test
+    void compile_higherLevelWins() {
+        final ErrorRuleSet base = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorClasses(ErrorStatus.ignore(), AwsServiceException.class)
+                .build();
+        final ErrorRuleSet extended = ErrorRuleSet.extend(base)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .build();
+
+        // An error code rule of the extension takes precedence over a class rule of the base.
+        assertEquivalentErrorStatuses(
+                new HandlerErrorStatus(HandlerErrorCode.Throttling),
+                extended.handle(newAwsServiceException(ErrorCode.Throttling))
+        );
+        assertEquivalentErrorStatuses(
+                new IgnoreErrorStatus(OperationStatus.SUCCESS),
+                extended.handle(newAwsServiceException(ErrorCode.AccessDenied))
+        );
+    }
+
+    @Test
+    void compile_classRuleWinsOnSameLevel() {
+        final ErrorRuleSet ruleSet = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorClasses(ErrorStatus.ignore(), AwsServiceException.class)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .build();
+
+        assertEquivalentErrorStatuses(
+                new IgnoreErrorStatus(OperationStatus.SUCCESS),
+                ruleSet.handle(newAwsServiceException(ErrorCode.Throttling))
+        );
+    }
+
+    @Test
+    void compile_superclassMatch() {
+        final ErrorRuleSet ruleSet = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorClasses(ErrorStatus.ignore(), RuntimeException.class)
+                .build();
+
+        assertThat(ruleSet.handle(new IllegalStateException())).isInstanceOf(IgnoreErrorStatus.class);
+        assertThat(ruleSet.handle(new UnsupportedOperationException())).isInstanceOf(IgnoreErrorStatus.class);
+        assertThat(ruleSet.handle(new Exception())).isInstanceOf(UnexpectedErrorStatus.class);
+    }
+
+    @Test
+    void compile_closestSuperclassWinsOnSameLevel() {
+        final ErrorRuleSet ruleSet = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorClasses(ErrorStatus.ignore(), RuntimeException.class)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.InvalidRequest), IllegalArgumentException.class)
+                .build();
+
+        assertEquivalentErrorStatuses(
+                new HandlerErrorStatus(HandlerErrorCode.InvalidRequest),
+                ruleSet.handle(new NumberFormatException())
+        );
+        assertEquivalentErrorStatuses(
+                new IgnoreErrorStatus(OperationStatus.SUCCESS),
+                ruleSet.handle(new IllegalStateException())
+        );
+    }
+
+    @Test
+    void compile_superclassOfHigherLevelWins() {
+        final ErrorRuleSet base = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withErrorClasses(ErrorStatus.failWith(HandlerErrorCode.InvalidRequest), IllegalArgumentException.class)
+                .build();
+        final ErrorRuleSet extended = ErrorRuleSet.extend(base)
+                .withErrorClasses(ErrorStatus.ignore(), RuntimeException.class)
+                .build();
+
+        assertEquivalentErrorStatuses(
+                new IgnoreErrorStatus(OperationStatus.SUCCESS),
+                extended.handle(new IllegalArgumentException())
+        );
+    }
+
+    @Test
+    void compile_exactClassMatch() {
+        final ErrorRuleSet ruleSet = ErrorRuleSet.extend(ErrorRuleSet.EMPTY_RULE_SET)
+                .withExactErrorClasses(ErrorStatus.failWith(HandlerErrorCode.ServiceInternalError), SdkServiceException.class)
+                .withErrorCodes(ErrorStatus.failWith(HandlerErrorCode.Throttling), ErrorCode.Throttling)
+                .build();
+
+        assertEquivalentErrorStatuses(
+                new HandlerErrorStatus(HandlerErrorCode.ServiceInternalError),
+                ruleSet.handle(SdkServiceException.builder().build())
+        );
+        // The exact rule of the base type does not shadow the error code rule of the subclass.
+        assertEquivalentErrorStatuses(
+                new HandlerErrorStatus(HandlerErrorCode.Throttling),
+                ruleSet.handle(newAwsServiceException(ErrorCode.Throttling))
+        );
+        assertThat(ruleSet.handle(newAwsServiceException(ErrorCode.AccessDenied))).isInstanceOf(UnexpectedErrorStatus.class);
+    }
+
     private void assertEquivalentErrorStatuses(final ErrorStatus expected, final ErrorStatus observed) {
         assertThat(observed).hasSameClassAs(expected);
         if (expected instanceof UnexpectedErrorStatus) {
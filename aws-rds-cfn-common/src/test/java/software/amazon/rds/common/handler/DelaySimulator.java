@@ -0,0 +1,42 @@
+package software.amazon.rds.common.handler;
+
+import java.time.Duration;
+
+import lombok.Value;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Replays a delay strategy against a simulated clock the same way the CloudFormation proxy does:
+ * the resource is polled after every delay until the operation completes or the strategy gives up.
+ */
+public final class DelaySimulator {
+
+    private DelaySimulator() {
+    }
+
+    @Value
+    public static class Result {
+        int polls;
+        Duration waited;
+        boolean timedOut;
+
+        public Duration overshoot(final Duration operationDuration) {
+            return waited.minus(operationDuration);
+        }
+    }
+
+    public static Result simulate(final Delay delay, final Duration operationDuration) {
+        Duration clock = Duration.ZERO;
+        int attempt = 0;
+        while (true) {
+            final Duration next = delay.nextDelay(attempt++);
+            if (next == Duration.ZERO) {
+                return new Result(attempt - 1, clock, true);
+            }
+            clock = clock.plus(next);
+            if (clock.compareTo(operationDuration) >= 0) {
+                return new Result(attempt, clock, false);
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -139,4 +140,95 @@ class EventsTest extends ProxyClientTestBase {
 
         assertThat(captor.getValue().eventCategories()).isEqualTo(ImmutableList.of("category1", "category2", "category3"));
     }
+
+    @Test
+    void test_fetchEvents_shouldFollowMarker() {
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("first").build()).marker("page-2").build())
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("second").build()).build());
+
+        final List<Event> events = Events.fetchEvents(proxyRdsClient, "test_identifier", SourceType.DB_CLUSTER, new String[]{}, Instant.now());
+
+        assertThat(events).extracting(Event::message).containsExactly("first", "second");
+        ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DescribeEventsRequest::marker).containsExactly(null, "page-2");
+        assertThat(captor.getAllValues().get(1).endTime()).isEqualTo(captor.getAllValues().get(0).endTime());
+    }
+
+    @Test
+    void test_checkFailedEvents_shouldCheckEveryPage() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message("all good").build()).marker("page-2").build())
+                .thenReturn(DescribeEventsResponse.builder().events(Event.builder().message(FAILED_TO_CREATE_MESSAGE).build()).build());
+
+        final ProgressEvent<Void, Void> resultEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_CLUSTER, Instant.parse("2023-02-15T19:34:50Z"), new EventsContext(), progressEvent, Events.isEventMessageContainsAny(FAILED_TO_CREATE_MESSAGE), new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter()));
+
+        assertThat(resultEvent.isFailed()).isTrue();
+        assertThat(resultEvent.getMessage()).isEqualTo(FAILED_TO_CREATE_MESSAGE);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    @Test
+    void test_checkFailedEvents_shouldAdvanceCursor() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+        final EventsContext eventsContext = new EventsContext();
+        final Instant start = Instant.parse("2023-02-15T19:34:50Z");
+        final Instant lastEventTime = Instant.parse("2023-02-15T19:40:00Z");
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().events(
+                        Event.builder().message("first").date(start.plusSeconds(1)).build(),
+                        Event.builder().message("second").date(lastEventTime).build()
+                ).build())
+                .thenReturn(DescribeEventsResponse.builder().build());
+
+        final RequestLogger requestLogger = new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter());
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_CLUSTER, start, eventsContext, progressEvent, event -> false, requestLogger);
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_CLUSTER, start, eventsContext, progressEvent, event -> false, requestLogger);
+
+        ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(2)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DescribeEventsRequest::startTime).containsExactly(start, lastEventTime);
+        assertThat(eventsContext.getLastEventTime()).isEqualTo(lastEventTime.toEpochMilli());
+        assertThat(eventsContext.getMarker()).isNull();
+    }
+
+    @Test
+    void test_checkFailedEvents_shouldResumeInterruptedScan() {
+        final ProgressEvent<Void, Void> progressEvent = new ProgressEvent<>();
+        final EventsContext eventsContext = new EventsContext();
+        final Instant start = Instant.parse("2023-02-15T19:34:50Z");
+
+        when(proxyRdsClient.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().marker("page-2").build())
+                .thenThrow(SdkServiceException.builder().message(SERVICE_INTERNAL_FAILURE_MESSAGE).build())
+                .thenReturn(DescribeEventsResponse.builder().build());
+
+        final RequestLogger requestLogger = new RequestLogger(null, new ResourceHandlerRequest<>(), new FilteredJsonPrinter());
+        final ProgressEvent<Void, Void> failedEvent = Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_CLUSTER, start, eventsContext, progressEvent, event -> false, requestLogger);
+        assertThat(failedEvent.isFailed()).isTrue();
+        assertThat(eventsContext.getMarker()).isEqualTo("page-2");
+
+        Events.checkFailedEvents(proxyRdsClient, "test_identifier", SourceType.DB_CLUSTER, start, eventsContext, progressEvent, event -> false, requestLogger);
+
+        ArgumentCaptor<DescribeEventsRequest> captor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
+        verify(proxyRdsClient.client(), times(3)).describeEvents(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DescribeEventsRequest::marker).containsExactly(null, "page-2", "page-2");
+        assertThat(captor.getAllValues().get(2).endTime()).isEqualTo(captor.getAllValues().get(0).endTime());
+        assertThat(eventsContext.getMarker()).isNull();
+    }
+
+    @Test
+    void test_isEventMessageContainsAny() {
+        final Predicate<Event> predicate = Events.isEventMessageContainsAny("Failed To Join", "insufficient capacity");
+
+        assertThat(predicate.test(Event.builder().message("Instance FAILED TO JOIN a domain").build())).isTrue();
+        assertThat(predicate.test(Event.builder().message("Insufficient Capacity").build())).isTrue();
+        assertThat(predicate.test(Event.builder().message("Instance created").build())).isFalse();
+        assertThat(predicate.test(Event.builder().build())).isFalse();
+        assertThat(predicate.test(null)).isFalse();
+    }
 }
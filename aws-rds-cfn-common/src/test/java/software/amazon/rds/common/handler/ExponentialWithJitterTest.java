@@ -0,0 +1,187 @@
+package software.amazon.rds.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+public class ExponentialWithJitterTest {
+
+    private static final long SEED = 42L;
+
+    private static ExponentialWithJitter.ExponentialWithJitterBuilder seeded() {
+        return ExponentialWithJitter.of().random(new Random(SEED)::nextDouble);
+    }
+
+    private static Delay constant(final Duration delay, final Duration timeout) {
+        return Constant.of().delay(delay).timeout(timeout).build();
+    }
+
+    @Test
+    public void test_defaults() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of().build();
+        assertThat(delay.getMinDelay()).isEqualTo(ExponentialWithJitter.DEFAULT_MIN_DELAY);
+        assertThat(delay.getMaxDelay()).isEqualTo(ExponentialWithJitter.DEFAULT_MAX_DELAY);
+        assertThat(delay.getInitialDelay()).isEqualTo(ExponentialWithJitter.DEFAULT_MIN_DELAY);
+        assertThat(delay.getTimeout()).isEqualTo(ExponentialWithJitter.DEFAULT_TIMEOUT);
+        assertThat(delay.getMultiplier()).isEqualTo(ExponentialWithJitter.DEFAULT_MULTIPLIER);
+        assertThat(delay.getJitter()).isEqualTo(ExponentialWithJitter.DEFAULT_JITTER);
+    }
+
+    @Test
+    public void test_invalidParameters() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ExponentialWithJitter.of().minDelay(Duration.ZERO).build());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ExponentialWithJitter.of().minDelay(Duration.ofSeconds(10)).maxDelay(Duration.ofSeconds(5)).build());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ExponentialWithJitter.of().multiplier(0.5).build());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ExponentialWithJitter.of().jitter(1.0).build());
+    }
+
+    @Test
+    public void test_nominalDelay_growsAndCaps() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of()
+                .minDelay(Duration.ofSeconds(1))
+                .maxDelay(Duration.ofSeconds(10))
+                .multiplier(2.0)
+                .build();
+        assertThat(delay.nominalDelay(0)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(delay.nominalDelay(1)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(delay.nominalDelay(3)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(delay.nominalDelay(4)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(delay.nominalDelay(Integer.MAX_VALUE)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void test_elapsed() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of()
+                .minDelay(Duration.ofSeconds(1))
+                .maxDelay(Duration.ofSeconds(10))
+                .multiplier(2.0)
+                .build();
+        assertThat(delay.elapsed(0)).isEqualTo(Duration.ZERO);
+        assertThat(delay.elapsed(4)).isEqualTo(Duration.ofSeconds(1 + 2 + 4 + 8));
+        assertThat(delay.elapsed(6)).isEqualTo(Duration.ofSeconds(1 + 2 + 4 + 8 + 10 + 10));
+    }
+
+    @Test
+    public void test_nextDelay_jitterWithinBounds() {
+        final ExponentialWithJitter delay = seeded()
+                .minDelay(Duration.ofSeconds(1))
+                .maxDelay(Duration.ofSeconds(30))
+                .jitter(0.2)
+                .timeout(Duration.ofHours(1))
+                .build();
+        for (int attempt = 0; attempt < 50; attempt++) {
+            final long nominal = delay.nominalDelay(attempt).toMillis();
+            assertThat(delay.nextDelay(attempt).toMillis())
+                    .isBetween(Math.max(1000L, (long) (nominal * 0.8)), Math.min(30_000L, (long) (nominal * 1.2)));
+        }
+    }
+
+    @Test
+    public void test_nextDelay_noJitter() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of().jitter(0.0).build();
+        assertThat(delay.nextDelay(0)).isEqualTo(delay.nominalDelay(0));
+        assertThat(delay.nextDelay(100)).isEqualTo(delay.getMaxDelay());
+    }
+
+    @Test
+    public void test_nextDelay_notJitteredAtCap() {
+        final ExponentialWithJitter delay = seeded()
+                .maxDelay(Duration.ofSeconds(30))
+                .expectedDuration(Duration.ofMinutes(2))
+                .build();
+        for (int attempt = 0; attempt < 10; attempt++) {
+            assertThat(delay.nextDelay(attempt)).isEqualTo(Duration.ofSeconds(30));
+        }
+    }
+
+    @Test
+    public void test_nextDelay_timeout() {
+        final ExponentialWithJitter delay = seeded()
+                .minDelay(Duration.ofSeconds(1))
+                .maxDelay(Duration.ofSeconds(10))
+                .timeout(Duration.ofMinutes(1))
+                .build();
+        int attempt = 0;
+        while (delay.nextDelay(attempt) != Duration.ZERO) {
+            attempt++;
+        }
+        assertThat(delay.elapsed(attempt)).isGreaterThan(Duration.ofMinutes(1));
+        assertThat(delay.elapsed(attempt - 1)).isLessThanOrEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void test_expectedDuration_seedsInitialDelay() {
+        final ExponentialWithJitter delay = ExponentialWithJitter.of()
+                .maxDelay(Duration.ofMinutes(2))
+                .expectedDuration(Duration.ofMinutes(4))
+                .build();
+        assertThat(delay.getInitialDelay()).isEqualTo(Duration.ofMinutes(1));
+
+        final ExponentialWithJitter capped = ExponentialWithJitter.of()
+                .expectedDuration(Duration.ofHours(4))
+                .build();
+        assertThat(capped.getInitialDelay()).isEqualTo(capped.getMaxDelay());
+
+        final ExponentialWithJitter floored = ExponentialWithJitter.of()
+                .expectedDuration(Duration.ofSeconds(1))
+                .build();
+        assertThat(floored.getInitialDelay()).isEqualTo(floored.getMinDelay());
+    }
+
+    @Test
+    public void test_simulation_isDeterministic() {
+        final DelaySimulator.Result first = DelaySimulator.simulate(seeded().build(), Duration.ofMinutes(10));
+        final DelaySimulator.Result second = DelaySimulator.simulate(seeded().build(), Duration.ofMinutes(10));
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    public void test_simulation_fastOperation() {
+        // A tag-only change completes within seconds: the exponential schedule notices it much sooner.
+        final Duration operation = Duration.ofSeconds(10);
+        final DelaySimulator.Result constant = DelaySimulator.simulate(constant(Duration.ofSeconds(30), Duration.ofMinutes(90)), operation);
+        final DelaySimulator.Result exponential = DelaySimulator.simulate(seeded().timeout(Duration.ofMinutes(90)).build(), operation);
+
+        assertThat(constant.getPolls()).isEqualTo(1);
+        assertThat(constant.overshoot(operation)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(exponential.getPolls()).isLessThanOrEqualTo(5);
+        assertThat(exponential.overshoot(operation)).isLessThan(Duration.ofSeconds(8));
+    }
+
+    @Test
+    public void test_simulation_longOperation() {
+        // A long-running modification polled with a 2-minute cap issues a fraction of the constant schedule calls.
+        final Duration operation = Duration.ofHours(6);
+        final DelaySimulator.Result constant = DelaySimulator.simulate(constant(Duration.ofSeconds(30), Duration.ofHours(36)), operation);
+        final DelaySimulator.Result exponential = DelaySimulator.simulate(
+                seeded().maxDelay(Duration.ofMinutes(2)).timeout(Duration.ofHours(36)).build(),
+                operation
+        );
+
+        assertThat(constant.getPolls()).isEqualTo(720);
+        assertThat(exponential.getPolls()).isLessThan(constant.getPolls() / 3);
+        assertThat(exponential.overshoot(operation)).isLessThanOrEqualTo(Duration.ofMinutes(2));
+        assertThat(exponential.isTimedOut()).isFalse();
+    }
+
+    @Test
+    public void test_simulation_timeout() {
+        final DelaySimulator.Result result = DelaySimulator.simulate(
+                seeded().timeout(Duration.ofMinutes(10)).build(),
+                Duration.ofHours(1)
+        );
+        assertThat(result.isTimedOut()).isTrue();
+        assertThat(result.getWaited()).isLessThan(Duration.ofMinutes(11));
+    }
+}
@@ -31,7 +31,7 @@ public class HandlerConfigTest {
     public void test_HandlerConfigBuilder_Defaults() {
         final HandlerConfig config = HandlerConfig.builder().build();
         assertThat(config.isProbingEnabled()).isNotNull();
-        assertThat(config.getBackoff()).isNotNull();
+        assertThat(config.getBackoff()).isInstanceOf(ExponentialWithJitter.class);
     }
 
 }
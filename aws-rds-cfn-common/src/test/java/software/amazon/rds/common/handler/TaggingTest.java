@@ -13,11 +13,14 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
@@ -107,6 +110,79 @@ public class TaggingTest extends ProxyClientTestBase {
         assertThat(resultEvent.isFailed()).isFalse();
     }
 
+    @Test
+    void test_diff_shouldUpsertChangedValues() {
+        final Tagging.TagDiff tagDiff = Tagging.diff(
+                Arrays.asList(
+                        Tag.builder().key("key1").value("value1").build(),
+                        Tag.builder().key("key2").value("value2").build(),
+                        Tag.builder().key("key3").value("value3").build()
+                ),
+                Arrays.asList(
+                        Tag.builder().key("key1").value("value1").build(),
+                        Tag.builder().key("key2").value("value2-changed").build(),
+                        Tag.builder().key("key4").value("value4").build()
+                )
+        );
+
+        assertThat(tagDiff.getTagsToUpsert()).containsExactly(
+                Tag.builder().key("key2").value("value2-changed").build(),
+                Tag.builder().key("key4").value("value4").build()
+        );
+        assertThat(tagDiff.getTagKeysToRemove()).containsExactly("key3");
+        assertThat(tagDiff.isEmpty()).isFalse();
+    }
+
+    @Test
+    void test_diff_sameTags() {
+        final Tagging.TagSet tagSet = Tagging.TagSet.builder()
+                .stackTags(STACK_TAGS)
+                .resourceTags(RESOURCE_TAGS)
+                .build();
+
+        assertThat(Tagging.diff(tagSet, tagSet.toBuilder().build()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void updateTags_changedValue_shouldNotRemoveTag() {
+        final ProgressEvent<Void, Void> event = new ProgressEvent<>();
+        final Map<String, String> previousTags = ImmutableMap.of("key1", "value1", "key2", "value2");
+        final Map<String, String> desiredTags = ImmutableMap.of("key1", "value1", "key2", "value2-changed");
+
+        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+
+        final ProgressEvent<Void, Void> resultEvent = Tagging.updateTags(proxyRdsClient, event, "test-arn", previousTags, desiredTags, Commons.DEFAULT_ERROR_RULE_SET, requestLogger);
+
+        assertThat(resultEvent.isFailed()).isFalse();
+        final ArgumentCaptor<AddTagsToResourceRequest> captor = ArgumentCaptor.forClass(AddTagsToResourceRequest.class);
+        Mockito.verify(proxyRdsClient.client(), Mockito.times(1)).addTagsToResource(captor.capture());
+        assertThat(captor.getValue().tags()).containsExactly(Tag.builder().key("key2").value("value2-changed").build());
+        Mockito.verify(proxyRdsClient.client(), Mockito.never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+    }
+
+    @Test
+    void applyTagDiff_shouldRemoveBeforeAddingInSingleRequests() {
+        final Collection<Tag> previousTags = IntStream.range(0, 50)
+                .mapToObj(i -> Tag.builder().key("previous-key-" + i).value("value").build())
+                .collect(Collectors.toList());
+        final Collection<Tag> desiredTags = IntStream.range(0, 50)
+                .mapToObj(i -> Tag.builder().key("desired-key-" + i).value("value").build())
+                .collect(Collectors.toList());
+
+        when(proxyRdsClient.client().addTagsToResource(any(AddTagsToResourceRequest.class))).thenReturn(AddTagsToResourceResponse.builder().build());
+        when(proxyRdsClient.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(RemoveTagsFromResourceResponse.builder().build());
+
+        Tagging.applyTagDiff(proxyRdsClient, "test-arn", Tagging.diff(previousTags, desiredTags));
+
+        final InOrder inOrder = Mockito.inOrder(proxyRdsClient.client());
+        final ArgumentCaptor<RemoveTagsFromResourceRequest> removeCaptor = ArgumentCaptor.forClass(RemoveTagsFromResourceRequest.class);
+        inOrder.verify(proxyRdsClient.client()).removeTagsFromResource(removeCaptor.capture());
+        final ArgumentCaptor<AddTagsToResourceRequest> addCaptor = ArgumentCaptor.forClass(AddTagsToResourceRequest.class);
+        inOrder.verify(proxyRdsClient.client()).addTagsToResource(addCaptor.capture());
+        assertThat(removeCaptor.getValue().tagKeys()).hasSize(50);
+        assertThat(addCaptor.getValue().tags()).hasSize(50);
+    }
+
     @Test
     void simple_list_tags() {
         when(proxyRdsClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
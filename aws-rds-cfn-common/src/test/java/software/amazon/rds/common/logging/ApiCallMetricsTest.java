@@ -0,0 +1,130 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.test.common.core.ApiCallMetricsSummary;
+import software.amazon.rds.test.common.core.CapturingLogger;
+
+class ApiCallMetricsTest {
+
+    private static final String DESCRIBE_DB_INSTANCES = "DescribeDbInstances";
+    private static final DescribeDbInstancesRequest DESCRIBE_REQUEST = DescribeDbInstancesRequest.builder()
+            .dbInstanceIdentifier("db-instance")
+            .build();
+
+    @Test
+    void test_recordSuccess() {
+        final ApiCallMetrics metrics = new ApiCallMetrics();
+        metrics.recordSuccess(DESCRIBE_REQUEST, describeResponse(100), 5_000_000);
+        metrics.recordSuccess(DESCRIBE_REQUEST, describeResponse(300), 15_000_000);
+        metrics.recordSuccess(DESCRIBE_REQUEST, DescribeDbInstancesResponse.builder().build(), 1_000_000);
+
+        final ApiCallMetrics.OperationSummary summary = metrics.summary().get(DESCRIBE_DB_INSTANCES);
+        assertThat(summary.getCalls()).isEqualTo(3);
+        assertThat(summary.getFailures()).isZero();
+        assertThat(summary.getResponseBytes()).isEqualTo(400);
+        assertThat(summary.getMaxResponseBytes()).isEqualTo(300);
+        assertThat(summary.getLatencyMaxMillis()).isEqualTo(15);
+        assertThat(summary.getLatencyP50Millis()).isBetween(4L, 5L);
+    }
+
+    @Test
+    void test_recordFailure_throttlingAndRetry() {
+        final ApiCallMetrics metrics = new ApiCallMetrics();
+        metrics.recordFailure(DESCRIBE_REQUEST, throttlingException(), 1_000_000);
+        metrics.recordFailure(DESCRIBE_REQUEST, new RuntimeException("test exception"), 1_000_000);
+        metrics.recordSuccess(DESCRIBE_REQUEST, describeResponse(100), 1_000_000);
+        metrics.recordSuccess(DESCRIBE_REQUEST, describeResponse(100), 1_000_000);
+
+        final ApiCallMetrics.OperationSummary summary = metrics.summary().get(DESCRIBE_DB_INSTANCES);
+        assertThat(summary.getCalls()).isEqualTo(4);
+        assertThat(summary.getFailures()).isEqualTo(2);
+        assertThat(summary.getThrottles()).isEqualTo(1);
+        assertThat(summary.getRetries()).isEqualTo(2);
+    }
+
+    @Test
+    void test_handleRequest_logsSummary() {
+        final CapturingLogger logger = new CapturingLogger();
+
+        RequestLogger.handleRequest(
+                logger,
+                new ResourceHandlerRequest<Void>(),
+                new FilteredJsonPrinter(),
+                requestLogger -> {
+                    final ProxyClient<RdsClient> proxyClient = loggingProxyClient(requestLogger);
+                    proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse(100));
+                    assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> {
+                        throw throttlingException();
+                    })).isInstanceOf(AwsServiceException.class);
+                    proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse(100));
+                    return ProgressEvent.<Void, Void>success(null, null);
+                }
+        );
+
+        final ApiCallMetricsSummary summary = logger.getApiCallMetricsSummary();
+        assertThat(summary.getOperations()).containsExactly(DESCRIBE_DB_INSTANCES);
+        assertThat(summary.getCalls(DESCRIBE_DB_INSTANCES)).isEqualTo(3);
+        assertThat(summary.getFailures(DESCRIBE_DB_INSTANCES)).isEqualTo(1);
+        assertThat(summary.getThrottles(DESCRIBE_DB_INSTANCES)).isEqualTo(1);
+        assertThat(summary.getRetries(DESCRIBE_DB_INSTANCES)).isEqualTo(1);
+        assertThat(summary.getResponseBytes(DESCRIBE_DB_INSTANCES)).isEqualTo(200);
+    }
+
+    @Test
+    void test_handleRequest_noCallsNoSummary() {
+        final CapturingLogger logger = new CapturingLogger();
+
+        RequestLogger.handleRequest(
+                logger,
+                new ResourceHandlerRequest<Void>(),
+                new FilteredJsonPrinter(),
+                requestLogger -> ProgressEvent.<Void, Void>success(null, null)
+        );
+
+        assertThat(logger.getMessages()).noneMatch(message -> message.contains(RequestLogger.API_CALL_METRICS));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProxyClient<RdsClient> loggingProxyClient(final RequestLogger requestLogger) {
+        final ProxyClient<RdsClient> proxyClient = mock(ProxyClient.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(), any())).thenAnswer(invocation ->
+                ((Function<AwsRequest, AwsResponse>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+        return new LoggingProxyClient<>(requestLogger, proxyClient);
+    }
+
+    private static AwsServiceException throttlingException() {
+        return AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                .build();
+    }
+
+    private static DescribeDbInstancesResponse describeResponse(final long contentLength) {
+        return (DescribeDbInstancesResponse) DescribeDbInstancesResponse.builder()
+                .sdkHttpResponse(SdkHttpResponse.builder()
+                        .statusCode(200)
+                        .putHeader("Content-Length", String.valueOf(contentLength))
+                        .build())
+                .build();
+    }
+}
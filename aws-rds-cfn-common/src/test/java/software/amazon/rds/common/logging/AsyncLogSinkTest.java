@@ -0,0 +1,170 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+class AsyncLogSinkTest {
+
+    private ExecutorService writer;
+    private List<String> written;
+
+    @BeforeEach
+    public void setup() {
+        writer = Executors.newSingleThreadExecutor();
+        written = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @AfterEach
+    public void tear_down() {
+        writer.shutdownNow();
+    }
+
+    @Test
+    public void test_log_writesInOrder() {
+        final AsyncLogSink sink = new AsyncLogSink(written::add, AsyncLogSink.Config.builder().build(), writer);
+        for (int i = 0; i < 100; i++) {
+            sink.log("message-" + i);
+        }
+
+        assertThat(sink.flush().isEmpty()).isTrue();
+        final List<String> lines = new ArrayList<>();
+        written.forEach(batch -> Collections.addAll(lines, batch.split(StringUtils.LF)));
+        assertThat(lines).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(lines.get(i)).isEqualTo("message-" + i);
+        }
+    }
+
+    @Test
+    public void test_log_batchesBySize() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final AsyncLogSink sink = new AsyncLogSink(written::add, AsyncLogSink.Config.builder()
+                .maxBatchLength(10)
+                .build(), tasks::add);
+        sink.log("aaaa");
+        sink.log("bbbb");
+        sink.log("cccccccccccc");
+        sink.log("dd");
+        tasks.forEach(Runnable::run);
+
+        assertThat(written).containsExactly("aaaa\nbbbb", "cccccccccccc", "dd");
+    }
+
+    @Test
+    public void test_log_dropsWhenFull() {
+        final List<Runnable> tasks = new ArrayList<>();
+        final AsyncLogSink sink = new AsyncLogSink(written::add, AsyncLogSink.Config.builder()
+                .capacity(2)
+                .build(), tasks::add);
+        sink.log("first");
+        sink.log("second");
+        sink.log("third");
+        tasks.forEach(Runnable::run);
+
+        final AsyncLogSink.Report report = sink.flush(Duration.ZERO);
+        assertThat(report.getDropped()).isEqualTo(1);
+        assertThat(report.getPending()).isZero();
+        assertThat(written).containsExactly("first\nsecond");
+        // The counters are reset by the flush.
+        assertThat(sink.flush(Duration.ZERO).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void test_log_truncatesLongMessages() {
+        final AsyncLogSink sink = new AsyncLogSink(written::add, AsyncLogSink.Config.builder()
+                .maxMessageLength(4)
+                .build(), writer);
+        sink.log("truncated");
+
+        assertThat(sink.flush().getTruncated()).isEqualTo(1);
+        assertThat(written).containsExactly("trun" + AsyncLogSink.TRUNCATED_SUFFIX);
+    }
+
+    @Test
+    public void test_flush_timeoutReportsPending() {
+        final AsyncLogSink sink = new AsyncLogSink(written::add, AsyncLogSink.Config.builder().build(), task -> {
+        });
+        sink.log("never written");
+
+        assertThat(sink.flush(Duration.ofMillis(10)).getPending()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_log_failingDelegateCountsDropped() {
+        final AsyncLogSink sink = new AsyncLogSink(message -> {
+            throw new IllegalStateException("test exception");
+        }, AsyncLogSink.Config.builder().build(), writer);
+        sink.log("lost");
+
+        final AsyncLogSink.Report report = sink.flush();
+        assertThat(report.getDropped()).isEqualTo(1);
+        assertThat(report.getPending()).isZero();
+    }
+
+    @Test
+    public void test_invalidConfig() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new AsyncLogSink(written::add, AsyncLogSink.Config.builder().capacity(0).build()));
+    }
+
+    @Test
+    public void test_handleRequest_flushesBeforeReturn() {
+        final Logger slowLogger = message -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            written.add(message);
+        };
+
+        final ProgressEvent<Void, Void> event = RequestLogger.handleRequest(
+                slowLogger,
+                new ResourceHandlerRequest<>(),
+                new FilteredJsonPrinter(),
+                AsyncLogSink.Config.builder().build(),
+                requestLogger -> {
+                    requestLogger.log("Step", "detail");
+                    return ProgressEvent.success(null, null);
+                }
+        );
+
+        assertThat(event.isSuccess()).isTrue();
+        assertThat(String.join(StringUtils.LF, written))
+                .contains("HandlerRequest")
+                .contains("Step")
+                .contains("HandlerResponse");
+    }
+
+    @Test
+    public void test_handleRequest_reportsTruncated() {
+        final ProgressEvent<Void, Void> event = RequestLogger.handleRequest(
+                written::add,
+                new ResourceHandlerRequest<>(),
+                new FilteredJsonPrinter(),
+                AsyncLogSink.Config.builder().maxMessageLength(256).build(),
+                requestLogger -> ProgressEvent.success(null, null)
+        );
+
+        assertThat(event.isSuccess()).isTrue();
+        // The handler request and response are truncated, the report fits in.
+        assertThat(String.join(StringUtils.LF, written)).contains(RequestLogger.LOG_SINK_REPORT + "\",\"Dropped\":0,\"Truncated\":2");
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+class JsonLogWriterTest {
+
+    private final JsonLogWriter logWriter = JsonLogWriter.of(new FilteredJsonPrinter("MasterUserPassword"));
+
+    @Test
+    void test_append_mergesObjectFields() throws IOException {
+        final String result;
+        try (JsonLogWriter.Message message = logWriter.newMessage()) {
+            message.append(RequestLogger.CONTENT, "DescribeDbInstancesResponse");
+            message.append(DescribeDbInstancesResponse.builder()
+                    .dbInstances(DBInstance.builder().dbInstanceIdentifier("db-instance").allocatedStorage(100).build())
+                    .marker("marker")
+                    .build());
+            message.append(ImmutableMap.of(RequestLogger.STACK_ID, "stack-id"));
+            result = message.finish();
+        }
+
+        final JSONObject json = new JSONObject(result);
+        assertThat(json.getString(RequestLogger.CONTENT)).isEqualTo("DescribeDbInstancesResponse");
+        assertThat(json.getString("Marker")).isEqualTo("marker");
+        assertThat(json.getJSONArray("DbInstances").getJSONObject(0).getString("DbInstanceIdentifier")).isEqualTo("db-instance");
+        assertThat(json.getJSONArray("DbInstances").getJSONObject(0).getInt("AllocatedStorage")).isEqualTo(100);
+        assertThat(json.getString(RequestLogger.STACK_ID)).isEqualTo("stack-id");
+    }
+
+    @Test
+    void test_append_compactByDefault() throws IOException {
+        try (JsonLogWriter.Message message = logWriter.newMessage()) {
+            message.append(ImmutableMap.of("Key", ImmutableMap.of("Nested", "value")));
+            assertThat(message.finish()).isEqualTo("{\"Key\":{\"Nested\":\"value\"}}");
+        }
+    }
+
+    @Test
+    void test_append_indent() throws IOException {
+        final JsonLogWriter indentedWriter = new JsonLogWriter(new FilteredJsonPrinter().getWriter(), true);
+        try (JsonLogWriter.Message message = indentedWriter.newMessage()) {
+            message.append("Key", "value");
+            assertThat(message.finish()).contains(StringUtils.LF);
+        }
+    }
+
+    @Test
+    void test_append_filtersFields() throws IOException {
+        try (JsonLogWriter.Message message = logWriter.newMessage()) {
+            message.append(CreateDbInstanceRequest.builder()
+                    .dbInstanceIdentifier("db-instance")
+                    .masterUserPassword("secret")
+                    .build());
+            final String result = message.finish();
+            assertThat(result).contains("db-instance");
+            assertThat(result).doesNotContain("secret");
+        }
+    }
+
+    @Test
+    void test_append_scalarAsContentDetail() throws IOException {
+        try (JsonLogWriter.Message message = logWriter.newMessage()) {
+            message.append("detail");
+            message.append((Object) null);
+            assertThat(new JSONObject(message.finish()).getString(RequestLogger.CONTENT_DETAIL)).isEqualTo("detail");
+        }
+    }
+
+    @Test
+    void test_append_throwable() throws IOException {
+        try (JsonLogWriter.Message message = logWriter.newMessage()) {
+            message.append(new RuntimeException("test exception"));
+            assertThat(new JSONObject(message.finish()).getJSONArray(FilteredJsonPrinter.STACK_TRACE).getString(0))
+                    .contains("test exception");
+        }
+    }
+
+    @Test
+    void test_newMessage_whileAnotherIsOpen() throws IOException {
+        try (JsonLogWriter.Message outer = logWriter.newMessage()) {
+            outer.append("Outer", "value");
+            try (JsonLogWriter.Message inner = logWriter.newMessage()) {
+                inner.append("Inner", "value");
+                assertThat(inner.finish()).isEqualTo("{\"Inner\":\"value\"}");
+            }
+            assertThat(outer.finish()).isEqualTo("{\"Outer\":\"value\"}");
+        }
+    }
+
+    @Test
+    void test_buffer_reusedAndBounded() throws IOException {
+        final JsonLogWriter.MessageBuffer buffer = JsonLogWriter.MessageBuffer.acquire();
+        buffer.write(StringUtils.repeat('x', JsonLogWriter.MAX_RETAINED_BUFFER_SIZE + 1));
+        buffer.release();
+        assertThat(buffer.capacity()).isLessThanOrEqualTo(JsonLogWriter.MAX_RETAINED_BUFFER_SIZE);
+
+        assertThat(JsonLogWriter.MessageBuffer.acquire()).isSameAs(buffer);
+        buffer.release();
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void test_indexOf_bucketBoundaries() {
+        for (int index = 0; index < LatencyHistogram.BUCKETS - 1; index++) {
+            assertThat(LatencyHistogram.indexOf(LatencyHistogram.lowestValueAt(index))).isEqualTo(index);
+            assertThat(LatencyHistogram.indexOf(LatencyHistogram.highestValueAt(index))).isEqualTo(index);
+            assertThat(LatencyHistogram.highestValueAt(index) + 1).isEqualTo(LatencyHistogram.lowestValueAt(index + 1));
+        }
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKETS - 1);
+    }
+
+    @Test
+    void test_getValueAtPercentile_relativeError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(10_000);
+        assertThat(histogram.getMax()).isEqualTo(10_000);
+        assertThat(histogram.getValueAtPercentile(50)).isBetween(5_000L, 5_000L + 5_000L / LatencyHistogram.SUB_BUCKETS);
+        assertThat(histogram.getValueAtPercentile(99)).isBetween(9_900L, 10_000L);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000);
+    }
+
+    @Test
+    void test_getValueAtPercentile_randomValues() {
+        final Random random = new Random(42);
+        final LatencyHistogram histogram = new LatencyHistogram();
+        long max = 0;
+        for (int i = 0; i < 1_000; i++) {
+            final long value = (long) (Math.abs(random.nextGaussian()) * 1_000_000);
+            max = Math.max(max, value);
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(max);
+        assertThat(histogram.getValueAtPercentile(50)).isLessThanOrEqualTo(histogram.getValueAtPercentile(90));
+    }
+
+    @Test
+    void test_empty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getValueAtPercentile(99)).isZero();
+
+        histogram.recordNanos(-1);
+        assertThat(histogram.getMax()).isZero();
+    }
+}
@@ -0,0 +1,189 @@
+package software.amazon.rds.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+
+class ResponseLogPolicyTest {
+
+    private static final DescribeDbInstancesRequest DESCRIBE_REQUEST = DescribeDbInstancesRequest.builder()
+            .dbInstanceIdentifier("db-instance")
+            .build();
+
+    private List<String> logged;
+    private RequestLogger requestLogger;
+
+    @BeforeEach
+    public void setup() {
+        logged = new ArrayList<>();
+        requestLogger = new RequestLogger(logged::add, new ResourceHandlerRequest<>(), new FilteredJsonPrinter());
+    }
+
+    @Test
+    void test_sampled_repeatedCallLogsDigest() {
+        final ProxyClient<RdsClient> proxyClient = loggingProxyClient(ResponseLogPolicy.sampled(ResponseLogPolicy.Config.builder().build()));
+
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("creating"));
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("available"));
+
+        // Request, full response, request, digest.
+        assertThat(logged).hasSize(4);
+        assertThat(logged.get(1)).contains("\"DbInstanceStatus\":\"creating\"");
+
+        final JSONObject digest = new JSONObject(logged.get(3));
+        assertThat(digest.getString(RequestLogger.CONTENT)).isEqualTo(ResponseLogPolicy.RESPONSE_DIGEST);
+        assertThat(digest.getString("Operation")).isEqualTo("DescribeDbInstances");
+        assertThat(digest.getInt("Calls")).isEqualTo(2);
+        assertThat(digest.getBoolean("BudgetExceeded")).isFalse();
+        assertThat(digest.getJSONArray("ChangedFields").toList()).containsExactly("DBInstances[0].DBInstanceStatus");
+        assertThat(logged.get(3)).doesNotContain("available");
+    }
+
+    @Test
+    void test_sampled_differentRequestsLogFull() {
+        final ProxyClient<RdsClient> proxyClient = loggingProxyClient(ResponseLogPolicy.sampled(ResponseLogPolicy.Config.builder().build()));
+
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("available"));
+        proxyClient.injectCredentialsAndInvokeV2(DescribeDbInstancesRequest.builder().dbInstanceIdentifier("other").build(),
+                request -> describeResponse("available"));
+
+        assertThat(logged).noneMatch(message -> message.contains(ResponseLogPolicy.RESPONSE_DIGEST));
+    }
+
+    @Test
+    void test_sampled_budgetExceeded() {
+        final ProxyClient<RdsClient> proxyClient = loggingProxyClient(ResponseLogPolicy.sampled(ResponseLogPolicy.Config.builder()
+                .maxLoggedLength(0)
+                .build()));
+
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("available"));
+
+        final JSONObject digest = new JSONObject(logged.get(1));
+        assertThat(digest.getBoolean("BudgetExceeded")).isTrue();
+        assertThat(digest.getInt("Calls")).isEqualTo(1);
+        assertThat(digest.getJSONArray("ChangedFields").isEmpty()).isTrue();
+    }
+
+    @Test
+    void test_sampled_failureLoggedInFull() {
+        final ProxyClient<RdsClient> proxyClient = loggingProxyClient(ResponseLogPolicy.sampled(ResponseLogPolicy.Config.builder().build()));
+        final DbInstanceNotFoundException exception = DbInstanceNotFoundException.builder().message("not found").build();
+
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> {
+            throw exception;
+        })).isSameAs(exception);
+        assertThat(logged.get(1)).contains(FilteredJsonPrinter.STACK_TRACE).contains("not found");
+    }
+
+    @Test
+    void test_full_logsEveryResponse() {
+        final ProxyClient<RdsClient> proxyClient = loggingProxyClient(ResponseLogPolicy.full());
+
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("creating"));
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("available"));
+
+        assertThat(logged.get(3)).contains("\"DbInstanceStatus\":\"available\"");
+    }
+
+    @Test
+    void test_sampled_budgetAccountsForPendingResponse() {
+        // The request fits in the budget, the response on top of it does not.
+        final ProxyClient<RdsClient> proxyClient = loggingProxyClient(ResponseLogPolicy.sampled(ResponseLogPolicy.Config.builder()
+                .maxLoggedLength(4096)
+                .build()));
+
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder()
+                        .dbInstanceIdentifier("db-instance")
+                        .tagList(Tag.builder().key("k").value(StringUtils.repeat("v", 8192)).build())
+                        .build())
+                .build());
+
+        assertThat(logged).hasSize(2);
+        assertThat(new JSONObject(logged.get(1)).getBoolean("BudgetExceeded")).isTrue();
+        assertThat(requestLogger.getLoggedLength()).isLessThan(4096);
+    }
+
+    @Test
+    void test_sampled_digestHashIdentifiesResponse() {
+        final ProxyClient<RdsClient> proxyClient = loggingProxyClient(ResponseLogPolicy.sampled(ResponseLogPolicy.Config.builder().build()));
+
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("creating"));
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("creating"));
+        proxyClient.injectCredentialsAndInvokeV2(DESCRIBE_REQUEST, request -> describeResponse("available"));
+
+        final JSONObject unchanged = new JSONObject(logged.get(3));
+        final JSONObject changed = new JSONObject(logged.get(5));
+        assertThat(unchanged.getString("Hash")).matches("[0-9a-f]{64}");
+        assertThat(unchanged.getJSONArray("ChangedFields").isEmpty()).isTrue();
+        assertThat(changed.getString("Hash")).isNotEqualTo(unchanged.getString("Hash"));
+        assertThat(ResponseLogPolicy.Fingerprint.of(describeResponse("creating")).getHash()).isEqualTo(unchanged.getString("Hash"));
+    }
+
+    @Test
+    void test_changedFields_nestedAndResizedLists() {
+        final List<String> changedFields = ResponseLogPolicy.changedFields(
+                ResponseLogPolicy.Fingerprint.of(DBInstance.builder().dbInstanceStatus("available").tagList(Tag.builder().key("k").build()).build()).getFieldDigests(),
+                ResponseLogPolicy.Fingerprint.of(DBInstance.builder().dbInstanceStatus("modifying").build()).getFieldDigests()
+        );
+
+        assertThat(changedFields).containsExactly("DBInstanceStatus", "TagList");
+    }
+
+    @Test
+    void test_fingerprint_boundedFields() {
+        final List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 2 * ResponseLogPolicy.MAX_TRACKED_FIELDS; i++) {
+            tags.add(Tag.builder().key("key" + i).value("value").build());
+        }
+        final ResponseLogPolicy.Fingerprint fingerprint = ResponseLogPolicy.Fingerprint.of(DBInstance.builder().tagList(tags).build());
+        final List<Tag> changedTags = new ArrayList<>(tags);
+        changedTags.set(tags.size() - 1, Tag.builder().key("key").value("other").build());
+
+        assertThat(fingerprint.getFieldDigests()).hasSize(ResponseLogPolicy.MAX_TRACKED_FIELDS + 1);
+        assertThat(ResponseLogPolicy.changedFields(
+                fingerprint.getFieldDigests(),
+                ResponseLogPolicy.Fingerprint.of(DBInstance.builder().tagList(changedTags).build()).getFieldDigests()
+        )).containsExactly(ResponseLogPolicy.OTHER_FIELDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ProxyClient<RdsClient> loggingProxyClient(final ResponseLogPolicy policy) {
+        final ProxyClient<RdsClient> proxyClient = mock(ProxyClient.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(), any())).thenAnswer(invocation ->
+                ((Function<AwsRequest, AwsResponse>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+        return new LoggingProxyClient<>(requestLogger, proxyClient, policy);
+    }
+
+    private static DescribeDbInstancesResponse describeResponse(final String status) {
+        return DescribeDbInstancesResponse.builder()
+                .dbInstances(DBInstance.builder()
+                        .dbInstanceIdentifier("db-instance")
+                        .dbInstanceStatus(status)
+                        .build())
+                .build();
+    }
+}
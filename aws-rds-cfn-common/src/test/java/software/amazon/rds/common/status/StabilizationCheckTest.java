@@ -0,0 +1,107 @@
+package software.amazon.rds.common.status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.rds.common.logging.RequestLogger;
+
+class StabilizationCheckTest {
+
+    @Test
+    public void test_evaluate_stabilized() {
+        final StabilizationCheck.Result result = StabilizationCheck.<String>builder("isStable")
+                .check("isNotEmpty", s -> !s.isEmpty())
+                .check("isLowerCase", s -> s.toLowerCase().equals(s))
+                .build()
+                .evaluate("available");
+
+        assertThat(result.isStabilized()).isTrue();
+        assertThat(result.getBlockedBy()).isNull();
+        assertThat(result.getOutcomes()).containsExactly(Map.entry("isNotEmpty", true), Map.entry("isLowerCase", true));
+        assertThat(result.toLogRecord()).doesNotContainKey(StabilizationCheck.BLOCKED_BY);
+    }
+
+    @Test
+    public void test_evaluate_evaluatesEveryPredicateOnce() {
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger second = new AtomicInteger();
+        final AtomicInteger third = new AtomicInteger();
+
+        final StabilizationCheck.Result result = StabilizationCheck.<String>builder("isStable")
+                .check("first", s -> first.incrementAndGet() > 0)
+                .check("second", s -> second.incrementAndGet() < 0)
+                .check("third", s -> third.incrementAndGet() < 0)
+                .build()
+                .evaluate("modifying");
+
+        assertThat(result.isStabilized()).isFalse();
+        assertThat(result.getBlockedBy()).isEqualTo("second");
+        assertThat(result.getOutcomes()).containsExactly(Map.entry("first", true), Map.entry("second", false), Map.entry("third", false));
+        assertThat(result.toLogRecord()).containsEntry(StabilizationCheck.BLOCKED_BY, "second");
+        assertThat(first.get()).isEqualTo(1);
+        assertThat(second.get()).isEqualTo(1);
+        assertThat(third.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_evaluate_shortCircuit() {
+        final AtomicInteger third = new AtomicInteger();
+
+        final StabilizationCheck.Result result = StabilizationCheck.<String>builder("isStable")
+                .check("first", s -> true)
+                .check("second", s -> false)
+                .check("third", s -> third.incrementAndGet() > 0)
+                .shortCircuit(true)
+                .build()
+                .evaluate("modifying");
+
+        assertThat(result.isStabilized()).isFalse();
+        assertThat(result.getBlockedBy()).isEqualTo("second");
+        assertThat(result.getOutcomes()).containsOnlyKeys("first", "second");
+        assertThat(third.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_evaluate_noPredicates() {
+        assertThat(StabilizationCheck.<String>builder("isStable").build().evaluate("any").isStabilized()).isTrue();
+    }
+
+    @Test
+    public void test_builder_duplicatePredicate() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> StabilizationCheck.<String>builder("isStable")
+                .check("isNotEmpty", s -> !s.isEmpty())
+                .check("isNotEmpty", s -> !s.isEmpty()));
+    }
+
+    @Test
+    public void test_log() {
+        final RequestLogger requestLogger = mock(RequestLogger.class);
+        final StabilizationCheck.Result result = StabilizationCheck.<String>builder("isStable")
+                .check("isEmpty", String::isEmpty)
+                .build()
+                .evaluate("modifying");
+
+        assertThat(result.log(requestLogger)).isSameAs(result);
+        verify(requestLogger).log(eq("isStable: false"), any(Object.class));
+    }
+
+    @Test
+    public void test_log_nullLogger() {
+        final StabilizationCheck.Result result = StabilizationCheck.<String>builder("isStable")
+                .check("isEmpty", String::isEmpty)
+                .build()
+                .evaluate("");
+
+        assertThat(result.log(null).isStabilized()).isTrue();
+        assertThat(result.toString()).isEqualTo("isStable: true {isEmpty=true}");
+    }
+}
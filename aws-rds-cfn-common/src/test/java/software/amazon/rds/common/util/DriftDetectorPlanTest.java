@@ -0,0 +1,75 @@
+package software.amazon.rds.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import software.amazon.cloudformation.resource.ResourceTypeSchema;
+
+class DriftDetectorPlanTest {
+
+    private final static ResourceTypeSchema RESOURCE_SCHEMA = ResourceTypeSchema.load(new JSONObject("{" +
+            "\"typeName\":\"AWS::Test::Type\"," +
+            "\"properties\": {" +
+            "\"StringProperty\": {\"type\":\"string\"}," +
+            "\"MalformedProperty\": {\"type\":\"string\"}," +
+            "\"WriteOnlyStringProperty\": {\"type\":\"string\"}," +
+            "\"StringPropertyList\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}}," +
+            "\"UnorderedStringPropertyList\":{\"type\":\"array\",\"insertionOrder\":false,\"items\":{\"type\":\"string\"}}" +
+            "}," +
+            "\"description\": \"Test schema\"," +
+            "\"primaryIdentifier\": [\"/properties/StringProperty\"]," +
+            "\"additionalProperties\": false," +
+            "\"propertyTransform\": {" +
+            "\"/properties/StringProperty\": \"$lowercase(StringProperty) $OR $uppercase(StringProperty)\"," +
+            "\"/properties/MalformedProperty\": \"$lowercase(\"" +
+            "}," +
+            "\"writeOnlyProperties\": [\"/properties/WriteOnlyStringProperty\"]" +
+            "}"));
+
+    private final DriftDetectorPlan plan = DriftDetectorPlan.compile(RESOURCE_SCHEMA);
+
+    @Test
+    void test_compile_transformations() {
+        assertThat(plan.isTransformable("/properties/StringProperty")).isTrue();
+        assertThat(plan.isTransformable("/properties/WriteOnlyStringProperty")).isFalse();
+
+        assertThat(plan.evaluateTransformations("/properties/StringProperty", JsonNodeFactory.instance.objectNode()
+                .put("StringProperty", "Value")))
+                .extracting(JsonNode::asText)
+                .containsExactly("value", "VALUE");
+    }
+
+    @Test
+    void test_compile_malformedTransformationFailsOnEvaluation() {
+        assertThat(plan.isTransformable("/properties/MalformedProperty")).isTrue();
+        assertThatThrownBy(() -> plan.evaluateTransformations("/properties/MalformedProperty", JsonNodeFactory.instance.objectNode()))
+                .isInstanceOf(DriftDetectorRuntimeException.class);
+    }
+
+    @Test
+    void test_compile_insertionOrder() {
+        assertThat(plan.isArrayProperty("StringPropertyList")).isTrue();
+        assertThat(plan.isInsertionOrdered("StringPropertyList")).isTrue();
+        assertThat(plan.isArrayProperty("UnorderedStringPropertyList")).isTrue();
+        assertThat(plan.isInsertionOrdered("UnorderedStringPropertyList")).isFalse();
+        assertThat(plan.isArrayProperty("StringProperty")).isFalse();
+    }
+
+    @Test
+    void test_compile_writeOnly() {
+        assertThat(plan.isWriteOnly("/properties/WriteOnlyStringProperty")).isTrue();
+        assertThat(plan.isWriteOnly("/properties/StringProperty")).isFalse();
+    }
+
+    @Test
+    void test_anchoredPattern_cached() {
+        assertThat(plan.anchoredPattern("value-.*")).isSameAs(plan.anchoredPattern("value-.*"));
+        assertThat(plan.anchoredPattern("value-.*").matcher("value-1").matches()).isTrue();
+        assertThat(plan.anchoredPattern("value").matcher("prefix-value").matches()).isFalse();
+    }
+}
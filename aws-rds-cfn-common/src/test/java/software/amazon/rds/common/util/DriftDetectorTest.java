@@ -314,6 +314,40 @@ class DriftDetectorTest {
         assertResourceNotDrifted(input, output, RESOURCE_SCHEMA);
     }
 
+    @Test
+    void test_propertyAccessor_forClass() {
+        final TestDataClass data = TestDataClass.builder()
+                .stringProperty("value")
+                .build();
+
+        final List<DriftDetector.PropertyAccessor> accessors = DriftDetector.PropertyAccessor.forClass(TestDataClass.class);
+
+        assertThat(accessors).extracting(DriftDetector.PropertyAccessor::getName).containsExactlyInAnyOrder(
+                "BoolProperty",
+                "IntegerProperty",
+                "StringProperty",
+                "NestedObject",
+                "ReadOnlyStringProperty",
+                "WriteOnlyStringProperty",
+                "StringPropertyList",
+                "UnorderedStringPropertyList"
+        );
+        assertThat(accessors.stream().filter(accessor -> accessor.getName().equals("StringProperty")).findFirst())
+                .hasValueSatisfying(accessor -> assertThat(accessor.get(data)).isEqualTo("value"));
+    }
+
+    @Test
+    void test_detectDrift_nestedObjectDrifted() {
+        final TestDataClass input = TestDataClass.builder()
+                .nestedObject(TestDataClass.builder().integerProperty(1).build())
+                .build();
+        final TestDataClass output = TestDataClass.builder()
+                .nestedObject(TestDataClass.builder().integerProperty(2).build())
+                .build();
+
+        assertThat(driftDetector.detectDrift(input, output)).containsOnlyKeys("/properties/NestedObject/IntegerProperty");
+    }
+
     @Builder
     static class TestDataClass {
         @JsonProperty(value = "BoolProperty")
@@ -0,0 +1,312 @@
+package software.amazon.rds.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+class EngineDefaultsCacheTest {
+
+    private static final EngineDefaultsCache.Key MYSQL_KEY = new EngineDefaultsCache.Key("us-east-1", "mysql8.0");
+    private static final EngineDefaultsCache.Key POSTGRES_KEY = new EngineDefaultsCache.Key("us-east-1", "postgres15");
+    private static final List<Parameter> FAMILY_PARAMETERS = Arrays.asList(
+            parameter("max_connections"),
+            parameter("innodb_buffer_pool_size"),
+            parameter("time_zone")
+    );
+    private static final List<String> ALL_NAMES = FAMILY_PARAMETERS.stream()
+            .map(Parameter::parameterName)
+            .collect(Collectors.toList());
+
+    private MutableClock clock;
+    private List<List<String>> fetches;
+    private Function<List<String>, Iterable<Parameter>> fetcher;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+        fetches = new ArrayList<>();
+        fetcher = names -> {
+            fetches.add(names);
+            if (names == null) {
+                return FAMILY_PARAMETERS;
+            }
+            return FAMILY_PARAMETERS.stream()
+                    .filter(p -> names.contains(p.parameterName()))
+                    .collect(Collectors.toList());
+        };
+    }
+
+    @Test
+    public void test_invalidArguments() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new EngineDefaultsCache(0, Duration.ofMinutes(1), clock));
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new EngineDefaultsCache(1, Duration.ZERO, clock));
+    }
+
+    @Test
+    public void test_get_fetchesOnce() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.get(MYSQL_KEY, ALL_NAMES, fetcher)).hasSize(3);
+        Assertions.assertThat(cache.get(MYSQL_KEY, ALL_NAMES, fetcher)).hasSize(3);
+
+        Assertions.assertThat(fetches).containsExactly(ALL_NAMES);
+    }
+
+    @Test
+    public void test_getAll_fetchesOnce() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.getAll(MYSQL_KEY, fetcher)).hasSize(3);
+        Assertions.assertThat(cache.getAll(MYSQL_KEY, fetcher)).hasSize(3);
+
+        Assertions.assertThat(fetches).containsExactly((List<String>) null);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_get_servedFromCompleteIndex() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+        cache.getAll(MYSQL_KEY, fetcher);
+
+        final Map<String, Parameter> result = cache.get(MYSQL_KEY, Arrays.asList("time_zone", "unknown"), fetcher);
+
+        Assertions.assertThat(result).containsOnlyKeys("time_zone");
+        Assertions.assertThat(fetches).hasSize(1);
+    }
+
+    @Test
+    public void test_getAll_partialIndexIsRefetched() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+        cache.get(MYSQL_KEY, Arrays.asList("time_zone", "unknown"), fetcher);
+
+        Assertions.assertThat(cache.getAll(MYSQL_KEY, fetcher)).hasSize(3);
+        Assertions.assertThat(cache.getAll(MYSQL_KEY, fetcher)).hasSize(3);
+
+        Assertions.assertThat(fetches).containsExactly(Arrays.asList("time_zone", "unknown"), null);
+        // The complete index replaces the partial one, the missing name is not counted twice.
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_getAll_emptyFamilyIsNotCached() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.getAll(MYSQL_KEY, names -> Collections.emptyList())).isEmpty();
+        Assertions.assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_completeFamilyOverParameterBoundIsNotCached() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(2, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.getAll(MYSQL_KEY, fetcher)).hasSize(3);
+        Assertions.assertThat(cache.size()).isEqualTo(0);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_completeFamilyEvictsLeastRecentlyUsed() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(4, Duration.ofMinutes(10), clock);
+        cache.get(POSTGRES_KEY, Collections.singletonList("time_zone"), fetcher);
+
+        cache.getAll(MYSQL_KEY, fetcher);
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+
+        cache.get(POSTGRES_KEY, Collections.singletonList("max_connections"), fetcher);
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(2);
+
+        cache.getAll(MYSQL_KEY, fetcher);
+        Assertions.assertThat(fetches).containsExactly(
+                Collections.singletonList("time_zone"),
+                null,
+                Collections.singletonList("max_connections"),
+                null
+        );
+    }
+
+    @Test
+    public void test_get_fetchesUnknownNamesOnly() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.get(MYSQL_KEY, Arrays.asList("time_zone", "unknown"), fetcher))
+                .containsOnlyKeys("time_zone");
+        Assertions.assertThat(cache.get(MYSQL_KEY, Arrays.asList("time_zone", "unknown", "max_connections"), fetcher))
+                .containsOnlyKeys("time_zone", "max_connections");
+        Assertions.assertThat(cache.get(MYSQL_KEY, Arrays.asList("unknown", "max_connections"), fetcher))
+                .containsOnlyKeys("max_connections");
+
+        Assertions.assertThat(fetches).containsExactly(
+                Arrays.asList("time_zone", "unknown"),
+                Collections.singletonList("max_connections")
+        );
+    }
+
+    @Test
+    public void test_get_duplicateNamesAreFetchedOnce() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.get(MYSQL_KEY, Arrays.asList("time_zone", "time_zone"), fetcher))
+                .containsOnlyKeys("time_zone");
+
+        Assertions.assertThat(fetches).containsExactly(Collections.singletonList("time_zone"));
+    }
+
+    @Test
+    public void test_get_missingNamesAreCached() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.get(MYSQL_KEY, Collections.singletonList("unknown"), fetcher)).isEmpty();
+        Assertions.assertThat(cache.get(MYSQL_KEY, Collections.singletonList("unknown"), fetcher)).isEmpty();
+
+        Assertions.assertThat(fetches).hasSize(1);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_familiesAreIsolated() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(16, Duration.ofMinutes(10), clock);
+
+        cache.get(MYSQL_KEY, ALL_NAMES, fetcher);
+        cache.get(POSTGRES_KEY, ALL_NAMES, fetcher);
+        cache.get(new EngineDefaultsCache.Key("eu-west-1", "mysql8.0"), ALL_NAMES, fetcher);
+
+        Assertions.assertThat(fetches).hasSize(3);
+        Assertions.assertThat(cache.size()).isEqualTo(3);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(9);
+    }
+
+    @Test
+    public void test_expiresAfterTtl() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        cache.get(MYSQL_KEY, ALL_NAMES, fetcher);
+        clock.advance(Duration.ofMinutes(9));
+        cache.get(MYSQL_KEY, ALL_NAMES, fetcher);
+        Assertions.assertThat(fetches).hasSize(1);
+
+        clock.advance(Duration.ofMinutes(1));
+        cache.get(MYSQL_KEY, ALL_NAMES, fetcher);
+        Assertions.assertThat(fetches).hasSize(2);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_mergeDoesNotExtendTtl() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        cache.get(MYSQL_KEY, Collections.singletonList("time_zone"), fetcher);
+        clock.advance(Duration.ofMinutes(9));
+        cache.get(MYSQL_KEY, Collections.singletonList("max_connections"), fetcher);
+        clock.advance(Duration.ofMinutes(1));
+        cache.get(MYSQL_KEY, Collections.singletonList("max_connections"), fetcher);
+
+        Assertions.assertThat(fetches).hasSize(3);
+    }
+
+    @Test
+    public void test_evictsLeastRecentlyUsedOverParameterBound() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(4, Duration.ofMinutes(10), clock);
+
+        cache.get(MYSQL_KEY, ALL_NAMES, fetcher);
+        cache.get(POSTGRES_KEY, Collections.singletonList("time_zone"), fetcher);
+        Assertions.assertThat(cache.size()).isEqualTo(2);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(4);
+
+        cache.get(POSTGRES_KEY, Collections.singletonList("max_connections"), fetcher);
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(2);
+
+        cache.get(MYSQL_KEY, ALL_NAMES, fetcher);
+        Assertions.assertThat(fetches).hasSize(4);
+    }
+
+    @Test
+    public void test_familyOverParameterBoundIsNotCached() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(2, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThat(cache.get(MYSQL_KEY, ALL_NAMES, fetcher)).hasSize(3);
+        Assertions.assertThat(cache.size()).isEqualTo(0);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void test_failedFetchIsNotCached() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+
+        Assertions.assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> cache.get(MYSQL_KEY, ALL_NAMES, names -> {
+                    throw new RuntimeException("test exception");
+                }));
+        Assertions.assertThat(cache.size()).isEqualTo(0);
+
+        Assertions.assertThat(cache.get(MYSQL_KEY, ALL_NAMES, fetcher)).hasSize(3);
+    }
+
+    @Test
+    public void test_invalidate() {
+        final EngineDefaultsCache cache = new EngineDefaultsCache(8, Duration.ofMinutes(10), clock);
+        cache.get(MYSQL_KEY, ALL_NAMES, fetcher);
+        cache.get(POSTGRES_KEY, ALL_NAMES, fetcher);
+
+        cache.invalidate(MYSQL_KEY);
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(3);
+
+        cache.invalidateAll();
+        Assertions.assertThat(cache.size()).isEqualTo(0);
+        Assertions.assertThat(cache.parameterCount()).isEqualTo(0);
+    }
+
+    private static Parameter parameter(final String name) {
+        return Parameter.builder()
+                .parameterName(name)
+                .parameterValue("default")
+                .isModifiable(true)
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package software.amazon.rds.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+class ParallelPageFetcherTest {
+
+    private ExecutorService executor;
+    private ParallelPageFetcher fetcher;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+        fetcher = new ParallelPageFetcher(executor, RateLimiter.create(1000.0));
+    }
+
+    @AfterEach
+    public void tear_down() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void test_fetch_singleRequestOnCallingThread() {
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new ArrayList<>();
+
+        final Map<String, String> result = fetcher.fetch(
+                Collections.singletonList("request"),
+                (request, marker) -> {
+                    threads.add(Thread.currentThread());
+                    return marker == null
+                            ? ParallelPageFetcher.Page.of(Arrays.asList("a", "b"), "marker")
+                            : ParallelPageFetcher.Page.of(Collections.singletonList("c"), null);
+                },
+                item -> item,
+                10,
+                () -> new RuntimeException("max depth")
+        );
+
+        Assertions.assertThat(result).containsOnlyKeys("a", "b", "c");
+        Assertions.assertThat(threads).containsOnly(caller);
+    }
+
+    @Test
+    public void test_fetch_multipleRequestsConcurrently() {
+        final CountDownLatch started = new CountDownLatch(2);
+        final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+        final Map<String, String> result = fetcher.fetch(
+                Arrays.asList("first", "second"),
+                (request, marker) -> {
+                    threads.put(request, Thread.currentThread());
+                    started.countDown();
+                    try {
+                        // Both requests have to be in flight at the same time to get past the latch.
+                        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    return ParallelPageFetcher.Page.of(Collections.singletonList(request + "-item"), null);
+                },
+                item -> item,
+                10,
+                () -> new RuntimeException("max depth")
+        );
+
+        Assertions.assertThat(result).containsOnlyKeys("first-item", "second-item");
+        Assertions.assertThat(threads.get("first")).isNotEqualTo(threads.get("second"));
+    }
+
+    @Test
+    public void test_fetch_mergesInRequestOrder() {
+        final Map<String, String> result = fetcher.fetch(
+                Arrays.asList("first", "second", "third"),
+                (request, marker) -> ParallelPageFetcher.Page.of(Collections.singletonList(request), null),
+                item -> "key",
+                10,
+                () -> new RuntimeException("max depth")
+        );
+
+        Assertions.assertThat(result).containsExactly(Assertions.entry("key", "third"));
+    }
+
+    @Test
+    public void test_fetch_maxPageDepth() {
+        final AtomicInteger pages = new AtomicInteger();
+
+        Assertions.assertThatThrownBy(() -> fetcher.fetch(
+                        Arrays.asList("first", "second"),
+                        (request, marker) -> {
+                            pages.incrementAndGet();
+                            return ParallelPageFetcher.Page.of(Collections.singletonList(request), "marker");
+                        },
+                        item -> item,
+                        3,
+                        () -> new IllegalStateException("max depth")
+                ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("max depth");
+        Assertions.assertThat(pages.get()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    public void test_fetch_rethrowsOriginalException() {
+        final RuntimeException exception = new UnsupportedOperationException("test exception");
+
+        Assertions.assertThatThrownBy(() -> fetcher.fetch(
+                        Arrays.asList("first", "second"),
+                        (request, marker) -> {
+                            if ("second".equals(request)) {
+                                throw exception;
+                            }
+                            return ParallelPageFetcher.Page.of(Collections.singletonList(request), null);
+                        },
+                        item -> item,
+                        10,
+                        () -> new RuntimeException("max depth")
+                ))
+                .isSameAs(exception);
+    }
+
+    @Test
+    public void test_fetch_noRequests() {
+        Assertions.assertThat(fetcher.<String, String>fetch(
+                Collections.emptyList(),
+                (request, marker) -> {
+                    throw new IllegalStateException("unexpected call");
+                },
+                item -> item,
+                10,
+                () -> new RuntimeException("max depth")
+        )).isEmpty();
+    }
+
+    @Test
+    public void test_forEachPage_consumesPagesAsFetched() {
+        final Thread caller = Thread.currentThread();
+        final List<String> events = new ArrayList<>();
+
+        fetcher.forEachPage(
+                "request",
+                (request, marker) -> {
+                    Assertions.assertThat(Thread.currentThread()).isSameAs(caller);
+                    events.add("fetch " + marker);
+                    return marker == null
+                            ? ParallelPageFetcher.Page.of(Arrays.asList("a", "b"), "marker")
+                            : ParallelPageFetcher.Page.of(Collections.singletonList("c"), null);
+                },
+                10,
+                () -> new RuntimeException("max depth"),
+                page -> events.add("consume " + page)
+        );
+
+        Assertions.assertThat(events).containsExactly(
+                "fetch null",
+                "consume [a, b]",
+                "fetch marker",
+                "consume [c]"
+        );
+    }
+
+    @Test
+    public void test_forEachPage_maxPageDepth() {
+        final List<List<String>> pages = new ArrayList<>();
+
+        Assertions.assertThatThrownBy(() -> fetcher.forEachPage(
+                        "request",
+                        (request, marker) -> ParallelPageFetcher.Page.of(Collections.singletonList(request), "marker"),
+                        3,
+                        () -> new IllegalStateException("max depth"),
+                        pages::add
+                ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("max depth");
+        Assertions.assertThat(pages).hasSize(3);
+    }
+
+    @Test
+    public void test_forEachPageOfRequests_consumesOnCallingThread() {
+        final Thread caller = Thread.currentThread();
+        final List<String> items = new ArrayList<>();
+
+        fetcher.forEachPageOfRequests(
+                Arrays.asList("first", "second"),
+                (request, marker) -> marker == null
+                        ? ParallelPageFetcher.Page.of(Collections.singletonList(request + "-a"), "marker")
+                        : ParallelPageFetcher.Page.of(Collections.singletonList(request + "-b"), null),
+                10,
+                () -> new RuntimeException("max depth"),
+                page -> {
+                    Assertions.assertThat(Thread.currentThread()).isSameAs(caller);
+                    items.addAll(page);
+                }
+        );
+
+        Assertions.assertThat(items).containsExactlyInAnyOrder("first-a", "first-b", "second-a", "second-b");
+        // The pages of a single request still arrive in order.
+        Assertions.assertThat(items.indexOf("first-a")).isLessThan(items.indexOf("first-b"));
+        Assertions.assertThat(items.indexOf("second-a")).isLessThan(items.indexOf("second-b"));
+    }
+
+    @Test
+    public void test_forEachPageOfRequests_singleRequestOnCallingThread() {
+        final Thread caller = Thread.currentThread();
+        final List<List<String>> pages = new ArrayList<>();
+
+        fetcher.forEachPageOfRequests(
+                Collections.singletonList("request"),
+                (request, marker) -> {
+                    Assertions.assertThat(Thread.currentThread()).isSameAs(caller);
+                    return ParallelPageFetcher.Page.of(Collections.singletonList(request), null);
+                },
+                10,
+                () -> new RuntimeException("max depth"),
+                pages::add
+        );
+
+        Assertions.assertThat(pages).containsExactly(Collections.singletonList("request"));
+    }
+
+    @Test
+    public void test_forEachPageOfRequests_rethrowsOriginalException() {
+        final RuntimeException exception = new UnsupportedOperationException("test exception");
+
+        Assertions.assertThatThrownBy(() -> fetcher.forEachPageOfRequests(
+                        Arrays.asList("first", "second"),
+                        (request, marker) -> {
+                            if ("second".equals(request)) {
+                                throw exception;
+                            }
+                            return ParallelPageFetcher.Page.of(Collections.singletonList(request), null);
+                        },
+                        10,
+                        () -> new RuntimeException("max depth"),
+                        page -> {
+                        }
+                ))
+                .isSameAs(exception);
+    }
+
+    @Test
+    public void test_forEachPageOfRequests_rethrowsConsumerException() {
+        final RuntimeException exception = new UnsupportedOperationException("test exception");
+
+        Assertions.assertThatThrownBy(() -> fetcher.forEachPageOfRequests(
+                        Arrays.asList("first", "second"),
+                        (request, marker) -> ParallelPageFetcher.Page.of(Collections.singletonList(request), null),
+                        10,
+                        () -> new RuntimeException("max depth"),
+                        page -> {
+                            throw exception;
+                        }
+                ))
+                .isSameAs(exception);
+    }
+
+    @Test
+    public void test_page_nullItems() {
+        Assertions.assertThat(ParallelPageFetcher.Page.of(null, null).getItems()).isEmpty();
+    }
+}
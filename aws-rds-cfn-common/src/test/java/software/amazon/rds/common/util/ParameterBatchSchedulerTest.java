@@ -0,0 +1,267 @@
+package software.amazon.rds.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+class ParameterBatchSchedulerTest {
+
+    private static final List<Set<String>> DEPENDENCIES = ImmutableList.of(
+            ImmutableSet.of("ssl_max_protocol_version", "ssl_min_protocol_version")
+    );
+
+    private static final String OK = "ok";
+    private static final String FAILED = "failed";
+    private static final String THROTTLED = "throttled";
+
+    private ExecutorService executor;
+    private ParameterBatchScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        scheduler = new ParameterBatchScheduler(executor, 2);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void test_singleBatchOnCallingThread() {
+        final Thread caller = Thread.currentThread();
+        final List<Thread> threads = new ArrayList<>();
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            threads.add(Thread.currentThread());
+            return OK;
+        });
+        session.accept(batch("a"));
+
+        Assertions.assertThat(session.await()).isNull();
+        Assertions.assertThat(threads).containsExactly(caller);
+    }
+
+    @Test
+    public void test_noBatches() {
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            throw new IllegalStateException("unexpected call");
+        });
+
+        Assertions.assertThat(session.await()).isNull();
+    }
+
+    @Test
+    public void test_independentBatchesConcurrently() {
+        final CountDownLatch started = new CountDownLatch(2);
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            started.countDown();
+            try {
+                // Both batches have to be in flight at the same time to get past the latch.
+                Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return OK;
+        });
+        session.accept(batch("a"));
+        session.accept(batch("b"));
+
+        Assertions.assertThat(session.await()).isNull();
+    }
+
+    @Test
+    public void test_concurrencyIsBounded() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(10);
+            inFlight.decrementAndGet();
+            return OK;
+        });
+        for (int i = 0; i < 8; i++) {
+            session.accept(batch("param" + i));
+        }
+
+        Assertions.assertThat(session.await()).isNull();
+        Assertions.assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void test_dependantBatchesInOrder() {
+        final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            final String names = names(batch);
+            // The earlier dependant batch takes longer, yet it has to complete first.
+            sleep(names.contains("ssl_min_protocol_version") ? 50 : 1);
+            completed.add(names);
+            return OK;
+        });
+        session.accept(batch("ssl_min_protocol_version", "a"));
+        session.accept(batch("ssl_max_protocol_version", "b"));
+
+        Assertions.assertThat(session.await()).isNull();
+        Assertions.assertThat(completed).containsExactly(
+                "ssl_min_protocol_version,a",
+                "ssl_max_protocol_version,b"
+        );
+    }
+
+    @Test
+    public void test_throttledBatchIsNotRetried() {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            attempts.incrementAndGet();
+            return THROTTLED;
+        });
+        session.accept(batch("a"));
+
+        Assertions.assertThat(session.await()).isEqualTo(THROTTLED);
+        Assertions.assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void test_throttlingSkipsPendingBatches() {
+        final List<String> submitted = Collections.synchronizedList(new ArrayList<>());
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            final String names = names(batch);
+            submitted.add(names);
+            return names.startsWith("ssl_min_protocol_version") ? THROTTLED : OK;
+        });
+        session.accept(batch("ssl_min_protocol_version"));
+        session.accept(batch("ssl_max_protocol_version"));
+
+        Assertions.assertThat(session.await()).isEqualTo(THROTTLED);
+        Assertions.assertThat(submitted).containsExactly("ssl_min_protocol_version");
+    }
+
+    @Test
+    public void test_failureTakesPrecedenceOverThrottling() {
+        final CountDownLatch started = new CountDownLatch(2);
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            started.countDown();
+            try {
+                // Both batches are in flight, so neither is skipped by the other one halting the session.
+                Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return names(batch).equals("a") ? THROTTLED : FAILED;
+        });
+        session.accept(batch("a"));
+        session.accept(batch("b"));
+
+        Assertions.assertThat(session.await()).isEqualTo(FAILED);
+    }
+
+    @Test
+    public void test_failureSkipsPendingBatches() {
+        final List<String> submitted = Collections.synchronizedList(new ArrayList<>());
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            final String names = names(batch);
+            submitted.add(names);
+            return names.startsWith("ssl_min_protocol_version") ? FAILED : OK;
+        });
+        session.accept(batch("ssl_min_protocol_version"));
+        session.accept(batch("ssl_max_protocol_version"));
+
+        Assertions.assertThat(session.await()).isEqualTo(FAILED);
+        Assertions.assertThat(submitted).containsExactly("ssl_min_protocol_version");
+    }
+
+    @Test
+    public void test_rethrowsOriginalException() {
+        final RuntimeException exception = new UnsupportedOperationException("test exception");
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            if (names(batch).equals("b")) {
+                throw exception;
+            }
+            return OK;
+        });
+        session.accept(batch("a"));
+        session.accept(batch("b"));
+
+        Assertions.assertThatThrownBy(session::await).isSameAs(exception);
+    }
+
+    @Test
+    public void test_cancelAwaitsInFlightAndSkipsPendingBatches() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+        final ParameterBatchScheduler.Session<String> session = open(batch -> {
+            final String names = names(batch);
+            if (names.equals("ssl_min_protocol_version")) {
+                started.countDown();
+                sleep(50);
+            }
+            completed.add(names);
+            return OK;
+        });
+        session.accept(batch("a"));
+        session.accept(batch("ssl_min_protocol_version"));
+        session.accept(batch("ssl_max_protocol_version"));
+        Assertions.assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        session.cancel();
+        // The batch in flight has completed by the time cancel returns, the one queued after it never starts.
+        Assertions.assertThat(completed).contains("ssl_min_protocol_version");
+        Assertions.assertThat(completed).doesNotContain("ssl_max_protocol_version");
+    }
+
+    @Test
+    public void test_invalidArguments() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ParameterBatchScheduler(executor, 0));
+    }
+
+    private ParameterBatchScheduler.Session<String> open(final Function<List<Parameter>, String> submitter) {
+        return scheduler.open(DEPENDENCIES, submitter, result -> !OK.equals(result), THROTTLED::equals);
+    }
+
+    private static List<Parameter> batch(final String... names) {
+        return Arrays.stream(names)
+                .map(name -> Parameter.builder().parameterName(name).parameterValue("value").build())
+                .collect(Collectors.toList());
+    }
+
+    private static String names(final List<Parameter> batch) {
+        return batch.stream().map(Parameter::parameterName).collect(Collectors.joining(","));
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
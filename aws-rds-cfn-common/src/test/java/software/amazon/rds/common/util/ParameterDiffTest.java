@@ -0,0 +1,114 @@
+package software.amazon.rds.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.rds.model.Parameter;
+
+class ParameterDiffTest {
+
+    @Test
+    public void test_mergeJoin() {
+        final List<String> visited = new ArrayList<>();
+
+        ParameterDiff.mergeJoin(
+                parameters("a", "c", "d").iterator(),
+                parameters("b", "c", "e").iterator(),
+                (name, left, right) -> visited.add(String.format("%s:%s:%s", name, left != null, right != null))
+        );
+
+        Assertions.assertThat(visited).containsExactly(
+                "a:true:false",
+                "b:false:true",
+                "c:true:true",
+                "d:true:false",
+                "e:false:true"
+        );
+    }
+
+    @Test
+    public void test_mergeJoin_empty() {
+        final List<String> visited = new ArrayList<>();
+
+        ParameterDiff.mergeJoin(
+                Collections.emptyIterator(),
+                parameters("a").iterator(),
+                (name, left, right) -> visited.add(name)
+        );
+
+        Assertions.assertThat(visited).containsExactly("a");
+    }
+
+    @Test
+    public void test_mergeJoin_unsorted() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ParameterDiff.mergeJoin(
+                        parameters("b", "a").iterator(),
+                        Collections.emptyIterator(),
+                        (name, left, right) -> {
+                        }
+                ));
+    }
+
+    @Test
+    public void test_mergeJoin_duplicates() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ParameterDiff.mergeJoin(
+                        parameters("a", "a").iterator(),
+                        Collections.emptyIterator(),
+                        (name, left, right) -> {
+                        }
+                ));
+    }
+
+    @Test
+    public void test_sortedByName_sortsUnsortedMap() {
+        final Map<String, Parameter> parameters = new LinkedHashMap<>();
+        parameters.put("c", parameter("c"));
+        parameters.put("a", parameter("a"));
+        parameters.put("b", parameter("b"));
+
+        final List<String> names = new ArrayList<>();
+        ParameterDiff.sortedByName(parameters).forEachRemaining(p -> names.add(p.parameterName()));
+
+        Assertions.assertThat(names).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void test_sortedByName_reusesSortedMap() {
+        final TreeMap<String, Parameter> parameters = new TreeMap<>(ImmutableMap.of(
+                "b", parameter("b"),
+                "a", parameter("a")
+        ));
+
+        final Iterator<Parameter> iterator = ParameterDiff.sortedByName(parameters);
+        Assertions.assertThat(iterator.next().parameterName()).isEqualTo("a");
+        // The iterator is backed by the map itself.
+        iterator.remove();
+
+        Assertions.assertThat(parameters).containsOnlyKeys("b");
+    }
+
+    private static List<Parameter> parameters(final String... names) {
+        final List<Parameter> parameters = new ArrayList<>();
+        Arrays.stream(names).forEach(name -> parameters.add(parameter(name)));
+        return parameters;
+    }
+
+    private static Parameter parameter(final String name) {
+        return Parameter.builder()
+                .parameterName(name)
+                .parameterValue("value")
+                .build();
+    }
+}
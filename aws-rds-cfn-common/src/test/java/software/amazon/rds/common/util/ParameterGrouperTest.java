@@ -1,13 +1,18 @@
 package software.amazon.rds.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -15,6 +20,7 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.rds.test.common.core.TestUtils;
 
@@ -150,4 +156,252 @@ class ParameterGrouperTest {
                 ), ImmutableList.of(3)
         );
     }
+
+    private List<String> names(final List<Parameter> partition) {
+        return partition.stream().map(Parameter::parameterName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void test_batcher_emitsFullPartitions() {
+        final List<List<String>> partitions = new ArrayList<>();
+        final ParameterGrouper.Batcher batcher = ParameterGrouper.batcher(ImmutableList.of(), 2, partition -> partitions.add(names(partition)));
+
+        batcher.add(constructSimpleParameter("a"));
+        batcher.add(constructSimpleParameter("b"));
+        assertThat(partitions).containsExactly(ImmutableList.of("a", "b"));
+
+        batcher.add(constructSimpleParameter("c"));
+        batcher.flush();
+        assertThat(partitions).containsExactly(ImmutableList.of("a", "b"), ImmutableList.of("c"));
+    }
+
+    @Test
+    public void test_batcher_keepsDependantGroupTogether() {
+        final List<List<String>> partitions = new ArrayList<>();
+        final ParameterGrouper.Batcher batcher = ParameterGrouper.batcher(
+                ImmutableList.of(ImmutableSet.of("a", "z")),
+                3,
+                partition -> partitions.add(names(partition))
+        );
+
+        batcher.add(constructSimpleParameter("a"));
+        batcher.add(constructSimpleParameter("b"));
+        batcher.add(constructSimpleParameter("c"));
+        // "a" is held back until the group is complete.
+        assertThat(partitions).isEmpty();
+
+        batcher.add(constructSimpleParameter("z"));
+        batcher.flush();
+        assertThat(partitions).containsExactly(ImmutableList.of("b", "c"), ImmutableList.of("a", "z"));
+    }
+
+    @Test
+    public void test_batcher_flushesIncompleteGroup() {
+        final List<List<String>> partitions = new ArrayList<>();
+        final ParameterGrouper.Batcher batcher = ParameterGrouper.batcher(
+                ImmutableList.of(ImmutableSet.of("a", NON_PRESENT_DEPENDANT_PARAMETER)),
+                3,
+                partition -> partitions.add(names(partition))
+        );
+
+        batcher.add(constructSimpleParameter("a"));
+        batcher.add(constructSimpleParameter("b"));
+        batcher.flush();
+
+        assertThat(partitions).containsExactly(ImmutableList.of("b", "a"));
+    }
+
+    @Test
+    public void test_batcher_groupDoesNotFit() {
+        final ParameterGrouper.Batcher batcher = ParameterGrouper.batcher(
+                ImmutableList.of(ImmutableSet.of("a", "b", "c")),
+                2,
+                partition -> {
+                }
+        );
+
+        batcher.add(constructSimpleParameter("a"));
+        batcher.add(constructSimpleParameter("b"));
+        assertThatThrownBy(() -> batcher.add(constructSimpleParameter("c")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_batcher_invalidPartitionSize() {
+        assertThatThrownBy(() -> ParameterGrouper.batcher(ImmutableList.of(), 0, partition -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_partition_groupDoesNotFit() {
+        final Map<String, Parameter> params = setUpParametersToUpdate(ImmutableList.of("a", "b", "c"));
+
+        assertThatThrownBy(() -> ParameterGrouper.partition(params, ImmutableList.of(ImmutableSet.of("a", "b", "c")), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_partition_parameterInMultipleGroups() {
+        final Map<String, Parameter> params = setUpParametersToUpdate(ImmutableList.of("a", "b", "c"));
+
+        assertThatThrownBy(() -> ParameterGrouper.partition(params, ImmutableList.of(
+                ImmutableSet.of("a", "b"),
+                ImmutableSet.of("b", "c")
+        ), 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_pack_fillsGapsLeftByGroups() {
+        final Map<String, Parameter> params = setUpParametersToUpdate(ImmutableList.of("a1", "a2", "b1", "b2", "c1", "d1"));
+        final List<Set<String>> dependencies = ImmutableList.of(
+                ImmutableSet.of("a1", "a2"),
+                ImmutableSet.of("b1", "b2"),
+                ImmutableSet.of("c1", NON_PRESENT_DEPENDANT_PARAMETER),
+                ImmutableSet.of("d1", NON_PRESENT_DEPENDANT_PARAMETER + "-2")
+        );
+
+        // The insertion order leaves a gap after the first group, packing does not.
+        assertThat(ParameterGrouper.partition(params, dependencies, 3)).hasSize(3);
+        assertThat(ParameterGrouper.pack(params, dependencies, 3).stream().map(this::names).collect(Collectors.toList()))
+                .containsExactly(
+                        ImmutableList.of("a1", "a2", "c1"),
+                        ImmutableList.of("b1", "b2", "d1")
+                );
+    }
+
+    @Test
+    public void test_pack_exactBeatsFirstFitDecreasing() {
+        // First-fit-decreasing packs {3, 3}, {2, 2}, {2, 2, 2}, {2} into 4 partitions of size 8, the optimum is 3.
+        final List<String> names = new ArrayList<>();
+        final List<Set<String>> dependencies = new ArrayList<>();
+        int index = 0;
+        for (final int groupSize : ImmutableList.of(3, 3, 2, 2, 2, 2, 2, 2, 2)) {
+            final Set<String> group = new LinkedHashSet<>();
+            for (int i = 0; i < groupSize; i++) {
+                group.add("param" + index++);
+            }
+            names.addAll(group);
+            dependencies.add(group);
+        }
+        final Map<String, Parameter> params = setUpParametersToUpdate(names);
+
+        final List<List<Parameter>> partitions = ParameterGrouper.pack(params, dependencies, 8);
+
+        assertThat(partitions).hasSize(3);
+        assertPartitionIntegrity(params, dependencies, 8, partitions);
+    }
+
+    @Test
+    public void test_pack_empty() {
+        assertThat(ParameterGrouper.pack(new LinkedHashMap<>(), ImmutableList.of(), 3)).isEmpty();
+    }
+
+    @Test
+    public void test_pack_groupDoesNotFit() {
+        final Map<String, Parameter> params = setUpParametersToUpdate(ImmutableList.of("a", "b", "c"));
+
+        assertThatThrownBy(() -> ParameterGrouper.pack(params, ImmutableList.of(ImmutableSet.of("a", "b", "c")), 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_pack_neverWorseThanPartition() {
+        // Real family sizes: a few hundred parameters, 20 parameters per Modify call, a handful of dependant groups.
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final int paramCount = 1 + random.nextInt(600);
+            final List<String> names = generateRandomStringList(paramCount, PARAMETER_NAME_LEN, TestUtils.ALPHA).stream()
+                    .distinct()
+                    .collect(Collectors.toList());
+            final List<Set<String>> dependencies = randomDependencies(random, names, 20);
+            final Map<String, Parameter> params = setUpParametersToUpdate(names);
+
+            final List<List<Parameter>> packed = ParameterGrouper.pack(params, dependencies, 20);
+            final List<List<Parameter>> partitioned = ParameterGrouper.partition(params, dependencies, 20);
+
+            assertPartitionIntegrity(params, dependencies, 20, packed);
+            assertThat(packed.size()).isLessThanOrEqualTo(partitioned.size());
+            assertThat(packed.size()).isGreaterThanOrEqualTo((params.size() + 19) / 20);
+        }
+    }
+
+    @Test
+    public void test_batcher_neverWorseThanPartition() {
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final int paramCount = 1 + random.nextInt(600);
+            final List<String> names = generateRandomStringList(paramCount, PARAMETER_NAME_LEN, TestUtils.ALPHA).stream()
+                    .distinct()
+                    .collect(Collectors.toList());
+            // The batcher only sees a bounded window, it is on par with the insertion order for small groups like DEPENDENCIES.
+            final List<Set<String>> dependencies = randomDependencies(random, names, 4);
+            final Map<String, Parameter> params = setUpParametersToUpdate(names);
+
+            final List<List<Parameter>> batched = new ArrayList<>();
+            final ParameterGrouper.Batcher batcher = ParameterGrouper.batcher(dependencies, 20, batched::add);
+            params.values().forEach(batcher::add);
+            batcher.flush();
+
+            assertPartitionIntegrity(params, dependencies, 20, batched);
+            assertThat(batched.size()).isLessThanOrEqualTo(ParameterGrouper.partition(params, dependencies, 20).size());
+        }
+    }
+
+    @Test
+    public void test_batcher_firstFitIntoOpenPartition() {
+        final List<List<String>> partitions = new ArrayList<>();
+        final ParameterGrouper.Batcher batcher = ParameterGrouper.batcher(
+                ImmutableList.of(ImmutableSet.of("x", "y")),
+                3,
+                partition -> partitions.add(names(partition))
+        );
+
+        batcher.add(constructSimpleParameter("a"));
+        batcher.add(constructSimpleParameter("b"));
+        batcher.add(constructSimpleParameter("x"));
+        batcher.add(constructSimpleParameter("y"));
+        // The group does not fit next to "a" and "b", the next parameter fills the gap nevertheless.
+        batcher.add(constructSimpleParameter("c"));
+        assertThat(partitions).containsExactly(ImmutableList.of("a", "b", "c"));
+
+        batcher.flush();
+        assertThat(partitions).containsExactly(ImmutableList.of("a", "b", "c"), ImmutableList.of("x", "y"));
+    }
+
+    private List<Set<String>> randomDependencies(final Random random, final List<String> names, final int maxGroupSize) {
+        final List<String> shuffled = new ArrayList<>(names);
+        Collections.shuffle(shuffled, random);
+        final List<Set<String>> dependencies = new ArrayList<>();
+        final Iterator<String> iterator = shuffled.iterator();
+        final int groupCount = random.nextInt(12);
+        for (int i = 0; i < groupCount && iterator.hasNext(); i++) {
+            final Set<String> group = new LinkedHashSet<>();
+            final int groupSize = 2 + random.nextInt(maxGroupSize - 1);
+            while (group.size() < groupSize && iterator.hasNext()) {
+                group.add(iterator.next());
+            }
+            dependencies.add(group);
+        }
+        return dependencies;
+    }
+
+    private void assertPartitionIntegrity(
+            final Map<String, Parameter> params,
+            final List<Set<String>> dependencies,
+            final int partitionSize,
+            final List<List<Parameter>> partitions
+    ) {
+        final Map<String, Integer> partitionIndex = new HashMap<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            assertThat(partitions.get(i)).isNotEmpty().hasSizeLessThanOrEqualTo(partitionSize);
+            for (final Parameter parameter : partitions.get(i)) {
+                assertThat(partitionIndex.put(parameter.parameterName(), i)).isNull();
+            }
+        }
+        assertThat(partitionIndex.keySet()).isEqualTo(params.keySet());
+        for (final Set<String> group : dependencies) {
+            assertThat(group.stream().filter(partitionIndex::containsKey).map(partitionIndex::get).distinct().count())
+                    .isLessThanOrEqualTo(1);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package software.amazon.rds.test.common.core;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * The per-operation API call metrics a handler invocation logs as its {@code ApiCallMetrics} message.
+ * An operation not called within the invocation reports zero for every metric.
+ */
+public class ApiCallMetricsSummary {
+
+    public static final String API_CALL_METRICS = "ApiCallMetrics";
+
+    private static final String CONTENT = "Content";
+    private static final String OPERATIONS = "Operations";
+
+    private final JSONObject operations;
+
+    private ApiCallMetricsSummary(final JSONObject operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Returns the summary of the last {@code ApiCallMetrics} message, or an empty summary if there is none.
+     */
+    public static ApiCallMetricsSummary fromMessages(final List<String> messages) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            final JSONObject message = parse(messages.get(i));
+            if (message != null && API_CALL_METRICS.equals(message.optString(CONTENT))) {
+                return new ApiCallMetricsSummary(message.optJSONObject(OPERATIONS) != null ?
+                        message.getJSONObject(OPERATIONS) :
+                        new JSONObject());
+            }
+        }
+        return new ApiCallMetricsSummary(new JSONObject());
+    }
+
+    public Set<String> getOperations() {
+        return new TreeSet<>(operations.keySet());
+    }
+
+    public long getCalls(final String operation) {
+        return get(operation, "Calls");
+    }
+
+    public long getFailures(final String operation) {
+        return get(operation, "Failures");
+    }
+
+    public long getThrottles(final String operation) {
+        return get(operation, "Throttles");
+    }
+
+    public long getRetries(final String operation) {
+        return get(operation, "Retries");
+    }
+
+    public long getResponseBytes(final String operation) {
+        return get(operation, "ResponseBytes");
+    }
+
+    public long getLatencyMaxMillis(final String operation) {
+        return get(operation, "LatencyMaxMillis");
+    }
+
+    private long get(final String operation, final String metric) {
+        final JSONObject metrics = operations.optJSONObject(operation);
+        return metrics == null ? 0 : metrics.optLong(metric, 0);
+    }
+
+    private static JSONObject parse(final String message) {
+        try {
+            return new JSONObject(message);
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package software.amazon.rds.test.common.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * A {@link Logger} keeping the logged messages for the test assertions.
+ * A batch written by an asynchronous log sink is split into the individual messages.
+ */
+public class CapturingLogger implements Logger {
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void log(final String message) {
+        Collections.addAll(messages, message.split(LINE_SEPARATOR));
+    }
+
+    public List<String> getMessages() {
+        synchronized (messages) {
+            return new ArrayList<>(messages);
+        }
+    }
+
+    /**
+     * Returns the API call metrics summary logged at the end of the last handler invocation.
+     */
+    public ApiCallMetricsSummary getApiCallMetricsSummary() {
+        return ApiCallMetricsSummary.fromMessages(getMessages());
+    }
+}
@@ -0,0 +1,87 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import lombok.Value;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Drives a handler the way CloudFormation does: the handler is invoked again with the returned callback context
+ * and resource model for as long as it reports progress, after the requested callback delay has passed
+ * on the virtual clock. The proxies made by the runner spend their stabilization waits on the virtual clock too.
+ * <p>
+ * A handler failing with {@link HandlerErrorCode#Throttling} is retried with the last callback context
+ * after {@link #THROTTLING_RETRY_DELAY}, as CloudFormation retries the throttled handlers.
+ */
+public class CallbackLoopRunner {
+
+    public static final Duration DEFAULT_INVOCATION_TIMEOUT = Duration.ofMinutes(1);
+    public static final int DEFAULT_MAX_INVOCATIONS = 1000;
+    public static final Duration THROTTLING_RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final VirtualClock clock;
+    private final VirtualWaitStrategy waitStrategy;
+    private final int maxInvocations;
+
+    public CallbackLoopRunner(final VirtualClock clock) {
+        this(clock, DEFAULT_INVOCATION_TIMEOUT, DEFAULT_MAX_INVOCATIONS);
+    }
+
+    public CallbackLoopRunner(final VirtualClock clock, final Duration invocationTimeout, final int maxInvocations) {
+        this.clock = clock;
+        this.waitStrategy = new VirtualWaitStrategy(clock, invocationTimeout);
+        this.maxInvocations = maxInvocations;
+    }
+
+    public AmazonWebServicesClientProxy newProxy(final LoggerProxy logger, final Credentials credentials) {
+        return new AmazonWebServicesClientProxy(logger, credentials, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, waitStrategy);
+    }
+
+    public <ModelT, ContextT> Result<ModelT, ContextT> run(
+            final ResourceHandlerRequest<ModelT> request,
+            final ContextT initialContext,
+            final Invocation<ModelT, ContextT> invocation
+    ) {
+        final Instant start = clock.instant();
+        ResourceHandlerRequest<ModelT> currentRequest = request;
+        ContextT context = initialContext;
+        for (int invocations = 1; invocations <= maxInvocations; invocations++) {
+            waitStrategy.startInvocation();
+            final ProgressEvent<ModelT, ContextT> event = invocation.invoke(currentRequest, context);
+            if (event.getStatus() == OperationStatus.FAILED && event.getErrorCode() == HandlerErrorCode.Throttling) {
+                clock.advance(THROTTLING_RETRY_DELAY);
+                continue;
+            }
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                return new Result<>(event, invocations, Duration.between(start, clock.instant()));
+            }
+            clock.advance(Duration.ofSeconds(event.getCallbackDelaySeconds()));
+            context = event.getCallbackContext();
+            if (event.getResourceModel() != null) {
+                currentRequest = currentRequest.toBuilder().desiredResourceState(event.getResourceModel()).build();
+            }
+        }
+        throw new IllegalStateException("Handler did not complete within " + maxInvocations + " invocations");
+    }
+
+    @FunctionalInterface
+    public interface Invocation<ModelT, ContextT> {
+        ProgressEvent<ModelT, ContextT> invoke(ResourceHandlerRequest<ModelT> request, ContextT context);
+    }
+
+    @Value
+    public static class Result<ModelT, ContextT> {
+        ProgressEvent<ModelT, ContextT> event;
+        int invocations;
+        // The virtual time from the first invocation to the terminal event.
+        Duration duration;
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.Ec2ServiceClientConfiguration;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
+import software.amazon.awssdk.services.ec2.model.Ec2Exception;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.SecurityGroup;
+
+/**
+ * A local {@link Ec2Client} serving the security groups registered with {@link #addSecurityGroup}.
+ * The {@code vpc-id}, {@code group-name} and {@code group-id} filters are supported.
+ */
+public class SimulatedEc2Client extends SimulatedService implements Ec2Client {
+
+    private final List<SecurityGroup> securityGroups = new ArrayList<>();
+
+    public SimulatedEc2Client(final VirtualClock clock) {
+        super(clock);
+    }
+
+    public synchronized void addSecurityGroup(final SecurityGroup securityGroup) {
+        securityGroups.add(securityGroup);
+    }
+
+    @Override
+    public synchronized DescribeSecurityGroupsResponse describeSecurityGroups(final DescribeSecurityGroupsRequest request) {
+        call("DescribeSecurityGroups");
+        return DescribeSecurityGroupsResponse.builder()
+                .securityGroups(securityGroups.stream()
+                        .filter(securityGroup -> request.filters().stream().allMatch(filter -> matches(securityGroup, filter)))
+                        .filter(securityGroup -> !request.hasGroupIds() || request.groupIds().contains(securityGroup.groupId()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public Ec2ServiceClientConfiguration serviceClientConfiguration() {
+        return Ec2ServiceClientConfiguration.builder().build();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    protected AwsServiceException newThrottlingException(final String operation) {
+        return SimulatedRdsClient.error(Ec2Exception.builder(), "RequestLimitExceeded", 503, "Request limit exceeded for " + operation);
+    }
+
+    private static boolean matches(final SecurityGroup securityGroup, final Filter filter) {
+        switch (filter.name()) {
+            case "vpc-id":
+                return filter.values().contains(securityGroup.vpcId());
+            case "group-name":
+                return filter.values().contains(securityGroup.groupName());
+            case "group-id":
+                return filter.values().contains(securityGroup.groupId());
+            default:
+                throw new UnsupportedOperationException("Unsupported filter: " + filter.name());
+        }
+    }
+}
@@ -0,0 +1,548 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import lombok.Builder;
+import lombok.Value;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.RdsServiceClientConfiguration;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceResponse;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DBInstanceRole;
+import software.amazon.awssdk.services.rds.model.DBParameterGroupStatus;
+import software.amazon.awssdk.services.rds.model.DBSubnetGroup;
+import software.amazon.awssdk.services.rds.model.DbInstanceAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
+import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventsResponse;
+import software.amazon.awssdk.services.rds.model.Endpoint;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.OptionGroupMembership;
+import software.amazon.awssdk.services.rds.model.PendingModifiedValues;
+import software.amazon.awssdk.services.rds.model.RdsException;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceResponse;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceResponse;
+import software.amazon.awssdk.services.rds.model.Tag;
+import software.amazon.awssdk.services.rds.model.VpcSecurityGroupMembership;
+
+/**
+ * A local, deterministic {@link RdsClient} keeping the state of the DB instances it manages.
+ * <p>
+ * A DB instance goes through the same statuses as in RDS: {@code creating}, {@code modifying}, {@code rebooting}
+ * and {@code deleting} all end after the configured {@link Timings} on the virtual clock. A modification applied
+ * immediately shows up in the pending modified values until it completes, a new parameter group goes from
+ * {@code applying} to {@code pending-reboot} and gets in sync on reboot, an associated role is {@code PENDING}
+ * before it becomes {@code ACTIVE}. Tags are kept by the resource ARN. An operation the simulator does not model
+ * throws {@link UnsupportedOperationException}.
+ */
+public class SimulatedRdsClient extends SimulatedService implements RdsClient {
+
+    public static final String REGION = "us-east-1";
+    public static final String ACCOUNT_ID = "123456789012";
+    public static final String VPC_ID = "vpc-00000000000000001";
+
+    static final String STATUS_AVAILABLE = "available";
+    static final String STATUS_CREATING = "creating";
+    static final String STATUS_DELETING = "deleting";
+    static final String STATUS_MODIFYING = "modifying";
+    static final String STATUS_REBOOTING = "rebooting";
+    static final String PARAMETER_APPLY_STATUS_APPLYING = "applying";
+    static final String PARAMETER_APPLY_STATUS_IN_SYNC = "in-sync";
+    static final String PARAMETER_APPLY_STATUS_PENDING_REBOOT = "pending-reboot";
+    static final String OPTION_GROUP_STATUS_IN_SYNC = "in-sync";
+    static final String OPTION_GROUP_STATUS_PENDING_APPLY = "pending-apply";
+    static final String VPC_SECURITY_GROUP_STATUS_ACTIVE = "active";
+    static final String VPC_SECURITY_GROUP_STATUS_ADDING = "adding";
+    static final String ROLE_STATUS_ACTIVE = "ACTIVE";
+    static final String ROLE_STATUS_PENDING = "PENDING";
+
+    private static final String DEFAULT_GROUP_NAME = "default";
+    private static final int DEFAULT_PORT = 3306;
+
+    @Value
+    @Builder
+    public static class Timings {
+        @Builder.Default
+        Duration create = Duration.ofMinutes(10);
+        @Builder.Default
+        Duration modify = Duration.ofMinutes(5);
+        @Builder.Default
+        Duration parameterApply = Duration.ofMinutes(1);
+        @Builder.Default
+        Duration reboot = Duration.ofMinutes(2);
+        @Builder.Default
+        Duration delete = Duration.ofMinutes(5);
+        @Builder.Default
+        Duration role = Duration.ofSeconds(30);
+    }
+
+    private final Timings timings;
+    // Keyed by the lower case identifier, the way RDS treats the identifiers.
+    private final Map<String, DBInstance> dbInstances = new TreeMap<>();
+    private final Map<String, Map<String, String>> tags = new LinkedHashMap<>();
+
+    public SimulatedRdsClient(final VirtualClock clock) {
+        this(clock, Timings.builder().build());
+    }
+
+    public SimulatedRdsClient(final VirtualClock clock, final Timings timings) {
+        super(clock);
+        this.timings = timings;
+    }
+
+    /**
+     * The current state of the DB instance, or null if there is none. Reading the state is not an API call.
+     */
+    public synchronized DBInstance getDBInstance(final String dbInstanceIdentifier) {
+        return dbInstances.get(key(dbInstanceIdentifier));
+    }
+
+    public synchronized Map<String, String> getTags(final String resourceName) {
+        return new LinkedHashMap<>(tags.getOrDefault(resourceName, Collections.emptyMap()));
+    }
+
+    @Override
+    public synchronized CreateDbInstanceResponse createDBInstance(final CreateDbInstanceRequest request) {
+        call("CreateDBInstance");
+        final String key = key(request.dbInstanceIdentifier());
+        if (dbInstances.containsKey(key)) {
+            throw error(DbInstanceAlreadyExistsException.builder(), "DBInstanceAlreadyExists", 400,
+                    "DB instance already exists");
+        }
+        final DBInstance dbInstance = DBInstance.builder()
+                .dbInstanceIdentifier(key)
+                .dbInstanceArn(arn(key))
+                .dbiResourceId("db-" + Integer.toHexString(key.hashCode()).toUpperCase())
+                .dbInstanceStatus(STATUS_CREATING)
+                .instanceCreateTime(clock.instant())
+                .dbInstanceClass(request.dbInstanceClass())
+                .engine(request.engine())
+                .engineVersion(request.engineVersion())
+                .licenseModel(request.licenseModel())
+                .allocatedStorage(request.allocatedStorage())
+                .storageType(request.storageType())
+                .iops(request.iops())
+                .masterUsername(request.masterUsername())
+                .dbName(request.dbName())
+                .multiAZ(Boolean.TRUE.equals(request.multiAZ()))
+                .backupRetentionPeriod(Optional.ofNullable(request.backupRetentionPeriod()).orElse(1))
+                .publiclyAccessible(Boolean.TRUE.equals(request.publiclyAccessible()))
+                .deletionProtection(Boolean.TRUE.equals(request.deletionProtection()))
+                .copyTagsToSnapshot(Boolean.TRUE.equals(request.copyTagsToSnapshot()))
+                .autoMinorVersionUpgrade(!Boolean.FALSE.equals(request.autoMinorVersionUpgrade()))
+                .caCertificateIdentifier(request.caCertificateIdentifier())
+                .endpoint(Endpoint.builder()
+                        .address(key + ".simulated." + REGION + ".rds.amazonaws.com")
+                        .port(Optional.ofNullable(request.port()).orElse(DEFAULT_PORT))
+                        .build())
+                .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName(Optional.ofNullable(request.dbParameterGroupName()).orElse(DEFAULT_GROUP_NAME))
+                        .parameterApplyStatus(PARAMETER_APPLY_STATUS_IN_SYNC)
+                        .build())
+                .optionGroupMemberships(OptionGroupMembership.builder()
+                        .optionGroupName(Optional.ofNullable(request.optionGroupName()).orElse(DEFAULT_GROUP_NAME))
+                        .status(OPTION_GROUP_STATUS_IN_SYNC)
+                        .build())
+                .vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds(), VPC_SECURITY_GROUP_STATUS_ACTIVE))
+                .dbSubnetGroup(DBSubnetGroup.builder()
+                        .dbSubnetGroupName(Optional.ofNullable(request.dbSubnetGroupName()).orElse(DEFAULT_GROUP_NAME))
+                        .vpcId(VPC_ID)
+                        .build())
+                .build();
+        dbInstances.put(key, dbInstance);
+        putTags(dbInstance.dbInstanceArn(), request.tags());
+        schedule(timings.getCreate(), () -> update(key, instance -> instance.toBuilder()
+                .dbInstanceStatus(STATUS_AVAILABLE)
+                .build()));
+        return CreateDbInstanceResponse.builder().dbInstance(dbInstance).build();
+    }
+
+    @Override
+    public synchronized DescribeDbInstancesResponse describeDBInstances(final DescribeDbInstancesRequest request) {
+        call("DescribeDBInstances");
+        if (request.dbInstanceIdentifier() != null) {
+            return DescribeDbInstancesResponse.builder()
+                    .dbInstances(find(request.dbInstanceIdentifier()))
+                    .build();
+        }
+        return DescribeDbInstancesResponse.builder()
+                .dbInstances(new ArrayList<>(dbInstances.values()))
+                .build();
+    }
+
+    @Override
+    public synchronized ModifyDbInstanceResponse modifyDBInstance(final ModifyDbInstanceRequest request) {
+        call("ModifyDBInstance");
+        final DBInstance current = find(request.dbInstanceIdentifier());
+        assertAvailable(current);
+        final String key = key(current.dbInstanceIdentifier());
+
+        // Changes not involving the database host take effect right away.
+        final DBInstance.Builder builder = current.toBuilder();
+        Optional.ofNullable(request.deletionProtection()).ifPresent(builder::deletionProtection);
+        Optional.ofNullable(request.copyTagsToSnapshot()).ifPresent(builder::copyTagsToSnapshot);
+        Optional.ofNullable(request.autoMinorVersionUpgrade()).ifPresent(builder::autoMinorVersionUpgrade);
+        Optional.ofNullable(request.publiclyAccessible()).ifPresent(builder::publiclyAccessible);
+        Optional.ofNullable(request.preferredBackupWindow()).ifPresent(builder::preferredBackupWindow);
+        Optional.ofNullable(request.preferredMaintenanceWindow()).ifPresent(builder::preferredMaintenanceWindow);
+        Optional.ofNullable(request.caCertificateIdentifier()).ifPresent(builder::caCertificateIdentifier);
+
+        final boolean parameterGroupChanged = request.dbParameterGroupName() != null &&
+                !request.dbParameterGroupName().equals(parameterGroupName(current));
+        if (parameterGroupChanged) {
+            builder.dbParameterGroups(DBParameterGroupStatus.builder()
+                    .dbParameterGroupName(request.dbParameterGroupName())
+                    .parameterApplyStatus(PARAMETER_APPLY_STATUS_APPLYING)
+                    .build());
+        }
+        final boolean optionGroupChanged = request.optionGroupName() != null &&
+                !request.optionGroupName().equals(optionGroupName(current));
+        if (optionGroupChanged) {
+            builder.optionGroupMemberships(OptionGroupMembership.builder()
+                    .optionGroupName(request.optionGroupName())
+                    .status(OPTION_GROUP_STATUS_PENDING_APPLY)
+                    .build());
+        }
+        final boolean vpcSecurityGroupsChanged = request.hasVpcSecurityGroupIds() &&
+                !request.vpcSecurityGroupIds().equals(vpcSecurityGroupIds(current));
+        if (vpcSecurityGroupsChanged) {
+            builder.vpcSecurityGroups(vpcSecurityGroups(request.vpcSecurityGroupIds(), VPC_SECURITY_GROUP_STATUS_ADDING));
+        }
+
+        final PendingModifiedValues pending = pendingModifiedValues(current, request);
+        final boolean modifying = pending != null || optionGroupChanged || vpcSecurityGroupsChanged;
+        if (modifying) {
+            builder.pendingModifiedValues(pending);
+            if (Boolean.TRUE.equals(request.applyImmediately())) {
+                builder.dbInstanceStatus(STATUS_MODIFYING);
+                schedule(timings.getModify(), () -> update(key, instance -> completeModification(instance, pending)));
+            }
+        }
+        if (parameterGroupChanged) {
+            schedule(timings.getParameterApply(), () -> update(key, instance -> withParameterApplyStatus(
+                    instance,
+                    PARAMETER_APPLY_STATUS_APPLYING,
+                    PARAMETER_APPLY_STATUS_PENDING_REBOOT
+            )));
+        }
+        final DBInstance modified = builder.build();
+        dbInstances.put(key, modified);
+        return ModifyDbInstanceResponse.builder().dbInstance(modified).build();
+    }
+
+    @Override
+    public synchronized RebootDbInstanceResponse rebootDBInstance(final RebootDbInstanceRequest request) {
+        call("RebootDBInstance");
+        final DBInstance current = find(request.dbInstanceIdentifier());
+        assertAvailable(current);
+        final String key = key(current.dbInstanceIdentifier());
+        final DBInstance rebooting = current.toBuilder().dbInstanceStatus(STATUS_REBOOTING).build();
+        dbInstances.put(key, rebooting);
+        schedule(timings.getReboot(), () -> update(key, instance -> withParameterApplyStatus(
+                instance.toBuilder().dbInstanceStatus(STATUS_AVAILABLE).build(),
+                PARAMETER_APPLY_STATUS_PENDING_REBOOT,
+                PARAMETER_APPLY_STATUS_IN_SYNC
+        )));
+        return RebootDbInstanceResponse.builder().dbInstance(rebooting).build();
+    }
+
+    @Override
+    public synchronized DeleteDbInstanceResponse deleteDBInstance(final DeleteDbInstanceRequest request) {
+        call("DeleteDBInstance");
+        final DBInstance current = find(request.dbInstanceIdentifier());
+        if (STATUS_DELETING.equals(current.dbInstanceStatus())) {
+            throw error(InvalidDbInstanceStateException.builder(), "InvalidDBInstanceState", 400,
+                    "Instance " + current.dbInstanceIdentifier() + " is already being deleted.");
+        }
+        final String key = key(current.dbInstanceIdentifier());
+        final DBInstance deleting = current.toBuilder().dbInstanceStatus(STATUS_DELETING).build();
+        dbInstances.put(key, deleting);
+        schedule(timings.getDelete(), () -> {
+            dbInstances.remove(key);
+            tags.remove(deleting.dbInstanceArn());
+        });
+        return DeleteDbInstanceResponse.builder().dbInstance(deleting).build();
+    }
+
+    @Override
+    public synchronized AddRoleToDbInstanceResponse addRoleToDBInstance(final AddRoleToDbInstanceRequest request) {
+        call("AddRoleToDBInstance");
+        final DBInstance current = find(request.dbInstanceIdentifier());
+        if (findRole(current, request.roleArn()).isPresent()) {
+            throw error(DbInstanceRoleAlreadyExistsException.builder(), "DBInstanceRoleAlreadyExists", 400,
+                    "Role " + request.roleArn() + " is already associated");
+        }
+        final String key = key(current.dbInstanceIdentifier());
+        final List<DBInstanceRole> roles = new ArrayList<>(roles(current));
+        roles.add(DBInstanceRole.builder()
+                .roleArn(request.roleArn())
+                .featureName(request.featureName())
+                .status(ROLE_STATUS_PENDING)
+                .build());
+        dbInstances.put(key, current.toBuilder().associatedRoles(roles).build());
+        schedule(timings.getRole(), () -> update(key, instance -> instance.toBuilder()
+                .associatedRoles(roles(instance).stream()
+                        .map(role -> role.roleArn().equals(request.roleArn()) ?
+                                role.toBuilder().status(ROLE_STATUS_ACTIVE).build() :
+                                role)
+                        .collect(Collectors.toList()))
+                .build()));
+        return AddRoleToDbInstanceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized RemoveRoleFromDbInstanceResponse removeRoleFromDBInstance(final RemoveRoleFromDbInstanceRequest request) {
+        call("RemoveRoleFromDBInstance");
+        final DBInstance current = find(request.dbInstanceIdentifier());
+        if (!findRole(current, request.roleArn()).isPresent()) {
+            throw error(DbInstanceRoleNotFoundException.builder(), "DBInstanceRoleNotFound", 404,
+                    "Role " + request.roleArn() + " is not associated");
+        }
+        final String key = key(current.dbInstanceIdentifier());
+        schedule(timings.getRole(), () -> update(key, instance -> instance.toBuilder()
+                .associatedRoles(roles(instance).stream()
+                        .filter(role -> !role.roleArn().equals(request.roleArn()))
+                        .collect(Collectors.toList()))
+                .build()));
+        return RemoveRoleFromDbInstanceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized AddTagsToResourceResponse addTagsToResource(final AddTagsToResourceRequest request) {
+        call("AddTagsToResource");
+        putTags(request.resourceName(), request.tags());
+        return AddTagsToResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized RemoveTagsFromResourceResponse removeTagsFromResource(final RemoveTagsFromResourceRequest request) {
+        call("RemoveTagsFromResource");
+        final Map<String, String> resourceTags = tags.get(request.resourceName());
+        if (resourceTags != null) {
+            request.tagKeys().forEach(resourceTags::remove);
+        }
+        return RemoveTagsFromResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        call("ListTagsForResource");
+        return ListTagsForResourceResponse.builder()
+                .tagList(tags.getOrDefault(request.resourceName(), Collections.emptyMap()).entrySet().stream()
+                        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * The simulated instances never fail, hence there are no failure events to report.
+     */
+    @Override
+    public synchronized DescribeEventsResponse describeEvents(final DescribeEventsRequest request) {
+        call("DescribeEvents");
+        return DescribeEventsResponse.builder().events(Collections.emptyList()).build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public RdsServiceClientConfiguration serviceClientConfiguration() {
+        return RdsServiceClientConfiguration.builder().build();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    protected AwsServiceException newThrottlingException(final String operation) {
+        return error(RdsException.builder(), "Throttling", 400, "Rate exceeded for " + operation);
+    }
+
+    static String arn(final String dbInstanceIdentifier) {
+        return "arn:aws:rds:" + REGION + ":" + ACCOUNT_ID + ":db:" + dbInstanceIdentifier;
+    }
+
+    static AwsServiceException error(
+            final AwsServiceException.Builder builder,
+            final String errorCode,
+            final int statusCode,
+            final String message
+    ) {
+        return builder
+                .message(message)
+                .statusCode(statusCode)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode(errorCode)
+                        .errorMessage(message)
+                        .build())
+                .build();
+    }
+
+    private static String key(final String dbInstanceIdentifier) {
+        return dbInstanceIdentifier.toLowerCase();
+    }
+
+    private DBInstance find(final String dbInstanceIdentifier) {
+        final DBInstance dbInstance = dbInstances.get(key(dbInstanceIdentifier));
+        if (dbInstance == null) {
+            throw error(DbInstanceNotFoundException.builder(), "DBInstanceNotFound", 404,
+                    "DBInstance " + dbInstanceIdentifier + " not found.");
+        }
+        return dbInstance;
+    }
+
+    private void update(final String key, final UnaryOperator<DBInstance> change) {
+        dbInstances.computeIfPresent(key, (k, dbInstance) -> change.apply(dbInstance));
+    }
+
+    private static void assertAvailable(final DBInstance dbInstance) {
+        if (!STATUS_AVAILABLE.equals(dbInstance.dbInstanceStatus())) {
+            throw error(InvalidDbInstanceStateException.builder(), "InvalidDBInstanceState", 400,
+                    "Database instance is not in available state.");
+        }
+    }
+
+    private void putTags(final String resourceName, final List<Tag> newTags) {
+        final Map<String, String> resourceTags = tags.computeIfAbsent(resourceName, name -> new LinkedHashMap<>());
+        if (newTags != null) {
+            newTags.forEach(tag -> resourceTags.put(tag.key(), tag.value()));
+        }
+    }
+
+    private static PendingModifiedValues pendingModifiedValues(final DBInstance current, final ModifyDbInstanceRequest request) {
+        final PendingModifiedValues.Builder builder = PendingModifiedValues.builder();
+        boolean pending = false;
+        if (changed(request.dbInstanceClass(), current.dbInstanceClass())) {
+            builder.dbInstanceClass(request.dbInstanceClass());
+            pending = true;
+        }
+        if (changed(request.allocatedStorage(), current.allocatedStorage())) {
+            builder.allocatedStorage(request.allocatedStorage());
+            pending = true;
+        }
+        if (changed(request.engineVersion(), current.engineVersion())) {
+            builder.engineVersion(request.engineVersion());
+            pending = true;
+        }
+        if (changed(request.backupRetentionPeriod(), current.backupRetentionPeriod())) {
+            builder.backupRetentionPeriod(request.backupRetentionPeriod());
+            pending = true;
+        }
+        if (changed(request.multiAZ(), current.multiAZ())) {
+            builder.multiAZ(request.multiAZ());
+            pending = true;
+        }
+        if (changed(request.storageType(), current.storageType())) {
+            builder.storageType(request.storageType());
+            pending = true;
+        }
+        if (changed(request.iops(), current.iops())) {
+            builder.iops(request.iops());
+            pending = true;
+        }
+        if (request.masterUserPassword() != null) {
+            builder.masterUserPassword("****");
+            pending = true;
+        }
+        return pending ? builder.build() : null;
+    }
+
+    private static boolean changed(final Object requested, final Object current) {
+        return requested != null && !Objects.equals(requested, current);
+    }
+
+    private static DBInstance completeModification(final DBInstance instance, final PendingModifiedValues pending) {
+        final DBInstance.Builder builder = instance.toBuilder()
+                .dbInstanceStatus(STATUS_AVAILABLE)
+                .pendingModifiedValues(PendingModifiedValues.builder().build())
+                .optionGroupMemberships(instance.optionGroupMemberships().stream()
+                        .map(membership -> membership.toBuilder().status(OPTION_GROUP_STATUS_IN_SYNC).build())
+                        .collect(Collectors.toList()))
+                .vpcSecurityGroups(instance.vpcSecurityGroups().stream()
+                        .map(membership -> membership.toBuilder().status(VPC_SECURITY_GROUP_STATUS_ACTIVE).build())
+                        .collect(Collectors.toList()));
+        if (pending != null) {
+            Optional.ofNullable(pending.dbInstanceClass()).ifPresent(builder::dbInstanceClass);
+            Optional.ofNullable(pending.allocatedStorage()).ifPresent(builder::allocatedStorage);
+            Optional.ofNullable(pending.engineVersion()).ifPresent(builder::engineVersion);
+            Optional.ofNullable(pending.backupRetentionPeriod()).ifPresent(builder::backupRetentionPeriod);
+            Optional.ofNullable(pending.multiAZ()).ifPresent(builder::multiAZ);
+            Optional.ofNullable(pending.storageType()).ifPresent(builder::storageType);
+            Optional.ofNullable(pending.iops()).ifPresent(builder::iops);
+        }
+        return builder.build();
+    }
+
+    private static DBInstance withParameterApplyStatus(final DBInstance instance, final String from, final String to) {
+        return instance.toBuilder()
+                .dbParameterGroups(instance.dbParameterGroups().stream()
+                        .map(group -> from.equals(group.parameterApplyStatus()) ?
+                                group.toBuilder().parameterApplyStatus(to).build() :
+                                group)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static String parameterGroupName(final DBInstance dbInstance) {
+        return dbInstance.dbParameterGroups().isEmpty() ? null : dbInstance.dbParameterGroups().get(0).dbParameterGroupName();
+    }
+
+    private static String optionGroupName(final DBInstance dbInstance) {
+        return dbInstance.optionGroupMemberships().isEmpty() ? null : dbInstance.optionGroupMemberships().get(0).optionGroupName();
+    }
+
+    private static List<String> vpcSecurityGroupIds(final DBInstance dbInstance) {
+        return dbInstance.vpcSecurityGroups().stream()
+                .map(VpcSecurityGroupMembership::vpcSecurityGroupId)
+                .collect(Collectors.toList());
+    }
+
+    private static List<VpcSecurityGroupMembership> vpcSecurityGroups(final List<String> vpcSecurityGroupIds, final String status) {
+        return Optional.ofNullable(vpcSecurityGroupIds).orElse(Collections.emptyList()).stream()
+                .map(id -> VpcSecurityGroupMembership.builder().vpcSecurityGroupId(id).status(status).build())
+                .collect(Collectors.toList());
+    }
+
+    private static List<DBInstanceRole> roles(final DBInstance dbInstance) {
+        return dbInstance.hasAssociatedRoles() ? dbInstance.associatedRoles() : Collections.emptyList();
+    }
+
+    private static Optional<DBInstanceRole> findRole(final DBInstance dbInstance, final String roleArn) {
+        return roles(dbInstance).stream().filter(role -> role.roleArn().equals(roleArn)).findFirst();
+    }
+}
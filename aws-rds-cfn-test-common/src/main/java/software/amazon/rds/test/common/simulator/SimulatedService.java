@@ -0,0 +1,97 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import lombok.Value;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+/**
+ * The bookkeeping shared by the simulated clients: the per-operation call counts, the throttling injection and
+ * the state transitions scheduled on the virtual clock. Every simulated call first applies the transitions
+ * due by the current virtual time, so a resource changes its state between calls only.
+ */
+public abstract class SimulatedService {
+
+    protected final VirtualClock clock;
+
+    private final SortedMap<String, Integer> callCounts = new TreeMap<>();
+    private final Map<String, Integer> pendingThrottles = new HashMap<>();
+    private final PriorityQueue<Transition> transitions = new PriorityQueue<>();
+    private long transitionSequence;
+
+    protected SimulatedService(final VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Makes the next {@code times} calls of the operation fail with a throttling error.
+     */
+    public synchronized void throttle(final String operation, final int times) {
+        pendingThrottles.merge(operation, times, Integer::sum);
+    }
+
+    public synchronized int getCallCount(final String operation) {
+        return callCounts.getOrDefault(operation, 0);
+    }
+
+    /**
+     * The calls made so far by the operation name, throttled calls included.
+     */
+    public synchronized SortedMap<String, Integer> getCallCounts() {
+        return new TreeMap<>(callCounts);
+    }
+
+    public synchronized int getTotalCallCount() {
+        return callCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public synchronized void resetCallCounts() {
+        callCounts.clear();
+    }
+
+    protected synchronized void call(final String operation) {
+        callCounts.merge(operation, 1, Integer::sum);
+        final Integer throttles = pendingThrottles.get(operation);
+        if (throttles != null) {
+            if (throttles <= 1) {
+                pendingThrottles.remove(operation);
+            } else {
+                pendingThrottles.put(operation, throttles - 1);
+            }
+            throw newThrottlingException(operation);
+        }
+        final Instant now = clock.instant();
+        while (!transitions.isEmpty() && !transitions.peek().getAt().isAfter(now)) {
+            transitions.poll().getAction().run();
+        }
+    }
+
+    /**
+     * Runs the action on the first call made once the delay has passed on the virtual clock.
+     * Transitions due at the same time run in the order they were scheduled.
+     */
+    protected synchronized void schedule(final Duration delay, final Runnable action) {
+        transitions.add(new Transition(clock.instant().plus(delay), transitionSequence++, action));
+    }
+
+    protected abstract AwsServiceException newThrottlingException(String operation);
+
+    @Value
+    private static class Transition implements Comparable<Transition> {
+        Instant at;
+        long sequence;
+        Runnable action;
+
+        @Override
+        public int compareTo(final Transition other) {
+            final int byTime = at.compareTo(other.at);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
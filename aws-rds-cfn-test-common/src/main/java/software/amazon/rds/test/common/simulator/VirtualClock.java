@@ -0,0 +1,57 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A clock that only moves when advanced. The simulated services schedule their state transitions against it,
+ * so that a run takes no wall time and the same run always observes the same sequence of states.
+ */
+public class VirtualClock extends Clock {
+
+    public static final Instant DEFAULT_START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Instant start;
+    private Instant now;
+
+    public VirtualClock() {
+        this(DEFAULT_START);
+    }
+
+    public VirtualClock(final Instant start) {
+        this.start = start;
+        this.now = start;
+    }
+
+    @Override
+    public synchronized Instant instant() {
+        return now;
+    }
+
+    public synchronized void advance(final Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("VirtualClock cannot go back, got: " + duration);
+        }
+        now = now.plus(duration);
+    }
+
+    /**
+     * The virtual time passed since the clock was created.
+     */
+    public synchronized Duration elapsed() {
+        return Duration.between(start, now);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        throw new UnsupportedOperationException("VirtualClock is always UTC");
+    }
+}
@@ -0,0 +1,50 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+
+/**
+ * The proxy wait strategy of a simulated run. It follows the local loop strategy of the CloudFormation proxy:
+ * a stabilization wait that fits in the remaining invocation time is spent in-process, otherwise the handler
+ * returns in progress and gets called back. The waits advance the virtual clock instead of sleeping.
+ */
+public class VirtualWaitStrategy implements WaitStrategy {
+
+    private static final long MARGIN_MILLIS = 100;
+
+    private final VirtualClock clock;
+    private final Duration invocationTimeout;
+    private Instant invocationStart;
+
+    public VirtualWaitStrategy(final VirtualClock clock, final Duration invocationTimeout) {
+        this.clock = clock;
+        this.invocationTimeout = invocationTimeout;
+        this.invocationStart = clock.instant();
+    }
+
+    /**
+     * Starts the invocation time budget over, to be called on every handler invocation.
+     */
+    public synchronized void startInvocation() {
+        invocationStart = clock.instant();
+    }
+
+    @Override
+    public synchronized <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> await(
+            final long operationElapsedTime,
+            final Duration nextAttempt,
+            final CallbackT context,
+            final ModelT model
+    ) {
+        // The operation time reported by the proxy is wall time, it is left out to keep the runs deterministic.
+        final long remaining = invocationTimeout.minus(Duration.between(invocationStart, clock.instant())).toMillis();
+        if (remaining > nextAttempt.toMillis() + MARGIN_MILLIS) {
+            clock.advance(nextAttempt);
+            return null;
+        }
+        return ProgressEvent.defaultInProgressHandler(context, (int) nextAttempt.getSeconds(), model);
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.rds.test.common.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CapturingLoggerTest {
+
+    @Test
+    public void test_getApiCallMetricsSummary() {
+        final CapturingLogger logger = new CapturingLogger();
+        logger.log("not a json message");
+        logger.log("{\"Content\":\"ApiCallMetrics\",\"Operations\":{\"DescribeDbInstances\":{\"Calls\":1}}}");
+        // A batch of messages written at once.
+        logger.log("{\"Content\":\"HandlerResponse\"}\n" +
+                "{\"Content\":\"ApiCallMetrics\",\"Operations\":{\"DescribeDbInstances\":{\"Calls\":3,\"Throttles\":1}}}");
+
+        final ApiCallMetricsSummary summary = logger.getApiCallMetricsSummary();
+        Assertions.assertThat(logger.getMessages()).hasSize(4);
+        Assertions.assertThat(summary.getOperations()).containsExactly("DescribeDbInstances");
+        Assertions.assertThat(summary.getCalls("DescribeDbInstances")).isEqualTo(3);
+        Assertions.assertThat(summary.getThrottles("DescribeDbInstances")).isEqualTo(1);
+        Assertions.assertThat(summary.getFailures("DescribeDbInstances")).isZero();
+        Assertions.assertThat(summary.getCalls("CreateDbInstance")).isZero();
+    }
+
+    @Test
+    public void test_getApiCallMetricsSummary_empty() {
+        final CapturingLogger logger = new CapturingLogger();
+        logger.log("{\"Content\":\"HandlerResponse\"}");
+
+        Assertions.assertThat(logger.getApiCallMetricsSummary().getOperations()).isEmpty();
+    }
+}
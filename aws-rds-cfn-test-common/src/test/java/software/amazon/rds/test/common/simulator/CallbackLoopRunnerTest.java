@@ -0,0 +1,131 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+public class CallbackLoopRunnerTest {
+
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "sessionToken");
+
+    @Test
+    public void test_run_reinvokesUntilDone() {
+        final VirtualClock clock = new VirtualClock();
+        final CallbackLoopRunner runner = new CallbackLoopRunner(clock);
+        final ResourceHandlerRequest<String> request = ResourceHandlerRequest.<String>builder()
+                .desiredResourceState("initial")
+                .build();
+
+        final CallbackLoopRunner.Result<String, Integer> result = runner.run(request, 0, (currentRequest, context) -> {
+            if (context < 2) {
+                return ProgressEvent.defaultInProgressHandler(context + 1, 30, "model-" + (context + 1));
+            }
+            return ProgressEvent.defaultSuccessHandler(currentRequest.getDesiredResourceState());
+        });
+
+        Assertions.assertThat(result.getEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(result.getEvent().getResourceModel()).isEqualTo("model-2");
+        Assertions.assertThat(result.getInvocations()).isEqualTo(3);
+        Assertions.assertThat(result.getDuration()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    public void test_run_keepsModelWhenEventHasNone() {
+        final VirtualClock clock = new VirtualClock();
+        final CallbackLoopRunner runner = new CallbackLoopRunner(clock);
+        final ResourceHandlerRequest<String> request = ResourceHandlerRequest.<String>builder()
+                .desiredResourceState("initial")
+                .build();
+
+        final CallbackLoopRunner.Result<String, Integer> result = runner.run(request, 0, (currentRequest, context) -> {
+            if (context == 0) {
+                return ProgressEvent.defaultInProgressHandler(1, 0, null);
+            }
+            return ProgressEvent.defaultSuccessHandler(currentRequest.getDesiredResourceState());
+        });
+
+        Assertions.assertThat(result.getEvent().getResourceModel()).isEqualTo("initial");
+        Assertions.assertThat(result.getDuration()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void test_run_retriesThrottledHandler() {
+        final VirtualClock clock = new VirtualClock();
+        final CallbackLoopRunner runner = new CallbackLoopRunner(clock);
+        final ResourceHandlerRequest<String> request = ResourceHandlerRequest.<String>builder()
+                .desiredResourceState("model")
+                .build();
+        final int[] calls = {0};
+
+        final CallbackLoopRunner.Result<String, String> result = runner.run(request, "context", (currentRequest, context) -> {
+            if (calls[0]++ == 0) {
+                return ProgressEvent.failed(null, null, HandlerErrorCode.Throttling, "Rate exceeded");
+            }
+            Assertions.assertThat(context).isEqualTo("context");
+            return ProgressEvent.failed(currentRequest.getDesiredResourceState(), context, HandlerErrorCode.NotFound, "Not found");
+        });
+
+        Assertions.assertThat(result.getEvent().getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        Assertions.assertThat(result.getInvocations()).isEqualTo(2);
+        Assertions.assertThat(result.getDuration()).isEqualTo(CallbackLoopRunner.THROTTLING_RETRY_DELAY);
+    }
+
+    @Test
+    public void test_run_tooManyInvocations() {
+        final VirtualClock clock = new VirtualClock();
+        final CallbackLoopRunner runner = new CallbackLoopRunner(clock, Duration.ofMinutes(1), 3);
+        final ResourceHandlerRequest<String> request = ResourceHandlerRequest.<String>builder().build();
+
+        Assertions.assertThatThrownBy(() -> runner.<String, String>run(request, null,
+                        (currentRequest, context) -> ProgressEvent.defaultInProgressHandler(context, 10, null)))
+                .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void test_newProxy_stabilizesOnVirtualClock() {
+        final VirtualClock clock = new VirtualClock();
+        final CallbackLoopRunner runner = new CallbackLoopRunner(clock);
+        final SimulatedRdsClient rdsClient = new SimulatedRdsClient(clock);
+        final ResourceHandlerRequest<String> request = ResourceHandlerRequest.<String>builder()
+                .desiredResourceState("db-instance")
+                .build();
+
+        final CallbackLoopRunner.Result<String, StdCallbackContext> result = runner.run(request, new StdCallbackContext(), (currentRequest, context) -> {
+            final AmazonWebServicesClientProxy proxy = runner.newProxy(new LoggerProxy(), CREDENTIALS);
+            final ProxyClient<RdsClient> proxyClient = proxy.newProxy(() -> rdsClient);
+            return proxy.initiate("rds::create-db-instance", proxyClient, currentRequest.getDesiredResourceState(), context)
+                    .translateToServiceRequest(model -> CreateDbInstanceRequest.builder().dbInstanceIdentifier(model).build())
+                    .backoffDelay(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(1)).build())
+                    .makeServiceCall((createRequest, client) -> client.injectCredentialsAndInvokeV2(createRequest, client.client()::createDBInstance))
+                    .stabilize((createRequest, response, client, model, callbackContext) ->
+                            SimulatedRdsClient.STATUS_AVAILABLE.equals(client.injectCredentialsAndInvokeV2(
+                                    DescribeDbInstancesRequest.builder().dbInstanceIdentifier(model).build(),
+                                    client.client()::describeDBInstances
+                            ).dbInstances().get(0).dbInstanceStatus()))
+                    .handleError((createRequest, exception, client, model, callbackContext) ->
+                            ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure, exception.getMessage()))
+                    .done((createRequest, response, client, model, callbackContext) -> ProgressEvent.defaultSuccessHandler(model));
+        });
+
+        Assertions.assertThat(result.getEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(rdsClient.getCallCount("CreateDBInstance")).isEqualTo(1);
+        Assertions.assertThat(result.getDuration()).isGreaterThanOrEqualTo(SimulatedRdsClient.Timings.builder().build().getCreate());
+        Assertions.assertThat(result.getInvocations()).isGreaterThan(1);
+        Assertions.assertThat(rdsClient.getDBInstance("db-instance").dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.rds.test.common.simulator;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsRequest;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.SecurityGroup;
+
+public class SimulatedEc2ClientTest {
+
+    private static final SecurityGroup DEFAULT_GROUP = SecurityGroup.builder()
+            .groupId("sg-1")
+            .groupName("default")
+            .vpcId("vpc-1")
+            .build();
+    private static final SecurityGroup OTHER_GROUP = SecurityGroup.builder()
+            .groupId("sg-2")
+            .groupName("other")
+            .vpcId("vpc-1")
+            .build();
+
+    private SimulatedEc2Client ec2Client;
+
+    @BeforeEach
+    public void setup() {
+        ec2Client = new SimulatedEc2Client(new VirtualClock());
+        ec2Client.addSecurityGroup(DEFAULT_GROUP);
+        ec2Client.addSecurityGroup(OTHER_GROUP);
+    }
+
+    @Test
+    public void test_describeSecurityGroups_filters() {
+        Assertions.assertThat(ec2Client.describeSecurityGroups(DescribeSecurityGroupsRequest.builder()
+                        .filters(
+                                Filter.builder().name("vpc-id").values("vpc-1").build(),
+                                Filter.builder().name("group-name").values("default").build()
+                        ).build()).securityGroups())
+                .containsExactly(DEFAULT_GROUP);
+        Assertions.assertThat(ec2Client.describeSecurityGroups(DescribeSecurityGroupsRequest.builder()
+                        .filters(Filter.builder().name("group-id").values("sg-2").build())
+                        .build()).securityGroups())
+                .containsExactly(OTHER_GROUP);
+        Assertions.assertThat(ec2Client.describeSecurityGroups(DescribeSecurityGroupsRequest.builder()
+                        .groupIds("sg-1")
+                        .build()).securityGroups())
+                .containsExactly(DEFAULT_GROUP);
+        Assertions.assertThat(ec2Client.getCallCount("DescribeSecurityGroups")).isEqualTo(3);
+    }
+
+    @Test
+    public void test_describeSecurityGroups_unsupportedFilter() {
+        Assertions.assertThatThrownBy(() -> ec2Client.describeSecurityGroups(DescribeSecurityGroupsRequest.builder()
+                        .filters(Filter.builder().name("owner-id").values("123456789012").build())
+                        .build()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void test_describeSecurityGroups_throttle() {
+        ec2Client.throttle("DescribeSecurityGroups", 1);
+
+        Assertions.assertThatThrownBy(() -> ec2Client.describeSecurityGroups(DescribeSecurityGroupsRequest.builder().build()))
+                .isInstanceOf(AwsServiceException.class)
+                .satisfies(e -> Assertions.assertThat(((AwsServiceException) e).isThrottlingException()).isTrue());
+        Assertions.assertThat(ec2Client.describeSecurityGroups(DescribeSecurityGroupsRequest.builder().build()).securityGroups())
+                .hasSize(2);
+    }
+
+    @Test
+    public void test_clientMetadata() {
+        try (SimulatedEc2Client client = new SimulatedEc2Client(new VirtualClock())) {
+            Assertions.assertThat(client.serviceName()).isEqualTo("ec2");
+            Assertions.assertThat(client.serviceClientConfiguration()).isNotNull();
+        }
+    }
+}
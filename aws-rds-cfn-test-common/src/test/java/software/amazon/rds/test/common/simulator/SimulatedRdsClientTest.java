@@ -0,0 +1,334 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.rds.model.AddRoleToDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.AddTagsToResourceRequest;
+import software.amazon.awssdk.services.rds.model.CreateDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DbInstanceAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleAlreadyExistsException;
+import software.amazon.awssdk.services.rds.model.DbInstanceRoleNotFoundException;
+import software.amazon.awssdk.services.rds.model.DeleteDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
+import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
+import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.rds.model.ModifyDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RebootDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveRoleFromDbInstanceRequest;
+import software.amazon.awssdk.services.rds.model.RemoveTagsFromResourceRequest;
+import software.amazon.awssdk.services.rds.model.Tag;
+
+public class SimulatedRdsClientTest {
+
+    private static final String DB_INSTANCE_IDENTIFIER = "DB-Instance";
+    private static final String ROLE_ARN = "arn:aws:iam::123456789012:role/role";
+
+    private VirtualClock clock;
+    private SimulatedRdsClient.Timings timings;
+    private SimulatedRdsClient rdsClient;
+
+    @BeforeEach
+    public void setup() {
+        clock = new VirtualClock();
+        timings = SimulatedRdsClient.Timings.builder().build();
+        rdsClient = new SimulatedRdsClient(clock, timings);
+    }
+
+    @Test
+    public void test_createDBInstance_becomesAvailable() {
+        final DBInstance created = rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.m5.large")
+                .engine("mysql")
+                .allocatedStorage(100)
+                .vpcSecurityGroupIds("sg-1")
+                .tags(Tag.builder().key("key").value("value").build())
+                .build()).dbInstance();
+
+        Assertions.assertThat(created.dbInstanceIdentifier()).isEqualTo("db-instance");
+        Assertions.assertThat(created.dbInstanceArn()).isEqualTo(SimulatedRdsClient.arn("db-instance"));
+        Assertions.assertThat(created.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_CREATING);
+        Assertions.assertThat(created.dbSubnetGroup().vpcId()).isEqualTo(SimulatedRdsClient.VPC_ID);
+        Assertions.assertThat(created.vpcSecurityGroups().get(0).status()).isEqualTo(SimulatedRdsClient.VPC_SECURITY_GROUP_STATUS_ACTIVE);
+        Assertions.assertThat(rdsClient.getTags(created.dbInstanceArn())).containsEntry("key", "value");
+
+        clock.advance(timings.getCreate().minusSeconds(1));
+        Assertions.assertThat(describe().dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_CREATING);
+
+        clock.advance(Duration.ofSeconds(1));
+        Assertions.assertThat(describe().dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(rdsClient.getCallCount("DescribeDBInstances")).isEqualTo(2);
+        Assertions.assertThat(rdsClient.getTotalCallCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void test_createDBInstance_alreadyExists() {
+        create();
+
+        Assertions.assertThatThrownBy(this::create).isInstanceOf(DbInstanceAlreadyExistsException.class);
+    }
+
+    @Test
+    public void test_describeDBInstances_notFound() {
+        Assertions.assertThatThrownBy(this::describe)
+                .isInstanceOf(DbInstanceNotFoundException.class)
+                .satisfies(e -> Assertions.assertThat(((AwsServiceException) e).awsErrorDetails().errorCode()).isEqualTo("DBInstanceNotFound"));
+    }
+
+    @Test
+    public void test_describeDBInstances_all() {
+        create();
+        rdsClient.createDBInstance(CreateDbInstanceRequest.builder().dbInstanceIdentifier("other").build());
+
+        Assertions.assertThat(rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder().build()).dbInstances())
+                .extracting(DBInstance::dbInstanceIdentifier)
+                .containsExactly("db-instance", "other");
+    }
+
+    @Test
+    public void test_modifyDBInstance_applyImmediately() {
+        createAvailable();
+
+        final DBInstance modifying = rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.m5.xlarge")
+                .allocatedStorage(200)
+                .engineVersion("8.0.35")
+                .backupRetentionPeriod(7)
+                .multiAZ(true)
+                .storageType("io1")
+                .iops(1000)
+                .masterUserPassword("password")
+                .optionGroupName("option-group")
+                .vpcSecurityGroupIds("sg-2")
+                .deletionProtection(true)
+                .applyImmediately(true)
+                .build()).dbInstance();
+
+        Assertions.assertThat(modifying.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_MODIFYING);
+        Assertions.assertThat(modifying.deletionProtection()).isTrue();
+        Assertions.assertThat(modifying.dbInstanceClass()).isEqualTo("db.m5.large");
+        Assertions.assertThat(modifying.pendingModifiedValues().dbInstanceClass()).isEqualTo("db.m5.xlarge");
+        Assertions.assertThat(modifying.pendingModifiedValues().masterUserPassword()).isEqualTo("****");
+        Assertions.assertThat(modifying.optionGroupMemberships().get(0).status()).isEqualTo(SimulatedRdsClient.OPTION_GROUP_STATUS_PENDING_APPLY);
+        Assertions.assertThat(modifying.vpcSecurityGroups().get(0).status()).isEqualTo(SimulatedRdsClient.VPC_SECURITY_GROUP_STATUS_ADDING);
+
+        Assertions.assertThatThrownBy(() -> rdsClient.rebootDBInstance(RebootDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .build()))
+                .isInstanceOf(InvalidDbInstanceStateException.class);
+
+        clock.advance(timings.getModify());
+        final DBInstance modified = describe();
+        Assertions.assertThat(modified.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(modified.dbInstanceClass()).isEqualTo("db.m5.xlarge");
+        Assertions.assertThat(modified.allocatedStorage()).isEqualTo(200);
+        Assertions.assertThat(modified.engineVersion()).isEqualTo("8.0.35");
+        Assertions.assertThat(modified.backupRetentionPeriod()).isEqualTo(7);
+        Assertions.assertThat(modified.multiAZ()).isTrue();
+        Assertions.assertThat(modified.storageType()).isEqualTo("io1");
+        Assertions.assertThat(modified.iops()).isEqualTo(1000);
+        Assertions.assertThat(modified.pendingModifiedValues().dbInstanceClass()).isNull();
+        Assertions.assertThat(modified.optionGroupMemberships().get(0).status()).isEqualTo(SimulatedRdsClient.OPTION_GROUP_STATUS_IN_SYNC);
+        Assertions.assertThat(modified.vpcSecurityGroups().get(0).status()).isEqualTo(SimulatedRdsClient.VPC_SECURITY_GROUP_STATUS_ACTIVE);
+    }
+
+    @Test
+    public void test_modifyDBInstance_unchangedValues() {
+        createAvailable();
+
+        final DBInstance modified = rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.m5.large")
+                .dbParameterGroupName("default")
+                .optionGroupName("default")
+                .applyImmediately(true)
+                .build()).dbInstance();
+
+        Assertions.assertThat(modified.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(modified.pendingModifiedValues()).isNull();
+    }
+
+    @Test
+    public void test_modifyDBInstance_notApplyImmediately() {
+        createAvailable();
+
+        final DBInstance modified = rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.m5.xlarge")
+                .build()).dbInstance();
+
+        Assertions.assertThat(modified.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(modified.pendingModifiedValues().dbInstanceClass()).isEqualTo("db.m5.xlarge");
+    }
+
+    @Test
+    public void test_modifyDBInstance_notAvailable() {
+        create();
+
+        Assertions.assertThatThrownBy(() -> rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .build()))
+                .isInstanceOf(InvalidDbInstanceStateException.class);
+    }
+
+    @Test
+    public void test_parameterGroupApply_pendingRebootUntilReboot() {
+        createAvailable();
+
+        final DBInstance applying = rdsClient.modifyDBInstance(ModifyDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbParameterGroupName("parameter-group")
+                .build()).dbInstance();
+        Assertions.assertThat(applying.dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(SimulatedRdsClient.PARAMETER_APPLY_STATUS_APPLYING);
+
+        clock.advance(timings.getParameterApply());
+        Assertions.assertThat(describe().dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(SimulatedRdsClient.PARAMETER_APPLY_STATUS_PENDING_REBOOT);
+
+        final DBInstance rebooting = rdsClient.rebootDBInstance(RebootDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build()).dbInstance();
+        Assertions.assertThat(rebooting.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_REBOOTING);
+
+        clock.advance(timings.getReboot());
+        final DBInstance rebooted = describe();
+        Assertions.assertThat(rebooted.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_AVAILABLE);
+        Assertions.assertThat(rebooted.dbParameterGroups().get(0).dbParameterGroupName()).isEqualTo("parameter-group");
+        Assertions.assertThat(rebooted.dbParameterGroups().get(0).parameterApplyStatus()).isEqualTo(SimulatedRdsClient.PARAMETER_APPLY_STATUS_IN_SYNC);
+    }
+
+    @Test
+    public void test_deleteDBInstance() {
+        final String arn = createAvailable().dbInstanceArn();
+
+        final DBInstance deleting = rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build()).dbInstance();
+        Assertions.assertThat(deleting.dbInstanceStatus()).isEqualTo(SimulatedRdsClient.STATUS_DELETING);
+        Assertions.assertThatThrownBy(() -> rdsClient.deleteDBInstance(DeleteDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .build()))
+                .isInstanceOf(InvalidDbInstanceStateException.class);
+
+        clock.advance(timings.getDelete());
+        Assertions.assertThatThrownBy(this::describe).isInstanceOf(DbInstanceNotFoundException.class);
+        Assertions.assertThat(rdsClient.getDBInstance(DB_INSTANCE_IDENTIFIER)).isNull();
+        Assertions.assertThat(rdsClient.getTags(arn)).isEmpty();
+    }
+
+    @Test
+    public void test_roles() {
+        createAvailable();
+
+        rdsClient.addRoleToDBInstance(AddRoleToDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .roleArn(ROLE_ARN)
+                .featureName("s3Import")
+                .build());
+        Assertions.assertThat(rdsClient.getDBInstance(DB_INSTANCE_IDENTIFIER).associatedRoles().get(0).status()).isEqualTo(SimulatedRdsClient.ROLE_STATUS_PENDING);
+        Assertions.assertThatThrownBy(() -> rdsClient.addRoleToDBInstance(AddRoleToDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .roleArn(ROLE_ARN)
+                        .build()))
+                .isInstanceOf(DbInstanceRoleAlreadyExistsException.class);
+
+        clock.advance(timings.getRole());
+        Assertions.assertThat(describe().associatedRoles().get(0).status()).isEqualTo(SimulatedRdsClient.ROLE_STATUS_ACTIVE);
+
+        rdsClient.removeRoleFromDBInstance(RemoveRoleFromDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .roleArn(ROLE_ARN)
+                .build());
+        clock.advance(timings.getRole());
+        Assertions.assertThat(describe().associatedRoles()).isEmpty();
+
+        Assertions.assertThatThrownBy(() -> rdsClient.removeRoleFromDBInstance(RemoveRoleFromDbInstanceRequest.builder()
+                        .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                        .roleArn(ROLE_ARN)
+                        .build()))
+                .isInstanceOf(DbInstanceRoleNotFoundException.class);
+    }
+
+    @Test
+    public void test_tags() {
+        final String arn = create().dbInstanceArn();
+
+        rdsClient.addTagsToResource(AddTagsToResourceRequest.builder()
+                .resourceName(arn)
+                .tags(Tag.builder().key("key-1").value("value-1").build(), Tag.builder().key("key-2").value("value-2").build())
+                .build());
+        rdsClient.removeTagsFromResource(RemoveTagsFromResourceRequest.builder()
+                .resourceName(arn)
+                .tagKeys("key-1")
+                .build());
+        rdsClient.removeTagsFromResource(RemoveTagsFromResourceRequest.builder()
+                .resourceName("arn:unknown")
+                .tagKeys("key-1")
+                .build());
+
+        Assertions.assertThat(rdsClient.listTagsForResource(ListTagsForResourceRequest.builder()
+                        .resourceName(arn)
+                        .build()).tagList())
+                .containsExactly(Tag.builder().key("key-2").value("value-2").build());
+        Assertions.assertThat(rdsClient.listTagsForResource(ListTagsForResourceRequest.builder()
+                        .resourceName("arn:unknown")
+                        .build()).tagList())
+                .isEmpty();
+    }
+
+    @Test
+    public void test_throttle() {
+        create();
+        rdsClient.throttle("DescribeDBInstances", 2);
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThatThrownBy(this::describe)
+                    .isInstanceOf(AwsServiceException.class)
+                    .satisfies(e -> Assertions.assertThat(((AwsServiceException) e).isThrottlingException()).isTrue());
+        }
+        Assertions.assertThat(describe()).isNotNull();
+        Assertions.assertThat(rdsClient.getCallCounts()).containsEntry("DescribeDBInstances", 3);
+
+        rdsClient.resetCallCounts();
+        Assertions.assertThat(rdsClient.getTotalCallCount()).isZero();
+    }
+
+    @Test
+    public void test_describeEvents_empty() {
+        Assertions.assertThat(rdsClient.describeEvents(DescribeEventsRequest.builder().build()).events()).isEmpty();
+    }
+
+    @Test
+    public void test_clientMetadata() {
+        try (SimulatedRdsClient client = new SimulatedRdsClient(clock)) {
+            Assertions.assertThat(client.serviceName()).isEqualTo("rds");
+            Assertions.assertThat(client.serviceClientConfiguration()).isNotNull();
+        }
+    }
+
+    private DBInstance create() {
+        return rdsClient.createDBInstance(CreateDbInstanceRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dbInstanceClass("db.m5.large")
+                .build()).dbInstance();
+    }
+
+    private DBInstance createAvailable() {
+        final DBInstance dbInstance = create();
+        clock.advance(timings.getCreate());
+        return dbInstance;
+    }
+
+    private DBInstance describe() {
+        return rdsClient.describeDBInstances(DescribeDbInstancesRequest.builder()
+                .dbInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .build()).dbInstances().get(0);
+    }
+}
@@ -0,0 +1,48 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualClockTest {
+
+    @Test
+    public void test_startsAtDefaultStart() {
+        final VirtualClock clock = new VirtualClock();
+
+        Assertions.assertThat(clock.instant()).isEqualTo(VirtualClock.DEFAULT_START);
+        Assertions.assertThat(clock.elapsed()).isEqualTo(Duration.ZERO);
+        Assertions.assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void test_advance() {
+        final Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        final VirtualClock clock = new VirtualClock(start);
+
+        clock.advance(Duration.ofSeconds(30));
+        clock.advance(Duration.ofMinutes(1));
+
+        Assertions.assertThat(clock.instant()).isEqualTo(start.plusSeconds(90));
+        Assertions.assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(90));
+    }
+
+    @Test
+    public void test_advance_rejectsNegativeDuration() {
+        final VirtualClock clock = new VirtualClock();
+
+        Assertions.assertThatThrownBy(() -> clock.advance(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void test_withZone_isUnsupported() {
+        final VirtualClock clock = new VirtualClock();
+
+        Assertions.assertThatThrownBy(() -> clock.withZone(ZoneOffset.ofHours(1)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package software.amazon.rds.test.common.simulator;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+public class VirtualWaitStrategyTest {
+
+    @Test
+    public void test_await_withinInvocationTimeout_advancesClock() {
+        final VirtualClock clock = new VirtualClock();
+        final VirtualWaitStrategy waitStrategy = new VirtualWaitStrategy(clock, Duration.ofMinutes(1));
+
+        final ProgressEvent<String, String> event = waitStrategy.await(0L, Duration.ofSeconds(20), "context", "model");
+
+        Assertions.assertThat(event).isNull();
+        Assertions.assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    public void test_await_beyondInvocationTimeout_returnsInProgress() {
+        final VirtualClock clock = new VirtualClock();
+        final VirtualWaitStrategy waitStrategy = new VirtualWaitStrategy(clock, Duration.ofMinutes(1));
+
+        Assertions.assertThat(waitStrategy.<String, String>await(0L, Duration.ofSeconds(40), "context", "model")).isNull();
+        final ProgressEvent<String, String> event = waitStrategy.await(0L, Duration.ofSeconds(40), "context", "model");
+
+        Assertions.assertThat(event.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        Assertions.assertThat(event.getCallbackDelaySeconds()).isEqualTo(40);
+        Assertions.assertThat(event.getCallbackContext()).isEqualTo("context");
+        Assertions.assertThat(event.getResourceModel()).isEqualTo("model");
+        Assertions.assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(40));
+    }
+
+    @Test
+    public void test_startInvocation_resetsTimeBudget() {
+        final VirtualClock clock = new VirtualClock();
+        final VirtualWaitStrategy waitStrategy = new VirtualWaitStrategy(clock, Duration.ofMinutes(1));
+        clock.advance(Duration.ofMinutes(5));
+
+        Assertions.assertThat(waitStrategy.<String, String>await(0L, Duration.ofSeconds(5), "context", "model")).isNotNull();
+
+        waitStrategy.startInvocation();
+
+        Assertions.assertThat(waitStrategy.<String, String>await(0L, Duration.ofSeconds(5), "context", "model")).isNull();
+    }
+}
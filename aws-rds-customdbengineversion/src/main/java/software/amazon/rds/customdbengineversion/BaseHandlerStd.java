@@ -23,11 +23,11 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.ExponentialWithJitter;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
@@ -51,8 +51,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     };
 
     protected final static HandlerConfig CUSTOM_ENGINE_VERSION_HANDLER_CONFIG_10H = HandlerConfig.builder()
-            .backoff(Constant.of()
-                    .delay(Duration.ofSeconds(30))
+            .backoff(ExponentialWithJitter.of()
+                    .maxDelay(Duration.ofMinutes(2))
+                    .timeout(Duration.ofHours(10))
+                    .build())
+            .build();
+
+    // Creating a custom engine version takes the better part of an hour, so its first poll is not due for minutes.
+    protected final static HandlerConfig CUSTOM_ENGINE_VERSION_CREATE_HANDLER_CONFIG_10H = HandlerConfig.builder()
+            .backoff(ExponentialWithJitter.of()
+                    .maxDelay(Duration.ofMinutes(2))
+                    .expectedDuration(Duration.ofMinutes(30))
                     .timeout(Duration.ofHours(10))
                     .build())
             .build();
@@ -163,13 +172,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags) {
-        final Tagging.TagSet tagsToAdd = Tagging.exclude(desiredTags, previousTags);
-        final Tagging.TagSet tagsToRemove = Tagging.exclude(previousTags, desiredTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
+        final Tagging.TagSet tagsToAdd = Tagging.exclude(desiredTags, previousTags);
+        final Tagging.TagSet tagsToRemove = Tagging.exclude(previousTags, desiredTags);
+
         ResourceModel model = progress.getResourceModel();
         if (StringUtils.isBlank(model.getDBEngineVersionArn())) {
             model.setDBEngineVersionArn(fetchDBEngineVersion(model, rdsProxyClient).dbEngineVersionArn());
@@ -178,8 +189,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String arn = model.getDBEngineVersionArn();
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(rdsProxyClient, arn, tagDiff);
         } catch (Exception exception) {
             return getTaggingErrorRuleSet(progress, tagsToAdd, tagsToRemove, exception);
         }
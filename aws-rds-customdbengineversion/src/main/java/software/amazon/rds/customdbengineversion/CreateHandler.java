@@ -21,7 +21,7 @@ public class CreateHandler extends BaseHandlerStd {
     );
 
     public CreateHandler() {
-        this(CUSTOM_ENGINE_VERSION_HANDLER_CONFIG_10H);
+        this(CUSTOM_ENGINE_VERSION_CREATE_HANDLER_CONFIG_10H);
     }
 
     public CreateHandler(HandlerConfig config) {
@@ -4,6 +4,7 @@ import static software.amazon.rds.dbcluster.Translator.addRoleToDbClusterRequest
 import static software.amazon.rds.dbcluster.Translator.removeRoleFromDbClusterRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -11,14 +12,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import com.google.common.collect.ImmutableMap;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
@@ -37,6 +38,7 @@ import software.amazon.awssdk.services.rds.model.DbClusterSnapshotNotFoundExcept
 import software.amazon.awssdk.services.rds.model.DbInstanceNotFoundException;
 import software.amazon.awssdk.services.rds.model.DbSubnetGroupDoesNotCoverEnoughAZsException;
 import software.amazon.awssdk.services.rds.model.DbSubnetGroupNotFoundException;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeGlobalClustersResponse;
@@ -58,7 +60,6 @@ import software.amazon.awssdk.services.rds.model.SnapshotQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageTypeNotAvailableException;
 import software.amazon.awssdk.services.rds.model.StorageTypeNotSupportedException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.awssdk.services.rds.model.WriteForwardingStatus;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -70,22 +71,30 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.common.client.MutationTrackingProxyClient;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.error.IgnoreErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.Events;
+import software.amazon.rds.common.handler.ExponentialWithJitter;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.logging.AsyncLogSink;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.logging.ResponseLogPolicy;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 import software.amazon.rds.common.printer.JsonPrinter;
 import software.amazon.rds.common.request.RequestValidationException;
 import software.amazon.rds.common.request.ValidatedRequest;
 import software.amazon.rds.common.request.Validations;
+import software.amazon.rds.common.status.StabilizationCheck;
+import software.amazon.rds.common.util.DriftDetector;
+import software.amazon.rds.common.util.DriftDetectorPlan;
+import software.amazon.rds.dbcluster.util.DBClusterSnapshotCache;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     public static final String RESOURCE_IDENTIFIER = "dbcluster";
@@ -96,19 +105,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static final String RESOURCE_UPDATED_AT = "resource-updated-at";
 
-    private static final List<Predicate<Event>> EVENT_FAIL_CHECKERS = ImmutableList.of(
-            (e) -> Events.isEventMessageContains(e, "Database cluster is in a state that cannot be upgraded:"),
-            (e) -> Events.isEventMessageContains(e, "Cluster failover failed"),
-            (e) -> Events.isEventMessageContains(e, "Cluster reboot failed"),
-            (e) -> Events.isEventMessageContains(e, "Amazon RDS can't access the KMS encryption key"),
-            (e) -> Events.isEventMessageContains(e, "Failed to join a host to a domain"),
-            (e) -> Events.isEventMessageContains(e, "Failed to join cluster instance"),
-            (e) -> Events.isEventMessageContains(e, "Amazon RDS isn't able to associate the IAM role"),
-            (e) -> Events.isEventMessageContains(e, "could not be removed from global cluster"),
-            (e) -> Events.isEventMessageContains(e, "Unable to upgrade DB cluster"),
-            (e) -> Events.isEventMessageContains(e, "Unable to perform a major version upgrade"),
-            (e) -> Events.isEventMessageContains(e, "Unable to patch the primary DB cluster"),
-            (e) -> Events.isEventMessageContains(e, "We were unable to create your Aurora Serverless DB cluster")
+    private static final Predicate<Event> EVENT_FAIL_CHECKER = Events.isEventMessageContainsAny(
+            "Database cluster is in a state that cannot be upgraded:",
+            "Cluster failover failed",
+            "Cluster reboot failed",
+            "Amazon RDS can't access the KMS encryption key",
+            "Failed to join a host to a domain",
+            "Failed to join cluster instance",
+            "Amazon RDS isn't able to associate the IAM role",
+            "could not be removed from global cluster",
+            "Unable to upgrade DB cluster",
+            "Unable to perform a major version upgrade",
+            "Unable to patch the primary DB cluster",
+            "We were unable to create your Aurora Serverless DB cluster"
     );
 
     protected static final ErrorRuleSet DEFAULT_DB_CLUSTER_ERROR_RULE_SET = ErrorRuleSet
@@ -175,20 +184,32 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             .build();
 
     protected final static HandlerConfig DB_CLUSTER_HANDLER_CONFIG_36H = HandlerConfig.builder()
-            .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(36)).build())
+            .backoff(ExponentialWithJitter.of().maxDelay(Duration.ofMinutes(2)).timeout(Duration.ofHours(36)).build())
             .probingEnabled(true)
+            .logSinkConfig(AsyncLogSink.Config.builder().build())
             .build();
 
     private final JsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword");
 
     protected static final ResourceTypeSchema resourceTypeSchema = ResourceTypeSchema.load(new Configuration().resourceSchemaJsonObject());
+    // The drift detection plan is compiled once along with the schema and shared by all the invocations.
+    protected static final DriftDetector driftDetector = new DriftDetector(DriftDetectorPlan.compile(resourceTypeSchema));
 
     protected HandlerConfig config;
     protected RequestLogger requestLogger;
+    protected final DBClusterSnapshotCache dbClusterSnapshotCache;
+
+    private final StabilizationCheck<DBCluster> stabilizedCheck = StabilizationCheck.<DBCluster>builder("isDBClusterStabilized")
+            .check("isDBClusterAvailable", this::isDBClusterAvailable)
+            .check("isNoPendingChanges", this::isNoPendingChanges)
+            .check("isMasterUserSecretStabilized", BaseHandlerStd::isMasterUserSecretStabilized)
+            .check("isGlobalWriteForwardingStabilized", BaseHandlerStd::isGlobalWriteForwardingStabilized)
+            .build();
 
     public BaseHandlerStd(final HandlerConfig config) {
         super();
         this.config = config;
+        this.dbClusterSnapshotCache = new DBClusterSnapshotCache();
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -208,13 +229,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger requestLogger
     ) {
         this.requestLogger = requestLogger;
+        // Handler instances are reused across invocations, a snapshot observed by a previous invocation is never trusted.
+        this.dbClusterSnapshotCache.invalidate();
         try {
             validateRequest(request);
         } catch (RequestValidationException exception) {
             return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
         }
 
-        return handleRequest(proxy, new ValidatedRequest<>(request), callbackContext, rdsProxyClient, ec2ProxyClient);
+        return handleRequest(proxy, new ValidatedRequest<>(request), callbackContext, trackMutations(rdsProxyClient), ec2ProxyClient);
     }
 
     @Override
@@ -228,14 +251,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
-                requestLogger -> handleRequest(
-                        proxy,
-                        request,
-                        callbackContext != null ? callbackContext : new CallbackContext(),
-                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient)),
-                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient)),
-                        requestLogger
-                ));
+                config.getLogSinkConfig(),
+                requestLogger -> {
+                    // Stabilization polls repeat the same describe calls, only the first response is logged in full.
+                    final ResponseLogPolicy responseLogPolicy = ResponseLogPolicy.sampled();
+                    return handleRequest(
+                            proxy,
+                            request,
+                            callbackContext != null ? callbackContext : new CallbackContext(),
+                            new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient), responseLogPolicy),
+                            new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient), responseLogPolicy),
+                            requestLogger
+                    );
+                });
     }
 
     protected void validateRequest(final ResourceHandlerRequest<ResourceModel> request) throws RequestValidationException {
@@ -243,18 +271,44 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     protected boolean isFailureEvent(final Event event) {
-        return EVENT_FAIL_CHECKERS.stream().anyMatch(p -> p.test(event));
+        return EVENT_FAIL_CHECKER.test(event);
     }
 
+    protected ProxyClient<RdsClient> trackMutations(final ProxyClient<RdsClient> rdsProxyClient) {
+        return new MutationTrackingProxyClient<>(rdsProxyClient, dbClusterSnapshotCache::invalidate);
+    }
+
+    /**
+     * Fetches a fresh DBCluster state. The result is retained as the latest snapshot until the next mutating API call.
+     */
     protected DBCluster fetchDBCluster(
             final ProxyClient<RdsClient> proxyClient,
             final ResourceModel model
     ) {
+        final DescribeDbClustersRequest request = Translator.describeDbClustersRequest(model);
         final DescribeDbClustersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                Translator.describeDbClustersRequest(model),
+                request,
                 proxyClient.client()::describeDBClusters
         );
-        return response.dbClusters().get(0);
+        return dbClusterSnapshotCache.put(request, response.dbClusters().get(0));
+    }
+
+    /**
+     * Reads the resource state at the end of a mutating flow. The latest snapshot is reused if it was observed after
+     * the last mutating API call, typically by the final stabilization poll, otherwise a fresh describe call is issued.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> readLatestState(
+            final AmazonWebServicesClientProxy proxy,
+            final ValidatedRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ProxyClient<Ec2Client> ec2ProxyClient
+    ) {
+        final Optional<DBCluster> snapshot = dbClusterSnapshotCache.get(Translator.describeDbClustersRequest(request.getDesiredResourceState()));
+        if (snapshot.isPresent()) {
+            return ProgressEvent.success(Translator.translateDbClusterFromSdk(snapshot.get()), callbackContext);
+        }
+        return new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient);
     }
 
     protected GlobalCluster fetchGlobalCluster(
@@ -319,20 +373,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         assertNoDBClusterTerminalStatus(dbCluster);
 
-        final boolean isDBClusterStabilizedResult = isDBClusterAvailable(dbCluster);
-        final boolean isNoPendingChangesResult = isNoPendingChanges(dbCluster);
-        final boolean isMasterUserSecretStabilizedResult = isMasterUserSecretStabilized(dbCluster);
-        final boolean isGlobalWriteForwardingStabilizedResult = isGlobalWriteForwardingStabilized(dbCluster);
-
-        requestLogger.log(String.format("isDbClusterStabilized: $b", isDBClusterStabilizedResult),
-                ImmutableMap.of("isDbClusterAvailable", isDBClusterStabilizedResult,
-                        "isNoPendingChanges", isNoPendingChangesResult,
-                        "isMasterUserSecretStabilized", isMasterUserSecretStabilizedResult,
-                        "isGlobalWriteForwardingStabilized", isGlobalWriteForwardingStabilizedResult),
-                ImmutableMap.of("Description", "isDBClusterStabilized method will be repeatedly" +
-                        " called with a backoff mechanism after the modify call until it returns true. This" +
-                        " process will continue until all included flags are true."));
-        return isDBClusterStabilizedResult && isNoPendingChangesResult && isMasterUserSecretStabilizedResult && isGlobalWriteForwardingStabilizedResult;
+        return stabilizedCheck.evaluate(dbCluster)
+                .log(requestLogger)
+                .isStabilized();
     }
 
     protected static boolean isMasterUserSecretStabilized(DBCluster dbCluster) {
@@ -395,6 +438,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .then(p -> addAssociatedRoles(proxy, rdsProxyClient, p, rolesToAdd, isRollback));
     }
 
+    // The roles are attached (and detached) all at once, and then awaited together with a single describe per poll.
+    // A role the call is ignored for by the error rule set is not awaited.
     protected ProgressEvent<ResourceModel, CallbackContext> addAssociatedRoles(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
@@ -404,32 +449,50 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     ) {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext callbackContext = progress.getCallbackContext();
+        final Set<DBClusterRole> pendingRoles = Optional.ofNullable(roles).orElse(Collections.emptyList()).stream()
+                .filter(role -> !callbackContext.isRoleIgnored("rds::add-roles-to-dbcluster", role))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (pendingRoles.isEmpty()) {
+            return progress;
+        }
+        final ErrorRuleSet errorRuleSet = isRollback ? ADD_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET : DEFAULT_DB_CLUSTER_ERROR_RULE_SET;
 
-        for (final DBClusterRole dbClusterRole : Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-dbcluster", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(modelRequest -> addRoleToDbClusterRequest(
-                            modelRequest.getDBClusterIdentifier(),
-                            dbClusterRole.getRoleArn(),
-                            dbClusterRole.getFeatureName()
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            modelRequest,
-                            proxyInvocation.client()::addRoleToDBCluster
-                    ))
-                    .stabilize((addRoleRequest, addRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleAttached(client, resourceModel, dbClusterRole)
-                    )
-                    .handleError((addRoleRequest, exception, client, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            isRollback ? ADD_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET : DEFAULT_DB_CLUSTER_ERROR_RULE_SET,
-                            requestLogger
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-dbcluster", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall((modelRequest, proxyInvocation) -> {
+                    for (final DBClusterRole dbClusterRole : new ArrayList<>(pendingRoles)) {
+                        try {
+                            proxyInvocation.injectCredentialsAndInvokeV2(
+                                    addRoleToDbClusterRequest(
+                                            modelRequest.getDBClusterIdentifier(),
+                                            dbClusterRole.getRoleArn(),
+                                            dbClusterRole.getFeatureName()
+                                    ),
+                                    proxyInvocation.client()::addRoleToDBCluster
+                            );
+                        } catch (RuntimeException exception) {
+                            if (!(errorRuleSet.handle(exception) instanceof IgnoreErrorStatus)) {
+                                throw exception;
+                            }
+                            callbackContext.ignoreRole("rds::add-roles-to-dbcluster", dbClusterRole);
+                            pendingRoles.remove(dbClusterRole);
+                        }
+                    }
+                    return modelRequest;
+                })
+                .stabilize((modelRequest, response, client, resourceModel, context) ->
+                        pendingRoles.isEmpty() || isAssociatedRolesAttached(client, resourceModel, pendingRoles)
+                )
+                .handleError((modelRequest, exception, client, resourceModel, context) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception,
+                        errorRuleSet,
+                        requestLogger
+                ))
+                .progress();
+        if (!progressEvent.canContinueProgress()) {
+            return progressEvent;
         }
         return progress;
     }
@@ -443,34 +506,47 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     ) {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext callbackContext = progress.getCallbackContext();
-
-        for (final DBClusterRole dbClusterRole : Optional.ofNullable(roles).orElse(Collections.emptyList())) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::remove-roles-to-dbcluster", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(modelRequest -> removeRoleFromDbClusterRequest(
-                            modelRequest.getDBClusterIdentifier(),
-                            dbClusterRole.getRoleArn(),
-                            dbClusterRole.getFeatureName()
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((modelRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            modelRequest,
-                            proxyInvocation.client()::removeRoleFromDBCluster
-                    ))
-                    .stabilize((removeRoleRequest, removeRoleResponse, client, resourceModel, context) ->
-                            isAssociatedRoleDetached(client, resourceModel, dbClusterRole)
-                    )
-                    .handleError((removeRoleRequest, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            REMOVE_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET,
-                            requestLogger
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        final Set<DBClusterRole> pendingRoles = Optional.ofNullable(roles).orElse(Collections.emptyList()).stream()
+                .filter(role -> !callbackContext.isRoleIgnored("rds::remove-roles-to-dbcluster", role))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (pendingRoles.isEmpty()) {
+            return ProgressEvent.progress(model, callbackContext);
         }
-        return ProgressEvent.progress(model, callbackContext);
+
+        return proxy.initiate("rds::remove-roles-to-dbcluster", proxyClient, model, callbackContext)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall((modelRequest, proxyInvocation) -> {
+                    for (final DBClusterRole dbClusterRole : new ArrayList<>(pendingRoles)) {
+                        try {
+                            proxyInvocation.injectCredentialsAndInvokeV2(
+                                    removeRoleFromDbClusterRequest(
+                                            modelRequest.getDBClusterIdentifier(),
+                                            dbClusterRole.getRoleArn(),
+                                            dbClusterRole.getFeatureName()
+                                    ),
+                                    proxyInvocation.client()::removeRoleFromDBCluster
+                            );
+                        } catch (RuntimeException exception) {
+                            if (!(REMOVE_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET.handle(exception) instanceof IgnoreErrorStatus)) {
+                                throw exception;
+                            }
+                            callbackContext.ignoreRole("rds::remove-roles-to-dbcluster", dbClusterRole);
+                            pendingRoles.remove(dbClusterRole);
+                        }
+                    }
+                    return modelRequest;
+                })
+                .stabilize((modelRequest, response, client, resourceModel, context) ->
+                        pendingRoles.isEmpty() || isAssociatedRolesDetached(client, resourceModel, pendingRoles)
+                )
+                .handleError((modelRequest, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, context),
+                        exception,
+                        REMOVE_ASSOC_ROLES_SOFTFAIL_ERROR_RULE_SET,
+                        requestLogger
+                ))
+                .progress();
     }
 
     boolean isHttpEndpointV2Set(ProxyClient<RdsClient> proxyClient, ResourceModel model, Boolean expectedValue) {
@@ -534,28 +610,26 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .progress();
     }
 
-    protected boolean isAssociatedRoleAttached(
+    protected boolean isAssociatedRolesAttached(
             final ProxyClient<RdsClient> proxyClient,
             final ResourceModel model,
-            final DBClusterRole role
+            final Collection<DBClusterRole> roles
     ) {
         final DBCluster dbCluster = fetchDBCluster(proxyClient, model);
-        return Optional.ofNullable(dbCluster.associatedRoles())
-                .orElse(Collections.emptyList())
-                .stream()
-                .anyMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole));
+        final List<software.amazon.awssdk.services.rds.model.DBClusterRole> sdkRoles = Optional.ofNullable(dbCluster.associatedRoles())
+                .orElse(Collections.emptyList());
+        return roles.stream().allMatch(role -> sdkRoles.stream().anyMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole)));
     }
 
-    protected boolean isAssociatedRoleDetached(
+    protected boolean isAssociatedRolesDetached(
             final ProxyClient<RdsClient> proxyClient,
             final ResourceModel model,
-            final DBClusterRole role
+            final Collection<DBClusterRole> roles
     ) {
         final DBCluster dbCluster = fetchDBCluster(proxyClient, model);
-        return Optional.ofNullable(dbCluster.associatedRoles())
-                .orElse(Collections.emptyList())
-                .stream()
-                .noneMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole));
+        final List<software.amazon.awssdk.services.rds.model.DBClusterRole> sdkRoles = Optional.ofNullable(dbCluster.associatedRoles())
+                .orElse(Collections.emptyList());
+        return roles.stream().allMatch(role -> sdkRoles.stream().noneMatch(sdkRole -> isAssociatedRolesEqual(role, sdkRole)));
     }
 
     protected boolean isAssociatedRolesEqual(
@@ -576,13 +650,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
@@ -599,8 +669,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String arn = dbCluster.dbClusterArn();
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(rdsProxyClient, arn, tagDiff);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -2,9 +2,13 @@ package software.amazon.rds.dbcluster;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.handler.EventsContext;
 import software.amazon.rds.common.handler.ProbingContext;
 import software.amazon.rds.common.handler.TaggingContext;
 
@@ -20,13 +24,18 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
     private Map<String, Long> timestamps;
 
     private TaggingContext taggingContext;
+    private EventsContext eventsContext;
     private ProbingContext probingContext;
+    // The associated roles a call was ignored for, which a callback must not await again.
+    private Set<String> ignoredRoles;
 
     public CallbackContext() {
         super();
         this.taggingContext = new TaggingContext();
+        this.eventsContext = new EventsContext();
         this.probingContext = new ProbingContext();
         this.timestamps = new HashMap<>();
+        this.ignoredRoles = new HashSet<>();
     }
 
     @Override
@@ -57,4 +66,16 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         }
         return null;
     }
+
+    public void ignoreRole(final String callGraph, final DBClusterRole role) {
+        ignoredRoles.add(roleKey(callGraph, role));
+    }
+
+    public boolean isRoleIgnored(final String callGraph, final DBClusterRole role) {
+        return ignoredRoles.contains(roleKey(callGraph, role));
+    }
+
+    private static String roleKey(final String callGraph, final DBClusterRole role) {
+        return String.join("|", callGraph, role.getRoleArn(), Objects.toString(role.getFeatureName(), ""));
+    }
 }
@@ -102,6 +102,7 @@ public class CreateHandler extends BaseHandlerStd {
                                                     p.getResourceModel().getDBClusterIdentifier(),
                                                     SourceType.DB_CLUSTER,
                                                     p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                                                    p.getCallbackContext().getEventsContext(),
                                                     p,
                                                     this::isFailureEvent,
                                                     requestLogger
@@ -118,8 +119,8 @@ public class CreateHandler extends BaseHandlerStd {
                     model.setTags(Translator.translateTagsFromSdk(Tagging.translateTagsToSdk(allTags)));
                     return Commons.reportResourceDrift(
                             model,
-                            new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
-                            resourceTypeSchema,
+                            readLatestState(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
+                            driftDetector,
                             requestLogger
                     );
                 });
@@ -2,14 +2,14 @@ package software.amazon.rds.dbcluster;
 
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.Ec2ClientBuilder;
-import software.amazon.rds.common.client.BaseSdkClientProvider;
+import software.amazon.rds.common.client.CachingSdkClientProvider;
 import software.amazon.rds.common.annotations.ExcludeFromJacocoGeneratedReport;
 
-public class Ec2ClientProvider extends BaseSdkClientProvider<Ec2ClientBuilder, Ec2Client> {
+public class Ec2ClientProvider extends CachingSdkClientProvider<Ec2ClientBuilder, Ec2Client> {
 
     @ExcludeFromJacocoGeneratedReport
     @Override
-    public Ec2Client getClient() {
+    protected Ec2Client buildClient() {
         return setHttpClient(setUserAgent(Ec2Client.builder())).build();
     }
 }
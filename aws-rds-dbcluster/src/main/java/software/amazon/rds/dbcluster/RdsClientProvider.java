@@ -3,13 +3,13 @@ package software.amazon.rds.dbcluster;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.RdsClientBuilder;
 import software.amazon.rds.common.annotations.ExcludeFromJacocoGeneratedReport;
-import software.amazon.rds.common.client.BaseSdkClientProvider;
+import software.amazon.rds.common.client.CachingSdkClientProvider;
 
-public class RdsClientProvider extends BaseSdkClientProvider<RdsClientBuilder, RdsClient> {
+public class RdsClientProvider extends CachingSdkClientProvider<RdsClientBuilder, RdsClient> {
 
     @ExcludeFromJacocoGeneratedReport
     @Override
-    public RdsClient getClient() {
+    protected RdsClient buildClient() {
         return setHttpClient(setUserAgent(RdsClient.builder())).build();
     }
 }
@@ -108,6 +108,7 @@ public class UpdateHandler extends BaseHandlerStd {
                         p.getResourceModel().getDBClusterIdentifier(),
                         SourceType.DB_CLUSTER,
                         p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                        p.getCallbackContext().getEventsContext(),
                         p,
                         this::isFailureEvent,
                         requestLogger
@@ -117,8 +118,8 @@ public class UpdateHandler extends BaseHandlerStd {
                     desiredResourceState.setTags(Translator.translateTagsFromSdk(Tagging.translateTagsToSdk(desiredTags)));
                     return Commons.reportResourceDrift(
                             desiredResourceState,
-                            new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
-                            resourceTypeSchema,
+                            readLatestState(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
+                            driftDetector,
                             requestLogger
                     );
                 });
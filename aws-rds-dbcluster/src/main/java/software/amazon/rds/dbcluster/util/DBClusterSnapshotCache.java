@@ -0,0 +1,31 @@
+package software.amazon.rds.dbcluster.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.NonNull;
+import software.amazon.awssdk.services.rds.model.DBCluster;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+
+/**
+ * A request-scoped cache of the most recently observed DBCluster snapshots, keyed by the describe request they were
+ * fetched with. The cache is expected to be invalidated upon any mutating API call.
+ */
+public class DBClusterSnapshotCache {
+
+    private final Map<DescribeDbClustersRequest, DBCluster> snapshots = new HashMap<>();
+
+    public Optional<DBCluster> get(@NonNull final DescribeDbClustersRequest request) {
+        return Optional.ofNullable(snapshots.get(request));
+    }
+
+    public DBCluster put(@NonNull final DescribeDbClustersRequest request, final DBCluster dbCluster) {
+        snapshots.put(request, dbCluster);
+        return dbCluster;
+    }
+
+    public void invalidate() {
+        snapshots.clear();
+    }
+}
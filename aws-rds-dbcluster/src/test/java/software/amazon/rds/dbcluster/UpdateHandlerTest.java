@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Stream;
@@ -26,7 +27,9 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.google.common.collect.ImmutableList;
@@ -49,6 +52,7 @@ import software.amazon.awssdk.services.rds.model.DbClusterNotFoundException;
 import software.amazon.awssdk.services.rds.model.DbClusterRoleAlreadyExistsException;
 import software.amazon.awssdk.services.rds.model.DbClusterRoleNotFoundException;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersRequest;
+import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbSubnetGroupsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeEventsRequest;
@@ -161,10 +165,103 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
+    }
+
+    @Test
+    void handleRequest_RolesStabilizedTogether() {
+        // Both roles are attached up front: a single describe per poll observes all of them.
+        final DBClusterRole exportRole = DBClusterRole.builder().roleArn(NEW_ROLE_ARN).featureName("s3Export").build();
+        final Queue<DBCluster> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(OLD_ROLE_ARN).build())
+                .build());
+        transitions.add(DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(Collections.emptyList())
+                .build());
+        transitions.add(DBCLUSTER_ACTIVE.toBuilder()
+                .associatedRoles(
+                        software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(ROLE_ARN).featureName(ROLE_FEATURE).build(),
+                        software.amazon.awssdk.services.rds.model.DBClusterRole.builder().roleArn(NEW_ROLE_ARN).featureName("s3Export").build())
+                .build());
+
+        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
+                .thenReturn(AddRoleToDbClusterResponse.builder().build());
+        when(rdsProxy.client().removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class)))
+                .thenReturn(RemoveRoleFromDbClusterResponse.builder().build());
+        when(rdsProxy.client().describeEvents(any(DescribeEventsRequest.class)))
+                .thenReturn(DescribeEventsResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setModified(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL.toBuilder()
+                        .associatedRoles(ImmutableList.of(OLD_ROLE))
+                        .build(),
+                () -> RESOURCE_MODEL.toBuilder()
+                        .associatedRoles(ImmutableList.of(ROLE, exportRole))
+                        .build(),
+                expectSuccess()
+        );
+
+        final InOrder inOrder = Mockito.inOrder(rdsProxy.client());
+        inOrder.verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
+        inOrder.verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        inOrder.verify(rdsProxy.client(), times(2)).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        inOrder.verify(rdsProxy.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
 
+    @Test
+    void handleRequest_AddRoles_IgnoredRoleNotAwaitedOnCallback() {
+        // The role the call is ignored for never shows up, only the other one does, after a callback.
+        final DBClusterRole exportRole = DBClusterRole.builder().roleArn(NEW_ROLE_ARN).featureName("s3Export").build();
+        when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
+                .thenThrow(DbClusterRoleAlreadyExistsException.builder().message("already exists").build())
+                .thenReturn(AddRoleToDbClusterResponse.builder().build());
+        when(rdsProxy.client().describeDBClusters(any(DescribeDbClustersRequest.class)))
+                .thenReturn(DescribeDbClustersResponse.builder()
+                        .dbClusters(DBCLUSTER_ACTIVE.toBuilder().associatedRoles(Collections.emptyList()).build())
+                        .build())
+                .thenReturn(DescribeDbClustersResponse.builder()
+                        .dbClusters(DBCLUSTER_ACTIVE.toBuilder()
+                                .associatedRoles(software.amazon.awssdk.services.rds.model.DBClusterRole.builder()
+                                        .roleArn(NEW_ROLE_ARN)
+                                        .featureName("s3Export")
+                                        .build())
+                                .build())
+                        .build());
+
+        final CallbackContext context = new CallbackContext();
+        // No time is left to wait in the first invocation, so the stabilization is resumed by a callback.
+        final AmazonWebServicesClientProxy expiringProxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> 0L);
+        final ProgressEvent<ResourceModel, CallbackContext> callback = handler.addAssociatedRoles(
+                expiringProxy,
+                rdsProxy,
+                ProgressEvent.progress(RESOURCE_MODEL, context),
+                ImmutableList.of(ROLE, exportRole),
+                true
+        );
+        Assertions.assertThat(callback.isInProgressCallbackDelay()).isTrue();
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = handler.addAssociatedRoles(
+                proxy,
+                rdsProxy,
+                ProgressEvent.progress(RESOURCE_MODEL, context),
+                ImmutableList.of(ROLE, exportRole),
+                true
+        );
+        Assertions.assertThat(progress.isInProgress()).isTrue();
+
+        verify(rdsProxy.client(), times(2)).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
     @Test
     void handleRequest_AddRoleAlreadyExistsExceptionNoRecoveryModeShouldFail() {
         when(rdsProxy.client().addRoleToDBCluster(any(AddRoleToDbClusterRequest.class)))
@@ -250,7 +347,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
@@ -301,7 +398,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(6)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(5)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).removeFromGlobalCluster(any(RemoveFromGlobalClusterRequest.class));
         verify(rdsProxy.client(), times(2)).describeGlobalClusters(any(DescribeGlobalClustersRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
@@ -404,12 +501,13 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client(), times(1)).modifyDBCluster(any(ModifyDbClusterRequest.class));
-        verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
 
     @Test
     void handleRequest_WithUpdateToDefaultVPC() {
+        expectServiceInvocation = false;
         when(rdsProxy.client().describeDBSubnetGroups(any(DescribeDbSubnetGroupsRequest.class)))
                 .thenReturn(DescribeDbSubnetGroupsResponse.builder().dbSubnetGroups(DBSubnetGroup.builder().vpcId("vpcId").build()).build());
         when(ec2Proxy.client().describeSecurityGroups(any(DescribeSecurityGroupsRequest.class)))
@@ -435,7 +533,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         Assertions.assertThat(resourceModel.getVpcSecurityGroupIds()).isEqualTo(ImmutableList.of("group-id"));
 
-        verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
 
@@ -507,7 +605,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(5)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(any(RemoveRoleFromDbClusterRequest.class));
         verify(rdsProxy.client(), times(1)).addRoleToDBCluster(any(AddRoleToDbClusterRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
@@ -560,7 +658,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(5)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(4)).describeDBClusters(any(DescribeDbClustersRequest.class));
         ArgumentCaptor<RemoveRoleFromDbClusterRequest> removedRolesArgument = ArgumentCaptor.forClass(RemoveRoleFromDbClusterRequest.class);
         verify(rdsProxy.client(), times(1)).removeRoleFromDBCluster(removedRolesArgument.capture());
         Assertions.assertThat(removedRolesArgument.getValue().roleArn()).isEqualTo(OLD_ROLE.getRoleArn());
@@ -908,7 +1006,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).modifyDBCluster(any(ModifyDbClusterRequest.class));
         ArgumentCaptor<DescribeEventsRequest> describeEventsCaptor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
         verify(rdsProxy.client(), times(1)).describeEvents(describeEventsCaptor.capture());
-        verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBClusters(any(DescribeDbClustersRequest.class));
 
         Assertions.assertThat(describeEventsCaptor.getValue().startTime()).isEqualTo(updatedAt);
     }
@@ -1,7 +1,6 @@
 package software.amazon.rds.dbclusterendpoint;
 
 import java.time.Duration;
-import java.util.Collection;
 import java.util.Optional;
 
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -15,12 +14,11 @@ import software.amazon.awssdk.services.rds.model.DescribeDbClusterEndpointsRespo
 import software.amazon.awssdk.services.rds.model.InvalidDbClusterEndpointStateException;
 import software.amazon.awssdk.services.rds.model.InvalidDbClusterStateException;
 import software.amazon.awssdk.services.rds.model.InvalidDbInstanceStateException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.*;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.ExponentialWithJitter;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
@@ -34,9 +32,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String DB_CLUSTER_ENDPOINT_AVAILABLE = "available";
     protected static final String CUSTOM_ENDPOINT = "CUSTOM";
 
-    protected static final Constant BACKOFF_DELAY = Constant.of()
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
             .timeout(Duration.ofSeconds(180L))
-            .delay(Duration.ofSeconds(15L))
+            .maxDelay(Duration.ofSeconds(15L))
             .build();
 
     protected static final ErrorRuleSet DEFAULT_DB_CLUSTER_ENDPOINT_ERROR_RULE_SET = ErrorRuleSet
@@ -112,13 +110,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
@@ -126,8 +120,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
 
         try {
-            Tagging.removeTags(proxyClient, dbClusterEndpointArn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(proxyClient, dbClusterEndpointArn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(proxyClient, dbClusterEndpointArn, tagDiff);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -2,12 +2,12 @@ package software.amazon.rds.dbclusterendpoint;
 
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.RdsClientBuilder;
-import software.amazon.rds.common.client.BaseSdkClientProvider;
+import software.amazon.rds.common.client.CachingSdkClientProvider;
 
-public class ClientProvider extends BaseSdkClientProvider<RdsClientBuilder, RdsClient> {
+public class ClientProvider extends CachingSdkClientProvider<RdsClientBuilder, RdsClient> {
 
     @Override
-    public RdsClient getClient() {
+    protected RdsClient buildClient() {
         return setHttpClient(setUserAgent(RdsClient.builder())).build();
     }
 }
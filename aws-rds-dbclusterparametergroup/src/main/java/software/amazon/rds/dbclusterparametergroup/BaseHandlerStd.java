@@ -1,7 +1,7 @@
 package software.amazon.rds.dbclusterparametergroup;
 
 import java.time.Duration;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -18,7 +19,6 @@ import org.apache.commons.lang3.BooleanUtils;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import lombok.NonNull;
@@ -40,7 +40,6 @@ import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.Filter;
 import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
 import software.amazon.awssdk.services.rds.model.Parameter;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.CallChain.Completed;
@@ -50,17 +49,22 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.ExponentialWithJitter;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Probing;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.logging.ResponseLogPolicy;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.util.EngineDefaultsCache;
+import software.amazon.rds.common.util.ParallelPageFetcher;
+import software.amazon.rds.common.util.ParameterBatchScheduler;
+import software.amazon.rds.common.util.ParameterDiff;
 import software.amazon.rds.common.util.ParameterGrouper;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -80,6 +84,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final int MAX_PARAMETERS_PER_REQUEST = 20;
     protected static final int MAX_PARAMETER_FILTER_SIZE = 100;
     protected static final int MAX_DESCRIBE_PAGE_DEPTH = 50;
+    protected static final int THROTTLED_CALLBACK_DELAY = 10;
 
     protected static final ErrorRuleSet DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET = ErrorRuleSet
             .extend(Commons.DEFAULT_ERROR_RULE_SET)
@@ -115,11 +120,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected final static HandlerConfig DEFAULT_HANDLER_CONFIG = HandlerConfig.builder()
             .probingEnabled(true)
-            .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofMinutes(180)).build())
+            .backoff(ExponentialWithJitter.of().timeout(Duration.ofMinutes(180)).build())
             .build();
 
+    // Engine defaults are shared by all the handler invocations served by the process.
+    protected static final EngineDefaultsCache ENGINE_DEFAULTS_CACHE = new EngineDefaultsCache();
+
     protected HandlerConfig config;
     protected RequestLogger requestLogger;
+    protected String region;
 
     public BaseHandlerStd(final HandlerConfig config) {
         super();
@@ -140,8 +149,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 request,
                 PARAMETERS_FILTER,
                 requestLogger -> handleRequest(proxy,
-                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient)), request,
-                        context
+                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient), ResponseLogPolicy.sampled()), request,
+                        context,
+                        requestLogger
                 ));
     }
 
@@ -160,6 +170,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger requestLogger
     ) {
         this.requestLogger = requestLogger;
+        this.region = request.getRegion();
         return handleRequest(proxy, proxyClient, request, callbackContext);
     }
 
@@ -170,13 +181,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
@@ -185,8 +192,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         try {
             final String arn = progress.getCallbackContext().getDbClusterParameterGroupArn();
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(rdsProxyClient, arn, tagDiff);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -266,56 +272,55 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return progress;
     }
 
-    private Iterable<Parameter> fetchDBClusterParametersIterable(
+    private Map<String, Parameter> fetchDBClusterParametersWithFilters(
             final ProxyClient<RdsClient> proxyClient,
-            final DescribeDbClusterParametersRequest request
+            final String dbClusterParameterGroupName,
+            final List<String> filterParameterNames
     ) {
-        Iterable<Parameter> result = Collections.emptyList();
-
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new CfnInvalidRequestException("Max DescribeDBParameters page reached.");
-            }
-            final DescribeDbClusterParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeDBClusterParameters
-            );
-            if (response.parameters() != null) {
-                result = Iterables.concat(result, response.parameters());
-            }
-            marker = response.marker();
-            page++;
-        } while (marker != null);
+        final List<DescribeDbClusterParametersRequest> requests = new ArrayList<>();
+        for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
+            final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
+            requests.add(DescribeDbClusterParametersRequest.builder()
+                    .dbClusterParameterGroupName(dbClusterParameterGroupName)
+                    .filters(filters)
+                    .build());
+        }
 
-        return result;
+        return ParallelPageFetcher.getDefault().fetch(
+                requests,
+                (request, marker) -> fetchDBClusterParametersPage(proxyClient, request, marker),
+                Parameter::parameterName,
+                MAX_DESCRIBE_PAGE_DEPTH,
+                () -> new CfnInvalidRequestException("Max DescribeDBParameters page reached.")
+        );
     }
 
-    private Iterable<Parameter> fetchDBClusterParametersIterableWithFilters(
+    protected void forEachDBClusterParametersPage(
             final ProxyClient<RdsClient> proxyClient,
             final String dbClusterParameterGroupName,
-            final List<String> filterParameterNames
+            final Consumer<List<Parameter>> pageConsumer
     ) {
-        Iterable<Parameter> iterable = Collections.emptyList();
-
-        if (filterParameterNames == null) {
-            final DescribeDbClusterParametersRequest request = DescribeDbClusterParametersRequest.builder()
-                    .dbClusterParameterGroupName(dbClusterParameterGroupName)
-                    .build();
-            iterable = fetchDBClusterParametersIterable(proxyClient, request);
-        } else {
-            for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
-                final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
-                final DescribeDbClusterParametersRequest request = DescribeDbClusterParametersRequest.builder()
+        ParallelPageFetcher.getDefault().forEachPage(
+                DescribeDbClusterParametersRequest.builder()
                         .dbClusterParameterGroupName(dbClusterParameterGroupName)
-                        .filters(filters)
-                        .build();
-                iterable = Iterables.concat(iterable, fetchDBClusterParametersIterable(proxyClient, request));
-            }
-        }
+                        .build(),
+                (request, marker) -> fetchDBClusterParametersPage(proxyClient, request, marker),
+                MAX_DESCRIBE_PAGE_DEPTH,
+                () -> new CfnInvalidRequestException("Max DescribeDBParameters page reached."),
+                pageConsumer
+        );
+    }
 
-        return iterable;
+    private static ParallelPageFetcher.Page<Parameter> fetchDBClusterParametersPage(
+            final ProxyClient<RdsClient> proxyClient,
+            final DescribeDbClusterParametersRequest request,
+            final String marker
+    ) {
+        final DescribeDbClusterParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                request.toBuilder().marker(marker).build(),
+                proxyClient.client()::describeDBClusterParameters
+        );
+        return ParallelPageFetcher.Page.of(response.parameters(), response.marker());
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> describeCurrentDBClusterParameters(
@@ -326,97 +331,65 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Map<String, Parameter> accumulator
     ) {
         try {
-            final Iterable<Parameter> parameters = fetchDBClusterParametersIterableWithFilters(
+            accumulator.putAll(fetchDBClusterParametersWithFilters(
                     proxyClient,
                     progress.getResourceModel().getDBClusterParameterGroupName(),
                     filterParameterNames
-            );
-            for (final Parameter parameter : parameters) {
-                accumulator.put(parameter.parameterName(), parameter);
-            }
+            ));
         } catch (Exception e) {
             return Commons.handleException(progress, e, DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
         }
         return progress;
     }
 
-    private Iterable<Parameter> fetchEngineDefaultClusterParametersIterable(
-            final ProxyClient<RdsClient> proxyClient,
-            final DescribeEngineDefaultClusterParametersRequest request
-    ) {
-        Iterable<Parameter> result = Collections.emptyList();
-
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new RuntimeException("Max DescribeEngineDefaultClusterParameters page reached.");
-            }
-            final DescribeEngineDefaultClusterParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeEngineDefaultClusterParameters
-            );
-            final EngineDefaults engineDefaults = response.engineDefaults();
-            if (engineDefaults == null) {
-                break;
-            }
-            if (engineDefaults.parameters() != null) {
-                result = Iterables.concat(result, engineDefaults.parameters());
-            }
-            marker = response.engineDefaults().marker();
-            page++;
-        } while (marker != null);
-
-        return result;
-    }
-
-    private Iterable<Parameter> fetchEngineDefaultClusterParametersIterableWithFilters(
+    private Iterable<Parameter> fetchEngineDefaultClusterParametersWithFilters(
             final ProxyClient<RdsClient> proxyClient,
             final String dbParameterGroupFamily,
             final List<String> filterParameterNames
     ) {
-        Iterable<Parameter> iterable = Collections.emptyList();
+        final List<DescribeEngineDefaultClusterParametersRequest> requests = new ArrayList<>();
 
         if (filterParameterNames == null) {
-            final DescribeEngineDefaultClusterParametersRequest request = DescribeEngineDefaultClusterParametersRequest.builder()
+            requests.add(DescribeEngineDefaultClusterParametersRequest.builder()
                     .dbParameterGroupFamily(dbParameterGroupFamily)
-                    .build();
-            iterable = fetchEngineDefaultClusterParametersIterable(proxyClient, request);
+                    .build());
         } else {
             for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
                 final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
-                final DescribeEngineDefaultClusterParametersRequest request = DescribeEngineDefaultClusterParametersRequest.builder()
+                requests.add(DescribeEngineDefaultClusterParametersRequest.builder()
                         .dbParameterGroupFamily(dbParameterGroupFamily)
                         .filters(filters)
-                        .build();
-                iterable = Iterables.concat(iterable, fetchEngineDefaultClusterParametersIterable(proxyClient, request));
+                        .build());
             }
         }
 
-        return iterable;
+        return ParallelPageFetcher.getDefault().fetch(
+                requests,
+                (request, marker) -> {
+                    final DescribeEngineDefaultClusterParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                            request.toBuilder().marker(marker).build(),
+                            proxyClient.client()::describeEngineDefaultClusterParameters
+                    );
+                    final EngineDefaults engineDefaults = response.engineDefaults();
+                    if (engineDefaults == null) {
+                        return ParallelPageFetcher.Page.of(null, null);
+                    }
+                    return ParallelPageFetcher.Page.of(engineDefaults.parameters(), engineDefaults.marker());
+                },
+                Parameter::parameterName,
+                MAX_DESCRIBE_PAGE_DEPTH,
+                () -> new RuntimeException("Max DescribeEngineDefaultClusterParameters page reached.")
+        ).values();
     }
 
-    protected ProgressEvent<ResourceModel, CallbackContext> describeEngineDefaultClusterParameters(
-            final AmazonWebServicesClientProxy proxy,
+    protected Map<String, Parameter> lookupAllEngineDefaultClusterParameters(
             final ProxyClient<RdsClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final List<String> filterParameterNames,
-            final Map<String, Parameter> accumulator
+            final String family
     ) {
-        try {
-            final Iterable<Parameter> parameters = fetchEngineDefaultClusterParametersIterableWithFilters(
-                    proxyClient,
-                    progress.getResourceModel().getFamily(),
-                    filterParameterNames
-            );
-            for (final Parameter parameter : parameters) {
-                accumulator.put(parameter.parameterName(), parameter);
-            }
-        } catch (Exception e) {
-            return Commons.handleException(progress, e, DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
-        }
-
-        return progress;
+        return ENGINE_DEFAULTS_CACHE.getAll(
+                new EngineDefaultsCache.Key(region, family),
+                names -> fetchEngineDefaultClusterParametersWithFilters(proxyClient, family, names)
+        );
     }
 
     private Map<String, Parameter> getParametersToModify(
@@ -450,17 +423,23 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             @NonNull final Map<String, Parameter> currentDBParameters
     ) {
         final Map<String, Parameter> modifiedParameters = new HashMap<>();
-        for (final String paramName : currentDBParameters.keySet()) {
-            final Parameter currentParam = currentDBParameters.get(paramName);
-            final Parameter defaultParam = engineDefaultParameters.get(paramName);
-            if (defaultParam == null || !Objects.equals(defaultParam.parameterValue(), currentParam.parameterValue())) {
-                modifiedParameters.put(paramName, currentParam);
-            }
-        }
+        ParameterDiff.mergeJoin(
+                ParameterDiff.sortedByName(engineDefaultParameters),
+                ParameterDiff.sortedByName(currentDBParameters),
+                (paramName, defaultParam, currentParam) -> {
+                    if (currentParam != null && isModifiedParameter(defaultParam, currentParam)) {
+                        modifiedParameters.put(paramName, currentParam);
+                    }
+                }
+        );
 
         return modifiedParameters;
     }
 
+    protected static boolean isModifiedParameter(final Parameter defaultParam, @NonNull final Parameter currentParam) {
+        return defaultParam == null || !Objects.equals(defaultParam.parameterValue(), currentParam.parameterValue());
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> resetParameters(
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final AmazonWebServicesClientProxy proxy,
@@ -499,21 +478,44 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final CallbackContext context = progress.getCallbackContext();
         final Map<String, Parameter> parametersToModify = getParametersToModify(model.getParameters(), currentDBParameters);
 
+        final ParameterBatchScheduler.Session<ProgressEvent<ResourceModel, CallbackContext>> session = ParameterBatchScheduler.getDefault()
+                .open(PARAMETER_DEPENDENCIES, partition -> {
+                    try {
+                        proxyClient.injectCredentialsAndInvokeV2(
+                                Translator.modifyDbClusterParameterGroupRequest(model, partition),
+                                proxyClient.client()::modifyDBClusterParameterGroup
+                        );
+                    } catch (Exception exception) {
+                        return Commons.handleException(ProgressEvent.progress(model, context),
+                                exception,
+                                DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET,
+                                requestLogger);
+                    }
+                    return ProgressEvent.progress(model, context);
+                }, ProgressEvent::isFailed, BaseHandlerStd::isThrottled);
         try {
-            for (final List<Parameter> partition : ParameterGrouper.partition(parametersToModify, PARAMETER_DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST)) {
-                proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.modifyDbClusterParameterGroupRequest(model, partition),
-                        proxyClient.client()::modifyDBClusterParameterGroup
-                );
-            }
+            ParameterGrouper.pack(parametersToModify, PARAMETER_DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST).forEach(session);
         } catch (Exception exception) {
-            return Commons.handleException(ProgressEvent.progress(model, context),
-                    exception,
-                    DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET,
-                    requestLogger);
+            // The partitions already submitted must not keep modifying the group once the handler has failed.
+            session.cancel();
+            return Commons.handleException(progress, exception, DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
         }
 
-        return ProgressEvent.progress(model, context);
+        final ProgressEvent<ResourceModel, CallbackContext> failure;
+        try {
+            failure = session.await();
+        } catch (Exception exception) {
+            return Commons.handleException(progress, exception, DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
+        }
+        if (failure != null && isThrottled(failure)) {
+            // The next invocation modifies the parameters that still differ, instead of this one backing off.
+            return ProgressEvent.defaultInProgressHandler(context, THROTTLED_CALLBACK_DELAY, model);
+        }
+        return failure != null ? failure : ProgressEvent.progress(model, context);
+    }
+
+    private static boolean isThrottled(final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        return progress.isFailed() && progress.getErrorCode() == HandlerErrorCode.Throttling;
     }
 
     protected boolean isDBClustersAvailable(final ProxyClient<RdsClient> proxyClient, final ResourceModel model) {
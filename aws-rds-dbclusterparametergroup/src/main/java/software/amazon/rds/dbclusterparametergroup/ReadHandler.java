@@ -46,30 +46,35 @@ public class ReadHandler extends BaseHandlerStd {
                 })
                 .then(progress -> {
                     if (progress.getResourceModel().getParameters() == null) {
-                        return readParameters(proxy, proxyClient, progress);
+                        return readParameters(proxyClient, progress);
                     }
                     return progress;
                 })
                 .then(progress -> readTags(proxyClient, progress));
     }
 
+    // The engine defaults are served from the complete family index, which is shared across invocations,
+    // and the current parameters are diffed against them one page at a time.
     private ProgressEvent<ResourceModel, CallbackContext> readParameters(
-            final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
-        final Map<String, Parameter> engineDefaultClusterParameters = new HashMap<>();
-        final Map<String, Parameter> currentDBClusterParameters = new HashMap<>();
-
-        return progress
-                .then(p -> describeEngineDefaultClusterParameters(proxy, proxyClient, p, null, engineDefaultClusterParameters))
-                .then(p -> describeCurrentDBClusterParameters(proxy, proxyClient, p, null, currentDBClusterParameters))
-                .then(p -> {
-                    p.getResourceModel().setParameters(
-                            Translator.translateParametersFromSdk(computeModifiedDBParameters(engineDefaultClusterParameters, currentDBClusterParameters))
-                    );
-                    return p;
-                });
+        final ResourceModel model = progress.getResourceModel();
+        final Map<String, Parameter> modifiedParameters = new HashMap<>();
+        try {
+            final Map<String, Parameter> engineDefaultParameters = lookupAllEngineDefaultClusterParameters(proxyClient, model.getFamily());
+            forEachDBClusterParametersPage(proxyClient, model.getDBClusterParameterGroupName(), page -> {
+                for (final Parameter currentParameter : page) {
+                    if (isModifiedParameter(engineDefaultParameters.get(currentParameter.parameterName()), currentParameter)) {
+                        modifiedParameters.put(currentParameter.parameterName(), currentParameter);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            return Commons.handleException(progress, e, DEFAULT_DB_CLUSTER_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
+        }
+        model.setParameters(Translator.translateParametersFromSdk(modifiedParameters));
+        return progress;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> readTags(
@@ -216,6 +216,31 @@ public class CreateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
     }
 
+    @Test
+    public void handleRequest_ThrottledModifyIsCalledBack() {
+        when(rdsClient.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class)))
+                .thenReturn(CreateDbClusterParameterGroupResponse.builder()
+                        .dbClusterParameterGroup(DB_CLUSTER_PARAMETER_GROUP)
+                        .build());
+
+        when(rdsClient.modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class)))
+                .thenThrow(RdsException.builder().awsErrorDetails(
+                        AwsErrorDetails.builder().errorCode("ThrottlingException").build()
+                ).build());
+
+        mockDescribeDbClusterParametersResponse("static", "dynamic", true);
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                null,
+                () -> RESOURCE_MODEL,
+                expectInProgress(BaseHandlerStd.THROTTLED_CALLBACK_DELAY)
+        );
+
+        verify(rdsProxy.client(), times(1)).createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class));
+        verify(rdsProxy.client(), times(1)).modifyDBClusterParameterGroup(any(ModifyDbClusterParameterGroupRequest.class));
+    }
+
     @Test
     public void handleRequest_MissingDescribeDBClusterParameterGroupsPermission() {
         when(rdsClient.createDBClusterParameterGroup(any(CreateDbClusterParameterGroupRequest.class)))
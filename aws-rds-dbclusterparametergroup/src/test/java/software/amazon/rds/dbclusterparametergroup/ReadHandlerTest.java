@@ -74,6 +74,7 @@ public class ReadHandlerTest extends AbstractHandlerTest {
         rdsClient = mock(RdsClient.class);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         rdsProxy = MOCK_PROXY(proxy, rdsClient);
+        BaseHandlerStd.ENGINE_DEFAULTS_CACHE.invalidateAll();
     }
 
     @AfterEach
@@ -13,14 +13,13 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.commons.lang3.BooleanUtils;
 
 import com.amazonaws.arn.Arn;
 import com.amazonaws.util.CollectionUtils;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
+import lombok.Value;
 import software.amazon.awssdk.services.ec2.Ec2Client;
 import software.amazon.awssdk.services.ec2.model.DescribeSecurityGroupsResponse;
 import software.amazon.awssdk.services.ec2.model.SecurityGroup;
@@ -49,6 +48,7 @@ import software.amazon.awssdk.services.rds.model.DbUpgradeDependencyFailureExcep
 import software.amazon.awssdk.services.rds.model.DescribeDbClusterSnapshotsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbClustersResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstanceAutomatedBackupsResponse;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
 import software.amazon.awssdk.services.rds.model.DescribeDbInstancesResponse;
 import software.amazon.awssdk.services.rds.model.DescribeDbSnapshotsResponse;
 import software.amazon.awssdk.services.rds.model.DomainMembership;
@@ -73,7 +73,6 @@ import software.amazon.awssdk.services.rds.model.ProvisionedIopsNotAvailableInAz
 import software.amazon.awssdk.services.rds.model.SnapshotQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.StorageTypeNotSupportedException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -84,22 +83,29 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.resource.ResourceTypeSchema;
+import software.amazon.rds.common.client.MutationTrackingProxyClient;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
+import software.amazon.rds.common.error.IgnoreErrorStatus;
 import software.amazon.rds.common.handler.Commons;
 import software.amazon.rds.common.handler.Events;
+import software.amazon.rds.common.handler.ExponentialWithJitter;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.HandlerMethod;
 import software.amazon.rds.common.handler.Tagging;
+import software.amazon.rds.common.logging.AsyncLogSink;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.logging.ResponseLogPolicy;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
 import software.amazon.rds.common.request.RequestValidationException;
 import software.amazon.rds.common.request.ValidatedRequest;
 import software.amazon.rds.common.request.Validations;
+import software.amazon.rds.common.status.StabilizationCheck;
+import software.amazon.rds.common.util.DriftDetector;
+import software.amazon.rds.common.util.DriftDetectorPlan;
 import software.amazon.rds.dbinstance.client.ApiVersion;
 import software.amazon.rds.dbinstance.client.ApiVersionDispatcher;
 import software.amazon.rds.dbinstance.client.Ec2ClientProvider;
@@ -111,6 +117,7 @@ import software.amazon.rds.dbinstance.status.DomainMembershipStatus;
 import software.amazon.rds.dbinstance.status.OptionGroupStatus;
 import software.amazon.rds.dbinstance.status.ReadReplicaStatus;
 import software.amazon.rds.dbinstance.status.VPCSecurityGroupStatus;
+import software.amazon.rds.dbinstance.util.DBInstanceSnapshotCache;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -130,11 +137,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final int RESOURCE_ID_MAX_LENGTH = 63;
 
     protected final static HandlerConfig DEFAULT_DB_INSTANCE_HANDLER_CONFIG = HandlerConfig.builder()
-            .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofMinutes(180)).build())
+            .backoff(ExponentialWithJitter.of().timeout(Duration.ofMinutes(180)).build())
+            .logSinkConfig(AsyncLogSink.Config.builder().build())
             .build();
 
     protected final static HandlerConfig DB_INSTANCE_HANDLER_CONFIG_36H = HandlerConfig.builder()
-            .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(36)).build())
+            .backoff(ExponentialWithJitter.of().maxDelay(Duration.ofMinutes(2)).timeout(Duration.ofHours(36)).build())
+            .logSinkConfig(AsyncLogSink.Config.builder().build())
             .build();
 
     protected static final RuntimeException MISSING_METHOD_VERSION_EXCEPTION = new RuntimeException("Missing method version");
@@ -158,8 +167,31 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected RequestLogger requestLogger;
 
+    protected final DBInstanceSnapshotCache dbInstanceSnapshotCache;
+
     private final ApiVersionDispatcher<ResourceModel, CallbackContext> apiVersionDispatcher;
 
+    private final StabilizationCheck<StabilizationInput> stabilizedAfterMutateCheck = StabilizationCheck.<StabilizationInput>builder("isDBInstanceStabilizedAfterMutate")
+            .check("isDBInstanceAvailable", input -> isDBInstanceAvailable(input.getDbInstance()))
+            .check("isReplicationComplete", input -> isReplicationComplete(input.getDbInstance()))
+            .check("isDBParameterGroupNotApplying", input -> isDBParameterGroupNotApplying(input.getDbInstance()))
+            .check("isNoPendingChanges", input -> isNoPendingChanges(input.getDbInstance()))
+            .check("isCaCertificateChangesApplied", input -> isCaCertificateChangesApplied(input.getDbInstance(), input.getModel()))
+            .check("isVpcSecurityGroupsActive", input -> isVpcSecurityGroupsActive(input.getDbInstance()))
+            .check("isDomainMembershipsJoined", input -> isDomainMembershipsJoined(input.getDbInstance()))
+            .check("isMasterUserSecretStabilized", input -> isMasterUserSecretStabilized(input.getDbInstance()))
+            .build();
+
+    // The cluster parameter group check describes the cluster, so it is only evaluated once the instance itself is in sync.
+    private final StabilizationCheck<StabilizationInput> stabilizedAfterRebootCheck = StabilizationCheck.<StabilizationInput>builder("isDBInstanceStabilizedAfterReboot")
+            .check("isDBInstanceAvailable", input -> isDBInstanceAvailable(input.getDbInstance()))
+            .check("isDBParameterGroupInSync", input -> isDBParameterGroupInSync(input.getDbInstance()))
+            .check("isOptionGroupInSync", input -> isOptionGroupInSync(input.getDbInstance()))
+            .check("isDBClusterParameterGroupStabilized", input -> !isDBClusterMember(input.getModel()) ||
+                    isDBClusterParameterGroupStabilized(input.getRdsProxyClient(), input.getModel()))
+            .shortCircuit(true)
+            .build();
+
     protected final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter("MasterUsername", "MasterUserPassword", "TdeCredentialPassword");
 
     protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> NOOP_CALL = (model, proxyClient) -> model;
@@ -172,19 +204,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     };
 
     //TODO: This list should be gone eventually. Event ID should be checked instead.
-    private static final List<Predicate<Event>> EVENT_FAIL_CHECKERS = ImmutableList.of(
-            (e) -> Events.isEventMessageContains(e, "failed to join a host to a domain"),
-            (e) -> Events.isEventMessageContains(e, "failed to join cluster instance"),
-            (e) -> Events.isEventMessageContains(e, "insufficient instance capacity"),
-            (e) -> Events.isEventMessageContains(e, "rds custom couldn't modify the db instance"),
-            (e) -> Events.isEventMessageContains(e, "the db engine version upgrade failed"),
-            (e) -> Events.isEventMessageContains(e, "the instance could not be upgraded"),
-            (e) -> Events.isEventMessageContains(e, "the storage volume limitation was exceeded"),
-            (e) -> Events.isEventMessageContains(e, "the update of the replica mode failed"),
-            (e) -> Events.isEventMessageContains(e, "unable to modify database instance class"),
-            (e) -> Events.isEventMessageContains(e, "unable to modify the db instance class"),
-            (e) -> Events.isEventMessageContains(e, "you can't create the db instance"),
-            (e) -> Events.isEventMessageContains(e, "instance is in a state that cannot be upgraded")
+    private static final Predicate<Event> EVENT_FAIL_CHECKER = Events.isEventMessageContainsAny(
+            "failed to join a host to a domain",
+            "failed to join cluster instance",
+            "insufficient instance capacity",
+            "rds custom couldn't modify the db instance",
+            "the db engine version upgrade failed",
+            "the instance could not be upgraded",
+            "the storage volume limitation was exceeded",
+            "the update of the replica mode failed",
+            "unable to modify database instance class",
+            "unable to modify the db instance class",
+            "you can't create the db instance",
+            "instance is in a state that cannot be upgraded"
     );
 
     protected static final ErrorRuleSet DEFAULT_DB_INSTANCE_ERROR_RULE_SET = ErrorRuleSet
@@ -349,10 +381,13 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             .build();
 
     protected static final ResourceTypeSchema resourceTypeSchema = ResourceTypeSchema.load(new Configuration().resourceSchemaJsonObject());
+    // The drift detection plan is compiled once along with the schema and shared by all the invocations.
+    protected static final DriftDetector driftDetector = new DriftDetector(DriftDetectorPlan.compile(resourceTypeSchema));
 
     public BaseHandlerStd(final HandlerConfig config) {
         super();
         this.config = config;
+        this.dbInstanceSnapshotCache = new DBInstanceSnapshotCache();
         this.apiVersionDispatcher = new ApiVersionDispatcher<ResourceModel, CallbackContext>()
                 .register(ApiVersion.V12, (m, c) -> !software.amazon.awssdk.utils.CollectionUtils.isNullOrEmpty(m.getDBSecurityGroups()));
     }
@@ -396,13 +431,21 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger requestLogger
     ) {
         this.requestLogger = requestLogger;
+        // Handler instances are reused across invocations, a snapshot observed by a previous invocation is never trusted.
+        this.dbInstanceSnapshotCache.invalidate();
         try {
             validateRequest(request);
         } catch (RequestValidationException exception) {
             return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
         }
 
-        return handleRequest(proxy, new ValidatedRequest<ResourceModel>(request), context, rdsProxyClient, ec2ProxyClient);
+        return handleRequest(
+                proxy,
+                new ValidatedRequest<ResourceModel>(request),
+                context,
+                rdsProxyClient.map(this::trackMutations),
+                ec2ProxyClient
+        );
     }
 
     @Override
@@ -416,17 +459,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 logger,
                 request,
                 PARAMETERS_FILTER,
-                requestLogger -> handleRequest(
-                        proxy,
-                        request,
-                        context != null ? context : new CallbackContext(),
-                        new VersionedProxyClient<RdsClient>()
-                                .register(ApiVersion.V12, new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForApiVersion(API_VERSION_V12))))
-                                .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient))),
-                        new VersionedProxyClient<Ec2Client>()
-                                .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient))),
-                        requestLogger
-                ));
+                config.getLogSinkConfig(),
+                requestLogger -> {
+                    // Stabilization polls repeat the same describe calls, only the first response is logged in full.
+                    final ResponseLogPolicy responseLogPolicy = ResponseLogPolicy.sampled();
+                    return handleRequest(
+                            proxy,
+                            request,
+                            context != null ? context : new CallbackContext(),
+                            new VersionedProxyClient<RdsClient>()
+                                    .register(ApiVersion.V12, new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForApiVersion(API_VERSION_V12)), responseLogPolicy))
+                                    .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new RdsClientProvider()::getClient), responseLogPolicy)),
+                            new VersionedProxyClient<Ec2Client>()
+                                    .register(ApiVersion.DEFAULT, new LoggingProxyClient<>(requestLogger, proxy.newProxy(new Ec2ClientProvider()::getClient), responseLogPolicy)),
+                            requestLogger
+                    );
+                });
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> updateDbInstanceV12(
@@ -496,18 +544,57 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     protected boolean isFailureEvent(final Event event) {
-        return EVENT_FAIL_CHECKERS.stream().anyMatch(p -> p.test(event));
+        return EVENT_FAIL_CHECKER.test(event);
+    }
+
+    protected ProxyClient<RdsClient> trackMutations(final ProxyClient<RdsClient> rdsProxyClient) {
+        return new MutationTrackingProxyClient<>(rdsProxyClient, dbInstanceSnapshotCache::invalidate);
     }
 
+    /**
+     * Fetches a fresh DBInstance state. The result is retained as the latest snapshot for the read-only checks that follow.
+     * Stabilization checks must always use this method as they are expected to observe a state change.
+     */
     protected DBInstance fetchDBInstance(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model
     ) {
+        final DescribeDbInstancesRequest request = Translator.describeDbInstancesRequest(model);
         final DescribeDbInstancesResponse response = rdsProxyClient.injectCredentialsAndInvokeV2(
-                Translator.describeDbInstancesRequest(model),
+                request,
                 rdsProxyClient.client()::describeDBInstances
         );
-        return response.dbInstances().get(0);
+        return dbInstanceSnapshotCache.put(request, response.dbInstances().get(0));
+    }
+
+    /**
+     * Returns the latest DBInstance snapshot observed within the current handler invocation, fetching it if there is none.
+     * A snapshot is discarded upon any mutating API call, so it is safe to use in read-only checks between mutations.
+     */
+    protected DBInstance fetchDBInstanceSnapshot(
+            final ProxyClient<RdsClient> rdsProxyClient,
+            final ResourceModel model
+    ) {
+        final Optional<DBInstance> snapshot = dbInstanceSnapshotCache.get(Translator.describeDbInstancesRequest(model));
+        return snapshot.orElseGet(() -> fetchDBInstance(rdsProxyClient, model));
+    }
+
+    /**
+     * Reads the resource state at the end of a mutating flow. The latest snapshot is reused if it was observed after
+     * the last mutating API call, typically by the final stabilization poll, otherwise a fresh describe call is issued.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> readLatestState(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final VersionedProxyClient<RdsClient> rdsProxyClient,
+            final VersionedProxyClient<Ec2Client> ec2ProxyClient
+    ) {
+        final Optional<DBInstance> snapshot = dbInstanceSnapshotCache.get(Translator.describeDbInstancesRequest(request.getDesiredResourceState()));
+        if (snapshot.isPresent()) {
+            return ProgressEvent.success(Translator.translateDbInstanceFromSdk(snapshot.get()), callbackContext);
+        }
+        return new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, requestLogger);
     }
 
     protected DBInstance fetchDBInstance(
@@ -677,30 +764,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         assertNoTerminalStatus(dbInstance);
 
-
-        final boolean isDBInstanceStabilizedAfterMutateResult = isDBInstanceAvailable(dbInstance) &&
-                isReplicationComplete(dbInstance) &&
-                isDBParameterGroupNotApplying(dbInstance) &&
-                isNoPendingChanges(dbInstance) &&
-                isCaCertificateChangesApplied(dbInstance, model) &&
-                isVpcSecurityGroupsActive(dbInstance) &&
-                isDomainMembershipsJoined(dbInstance) &&
-                isMasterUserSecretStabilized(dbInstance);
-
-        requestLogger.log(String.format("isDBInstanceStabilizedAfterMutate: %b", isDBInstanceStabilizedAfterMutateResult),
-                ImmutableMap.of("isDBInstanceAvailable", isDBInstanceAvailable(dbInstance),
-                        "isReplicationComplete", isReplicationComplete(dbInstance),
-                        "isDBParameterGroupNotApplying", isDBParameterGroupNotApplying(dbInstance),
-                        "isNoPendingChanges", isNoPendingChanges(dbInstance),
-                        "isCaCertificateChangesApplied", isCaCertificateChangesApplied(dbInstance, model),
-                        "isVpcSecurityGroupsActive", isVpcSecurityGroupsActive(dbInstance),
-                        "isDomainMembershipsJoined", isDomainMembershipsJoined(dbInstance),
-                        "isMasterUserSecretStabilized", isMasterUserSecretStabilized(dbInstance)),
-                ImmutableMap.of("Description", "isDBInstanceStabilizedAfterMutate method will be repeatedly" +
-                        " called with a backoff mechanism after the modify call until it returns true. This" +
-                        " process will continue until all included flags are true."));
-
-        return isDBInstanceStabilizedAfterMutateResult;
+        return stabilizedAfterMutateCheck.evaluate(new StabilizationInput(dbInstance, model, rdsProxyClient))
+                .log(requestLogger)
+                .isStabilized();
     }
 
     protected boolean isInstanceStabilizedAfterReplicationStop(final ProxyClient<RdsClient> rdsProxyClient,
@@ -733,22 +799,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         assertNoTerminalStatus(dbInstance);
 
-        final boolean isDBClusterParameterGroupStabilized = !isDBClusterMember(model) || isDBClusterParameterGroupStabilized(rdsProxyClient, model);
-        final boolean isDBInstanceStabilizedAfterReboot = isDBInstanceAvailable(dbInstance) &&
-                isDBParameterGroupInSync(dbInstance) &&
-                isOptionGroupInSync(dbInstance) &&
-                isDBClusterParameterGroupStabilized;
-
-        requestLogger.log(String.format("isDBInstanceStabilizedAfterReboot: %b", isDBInstanceStabilizedAfterReboot),
-                ImmutableMap.of("isDBInstanceAvailable", isDBInstanceAvailable(dbInstance),
-                        "isDBParameterGroupInSync", isDBParameterGroupInSync(dbInstance),
-                        "isOptionGroupInSync", isOptionGroupInSync(dbInstance),
-                        "isDBClusterParameterGroupStabilized", isDBClusterParameterGroupStabilized),
-                ImmutableMap.of("Description", "isDBInstanceStabilizedAfterReboot method will be repeatedly" +
-                        " called with a backoff mechanism after the reboot call until it returns true. This" +
-                        " process will continue until all included flags are true."));
-
-        return isDBInstanceStabilizedAfterReboot;
+        return stabilizedAfterRebootCheck.evaluate(new StabilizationInput(dbInstance, model, rdsProxyClient))
+                .log(requestLogger)
+                .isStabilized();
+    }
+
+    /**
+     * A fetched DBInstance along with the request it is checked against, so the stabilization checks are built once per handler.
+     */
+    @Value
+    protected static class StabilizationInput {
+        DBInstance dbInstance;
+        ResourceModel model;
+        ProxyClient<RdsClient> rdsProxyClient;
     }
 
     boolean isDBInstanceAvailable(final DBInstance dbInstance) {
@@ -854,36 +917,36 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected boolean isDBInstanceRoleStabilized(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model,
-            final Function<Stream<software.amazon.awssdk.services.rds.model.DBInstanceRole>, Boolean> predicate
+            final Predicate<List<software.amazon.awssdk.services.rds.model.DBInstanceRole>> predicate
     ) {
         final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
-        return predicate.apply(Optional.ofNullable(
+        return predicate.test(Optional.ofNullable(
                 dbInstance.associatedRoles()
-        ).orElse(Collections.emptyList()).stream());
+        ).orElse(Collections.emptyList()));
     }
 
     protected boolean isDBInstanceRoleAdditionStabilized(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model,
-            final DBInstanceRole lookupRole
+            final Collection<DBInstanceRole> lookupRoles
     ) {
         return isDBInstanceRoleStabilized(
                 rdsProxyClient,
                 model,
-                (roles) -> roles.anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()) &&
-                        Objects.equals(StringUtils.trimToNull(role.featureName()), StringUtils.trimToNull(lookupRole.getFeatureName())))
+                (roles) -> lookupRoles.stream().allMatch(lookupRole -> roles.stream().anyMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()) &&
+                        Objects.equals(StringUtils.trimToNull(role.featureName()), StringUtils.trimToNull(lookupRole.getFeatureName()))))
         );
     }
 
     protected boolean isDBInstanceRoleRemovalStabilized(
             final ProxyClient<RdsClient> rdsProxyClient,
             final ResourceModel model,
-            final DBInstanceRole lookupRole
+            final Collection<DBInstanceRole> lookupRoles
     ) {
         return isDBInstanceRoleStabilized(
                 rdsProxyClient,
                 model,
-                (roles) -> roles.noneMatch(role -> role.roleArn().equals(lookupRole.getRoleArn()))
+                (roles) -> lookupRoles.stream().allMatch(lookupRole -> roles.stream().noneMatch(role -> role.roleArn().equals(lookupRole.getRoleArn())))
         );
     }
 
@@ -907,6 +970,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         rolesToAdd.removeAll(Optional.ofNullable(previousRoles).orElse(Collections.emptyList()));
         rolesToRemove.removeAll(Optional.ofNullable(desiredRoles).orElse(Collections.emptyList()));
 
+        // Each batch issues all its calls first and then awaits the roles together, one describe per poll.
         return progress
                 .then(p -> removeOldRoles(proxy, rdsProxyClient, p, rolesToRemove))
                 .then(p -> addNewRoles(proxy, rdsProxyClient, p, rolesToAdd));
@@ -918,28 +982,42 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Collection<DBInstanceRole> rolesToAdd
     ) {
-        for (final DBInstanceRole role : rolesToAdd) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::add-roles-to-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(addRequest -> Translator.addRoleToDbInstanceRequest(progress.getResourceModel(), role))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((request, proxyInvocation) -> {
-                        return proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::addRoleToDBInstance);
-                    })
-                    .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDBInstanceRoleAdditionStabilized(
-                            proxyInvocation, modelRequest, role
-                    ))
-                    .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
-                            requestLogger
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        if (rolesToAdd.isEmpty()) {
+            return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
         }
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+        final CallbackContext context = progress.getCallbackContext();
+        final Set<DBInstanceRole> pendingRoles = rolesToAdd.stream()
+                .filter(role -> !context.isRoleIgnored("rds::add-roles-to-db-instance", role))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return proxy.initiate("rds::add-roles-to-db-instance", rdsProxyClient, progress.getResourceModel(), context)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall((model, proxyInvocation) -> {
+                    for (final DBInstanceRole role : rolesToAdd) {
+                        try {
+                            proxyInvocation.injectCredentialsAndInvokeV2(
+                                    Translator.addRoleToDbInstanceRequest(model, role),
+                                    proxyInvocation.client()::addRoleToDBInstance
+                            );
+                        } catch (RuntimeException exception) {
+                            if (!(UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET.handle(exception) instanceof IgnoreErrorStatus)) {
+                                throw exception;
+                            }
+                            context.ignoreRole("rds::add-roles-to-db-instance", role);
+                            pendingRoles.remove(role);
+                        }
+                    }
+                    return model;
+                })
+                .stabilize((request, response, proxyInvocation, model, callbackContext) -> pendingRoles.isEmpty() ||
+                        isDBInstanceRoleAdditionStabilized(proxyInvocation, model, pendingRoles))
+                .handleError((request, exception, proxyInvocation, resourceModel, ctx) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, ctx),
+                        exception,
+                        UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
+                        requestLogger
+                ))
+                .progress();
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> removeOldRoles(
@@ -948,30 +1026,42 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Collection<DBInstanceRole> rolesToRemove
     ) {
-        for (final DBInstanceRole role : rolesToRemove) {
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = proxy.initiate("rds::remove-roles-from-db-instance", rdsProxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(removeRequest -> Translator.removeRoleFromDbInstanceRequest(
-                            progress.getResourceModel(), role
-                    ))
-                    .backoffDelay(config.getBackoff())
-                    .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                            request, proxyInvocation.client()::removeRoleFromDBInstance
-                    ))
-                    .stabilize((request, response, proxyInvocation, modelRequest, callbackContext) -> isDBInstanceRoleRemovalStabilized(
-                            proxyInvocation, modelRequest, role
-                    ))
-                    .handleError((request, exception, proxyInvocation, resourceModel, context) -> Commons.handleException(
-                            ProgressEvent.progress(resourceModel, context),
-                            exception,
-                            UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
-                            requestLogger
-                    ))
-                    .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
-            }
+        if (rolesToRemove.isEmpty()) {
+            return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
         }
-        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+        final CallbackContext context = progress.getCallbackContext();
+        final Set<DBInstanceRole> pendingRoles = rolesToRemove.stream()
+                .filter(role -> !context.isRoleIgnored("rds::remove-roles-from-db-instance", role))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return proxy.initiate("rds::remove-roles-from-db-instance", rdsProxyClient, progress.getResourceModel(), context)
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(config.getBackoff())
+                .makeServiceCall((model, proxyInvocation) -> {
+                    for (final DBInstanceRole role : rolesToRemove) {
+                        try {
+                            proxyInvocation.injectCredentialsAndInvokeV2(
+                                    Translator.removeRoleFromDbInstanceRequest(model, role),
+                                    proxyInvocation.client()::removeRoleFromDBInstance
+                            );
+                        } catch (RuntimeException exception) {
+                            if (!(UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET.handle(exception) instanceof IgnoreErrorStatus)) {
+                                throw exception;
+                            }
+                            context.ignoreRole("rds::remove-roles-from-db-instance", role);
+                            pendingRoles.remove(role);
+                        }
+                    }
+                    return model;
+                })
+                .stabilize((request, response, proxyInvocation, model, callbackContext) -> pendingRoles.isEmpty() ||
+                        isDBInstanceRoleRemovalStabilized(proxyInvocation, model, pendingRoles))
+                .handleError((request, exception, proxyInvocation, resourceModel, ctx) -> Commons.handleException(
+                        ProgressEvent.progress(resourceModel, ctx),
+                        exception,
+                        UPDATE_ASSOCIATED_ROLES_ERROR_RULE_SET,
+                        requestLogger
+                ))
+                .progress();
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> reboot(
@@ -1038,7 +1128,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceModel model = progress.getResourceModel();
         if (StringUtils.isEmpty(model.getEngine())) {
             try {
-                final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, model);
+                final DBInstance dbInstance = fetchDBInstanceSnapshot(rdsProxyClient, model);
                 model.setEngine(dbInstance.engine());
             } catch (Exception e) {
                 return Commons.handleException(progress, e, DEFAULT_DB_INSTANCE_ERROR_RULE_SET, requestLogger);
@@ -1055,13 +1145,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet desiredTags
     ) {
 
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
@@ -1070,7 +1156,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         DBInstance dbInstance;
         try {
-            dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel());
+            dbInstance = fetchDBInstanceSnapshot(rdsProxyClient, progress.getResourceModel());
         } catch (Exception exception) {
             return Commons.handleException(progress, exception, DEFAULT_DB_INSTANCE_ERROR_RULE_SET, requestLogger);
         }
@@ -1078,8 +1164,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final String arn = dbInstance.dbInstanceArn();
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(rdsProxyClient, arn, tagDiff);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -1115,7 +1200,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<RdsClient> sourceRegionClient,
             final String region
     ) {
-        final ProxyClient<RdsClient> rdsClient = new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region)));
+        final ProxyClient<RdsClient> rdsClient = trackMutations(new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region))));
 
         return proxy.initiate("rds::stop-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(resourceModel -> Translator.stopDbInstanceAutomatedBackupsReplicationRequest(dbInstanceArn))
@@ -1142,7 +1227,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProxyClient<RdsClient> sourceRegionClient,
             final String region
     ) {
-        final ProxyClient<RdsClient> rdsClient = new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region)));
+        final ProxyClient<RdsClient> rdsClient = trackMutations(new LoggingProxyClient<>(requestLogger, proxy.newProxy(() -> new RdsClientProvider().getClientForRegion(region))));
 
         return proxy.initiate("rds::start-db-instance-automatic-backup-replication", rdsClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(resourceModel -> Translator.startDbInstanceAutomatedBackupsReplicationRequest(dbInstanceArn))
@@ -2,9 +2,13 @@ package software.amazon.rds.dbinstance;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.rds.common.handler.EventsContext;
 import software.amazon.rds.common.handler.TaggingContext;
 import software.amazon.rds.common.handler.TimestampContext;
 
@@ -27,12 +31,17 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
     private String currentRegion;
 
     private TaggingContext taggingContext;
+    private EventsContext eventsContext;
     private Map<String, Long> timestamps;
+    // The associated roles a call was ignored for, which a callback must not await again.
+    private Set<String> ignoredRoles;
 
     public CallbackContext() {
         super();
         this.taggingContext = new TaggingContext();
+        this.eventsContext = new EventsContext();
         this.timestamps = new HashMap<>();
+        this.ignoredRoles = new HashSet<>();
     }
 
     @Override
@@ -62,4 +71,16 @@ public class CallbackContext extends StdCallbackContext implements TaggingContex
         }
         return null;
     }
+
+    public void ignoreRole(final String callGraph, final DBInstanceRole role) {
+        ignoredRoles.add(roleKey(callGraph, role));
+    }
+
+    public boolean isRoleIgnored(final String callGraph, final DBInstanceRole role) {
+        return ignoredRoles.contains(roleKey(callGraph, role));
+    }
+
+    private static String roleKey(final String callGraph, final DBInstanceRole role) {
+        return String.join("|", callGraph, role.getRoleArn(), Objects.toString(role.getFeatureName(), ""));
+    }
 }
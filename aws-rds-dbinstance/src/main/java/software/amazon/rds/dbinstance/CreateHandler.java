@@ -143,7 +143,7 @@ public class CreateHandler extends BaseHandlerStd {
                 }, CallbackContext::isAddTagsComplete, CallbackContext::setAddTagsComplete))
                 .then(progress -> ensureEngineSet(rdsProxyClient.defaultClient(), progress))
                 .then(progress -> {
-                    final DBInstance dbInstance = fetchDBInstance(rdsProxyClient.defaultClient(), model);
+                    final DBInstance dbInstance = fetchDBInstanceSnapshot(rdsProxyClient.defaultClient(), model);
                     if (ResourceModelHelper.shouldUpdateAfterCreate(progress.getResourceModel(), dbInstance.engine())) {
                         return Commons.execOnce(progress, () -> {
                                             progress.getCallbackContext().timestampOnce(RESOURCE_UPDATED_AT, Instant.now());
@@ -156,6 +156,7 @@ public class CreateHandler extends BaseHandlerStd {
                                                             p.getResourceModel().getDBInstanceIdentifier(),
                                                             SourceType.DB_INSTANCE,
                                                             p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                                                            p.getCallbackContext().getEventsContext(),
                                                             p,
                                                             this::isFailureEvent,
                                                             requestLogger
@@ -177,7 +178,7 @@ public class CreateHandler extends BaseHandlerStd {
                 .then(progress -> Commons.execOnce(progress, () -> {
                     if (ResourceModelHelper.shouldStartAutomaticBackupReplication(request.getPreviousResourceState(), request.getDesiredResourceState())
                             && StringUtils.isNullOrEmpty(callbackContext.getDbInstanceArn())) {
-                        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient.defaultClient(), progress.getResourceModel());
+                        final DBInstance dbInstance = fetchDBInstanceSnapshot(rdsProxyClient.defaultClient(), progress.getResourceModel());
                         callbackContext.setDbInstanceArn(dbInstance.dbInstanceArn());
                     }
                     return progress;
@@ -194,8 +195,8 @@ public class CreateHandler extends BaseHandlerStd {
                     model.setTags(Translator.translateTagsFromSdk(Tagging.translateTagsToSdk(allTags)));
                     return Commons.reportResourceDrift(
                             model,
-                            new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient, requestLogger),
-                            resourceTypeSchema,
+                            readLatestState(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
+                            driftDetector,
                             requestLogger
                     );
                 });
@@ -62,7 +62,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         try {
             instance = StringUtils.isNullOrEmpty(request.getPreviousResourceState().getEngine()) ?
-                    fetchDBInstance(rdsClient, request.getPreviousResourceState()) : null;
+                    fetchDBInstanceSnapshot(rdsClient, request.getPreviousResourceState()) : null;
         } catch (Exception ex) {
             return Commons.handleException(
                     ProgressEvent.progress(request.getPreviousResourceState(), callbackContext),
@@ -147,6 +147,7 @@ public class UpdateHandler extends BaseHandlerStd {
                             p.getResourceModel().getDBInstanceIdentifier(),
                             SourceType.DB_INSTANCE,
                             p.getCallbackContext().getTimestamp(RESOURCE_UPDATED_AT),
+                            p.getCallbackContext().getEventsContext(),
                             p,
                             this::isFailureEvent,
                             requestLogger
@@ -167,7 +168,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     if ((ResourceModelHelper.shouldStopAutomaticBackupReplication(request.getPreviousResourceState(), request.getDesiredResourceState())
                             || ResourceModelHelper.shouldStartAutomaticBackupReplication(request.getPreviousResourceState(), request.getDesiredResourceState()))
                             && StringUtils.isNullOrEmpty(callbackContext.getDbInstanceArn())) {
-                        final DBInstance dbInstance = fetchDBInstance(rdsProxyClient.defaultClient(), progress.getResourceModel());
+                        final DBInstance dbInstance = fetchDBInstanceSnapshot(rdsProxyClient.defaultClient(), progress.getResourceModel());
                         callbackContext.setDbInstanceArn(dbInstance.dbInstanceArn());
                     }
                     return progress;
@@ -193,8 +194,8 @@ public class UpdateHandler extends BaseHandlerStd {
                     model.setTags(Translator.translateTagsFromSdk(Tagging.translateTagsToSdk(desiredTags)));
                     return Commons.reportResourceDrift(
                             model,
-                            new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
-                            resourceTypeSchema,
+                            readLatestState(proxy, request, progress.getCallbackContext(), rdsProxyClient, ec2ProxyClient),
+                            driftDetector,
                             requestLogger
                     );
                 });
@@ -223,7 +224,7 @@ public class UpdateHandler extends BaseHandlerStd {
                     }
                     return progress;
                 })
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient, requestLogger));
+                .then(progress -> readLatestState(proxy, request, callbackContext, rdsProxyClient, ec2ProxyClient));
     }
 
     private boolean shouldReboot(
@@ -231,7 +232,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProgressEvent<ResourceModel, CallbackContext> progress
     ) {
         try {
-            final DBInstance dbInstance = fetchDBInstance(proxyClient, progress.getResourceModel());
+            final DBInstance dbInstance = fetchDBInstanceSnapshot(proxyClient, progress.getResourceModel());
             if (!CollectionUtils.isNullOrEmpty(dbInstance.dbParameterGroups())) {
                 return DBParameterGroupStatus.PendingReboot.equalsString(dbInstance.dbParameterGroups().get(0).parameterApplyStatus());
             }
@@ -275,7 +276,7 @@ public class UpdateHandler extends BaseHandlerStd {
         // The only way to unset `MaxAllocatedStorage` is to set it to `AllocatedStorage` value upon an update.
         // https://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/USER_PIOPS.StorageTypes.html#USER_PIOPS.Autoscaling
         try {
-            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, request.getDesiredResourceState());
+            final DBInstance dbInstance = fetchDBInstanceSnapshot(rdsProxyClient, request.getDesiredResourceState());
             request.getDesiredResourceState().setMaxAllocatedStorage(dbInstance.allocatedStorage());
         } catch (Exception exception) {
             return Commons.handleException(progress, exception, MODIFY_DB_INSTANCE_ERROR_RULE_SET, requestLogger);
@@ -379,7 +380,7 @@ public class UpdateHandler extends BaseHandlerStd {
         if (progress.getCallbackContext().isAllocatingStorage()) {
             return true;
         }
-        final DBInstance instance = fetchDBInstance(rdsProxyClient, request.getDesiredResourceState());
+        final DBInstance instance = fetchDBInstanceSnapshot(rdsProxyClient, request.getDesiredResourceState());
         return DBInstanceStatus.StorageFull.equalsString(instance.dbInstanceStatus());
     }
 
@@ -391,7 +392,7 @@ public class UpdateHandler extends BaseHandlerStd {
         SecurityGroup securityGroup;
 
         try {
-            final DBInstance dbInstance = fetchDBInstance(rdsProxyClient, progress.getResourceModel());
+            final DBInstance dbInstance = fetchDBInstanceSnapshot(rdsProxyClient, progress.getResourceModel());
             final String vpcId = dbInstance.dbSubnetGroup().vpcId();
             securityGroup = fetchSecurityGroup(ec2ProxyClient, vpcId, "default");
         } catch (Exception e) {
@@ -14,10 +14,10 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.RdsClientBuilder;
-import software.amazon.rds.common.client.BaseSdkClientProvider;
+import software.amazon.rds.common.client.CachingSdkClientProvider;
 import software.amazon.rds.common.client.RdsUserAgentProvider;
 
-public class RdsClientProvider extends BaseSdkClientProvider<RdsClientBuilder, RdsClient> {
+public class RdsClientProvider extends CachingSdkClientProvider<RdsClientBuilder, RdsClient> {
 
     public static final String VERSION_QUERY_PARAM = "Version";
 
@@ -48,16 +48,16 @@ public class RdsClientProvider extends BaseSdkClientProvider<RdsClientBuilder, R
     }
 
     @Override
-    public RdsClient getClient() {
+    protected RdsClient buildClient() {
         return setUserAgent(setHttpClient(RdsClient.builder())).build();
     }
 
     public RdsClient getClientForApiVersion(@NonNull final String apiVersion) {
-        return setUserAgentAndApiVersion(setHttpClient(RdsClient.builder()), apiVersion).build();
+        return getOrBuildClient(null, apiVersion, () -> setUserAgentAndApiVersion(setHttpClient(RdsClient.builder()), apiVersion).build());
     }
 
     public RdsClient getClientForRegion(@NonNull final String region) {
         final Region sdkRegion = Region.of(region);
-        return setUserAgent(setHttpClient(RdsClient.builder().region(sdkRegion))).build();
+        return getOrBuildClient(sdkRegion.id(), null, () -> setUserAgent(setHttpClient(RdsClient.builder().region(sdkRegion))).build());
     }
 }
@@ -27,4 +27,10 @@ public class VersionedProxyClient<T> {
     public ProxyClient<T> defaultClient() {
         return forVersion(ApiVersion.DEFAULT);
     }
+
+    public VersionedProxyClient<T> map(@NonNull final Function<ProxyClient<T>, ProxyClient<T>> mapper) {
+        final VersionedProxyClient<T> mapped = new VersionedProxyClient<>();
+        clients.forEach((version, client) -> mapped.register(version, mapper.apply(client)));
+        return mapped;
+    }
 }
@@ -0,0 +1,32 @@
+package software.amazon.rds.dbinstance.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.NonNull;
+import software.amazon.awssdk.services.rds.model.DBInstance;
+import software.amazon.awssdk.services.rds.model.DescribeDbInstancesRequest;
+
+/**
+ * A request-scoped cache of the most recently observed DBInstance snapshots.
+ * Snapshots are keyed by the describe request they were fetched with, so lookups by an identifier and by a resource id
+ * do not interfere with each other. The cache is expected to be invalidated upon any mutating API call.
+ */
+public class DBInstanceSnapshotCache {
+
+    private final Map<DescribeDbInstancesRequest, DBInstance> snapshots = new HashMap<>();
+
+    public Optional<DBInstance> get(@NonNull final DescribeDbInstancesRequest request) {
+        return Optional.ofNullable(snapshots.get(request));
+    }
+
+    public DBInstance put(@NonNull final DescribeDbInstancesRequest request, final DBInstance dbInstance) {
+        snapshots.put(request, dbInstance);
+        return dbInstance;
+    }
+
+    public void invalidate() {
+        snapshots.clear();
+    }
+}
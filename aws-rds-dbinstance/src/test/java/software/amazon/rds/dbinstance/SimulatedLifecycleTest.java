@@ -0,0 +1,154 @@
+package software.amazon.rds.dbinstance;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.SecurityGroup;
+import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.HandlerConfig;
+import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.dbinstance.client.ApiVersion;
+import software.amazon.rds.dbinstance.client.VersionedProxyClient;
+import software.amazon.rds.test.common.simulator.CallbackLoopRunner;
+import software.amazon.rds.test.common.simulator.SimulatedEc2Client;
+import software.amazon.rds.test.common.simulator.SimulatedRdsClient;
+import software.amazon.rds.test.common.simulator.VirtualClock;
+
+/**
+ * Runs the handlers against the simulated RDS and EC2 services the way CloudFormation calls them back.
+ * The API call and virtual time budgets catch regressions in the number of calls and the stabilization time.
+ */
+public class SimulatedLifecycleTest {
+
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final LoggerProxy LOGGER = new LoggerProxy();
+    private static final HandlerConfig CONFIG = HandlerConfig.builder()
+            .backoff(Constant.of().delay(Duration.ofSeconds(30)).timeout(Duration.ofHours(1)).build())
+            .build();
+    private static final String DB_INSTANCE_IDENTIFIER = "simulated-db-instance";
+
+    private VirtualClock clock;
+    private CallbackLoopRunner runner;
+    private SimulatedRdsClient rdsClient;
+    private SimulatedEc2Client ec2Client;
+
+    @BeforeEach
+    public void setup() {
+        clock = new VirtualClock();
+        runner = new CallbackLoopRunner(clock);
+        rdsClient = new SimulatedRdsClient(clock);
+        ec2Client = new SimulatedEc2Client(clock);
+        ec2Client.addSecurityGroup(SecurityGroup.builder()
+                .groupId("sg-default")
+                .groupName("default")
+                .vpcId(SimulatedRdsClient.VPC_ID)
+                .build());
+    }
+
+    @Test
+    public void test_create() {
+        final CallbackLoopRunner.Result<ResourceModel, CallbackContext> result = run(new CreateHandler(CONFIG), null, model());
+
+        Assertions.assertThat(result.getEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(result.getEvent().getResourceModel().getEndpoint().getAddress()).isNotNull();
+        Assertions.assertThat(rdsClient.getDBInstance(DB_INSTANCE_IDENTIFIER).dbInstanceStatus()).isEqualTo("available");
+        Assertions.assertThat(rdsClient.getCallCount("CreateDBInstance")).isEqualTo(1);
+        Assertions.assertThat(rdsClient.getTotalCallCount()).isLessThanOrEqualTo(30);
+        Assertions.assertThat(result.getDuration()).isLessThanOrEqualTo(Duration.ofMinutes(11));
+    }
+
+    @Test
+    public void test_update_instanceClass() {
+        final ResourceModel created = run(new CreateHandler(CONFIG), null, model()).getEvent().getResourceModel();
+        rdsClient.resetCallCounts();
+
+        final ResourceModel desired = model();
+        desired.setDBInstanceIdentifier(created.getDBInstanceIdentifier());
+        desired.setDBInstanceClass("db.m5.xlarge");
+        final CallbackLoopRunner.Result<ResourceModel, CallbackContext> result = run(new UpdateHandler(CONFIG), created, desired);
+
+        Assertions.assertThat(result.getEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(rdsClient.getDBInstance(DB_INSTANCE_IDENTIFIER).dbInstanceClass()).isEqualTo("db.m5.xlarge");
+        Assertions.assertThat(rdsClient.getCallCount("ModifyDBInstance")).isEqualTo(1);
+        // The budget of a DBInstance update: API calls and virtual seconds.
+        Assertions.assertThat(rdsClient.getTotalCallCount()).isLessThanOrEqualTo(20);
+        Assertions.assertThat(result.getDuration()).isLessThanOrEqualTo(Duration.ofMinutes(6));
+    }
+
+    @Test
+    public void test_update_throttled() {
+        final ResourceModel created = run(new CreateHandler(CONFIG), null, model()).getEvent().getResourceModel();
+        rdsClient.throttle("DescribeDBInstances", 3);
+
+        final ResourceModel desired = model();
+        desired.setDBInstanceIdentifier(created.getDBInstanceIdentifier());
+        desired.setDBInstanceClass("db.m5.xlarge");
+        final CallbackLoopRunner.Result<ResourceModel, CallbackContext> result = run(new UpdateHandler(CONFIG), created, desired);
+        Assertions.assertThat(result.getEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(rdsClient.getDBInstance(DB_INSTANCE_IDENTIFIER).dbInstanceClass()).isEqualTo("db.m5.xlarge");
+    }
+
+    @Test
+    public void test_delete() {
+        final ResourceModel created = run(new CreateHandler(CONFIG), null, model()).getEvent().getResourceModel();
+        rdsClient.resetCallCounts();
+
+        final CallbackLoopRunner.Result<ResourceModel, CallbackContext> result = run(new DeleteHandler(CONFIG), null, created);
+
+        Assertions.assertThat(result.getEvent().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        Assertions.assertThat(rdsClient.getDBInstance(DB_INSTANCE_IDENTIFIER)).isNull();
+        Assertions.assertThat(rdsClient.getCallCount("DeleteDBInstance")).isEqualTo(1);
+        Assertions.assertThat(rdsClient.getTotalCallCount()).isLessThanOrEqualTo(15);
+    }
+
+    private ResourceModel model() {
+        return ResourceModel.builder()
+                .dBInstanceIdentifier(DB_INSTANCE_IDENTIFIER)
+                .dBInstanceClass("db.m5.large")
+                .engine("mysql")
+                .engineVersion("8.0.35")
+                .allocatedStorage("100")
+                .masterUsername("admin")
+                .masterUserPassword("password")
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
+
+    private CallbackLoopRunner.Result<ResourceModel, CallbackContext> run(
+            final BaseHandlerStd handler,
+            final ResourceModel previousModel,
+            final ResourceModel desiredModel
+    ) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken("token")
+                .logicalResourceIdentifier("DBInstance")
+                .stackId("arn:aws:cloudformation:us-east-1:123456789012:stack/stack/id")
+                .region(SimulatedRdsClient.REGION)
+                .awsAccountId(SimulatedRdsClient.ACCOUNT_ID)
+                .previousResourceState(previousModel)
+                .desiredResourceState(desiredModel)
+                .build();
+        return runner.run(request, new CallbackContext(), (currentRequest, context) -> {
+            final AmazonWebServicesClientProxy proxy = runner.newProxy(LOGGER, CREDENTIALS);
+            return handler.handleRequest(
+                    proxy,
+                    currentRequest,
+                    context,
+                    new VersionedProxyClient<RdsClient>().register(ApiVersion.DEFAULT, new BaseProxyClient<>(proxy, rdsClient)),
+                    new VersionedProxyClient<Ec2Client>().register(ApiVersion.DEFAULT, new BaseProxyClient<>(proxy, ec2Client)),
+                    new RequestLogger(LOGGER, currentRequest, new FilteredJsonPrinter())
+            );
+        });
+    }
+}
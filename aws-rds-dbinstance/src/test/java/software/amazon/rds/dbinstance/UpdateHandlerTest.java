@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -35,6 +36,7 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -200,7 +202,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client()).modifyDBInstance(any(ModifyDbInstanceRequest.class));
         verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
         verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
@@ -242,7 +244,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         ArgumentCaptor<ModifyDbInstanceRequest> argumentCaptor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxyV12.client(), times(1)).modifyDBInstance(argumentCaptor.capture());
         verify(rdsProxyV12.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client()).addTagsToResource(any(AddTagsToResourceRequest.class));
         verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(rdsProxy.client()).describeEvents(any(DescribeEventsRequest.class));
@@ -284,7 +286,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).modifyDBInstance(argument.capture());
         Assertions.assertThat(argument.getValue().maxAllocatedStorage()).isEqualTo(ALLOCATED_STORAGE);
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(1)).describeEvents(any(DescribeEventsRequest.class));
     }
 
@@ -423,7 +425,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         Assertions.assertThat(captor.getValue().tags())
                 .containsExactlyInAnyOrder(
                         software.amazon.awssdk.services.rds.model.Tag .builder().key("tag-key").value("stack-level").build());
-        verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
+        verify(rdsProxy.client(), never()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
 
         verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
@@ -564,6 +566,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class))).thenReturn(addRoleToDBInstanceResponse);
         final RemoveRoleFromDbInstanceResponse removeRoleFromDBInstanceResponse = RemoveRoleFromDbInstanceResponse.builder().build();
         when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class))).thenReturn(removeRoleFromDBInstanceResponse);
+        when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenThrow(new RuntimeException(MSG_GENERIC_ERR));
 
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
@@ -586,7 +589,9 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
         verify(rdsProxy.client(), times(3)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(7)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        // The tagging step reuses the DBInstance snapshot observed by the last role stabilization check.
+        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
     }
 
     @Test
@@ -595,12 +600,11 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>(
                 computeAssociatedRoleTransitions(DB_INSTANCE_ACTIVE, ASSOCIATED_ROLES, ASSOCIATED_ROLES_ALTER)
         );
-        // We expect describeDBInstances to be called 3 more times: for tag mutation, reboot check and the final resource fetch.
-        for (int i = 0; i < 3; i++) {
-            transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
-                    .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
-                    .build());
-        }
+        // We expect describeDBInstances to be called 1 more time for the final resource fetch.
+        // The tag mutation reuses the snapshot observed by the last role stabilization check.
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                .build());
 
         final RemoveTagsFromResourceResponse removeTagsFromResourceResponse = RemoveTagsFromResourceResponse.builder().build();
         when(rdsProxy.client().removeTagsFromResource(any(RemoveTagsFromResourceRequest.class))).thenReturn(removeTagsFromResourceResponse);
@@ -631,7 +635,85 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client()).removeTagsFromResource(any(RemoveTagsFromResourceRequest.class));
         verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
         verify(rdsProxy.client(), times(3)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(8)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(7)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UpdateRoles_StabilizedTogether() {
+        // Every role is detached, then attached, up front: a single describe per poll observes all of them.
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES))
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Collections.emptyList())
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER))
+                .build());
+
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class))).thenReturn(AddRoleToDbInstanceResponse.builder().build());
+        when(rdsProxy.client().removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class))).thenReturn(RemoveRoleFromDbInstanceResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        context.setUpdated(true);
+        context.setRebooted(true);
+        context.setStorageAllocated(true);
+
+        test_handleRequest_base(
+                context,
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().build(),
+                () -> RESOURCE_MODEL_BLDR().associatedRoles(ASSOCIATED_ROLES_ALTER).build(),
+                expectSuccess()
+        );
+
+        final InOrder inOrder = Mockito.inOrder(rdsProxy.client());
+        inOrder.verify(rdsProxy.client(), times(3)).removeRoleFromDBInstance(any(RemoveRoleFromDbInstanceRequest.class));
+        inOrder.verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        inOrder.verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        inOrder.verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        // The final read reuses the snapshot observed by the last role stabilization check.
+        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AddRoles_IgnoredRoleNotAwaitedOnCallback() {
+        // The role the call is ignored for never shows up, only the other one does, after a callback.
+        when(rdsProxy.client().addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class)))
+                .thenThrow(DbInstanceRoleAlreadyExistsException.class)
+                .thenReturn(AddRoleToDbInstanceResponse.builder().build());
+        when(rdsProxy.client().describeDBInstances(any(DescribeDbInstancesRequest.class)))
+                .thenReturn(DescribeDbInstancesResponse.builder()
+                        .dbInstances(DB_INSTANCE_ACTIVE.toBuilder().associatedRoles(Collections.emptyList()).build())
+                        .build())
+                .thenReturn(DescribeDbInstancesResponse.builder()
+                        .dbInstances(DB_INSTANCE_ACTIVE.toBuilder()
+                                .associatedRoles(Translator.translateAssociatedRolesToSdk(ASSOCIATED_ROLES_ALTER.subList(1, 2)))
+                                .build())
+                        .build());
+
+        final CallbackContext context = new CallbackContext();
+        // No time is left to wait in the first invocation, so the stabilization is resumed by a callback.
+        final AmazonWebServicesClientProxy expiringProxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> 0L);
+        final ProgressEvent<ResourceModel, CallbackContext> callback = handler.addNewRoles(
+                expiringProxy,
+                rdsProxy,
+                ProgressEvent.progress(RESOURCE_MODEL_BLDR().build(), context),
+                ASSOCIATED_ROLES_ALTER
+        );
+        Assertions.assertThat(callback.isInProgressCallbackDelay()).isTrue();
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = handler.addNewRoles(
+                proxy,
+                rdsProxy,
+                ProgressEvent.progress(RESOURCE_MODEL_BLDR().build(), context),
+                ASSOCIATED_ROLES_ALTER
+        );
+        Assertions.assertThat(progress.isInProgress()).isTrue();
+
+        verify(rdsProxy.client(), times(2)).addRoleToDBInstance(any(AddRoleToDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -673,7 +755,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client()).rebootDBInstance(any(RebootDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -714,6 +796,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_SetParameterGroupName() {
+        expectServiceInvocation = false;
         final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
                 .dbParameterGroups(ImmutableList.of(DBParameterGroup.builder().build()))
                 .build();
@@ -749,11 +832,12 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(rdsProxy.client()).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
     public void handleRequest_SetParameterGroupName_EmptyDbParameterGroupName() {
+        expectServiceInvocation = false;
         final ResourceModel desiredModel = RESOURCE_MODEL_BLDR()
                 .dBParameterGroupName(null)
                 .engineVersion(ENGINE_VERSION_MYSQL_80)
@@ -777,7 +861,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -836,6 +920,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_SetParameterGroupName_NoDbParameterGroups() {
+        expectServiceInvocation = false;
         final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
                 .dbParameterGroups(ImmutableList.of()) // empty db parameter group set
                 .build();
@@ -865,11 +950,12 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
     public void handleRequest_SetParameterGroupName_EmptyDbEngineVersions() {
+        expectServiceInvocation = false;
         final DescribeDbParameterGroupsResponse describeDbParameterGroupsResponse = DescribeDbParameterGroupsResponse.builder()
                 .dbParameterGroups(ImmutableList.of(DBParameterGroup.builder().build()))
                 .build();
@@ -906,11 +992,12 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
         verify(rdsProxy.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
         verify(rdsProxy.client()).describeDBEngineVersions(any(DescribeDbEngineVersionsRequest.class));
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
     public void handleRequest_SetDefaultVpcId() {
+        expectServiceInvocation = false;
         final DescribeSecurityGroupsResponse describeSecurityGroupsResponse = DescribeSecurityGroupsResponse.builder()
                 .securityGroups(SecurityGroup.builder().groupName(DB_SECURITY_GROUP_DEFAULT).groupId(DB_SECURITY_GROUP_ID).build())
                 .build();
@@ -933,11 +1020,12 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(ec2Proxy.client()).describeSecurityGroups(any(DescribeSecurityGroupsRequest.class));
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
     public void handleRequest_NoDefaultVpcIdForClusterInstance() {
+        expectServiceInvocation = false;
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
         context.setStorageAllocated(true);
@@ -957,11 +1045,12 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
     public void handleRequest_NoDefaultVpcIdForOracleCustom() {
+        expectServiceInvocation = false;
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
         context.setStorageAllocated(true);
@@ -981,7 +1070,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -1037,7 +1126,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
 
-        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
     }
 
@@ -1117,7 +1206,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(7)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
         verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
     }
@@ -1190,10 +1279,54 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         );
 
         verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
-        verify(rdsProxy.client(), times(5)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client(), times(3)).describeDBClusters(any(DescribeDbClustersRequest.class));
     }
 
+    @Test
+    public void handleRequest_ResourceDriftClusterInstanceAwaitsRebootBeforeDescribingCluster() {
+        final Queue<DBInstance> transitions = new ConcurrentLinkedQueue<>();
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .dbParameterGroups(DBParameterGroupStatus.builder()
+                        .dbParameterGroupName("test-db-parameter-group")
+                        .parameterApplyStatus("pending-reboot")
+                        .build())
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceStatus("rebooting")
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE.toBuilder()
+                .dbInstanceStatus("rebooting")
+                .build());
+        transitions.add(DB_INSTANCE_ACTIVE);
+        transitions.add(DB_INSTANCE_ACTIVE);
+        transitions.add(DB_INSTANCE_ACTIVE);
+
+        when(rdsProxy.client().describeDBClusters(any(DescribeDbClustersRequest.class)))
+                .thenReturn(DescribeDbClustersResponse.builder()
+                        .dbClusters(DBCluster.builder()
+                                .dbClusterMembers(DBClusterMember.builder()
+                                        .dbInstanceIdentifier(DB_INSTANCE_ACTIVE.dbInstanceIdentifier())
+                                        .dbClusterParameterGroupStatus("in-sync")
+                                        .build())
+                                .build())
+                        .build());
+
+        test_handleRequest_base(
+                new CallbackContext(),
+                ResourceHandlerRequest.<ResourceModel>builder().driftable(true),
+                transitions::remove,
+                () -> RESOURCE_MODEL_BLDR().dBClusterIdentifier("db-cluster-identifier").build(),
+                () -> RESOURCE_MODEL_BLDR().dBClusterIdentifier("db-cluster-identifier").build(),
+                expectSuccess()
+        );
+
+        verify(rdsProxy.client(), times(1)).rebootDBInstance(any(RebootDbInstanceRequest.class));
+        verify(rdsProxy.client(), times(6)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        // The cluster is only described once the rebooted instance is available: once after the reboot and once for the drift.
+        verify(rdsProxy.client(), times(2)).describeDBClusters(any(DescribeDbClustersRequest.class));
+    }
+
     @Test
     public void handleRequest_EmptyVpcSecurityGroupIdList() {
         when(rdsProxy.client().describeEvents(any(DescribeEventsRequest.class)))
@@ -1218,7 +1351,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         ArgumentCaptor<ModifyDbInstanceRequest> captor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client(), times(1)).modifyDBInstance(captor.capture());
@@ -1283,7 +1416,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         ArgumentCaptor<ModifyDbInstanceRequest> captor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client()).modifyDBInstance(captor.capture());
@@ -1299,6 +1432,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_StorageIsNotFull() {
+        expectServiceInvocation = false;
         final CallbackContext context = new CallbackContext();
         context.setUpdated(true);
         context.setRebooted(true);
@@ -1313,7 +1447,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(1)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
@@ -1359,7 +1493,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         final ArgumentCaptor<ModifyDbInstanceRequest> argumentCaptor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client(), times(1)).modifyDBInstance(argumentCaptor.capture());
@@ -1390,7 +1524,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         final ArgumentCaptor<ModifyDbInstanceRequest> argumentCaptor = ArgumentCaptor.forClass(ModifyDbInstanceRequest.class);
         verify(rdsProxy.client(), times(1)).modifyDBInstance(argumentCaptor.capture());
@@ -1417,7 +1551,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
                 expectSuccess()
         );
 
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
         verify(rdsProxy.client()).promoteReadReplica(any(PromoteReadReplicaRequest.class));
     }
 
@@ -1605,7 +1739,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(rdsProxy.client(), times(1)).modifyDBInstance(any(ModifyDbInstanceRequest.class));
         ArgumentCaptor<DescribeEventsRequest> describeEventsCaptor = ArgumentCaptor.forClass(DescribeEventsRequest.class);
         verify(rdsProxy.client(), times(1)).describeEvents(describeEventsCaptor.capture());
-        verify(rdsProxy.client(), times(3)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
 
         Assertions.assertThat(describeEventsCaptor.getValue().startTime()).isEqualTo(updatedAt);
     }
@@ -1743,6 +1877,7 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
 
     @Test
     public void handleRequest_startAutomaticBackupReplication() {
+        expectServiceInvocation = false;
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
@@ -1777,11 +1912,12 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(crossRegionRdsProxy.client(), atLeastOnce()).serviceName();
         verifyNoMoreInteractions(crossRegionRdsProxy.client());
         verifyAccessPermissions(crossRegionRdsProxy.client());
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 
     @Test
     public void handleRequest_stopAutomaticBackupReplication() {
+        expectServiceInvocation = false;
         final CallbackContext context = new CallbackContext();
         context.setCreated(true);
         context.setUpdated(true);
@@ -1814,6 +1950,6 @@ public class UpdateHandlerTest extends AbstractHandlerTest {
         verify(crossRegionRdsProxy.client(), atLeastOnce()).serviceName();
         verifyAccessPermissions(crossRegionRdsProxy.client());
         verifyNoMoreInteractions(crossRegionRdsProxy.client());
-        verify(rdsProxy.client(), times(4)).describeDBInstances(any(DescribeDbInstancesRequest.class));
+        verify(rdsProxy.client(), times(2)).describeDBInstances(any(DescribeDbInstancesRequest.class));
     }
 }
@@ -104,4 +104,21 @@ class RdsClientProviderTest {
         Assertions.assertThat(client.serviceClientConfiguration().region().id()).isEqualTo("eu-west-1");
         Assertions.assertThat(client).isNotNull();
     }
+
+    @Test
+    public void test_getClientForRegion_reusesClient() {
+        final RdsClientProvider provider = new RdsClientProvider();
+        final RdsClient client = provider.getClientForRegion("eu-west-2");
+        Assertions.assertThat(new RdsClientProvider().getClientForRegion("eu-west-2")).isSameAs(client);
+        Assertions.assertThat(provider.getClientForRegion("eu-central-1")).isNotSameAs(client);
+    }
+
+    @Test
+    public void test_getClientForApiVersion_reusesClient() {
+        final RdsClientProvider provider = new RdsClientProvider();
+        final RdsClient client = provider.getClientForApiVersion("2012-09-17");
+        Assertions.assertThat(provider.getClientForApiVersion("2012-09-17")).isSameAs(client);
+        Assertions.assertThat(provider.getClientForApiVersion("2014-10-31")).isNotSameAs(client);
+        Assertions.assertThat(provider.getClient()).isNotSameAs(client);
+    }
 }
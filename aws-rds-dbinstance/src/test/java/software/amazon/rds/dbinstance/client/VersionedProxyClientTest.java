@@ -51,6 +51,23 @@ class VersionedProxyClientTest {
         Assertions.assertThat(client.defaultClient()).isEqualTo(proxyClient);
     }
 
+    @Test
+    public void test_map_wrapsRegisteredClients() {
+        final VersionedProxyClient<Void> client = new VersionedProxyClient<Void>();
+        final TestClient defaultClient = new TestClient();
+        final TestClient v12Client = new TestClient();
+        client.register(ApiVersion.DEFAULT, defaultClient);
+        client.register(ApiVersion.V12, v12Client);
+
+        final TestClient mappedClient = new TestClient();
+        final VersionedProxyClient<Void> mapped = client.map(proxyClient -> mappedClient);
+
+        Assertions.assertThat(mapped.defaultClient()).isEqualTo(mappedClient);
+        Assertions.assertThat(mapped.forVersion(ApiVersion.V12)).isEqualTo(mappedClient);
+        Assertions.assertThat(client.defaultClient()).isEqualTo(defaultClient);
+        Assertions.assertThat(client.forVersion(ApiVersion.V12)).isEqualTo(v12Client);
+    }
+
     private static class TestClient implements ProxyClient<Void> {
 
         @Override
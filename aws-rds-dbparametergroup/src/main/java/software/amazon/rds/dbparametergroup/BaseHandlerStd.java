@@ -10,12 +10,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import lombok.NonNull;
@@ -31,7 +32,6 @@ import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.Filter;
 import software.amazon.awssdk.services.rds.model.InvalidDbParameterGroupStateException;
 import software.amazon.awssdk.services.rds.model.Parameter;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -47,7 +47,12 @@ import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
+import software.amazon.rds.common.logging.ResponseLogPolicy;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.util.EngineDefaultsCache;
+import software.amazon.rds.common.util.ParallelPageFetcher;
+import software.amazon.rds.common.util.ParameterBatchScheduler;
+import software.amazon.rds.common.util.ParameterDiff;
 import software.amazon.rds.common.util.ParameterGrouper;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -79,6 +84,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     protected static final int MAX_LENGTH_GROUP_NAME = 255;
     protected static final int NO_CALLBACK_DELAY = 0;
+    protected static final int THROTTLED_CALLBACK_DELAY = 10;
     protected static final int MAX_PARAMETERS_PER_REQUEST = 20;
 
     protected static final int MAX_PARAMETER_FILTER_SIZE = 100;
@@ -87,8 +93,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String RESOURCE_IDENTIFIER = "dbparametergroup";
     protected static final String STACK_NAME = "rds";
 
+    // Engine defaults are shared by all the handler invocations served by the process.
+    protected static final EngineDefaultsCache ENGINE_DEFAULTS_CACHE = new EngineDefaultsCache();
+
     protected HandlerConfig config;
     protected RequestLogger requestLogger;
+    protected String region;
 
     private final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter();
 
@@ -112,7 +122,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 PARAMETERS_FILTER,
                 requestLogger -> handleRequest(
                         proxy,
-                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient)),
+                        new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient), ResponseLogPolicy.sampled()),
                         request,
                         context,
                         requestLogger
@@ -135,6 +145,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger requestLogger
     ) {
         this.requestLogger = requestLogger;
+        this.region = request.getRegion();
         return handleRequest(proxy, proxyClient, request, callbackContext);
     };
 
@@ -145,13 +156,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags
     ) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
@@ -160,8 +167,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         try {
             final String arn = progress.getCallbackContext().getDbParameterGroupArn();
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(rdsProxyClient, arn, tagDiff);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -193,10 +199,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             return ProgressEvent.defaultInProgressHandler(context, NO_CALLBACK_DELAY, model);
         }
 
-        //These containers will be populated in upcoming calls in progress chain.
-        final Map<String, Parameter> defaultParams = Maps.newHashMap();
-        final Map<String, Parameter> currentParams = Maps.newHashMap();
-
         final Set<String> paramNames = new HashSet<>();
         paramNames.addAll(Optional.ofNullable(previousParams).orElse(Collections.emptyMap()).keySet());
         paramNames.addAll(Optional.ofNullable(desiredParams).orElse(Collections.emptyMap()).keySet());
@@ -205,12 +207,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             return progress;
         }
 
+        //The defaults are served from the complete family index as is, and the current parameters are diffed page by page.
+        //Only the current values of the model parameters are kept, they are modified once the reset is done.
+        final Map<String, Parameter> currentModelParams = Maps.newTreeMap();
+
         return ProgressEvent.progress(model, context)
-                .then(p -> describeEngineDefaultParameters(proxy, proxyClient, p, new ArrayList<>(paramNames), defaultParams, requestLogger))
-                .then(p -> validateModelParameters(p, defaultParams, requestLogger))
-                .then(p -> describeCurrentDBParameters(proxy, proxyClient, p, new ArrayList<>(paramNames), currentParams, requestLogger))
-                .then(p -> resetParameters(p, defaultParams, currentParams, proxy, proxyClient))
-                .then(p -> modifyParameters(proxy, proxyClient, p, currentParams));
+                .then(p -> {
+                    final Map<String, Parameter> defaultParams;
+                    try {
+                        defaultParams = lookupAllEngineDefaultParameters(proxyClient, model.getFamily());
+                    } catch (Exception exception) {
+                        return Commons.handleException(p, exception, DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
+                    }
+                    return validateModelParameters(p, defaultParams, requestLogger)
+                            .then(vp -> resetParameters(proxyClient, vp, new ArrayList<>(paramNames), defaultParams, currentModelParams));
+                })
+                .then(p -> modifyParameters(proxyClient, p, currentModelParams));
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> applyParameters(
@@ -226,7 +238,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             return ProgressEvent.defaultInProgressHandler(callbackContext, NO_CALLBACK_DELAY, model);
         }
         //Map will be populated in upcoming calls in progress chain.
-        final Map<String, Parameter> defaultParams = Maps.newHashMap();
+        final Map<String, Parameter> defaultParams = Maps.newTreeMap();
         final List<String> paramNames = new ArrayList<>(Optional.ofNullable(desiredParams).orElse(Collections.emptyMap()).keySet());
 
         if (paramNames.isEmpty()) {
@@ -236,118 +248,152 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return ProgressEvent.progress(model, callbackContext)
                 .then(p -> describeEngineDefaultParameters(proxy, proxyClient, p, paramNames, defaultParams, requestLogger))
                 .then(p -> validateModelParameters(p, defaultParams, requestLogger))
-                .then(p -> modifyParameters(proxy, proxyClient, p, defaultParams));
+                .then(p -> modifyParameters(proxyClient, p, defaultParams));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> resetParameters(
+            final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final List<String> paramNames,
             final Map<String, Parameter> defaultParams,
-            final Map<String, Parameter> currentParams,
-            final AmazonWebServicesClientProxy proxy,
-            final ProxyClient<RdsClient> proxyClient
+            final Map<String, Parameter> currentModelParams
     ) {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext context = progress.getCallbackContext();
-        final Map<String, Parameter> paramsToReset = getParametersToReset(model, defaultParams, currentParams);
-
-        requestLogger.log("ResetParameters", paramsToReset);
-        for (final List<Parameter> paramsPartition : ParameterGrouper.partition(paramsToReset, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = resetParameters(proxy, model, context, paramsPartition, proxyClient, requestLogger);
-            if (progressEvent.isFailed()) {
-                return progressEvent;
-            }
-        }
-
-        return progress;
+        final Map<String, Object> modelParams = model.getParameters();
+
+        return submitInPartitions(
+                progress,
+                batcher -> forEachDBParametersPage(proxyClient, model.getDBParameterGroupName(), paramNames, page -> {
+                    for (final Parameter currentParam : page) {
+                        final String name = currentParam.parameterName();
+                        if (modelParams != null && modelParams.containsKey(name)) {
+                            currentModelParams.put(name, currentParam);
+                        }
+                        final Parameter defaultParam = defaultParams.get(name);
+                        if (isResetRequired(modelParams, defaultParam, currentParam)) {
+                            batcher.add(defaultParam);
+                        }
+                    }
+                }),
+                paramsPartition -> {
+                    requestLogger.log("ResetParameters", paramsPartition);
+                    return resetParameters(proxyClient, model, context, paramsPartition);
+                }
+        );
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> modifyParameters(
-            final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Map<String, Parameter> currentParams
     ) {
         final ResourceModel model = progress.getResourceModel();
         final CallbackContext context = progress.getCallbackContext();
+        final Map<String, Object> modelParams = Optional.ofNullable(model.getParameters()).orElse(Collections.emptyMap());
 
-        final Map<String, Parameter> paramsToModify = getModifiableParameters(model, currentParams);
+        return submitInPartitions(
+                progress,
+                batcher -> ParameterDiff.sortedByName(currentParams).forEachRemaining(currentParam -> {
+                    final String name = currentParam.parameterName();
+                    if (!modelParams.containsKey(name)) {
+                        return;
+                    }
+                    //filter to parameters want to modify and its value is different from already exist value
+                    final String desiredValue = String.valueOf(modelParams.get(name));
+                    if (!desiredValue.equals(currentParam.parameterValue())) {
+                        batcher.add(Translator.buildParameterWithNewValue(desiredValue, currentParam));
+                    }
+                }),
+                paramsPartition -> modifyParameterGroup(proxyClient, model, context, paramsPartition)
+        );
+    }
 
-        for (final List<Parameter> paramsPartition : ParameterGrouper.partition(paramsToModify, DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST)) {  //modify api call is limited to 20 parameter per request
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = modifyParameterGroup(proxy, proxyClient, model, context, paramsPartition);
-            if (progressEvent.isFailed()) {
-                return progressEvent;
-            }
+    /**
+     * Feeds the parameters emitted by the producer into partitions of at most {@code MAX_PARAMETERS_PER_REQUEST}
+     * (the limit of the modify and reset API calls) and submits each partition as soon as it is complete.
+     * Dependant parameters are kept in the same partition, and partitions holding them are submitted in order.
+     * The rest are submitted concurrently. Once a submission fails or is throttled, the rest are skipped.
+     * A throttled submission is reported as a callback with a delay: the next invocation diffs the parameters again
+     * and only submits the ones not applied yet.
+     * If the producer fails, the partitions already submitted are awaited before the failure is reported.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> submitInPartitions(
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Consumer<ParameterGrouper.Batcher> producer,
+            final Function<List<Parameter>, ProgressEvent<ResourceModel, CallbackContext>> submitter
+    ) {
+        final ParameterBatchScheduler.Session<ProgressEvent<ResourceModel, CallbackContext>> session = ParameterBatchScheduler.getDefault()
+                .open(DEPENDENCIES, submitter, ProgressEvent::isFailed, BaseHandlerStd::isThrottled);
+        final ParameterGrouper.Batcher batcher = ParameterGrouper.batcher(DEPENDENCIES, MAX_PARAMETERS_PER_REQUEST, session);
+        try {
+            producer.accept(batcher);
+            batcher.flush();
+        } catch (Exception exception) {
+            session.cancel();
+            return Commons.handleException(progress, exception, DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
         }
 
-        return progress;
+        final ProgressEvent<ResourceModel, CallbackContext> failure;
+        try {
+            failure = session.await();
+        } catch (Exception exception) {
+            return Commons.handleException(progress, exception, DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET, requestLogger);
+        }
+        if (failure != null && isThrottled(failure)) {
+            return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(), THROTTLED_CALLBACK_DELAY, progress.getResourceModel());
+        }
+        return failure != null ? failure : progress;
+    }
+
+    private static boolean isThrottled(final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        return progress.isFailed() && progress.getErrorCode() == HandlerErrorCode.Throttling;
     }
 
+    // Partitions are submitted from the worker threads of the batch scheduler, so the calls are made directly
+    // through the proxy client: proxy.initiate would serialize them on the call graph of the shared context.
     private ProgressEvent<ResourceModel, CallbackContext> modifyParameterGroup(
-            final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ResourceModel model,
             final CallbackContext context,
             final List<Parameter> paramsPartition
     ) {
-        return proxy.initiate("rds::modify-db-parameter-group", proxyClient, model, context)
-                .translateToServiceRequest((resourceModel) -> Translator.modifyDbParameterGroupRequest(resourceModel, paramsPartition))
-                .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::modifyDBParameterGroup))
-                .handleError((request, exception, client, resourceModel, ctx) ->
-                        Commons.handleException(
-                                ProgressEvent.progress(resourceModel, ctx),
-                                exception,
-                                DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET,
-                                requestLogger
-                        ))
-                .progress();
+        try {
+            proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.modifyDbParameterGroupRequest(model, paramsPartition),
+                    proxyClient.client()::modifyDBParameterGroup
+            );
+        } catch (Exception exception) {
+            return Commons.handleException(
+                    ProgressEvent.progress(model, context),
+                    exception,
+                    DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET,
+                    requestLogger
+            );
+        }
+        return ProgressEvent.progress(model, context);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> resetParameters(
-            final AmazonWebServicesClientProxy proxy,
-            final ResourceModel model,
-            final CallbackContext context,
-            final List<Parameter> paramsPartition,
             final ProxyClient<RdsClient> proxyClient,
-            final RequestLogger logger
-    ) {
-        return proxy.initiate("rds::reset-db-parameter-group", proxyClient, model, context)
-                .translateToServiceRequest((resourceModel) -> Translator.resetDbParametersRequest(resourceModel, paramsPartition))
-                .makeServiceCall((request, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(request, proxyInvocation.client()::resetDBParameterGroup))
-                .handleError((request, exception, client, resourceModel, ctx) ->
-                        Commons.handleException(
-                                ProgressEvent.progress(resourceModel, ctx),
-                                exception,
-                                DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET,
-                                logger
-                        ))
-                .progress();
-    }
-
-    private Map<String, Parameter> getModifiableParameters(
             final ResourceModel model,
-            final Map<String, Parameter> currentParams
+            final CallbackContext context,
+            final List<Parameter> paramsPartition
     ) {
-        final Map<String, Parameter> paramsToModify = Maps.newHashMap(currentParams);
-        final Map<String, Object> modelParams = Optional.ofNullable(model.getParameters()).orElse(Collections.emptyMap());
-        paramsToModify.keySet().retainAll(modelParams.keySet());
-
-        return paramsToModify.entrySet()
-                .stream()
-                //filter to parameters want to modify and its value is different from already exist value
-                .filter(entry -> {
-                    final String name = entry.getKey();
-                    final String previousValue = entry.getValue().parameterValue();
-                    final String desiredValue = String.valueOf(modelParams.get(name));
-                    return !desiredValue.equals(previousValue);
-                })
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> {
-                            final String parameterName = entry.getKey();
-                            final String desiredValue = String.valueOf(modelParams.get(parameterName));
-                            final Parameter defaultParam = entry.getValue();
-                            return Translator.buildParameterWithNewValue(desiredValue, defaultParam);
-                        })
-                );
+        try {
+            proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.resetDbParametersRequest(model, paramsPartition),
+                    proxyClient.client()::resetDBParameterGroup
+            );
+        } catch (Exception exception) {
+            return Commons.handleException(
+                    ProgressEvent.progress(model, context),
+                    exception,
+                    DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET,
+                    requestLogger
+            );
+        }
+        return ProgressEvent.progress(model, context);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> validateModelParameters(
@@ -383,157 +429,106 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
     }
 
-    private Map<String, Parameter> getParametersToReset(
-            final ResourceModel model,
-            final Map<String, Parameter> defaultParams,
-            final Map<String, Parameter> currentParams
-    ) {
-        final Map<String, Object> paramsToModify = model.getParameters();
-        final Map<String, Parameter> paramsToReset = Maps.newLinkedHashMap(defaultParams);
-        paramsToReset.keySet().retainAll(currentParams.keySet());
-
-        return paramsToReset.entrySet()
-                .stream()
-                .filter(entry -> {
-                    final String name = entry.getKey();
-                    final String previousValue = entry.getValue().parameterValue();
-                    final String desiredValue = currentParams.get(name).parameterValue();
-                    return paramsToModify != null && desiredValue != null
-                            && !desiredValue.equals(previousValue)
-                            && !paramsToModify.containsKey(name);
-                })
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private Iterable<Parameter> fetchDBParametersIterable(
-            final ProxyClient<RdsClient> proxyClient,
-            final DescribeDbParametersRequest request
+    private static boolean isResetRequired(
+            final Map<String, Object> modelParams,
+            final Parameter defaultParam,
+            final Parameter currentParam
     ) {
-        Iterable<Parameter> result = Collections.emptyList();
-
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new RuntimeException("Max DescribeDBParameters page reached.");
-            }
-            final DescribeDbParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeDBParameters
-            );
-            if (response.parameters() != null) {
-                result = Iterables.concat(result, response.parameters());
-            }
-            marker = response.marker();
-            page++;
-        } while (marker != null);
-
-        return result;
+        if (modelParams == null || defaultParam == null || currentParam == null) {
+            return false;
+        }
+        final String defaultValue = defaultParam.parameterValue();
+        final String currentValue = currentParam.parameterValue();
+        return currentValue != null
+                && !currentValue.equals(defaultValue)
+                && !modelParams.containsKey(currentParam.parameterName());
     }
 
-    private Iterable<Parameter> fetchDBParametersIterableWithFilters(
+    /**
+     * Hands the current parameters of the group to the consumer page by page. A {@code null} name filter stands
+     * for all the parameters of the group.
+     */
+    protected void forEachDBParametersPage(
             final ProxyClient<RdsClient> proxyClient,
             final String dbParameterGroupName,
-            final List<String> filterParameterNames
+            final List<String> filterParameterNames,
+            final Consumer<List<Parameter>> pageConsumer
     ) {
-        Iterable<Parameter> iterable = Collections.emptyList();
+        final List<DescribeDbParametersRequest> requests = new ArrayList<>();
 
         if (filterParameterNames == null) {
-            final DescribeDbParametersRequest request = DescribeDbParametersRequest.builder()
+            requests.add(DescribeDbParametersRequest.builder()
                     .dbParameterGroupName(dbParameterGroupName)
-                    .build();
-            iterable = fetchDBParametersIterable(proxyClient, request);
+                    .build());
         } else {
             for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
                 final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
-                final DescribeDbParametersRequest request = DescribeDbParametersRequest.builder()
+                requests.add(DescribeDbParametersRequest.builder()
                         .dbParameterGroupName(dbParameterGroupName)
                         .filters(filters)
-                        .build();
-                iterable = Iterables.concat(iterable, fetchDBParametersIterable(proxyClient, request));
+                        .build());
             }
         }
 
-        return iterable;
-    }
-
-    protected ProgressEvent<ResourceModel, CallbackContext> describeCurrentDBParameters(
-            final AmazonWebServicesClientProxy proxy,
-            final ProxyClient<RdsClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress,
-            final List<String> filterParameterNames,
-            final Map<String, Parameter> accumulator,
-            final RequestLogger logger
-    ) {
-        try {
-            final Iterable<Parameter> parameters = fetchDBParametersIterableWithFilters(
-                    proxyClient,
-                    progress.getResourceModel().getDBParameterGroupName(),
-                    filterParameterNames
-            );
-            for (final Parameter parameter : parameters) {
-                accumulator.put(parameter.parameterName(), parameter);
-            }
-        } catch (Exception e) {
-            return Commons.handleException(progress, e, DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET, logger);
-        }
-        return progress;
+        ParallelPageFetcher.getDefault().forEachPageOfRequests(
+                requests,
+                (request, marker) -> fetchDBParametersPage(proxyClient, request, marker),
+                MAX_DESCRIBE_PAGE_DEPTH,
+                () -> new RuntimeException("Max DescribeDBParameters page reached."),
+                pageConsumer
+        );
     }
 
-    private Iterable<Parameter> fetchEngineDefaultParametersIterable(
+    private static ParallelPageFetcher.Page<Parameter> fetchDBParametersPage(
             final ProxyClient<RdsClient> proxyClient,
-            final DescribeEngineDefaultParametersRequest request
+            final DescribeDbParametersRequest request,
+            final String marker
     ) {
-        Iterable<Parameter> result = Collections.emptyList();
-
-        String marker = null;
-        int page = 0;
-        do {
-            if (page >= MAX_DESCRIBE_PAGE_DEPTH) {
-                throw new RuntimeException("Max DescribeEngineDefaultParameters page reached.");
-            }
-            final DescribeEngineDefaultParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    request.toBuilder().marker(marker).build(),
-                    proxyClient.client()::describeEngineDefaultParameters
-            );
-            final EngineDefaults engineDefaults = response.engineDefaults();
-            if (engineDefaults == null) {
-                break;
-            }
-            if (engineDefaults.parameters() != null) {
-                result = Iterables.concat(result, engineDefaults.parameters());
-            }
-            marker = response.engineDefaults().marker();
-            page++;
-        } while (marker != null);
-
-        return result;
+        final DescribeDbParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                request.toBuilder().marker(marker).build(),
+                proxyClient.client()::describeDBParameters
+        );
+        return ParallelPageFetcher.Page.of(response.parameters(), response.marker());
     }
 
-    private Iterable<Parameter> fetchEngineDefaultParametersIterableWithFilters(
+    private Iterable<Parameter> fetchEngineDefaultParametersWithFilters(
             final ProxyClient<RdsClient> proxyClient,
             final String dbParameterGroupFamily,
             final List<String> filterParameterNames
     ) {
-        Iterable<Parameter> iterable = Collections.emptyList();
+        final List<DescribeEngineDefaultParametersRequest> requests = new ArrayList<>();
 
         if (filterParameterNames == null) {
-            final DescribeEngineDefaultParametersRequest request = DescribeEngineDefaultParametersRequest.builder()
+            requests.add(DescribeEngineDefaultParametersRequest.builder()
                     .dbParameterGroupFamily(dbParameterGroupFamily)
-                    .build();
-            iterable = fetchEngineDefaultParametersIterable(proxyClient, request);
+                    .build());
         } else {
             for (final List<String> partition : Lists.partition(filterParameterNames, MAX_PARAMETER_FILTER_SIZE)) {
                 final Filter[] filters = new Filter[]{Translator.filterByParameterNames(partition)};
-                final DescribeEngineDefaultParametersRequest request = DescribeEngineDefaultParametersRequest.builder()
+                requests.add(DescribeEngineDefaultParametersRequest.builder()
                         .dbParameterGroupFamily(dbParameterGroupFamily)
                         .filters(filters)
-                        .build();
-                iterable = Iterables.concat(iterable, fetchEngineDefaultParametersIterable(proxyClient, request));
+                        .build());
             }
         }
 
-        return iterable;
+        return ParallelPageFetcher.getDefault().fetch(
+                requests,
+                (request, marker) -> {
+                    final DescribeEngineDefaultParametersResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                            request.toBuilder().marker(marker).build(),
+                            proxyClient.client()::describeEngineDefaultParameters
+                    );
+                    final EngineDefaults engineDefaults = response.engineDefaults();
+                    if (engineDefaults == null) {
+                        return ParallelPageFetcher.Page.of(null, null);
+                    }
+                    return ParallelPageFetcher.Page.of(engineDefaults.parameters(), engineDefaults.marker());
+                },
+                Parameter::parameterName,
+                MAX_DESCRIBE_PAGE_DEPTH,
+                () -> new RuntimeException("Max DescribeEngineDefaultParameters page reached.")
+        ).values();
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> describeEngineDefaultParameters(
@@ -545,14 +540,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger logger
     ) {
         try {
-            final Iterable<Parameter> parameters = fetchEngineDefaultParametersIterableWithFilters(
-                    proxyClient,
-                    progress.getResourceModel().getFamily(),
-                    filterParameterNames
-            );
-            for (final Parameter parameter : parameters) {
-                accumulator.put(parameter.parameterName(), parameter);
-            }
+            accumulator.putAll(lookupEngineDefaultParameters(proxyClient, progress.getResourceModel().getFamily(), filterParameterNames));
         } catch (Exception e) {
             return Commons.handleException(progress, e, DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET, logger);
         }
@@ -560,20 +548,48 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return progress;
     }
 
+    protected Map<String, Parameter> lookupAllEngineDefaultParameters(
+            final ProxyClient<RdsClient> proxyClient,
+            final String family
+    ) {
+        return ENGINE_DEFAULTS_CACHE.getAll(
+                new EngineDefaultsCache.Key(region, family),
+                names -> fetchEngineDefaultParametersWithFilters(proxyClient, family, names)
+        );
+    }
+
+    protected Map<String, Parameter> lookupEngineDefaultParameters(
+            final ProxyClient<RdsClient> proxyClient,
+            final String family,
+            final Collection<String> parameterNames
+    ) {
+        return ENGINE_DEFAULTS_CACHE.get(
+                new EngineDefaultsCache.Key(region, family),
+                parameterNames,
+                names -> fetchEngineDefaultParametersWithFilters(proxyClient, family, names)
+        );
+    }
+
     @VisibleForTesting
     static Map<String, Parameter> computeModifiedDBParameters(
             @NonNull final Map<String, Parameter> engineDefaultParameters,
             @NonNull final Map<String, Parameter> currentDBParameters
     ) {
         final Map<String, Parameter> modifiedParameters = new HashMap<>();
-        for (final String paramName : currentDBParameters.keySet()) {
-            final Parameter currentParam = currentDBParameters.get(paramName);
-            final Parameter defaultParam = engineDefaultParameters.get(paramName);
-            if (defaultParam == null || !Objects.equals(defaultParam.parameterValue(), currentParam.parameterValue())) {
-                modifiedParameters.put(paramName, currentParam);
-            }
-        }
+        ParameterDiff.mergeJoin(
+                ParameterDiff.sortedByName(engineDefaultParameters),
+                ParameterDiff.sortedByName(currentDBParameters),
+                (paramName, defaultParam, currentParam) -> {
+                    if (currentParam != null && isModifiedParameter(defaultParam, currentParam)) {
+                        modifiedParameters.put(paramName, currentParam);
+                    }
+                }
+        );
 
         return modifiedParameters;
     }
+
+    protected static boolean isModifiedParameter(final Parameter defaultParam, @NonNull final Parameter currentParam) {
+        return defaultParam == null || !Objects.equals(defaultParam.parameterValue(), currentParam.parameterValue());
+    }
 }
@@ -64,31 +64,36 @@ public class ReadHandler extends BaseHandlerStd {
                 })
                 .then(progress -> {
                     if (progress.getResourceModel().getParameters() == null) {
-                        return readParameters(proxy, proxyClient, progress, requestLogger);
+                        return readParameters(proxyClient, progress, requestLogger);
                     }
                     return progress;
                 })
                 .then(progress -> readTags(proxyClient, progress));
     }
 
+    // The engine defaults are served from the complete family index, which is shared across invocations,
+    // and the current parameters are diffed against them one page at a time.
     private ProgressEvent<ResourceModel, CallbackContext> readParameters(
-            final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final RequestLogger logger
     ) {
-        final Map<String, Parameter> engineDefaultParameters = new HashMap<>();
-        final Map<String, Parameter> currentDBParameters = new HashMap<>();
-
-        return progress
-                .then(p -> describeEngineDefaultParameters(proxy, proxyClient, p, null, engineDefaultParameters, logger))
-                .then(p -> describeCurrentDBParameters(proxy, proxyClient, p, null, currentDBParameters, logger))
-                .then(p -> {
-                    p.getResourceModel().setParameters(
-                            Translator.translateParametersFromSdk(computeModifiedDBParameters(engineDefaultParameters, currentDBParameters))
-                    );
-                    return p;
-                });
+        final ResourceModel model = progress.getResourceModel();
+        final Map<String, Parameter> modifiedParameters = new HashMap<>();
+        try {
+            final Map<String, Parameter> engineDefaultParameters = lookupAllEngineDefaultParameters(proxyClient, model.getFamily());
+            forEachDBParametersPage(proxyClient, model.getDBParameterGroupName(), null, page -> {
+                for (final Parameter currentParameter : page) {
+                    if (isModifiedParameter(engineDefaultParameters.get(currentParameter.parameterName()), currentParameter)) {
+                        modifiedParameters.put(currentParameter.parameterName(), currentParameter);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            return Commons.handleException(progress, e, DEFAULT_DB_PARAMETER_GROUP_ERROR_RULE_SET, logger);
+        }
+        model.setParameters(Translator.translateParametersFromSdk(modifiedParameters));
+        return progress;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> readTags(
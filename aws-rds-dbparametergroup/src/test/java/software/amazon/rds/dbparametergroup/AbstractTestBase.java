@@ -14,6 +14,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
 import org.mockito.internal.util.collections.Sets;
 import org.mockito.stubbing.OngoingStubbing;
 
@@ -102,6 +103,11 @@ public abstract class AbstractTestBase {
         TAG_SET = Sets.newSet(Tag.builder().key("key").value("value").build());
     }
 
+    @BeforeEach
+    public void invalidateEngineDefaultsCache() {
+        BaseHandlerStd.ENGINE_DEFAULTS_CACHE.invalidateAll();
+    }
+
     public abstract HandlerName getHandlerName();
 
     private static final JSONObject resourceSchema = new Configuration().resourceSchemaJsonObject();
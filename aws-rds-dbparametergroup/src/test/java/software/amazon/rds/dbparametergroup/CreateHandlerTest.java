@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -11,6 +12,10 @@ import static org.mockito.Mockito.when;
 import java.security.InvalidParameterException;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,10 +35,12 @@ import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsReques
 import software.amazon.awssdk.services.rds.model.DescribeDbParameterGroupsResponse;
 import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersRequest;
 import software.amazon.awssdk.services.rds.model.DescribeEngineDefaultParametersResponse;
+import software.amazon.awssdk.services.rds.model.EngineDefaults;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.rds.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupRequest;
 import software.amazon.awssdk.services.rds.model.ModifyDbParameterGroupResponse;
+import software.amazon.awssdk.services.rds.model.Parameter;
 import software.amazon.awssdk.services.rds.model.RdsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -155,6 +162,49 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(rdsClient).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
     }
 
+    @Test
+    public void handleRequest_SuccessWithApplyParametersAcrossFilterPartitions() {
+        mockCreateCall();
+        mockDescribeDBParameterGroup();
+
+        final Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < 2 * BaseHandlerStd.MAX_PARAMETER_FILTER_SIZE + 50; i++) {
+            params.put("param" + i, "value");
+        }
+
+        when(proxyClient.client().describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class)))
+                .thenAnswer(invocation -> {
+                    final DescribeEngineDefaultParametersRequest request = invocation.getArgument(0);
+                    final List<Parameter> parameters = request.filters().get(0).values().stream()
+                            .map(name -> Parameter.builder()
+                                    .parameterName(name)
+                                    .parameterValue("default")
+                                    .isModifiable(true)
+                                    .applyType("dynamic")
+                                    .build())
+                            .collect(Collectors.toList());
+                    return DescribeEngineDefaultParametersResponse.builder()
+                            .engineDefaults(EngineDefaults.builder().parameters(parameters).build())
+                            .build();
+                });
+        when(proxyClient.client().modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class)))
+                .thenReturn(ModifyDbParameterGroupResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESOURCE_MODEL.toBuilder().parameters(params).build())
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, proxyClient, request, new CallbackContext(), EMPTY_REQUEST_LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient, times(3)).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
+        verify(rdsClient, times(13)).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+        verify(rdsClient).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(rdsClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_FailWithAccessDenied() {
         final String message = "AccessDenied on create request";
@@ -286,6 +336,31 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(rdsClient).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
     }
 
+    @Test
+    public void handleRequest_ThrottledModifyIsCalledBack() {
+        mockCreateCall();
+        mockDescribeDbParametersResponse(proxyClient, "static", "dynamic", true, false, false);
+        when(proxyClient.client().modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class)))
+                .thenThrow(RdsException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(getClientRequestToken())
+                .desiredResourceState(RESET_RESOURCE_MODEL)
+                .logicalResourceIdentifier(LOGICAL_RESOURCE_IDENTIFIER).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, proxyClient, request, new CallbackContext(), EMPTY_REQUEST_LOGGER);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.THROTTLED_CALLBACK_DELAY);
+        assertThat(response.getErrorCode()).isNull();
+        verify(rdsClient).createDBParameterGroup(any(CreateDbParameterGroupRequest.class));
+        verify(rdsClient).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
+        verify(rdsClient).modifyDBParameterGroup(any(ModifyDbParameterGroupRequest.class));
+    }
+
     @Test
     public void handleRequest_InvalidParameterException() {
         when(proxyClient.client().createDBParameterGroup(any(CreateDbParameterGroupRequest.class)))
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -15,9 +16,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.rds.RdsClient;
@@ -212,4 +215,81 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
         verify(proxyClient.client()).describeDBParameters(any(DescribeDbParametersRequest.class));
     }
+
+    @Test
+    public void handleRequest_ReadModifiedParametersPageByPage() {
+        when(proxyClient.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class)))
+                .thenReturn(DescribeDbParameterGroupsResponse.builder().dbParameterGroups(DB_PARAMETER_GROUP_ACTIVE).build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().describeDBParameters(any(DescribeDbParametersRequest.class)))
+                .thenReturn(DescribeDbParametersResponse.builder()
+                        .parameters(Parameter.builder().parameterName("param1").parameterValue("value1-modified").build())
+                        .marker("marker")
+                        .build())
+                .thenReturn(DescribeDbParametersResponse.builder()
+                        .parameters(Parameter.builder().parameterName("param2").parameterValue("value2").build())
+                        .build());
+        when(proxyClient.client().describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class)))
+                .thenReturn(DescribeEngineDefaultParametersResponse.builder()
+                        .engineDefaults(EngineDefaults.builder()
+                                .parameters(
+                                        Parameter.builder().parameterName("param1").parameterValue("value1").build(),
+                                        Parameter.builder().parameterName("param2").parameterValue("value2").build()
+                                )
+                                .build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().dBParameterGroupName("testDBParameterGroupName").build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, proxyClient, request, new CallbackContext(), EMPTY_REQUEST_LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters()).isEqualTo(ImmutableMap.of("param1", "value1-modified"));
+
+        // The engine defaults of the family are fetched once and serve every page of the current parameters.
+        final ArgumentCaptor<DescribeEngineDefaultParametersRequest> captor = ArgumentCaptor.forClass(DescribeEngineDefaultParametersRequest.class);
+        verify(proxyClient.client()).describeEngineDefaultParameters(captor.capture());
+        assertThat(captor.getValue().filters()).isEmpty();
+        verify(proxyClient.client()).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(proxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(2)).describeDBParameters(any(DescribeDbParametersRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ReadModifiedParametersReusesEngineDefaults() {
+        when(proxyClient.client().describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class)))
+                .thenReturn(DescribeDbParameterGroupsResponse.builder().dbParameterGroups(DB_PARAMETER_GROUP_ACTIVE).build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().describeDBParameters(any(DescribeDbParametersRequest.class)))
+                .thenReturn(DescribeDbParametersResponse.builder()
+                        .parameters(Parameter.builder().parameterName("param1").parameterValue("value1-modified").build())
+                        .build());
+        when(proxyClient.client().describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class)))
+                .thenReturn(DescribeEngineDefaultParametersResponse.builder()
+                        .engineDefaults(EngineDefaults.builder()
+                                .parameters(Parameter.builder().parameterName("param1").parameterValue("value1").build())
+                                .build())
+                        .build());
+
+        for (final String dbParameterGroupName : ImmutableList.of("testDBParameterGroupName1", "testDBParameterGroupName2")) {
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(ResourceModel.builder().dBParameterGroupName(dbParameterGroupName).build())
+                    .region("us-east-1")
+                    .build();
+
+            final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, proxyClient, request, new CallbackContext(), EMPTY_REQUEST_LOGGER);
+
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getParameters()).isEqualTo(ImmutableMap.of("param1", "value1-modified"));
+        }
+
+        verify(proxyClient.client(), times(2)).describeDBParameterGroups(any(DescribeDbParameterGroupsRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(1)).describeEngineDefaultParameters(any(DescribeEngineDefaultParametersRequest.class));
+        verify(proxyClient.client(), times(2)).describeDBParameters(any(DescribeDbParametersRequest.class));
+    }
 }
@@ -1,17 +1,16 @@
 package software.amazon.rds.eventsubscription;
 
-import java.util.Collection;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.EventSubscription;
 import software.amazon.awssdk.services.rds.model.EventSubscriptionQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.InvalidEventSubscriptionStateException;
 import software.amazon.awssdk.services.rds.model.SnsTopicArnNotFoundException;
 import software.amazon.awssdk.services.rds.model.SourceNotFoundException;
 import software.amazon.awssdk.services.rds.model.SubscriptionAlreadyExistException;
 import software.amazon.awssdk.services.rds.model.SubscriptionNotFoundException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -33,6 +32,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String RESOURCE_IDENTIFIER = "eventsubscription";
     protected static final int MAX_LENGTH_EVENT_SUBSCRIPTION = 255;
     protected RequestLogger requestLogger;
+    // The latest event subscription state observed within the current invocation, the final read of a mutating flow reuses it.
+    protected EventSubscription eventSubscriptionSnapshot;
 
     protected static final ErrorRuleSet DEFAULT_EVENT_SUBSCRIPTION_ERROR_RULE_SET = ErrorRuleSet
             .extend(Commons.DEFAULT_ERROR_RULE_SET)
@@ -56,6 +57,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
+        this.eventSubscriptionSnapshot = null;
         return RequestLogger.handleRequest(
                 logger,
                 request,
@@ -83,16 +85,33 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     )
     {
         this.requestLogger = requestLogger;
+        this.eventSubscriptionSnapshot = null;
         return handleRequest(proxy, proxyClient, request, callbackContext);
     }
 
+    /**
+     * Reads the resource state at the end of a mutating flow. The state observed by the last stabilization check is
+     * reused if there is one, otherwise a fresh describe call is issued.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> readLatestState(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext
+    ) {
+        if (eventSubscriptionSnapshot != null) {
+            return new ReadHandler().handleRequest(proxyClient, request, callbackContext, eventSubscriptionSnapshot);
+        }
+        return new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext);
+    }
+
 
     protected boolean isStabilized(final ResourceModel model, final ProxyClient<RdsClient> proxyClient) {
-        final String status = proxyClient.injectCredentialsAndInvokeV2(
+        eventSubscriptionSnapshot = proxyClient.injectCredentialsAndInvokeV2(
                     Translator.describeEventSubscriptionsRequest(model),
                     proxyClient.client()::describeEventSubscriptions)
-                .eventSubscriptionsList().stream().findFirst().get().status();
-        return status.equals("active");
+                .eventSubscriptionsList().stream().findFirst().get();
+        return eventSubscriptionSnapshot.status().equals("active");
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> setEnabledDefaultValue(
@@ -124,13 +143,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags) {
-        final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-        final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
@@ -147,8 +162,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(rdsProxyClient, arn, tagDiff);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
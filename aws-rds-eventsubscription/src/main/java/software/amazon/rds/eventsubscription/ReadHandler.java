@@ -35,6 +35,21 @@ public class ReadHandler extends BaseHandlerStd {
                 .then(progress -> readTags(proxyClient, progress));
     }
 
+    /**
+     * Reads the resource from an event subscription state already observed within the current invocation.
+     * Tags are not a part of the event subscription state and are read separately.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final ProxyClient<RdsClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final EventSubscription eventSubscription
+    ) {
+        callbackContext.setEventSubscriptionArn(eventSubscription.eventSubscriptionArn());
+        final ResourceModel model = Translator.translateToModel(request.getDesiredResourceState().getSubscriptionName(), eventSubscription);
+        return readTags(proxyClient, ProgressEvent.progress(model, callbackContext));
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> readTags(
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
@@ -56,7 +56,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> removeSourceIds(proxy, proxyClient, desiredSourceIds, previousSourceIds, progress))
                 .then(progress -> waitForEventSubscription(proxy, proxyClient, progress))
                 .then(progress -> updateTags(proxy, proxyClient, progress, previousTags, desiredTags))
-                .then(progress -> new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext));
+                .then(progress -> readLatestState(proxy, proxyClient, request, callbackContext));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateEventSubscription(final AmazonWebServicesClientProxy proxy,
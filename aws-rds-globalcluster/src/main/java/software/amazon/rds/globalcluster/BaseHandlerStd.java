@@ -11,11 +11,12 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.rds.common.handler.ExponentialWithJitter;
 
 import java.util.Optional;
 import java.util.function.Function;
@@ -31,7 +32,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected static final int PAUSE_TIME_SECONDS = 60;
   protected static final String STACK_NAME = "rds";
   protected static final String RESOURCE_IDENTIFIER = "globalcluster";
-  protected static final Constant BACKOFF_STRATEGY = Constant.of().timeout(Duration.ofMinutes(180L)).delay(Duration.ofSeconds(30L)).build();
+  // Global cluster operations take minutes, there is no point polling them every few seconds.
+  protected static final Delay BACKOFF_STRATEGY = ExponentialWithJitter.of()
+          .expectedDuration(Duration.ofMinutes(2L))
+          .timeout(Duration.ofMinutes(180L))
+          .build();
   private static final String MESSAGE_FORMAT_FAILED_TO_STABILIZE = "GlobalCluster %s failed to stabilize.";
   protected static final BiFunction<ResourceModel, ProxyClient<RdsClient>, ResourceModel> EMPTY_CALL = (model, proxyClient) -> model;
 
@@ -45,7 +50,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             proxy,
             request,
             callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
+            proxy.newProxy(new ClientBuilder()::getClient),
             logger
     );
   }
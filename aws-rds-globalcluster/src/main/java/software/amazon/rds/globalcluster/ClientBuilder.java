@@ -1,12 +1,13 @@
 package software.amazon.rds.globalcluster;
 
 import software.amazon.awssdk.services.rds.RdsClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.rds.RdsClientBuilder;
+import software.amazon.rds.common.client.CachingSdkClientProvider;
 
-public class ClientBuilder {
-  public static RdsClient getClient() {
-    return RdsClient.builder()
-            .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .build();
+public class ClientBuilder extends CachingSdkClientProvider<RdsClientBuilder, RdsClient> {
+
+  @Override
+  protected RdsClient buildClient() {
+    return setHttpClient(RdsClient.builder()).build();
   }
 }
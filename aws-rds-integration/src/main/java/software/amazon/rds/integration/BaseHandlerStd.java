@@ -7,7 +7,6 @@ import software.amazon.awssdk.services.rds.model.IntegrationNotFoundException;
 import software.amazon.awssdk.services.rds.model.IntegrationQuotaExceededException;
 import software.amazon.awssdk.services.rds.model.IntegrationStatus;
 import software.amazon.awssdk.services.rds.model.KmsKeyNotAccessibleException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -23,8 +22,8 @@ import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
 import software.amazon.rds.common.logging.RequestLogger;
 import software.amazon.rds.common.printer.FilteredJsonPrinter;
+import software.amazon.rds.common.status.StabilizationCheck;
 
-import java.util.Collection;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String STACK_NAME = "rds";
@@ -47,6 +46,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     private final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter();
     private final IntegrationStatusUtil integrationStatusUtil;
+    private final StabilizationCheck<IntegrationStatus> stabilizedCheck;
 
     /** Custom handler config, mostly to facilitate faster unit test */
     final HandlerConfig config;
@@ -59,6 +59,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     BaseHandlerStd(HandlerConfig config) {
         this.config = config;
         this.integrationStatusUtil = new IntegrationStatusUtil();
+        this.stabilizedCheck = StabilizationCheck.<IntegrationStatus>builder("isIntegrationStabilized")
+                .check("isStabilizedState", integrationStatusUtil::isStabilizedState)
+                .build();
     }
 
     @Override
@@ -74,7 +77,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 requestLogger -> handleRequest(
                         proxy,
                         new LoggingProxyClient<>(requestLogger, proxy.newProxy(new ClientProvider()::getClient)), request,
-                        callbackContext != null ? callbackContext : new CallbackContext()
+                        callbackContext != null ? callbackContext : new CallbackContext(),
+                        requestLogger
                 ));
     }
 
@@ -110,7 +114,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .integrations().stream().findFirst().get().status();
 
         assertIntegrationInValidCreatingState(status);
-        return integrationStatusUtil.isStabilizedState(status);
+        return stabilizedCheck.evaluate(status)
+                .log(requestLogger)
+                .isStabilized();
     }
 
     /**
@@ -133,17 +139,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ProgressEvent<ResourceModel, CallbackContext> progress,
             final Tagging.TagSet previousTags,
             final Tagging.TagSet desiredTags) {
-        final Collection<software.amazon.awssdk.services.rds.model.Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-        final Collection<software.amazon.awssdk.services.rds.model.Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
+        final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-        final Collection<software.amazon.awssdk.services.rds.model.Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-        final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
-
-        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+        if (tagDiff.isEmpty()) {
             return progress;
         }
 
-        // TODO - we should call "add" on updated tags, not "remove and then add".
         final Tagging.TagSet rulesetTagsToAdd = Tagging.exclude(desiredTags, previousTags);
         final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
 
@@ -157,8 +158,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         }
 
         try {
-            Tagging.removeTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-            Tagging.addTags(rdsProxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+            Tagging.applyTagDiff(rdsProxyClient, arn, tagDiff);
         } catch (Exception exception) {
             return Commons.handleException(
                     progress,
@@ -1,24 +1,25 @@
 package software.amazon.rds.optiongroup;
 
 import java.time.Duration;
-import java.util.Collection;
 
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupResponse;
+import software.amazon.awssdk.services.rds.model.OptionGroup;
 import software.amazon.awssdk.services.rds.model.OptionGroupAlreadyExistsException;
 import software.amazon.awssdk.services.rds.model.OptionGroupNotFoundException;
 import software.amazon.awssdk.services.rds.model.OptionGroupQuotaExceededException;
-import software.amazon.awssdk.services.rds.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.rds.common.error.ErrorCode;
 import software.amazon.rds.common.error.ErrorRuleSet;
 import software.amazon.rds.common.error.ErrorStatus;
 import software.amazon.rds.common.handler.Commons;
+import software.amazon.rds.common.handler.ExponentialWithJitter;
 import software.amazon.rds.common.handler.HandlerConfig;
 import software.amazon.rds.common.handler.Tagging;
 import software.amazon.rds.common.logging.LoggingProxyClient;
@@ -31,9 +32,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String RESOURCE_IDENTIFIER = "optiongroup";
     protected static final int RESOURCE_ID_MAX_LENGTH = 255;
 
-    protected static final Constant BACKOFF_DELAY = Constant.of()
+    protected static final Delay BACKOFF_DELAY = ExponentialWithJitter.of()
             .timeout(Duration.ofSeconds(150L))
-            .delay(Duration.ofSeconds(5L))
+            .minDelay(Duration.ofSeconds(1L))
+            .maxDelay(Duration.ofSeconds(5L))
             .build();
 
     protected static final ErrorRuleSet DEFAULT_OPTION_GROUP_ERROR_RULE_SET = ErrorRuleSet
@@ -52,6 +54,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     private static final FilteredJsonPrinter PARAMETERS_FILTER = new FilteredJsonPrinter();
     protected HandlerConfig config;
     protected RequestLogger requestLogger;
+    // The latest option group state observed within the current invocation, the final read of a mutating flow reuses it.
+    protected OptionGroup optionGroupSnapshot;
 
     public BaseHandlerStd(final HandlerConfig config) {
         super();
@@ -64,6 +68,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
+        this.optionGroupSnapshot = null;
         return RequestLogger.handleRequest(
                 logger,
                 request,
@@ -89,19 +94,40 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final RequestLogger requestLogger
     ) {
         this.requestLogger = requestLogger;
+        this.optionGroupSnapshot = null;
         return handleRequest(proxy, proxyClient, request, callbackContext);
     };
 
+    /**
+     * Reads the resource state at the end of a mutating flow. The latest observed option group state is reused if there
+     * is one, otherwise a fresh describe call is issued.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> readLatestState(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<RdsClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext
+    ) {
+        if (optionGroupSnapshot != null) {
+            return new ReadHandler().handleRequest(proxyClient, callbackContext, optionGroupSnapshot);
+        }
+        return new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> updateOptionGroupConfigurations(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         return proxy.initiate("rds::update-option-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::modifyOptionGroupRequest)
-                .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                        modifyRequest,
-                        proxyInvocation.client()::modifyOptionGroup
-                ))
+                .makeServiceCall((modifyRequest, proxyInvocation) -> {
+                    final ModifyOptionGroupResponse modifyResponse = proxyInvocation.injectCredentialsAndInvokeV2(
+                            modifyRequest,
+                            proxyInvocation.client()::modifyOptionGroup
+                    );
+                    optionGroupSnapshot = modifyResponse.optionGroup();
+                    return modifyResponse;
+                })
                 .handleError((describeRequest, exception, client, resourceModel, ctx) -> Commons.handleException(
                         ProgressEvent.progress(resourceModel, ctx),
                         exception,
@@ -130,13 +156,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                         requestLogger
                 ))
                 .done((describeRequest, describeResponse, invocation, resourceModel, ctx) -> {
-                    final Collection<Tag> effectivePreviousTags = Tagging.translateTagsToSdk(previousTags);
-                    final Collection<Tag> effectiveDesiredTags = Tagging.translateTagsToSdk(desiredTags);
-
-                    final Collection<Tag> tagsToRemove = Tagging.exclude(effectivePreviousTags, effectiveDesiredTags);
-                    final Collection<Tag> tagsToAdd = Tagging.exclude(effectiveDesiredTags, effectivePreviousTags);
+                    optionGroupSnapshot = describeResponse.optionGroupsList().stream().findFirst().get();
+                    final Tagging.TagDiff tagDiff = Tagging.diff(previousTags, desiredTags);
 
-                    if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+                    if (tagDiff.isEmpty()) {
                         return progress;
                     }
 
@@ -144,10 +167,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                     final Tagging.TagSet rulesetTagsToRemove = Tagging.exclude(previousTags, desiredTags);
 
 
-                    final String arn = describeResponse.optionGroupsList().stream().findFirst().get().optionGroupArn();
+                    final String arn = optionGroupSnapshot.optionGroupArn();
                     try {
-                        Tagging.removeTags(proxyClient, arn, Tagging.translateTagsToSdk(tagsToRemove));
-                        Tagging.addTags(proxyClient, arn, Tagging.translateTagsToSdk(tagsToAdd));
+                        Tagging.applyTagDiff(proxyClient, arn, tagDiff);
                     } catch (Exception exception) {
                         return Commons.handleException(
                                 progress,
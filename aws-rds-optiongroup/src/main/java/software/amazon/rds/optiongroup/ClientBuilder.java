@@ -7,10 +7,10 @@ import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.services.rds.RdsClient;
 import software.amazon.awssdk.services.rds.RdsClientBuilder;
-import software.amazon.rds.common.client.BaseSdkClientProvider;
+import software.amazon.rds.common.client.CachingSdkClientProvider;
 import software.amazon.rds.common.client.RdsUserAgentProvider;
 
-public class ClientBuilder extends BaseSdkClientProvider<RdsClientBuilder, RdsClient> {
+public class ClientBuilder extends CachingSdkClientProvider<RdsClientBuilder, RdsClient> {
 
     private static final int MAX_RETRIES = 5;
 
@@ -28,7 +28,7 @@ public class ClientBuilder extends BaseSdkClientProvider<RdsClientBuilder, RdsCl
     }
 
     @Override
-    public RdsClient getClient() {
+    protected RdsClient buildClient() {
         return setHttpClient(setUserAgentAndRetryPolicy(RdsClient.builder())).build();
     }
 }
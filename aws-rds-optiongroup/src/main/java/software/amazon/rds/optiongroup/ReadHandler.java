@@ -45,22 +45,24 @@ public class ReadHandler extends BaseHandlerStd {
                 ))
                 .done((describeRequest, describeResponse, proxyInvocation, model, context) -> {
                     final OptionGroup optionGroup = describeResponse.optionGroupsList().stream().findFirst().get();
-                    final List<OptionConfiguration> optionConfigurations = Translator.translateOptionConfigurationsFromSdk(optionGroup.options());
-
                     context.setOptionGroupGroupArn(optionGroup.optionGroupArn());
-                    return ProgressEvent.progress(
-                            ResourceModel.builder()
-                                    .optionGroupName(optionGroup.optionGroupName())
-                                    .engineName(optionGroup.engineName())
-                                    .majorEngineVersion(optionGroup.majorEngineVersion())
-                                    .optionGroupDescription(optionGroup.optionGroupDescription())
-                                    .optionConfigurations(optionConfigurations)
-                                    .build(),
-                            context
-                    );
+                    return ProgressEvent.progress(Translator.translateOptionGroupFromSdk(optionGroup), context);
                 }).then(progress -> readTags(proxyClient, progress));
     }
 
+    /**
+     * Reads the resource from an option group state already observed within the current invocation.
+     * Tags are not a part of the option group state and are read separately.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final ProxyClient<RdsClient> proxyClient,
+            final CallbackContext callbackContext,
+            final OptionGroup optionGroup
+    ) {
+        callbackContext.setOptionGroupGroupArn(optionGroup.optionGroupArn());
+        return readTags(proxyClient, ProgressEvent.progress(Translator.translateOptionGroupFromSdk(optionGroup), callbackContext));
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> readTags(
             final ProxyClient<RdsClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
@@ -9,6 +9,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.rds.RdsClient;
+import software.amazon.awssdk.services.rds.model.ModifyOptionGroupResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -76,10 +77,14 @@ public class UpdateHandler extends BaseHandlerStd {
                     return proxy.initiate("rds::update-option-group", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                             .translateToServiceRequest(model -> Translator.modifyOptionGroupRequest(model, optionsToInclude, optionsToRemove))
                             .backoffDelay(config.getBackoff())
-                            .makeServiceCall((modifyRequest, proxyInvocation) -> proxyInvocation.injectCredentialsAndInvokeV2(
-                                    modifyRequest,
-                                    proxyInvocation.client()::modifyOptionGroup
-                            ))
+                            .makeServiceCall((modifyRequest, proxyInvocation) -> {
+                                final ModifyOptionGroupResponse modifyResponse = proxyInvocation.injectCredentialsAndInvokeV2(
+                                        modifyRequest,
+                                        proxyInvocation.client()::modifyOptionGroup
+                                );
+                                optionGroupSnapshot = modifyResponse.optionGroup();
+                                return modifyResponse;
+                            })
                             .handleError((modifyRequest, exception, client, resourceModel, ctx) -> Commons.handleException(
                                     ProgressEvent.progress(resourceModel, ctx),
                                     exception,
@@ -89,7 +94,7 @@ public class UpdateHandler extends BaseHandlerStd {
                             .progress();
                 })
                 .then(progress -> updateTags(proxy, proxyClient, progress, previousTags, desiredTags))
-                .then(progress -> new ReadHandler().handleRequest(proxy, proxyClient, request, callbackContext));
+                .then(progress -> readLatestState(proxy, proxyClient, request, callbackContext));
     }
 
     protected static boolean isOptionVersionDowngrade(